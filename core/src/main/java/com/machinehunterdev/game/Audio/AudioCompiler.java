@@ -0,0 +1,235 @@
+package com.machinehunterdev.game.Audio;
+
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Herramienta de compilacion de los efectos de sonido. La ejecuta la tarea de Gradle 'compileAudio'.
+// Lee la carpeta fuente (Audio/Sfx), donde cada archivo se llama como su AudioId, y:
+// - Convierte los WAV a PCM de 16 bits y mono, quitando el silencio final, una vez por cada calidad
+//   de AudioManifest.QUALITIES con su frecuencia de SAMPLE_RATES. Un sonido mono ocupa la mitad en
+//   disco y en memoria, y es el unico que OpenAL puede panear.
+// - Copia sin cambios los MP3 y OGG, que ya estan comprimidos; todas las calidades usan esa copia.
+// - Falla si un AudioId tiene mas de una codificacion en la carpeta fuente.
+// - Escribe el manifiesto que lee AudioManifest, con el archivo de cada AudioId en cada calidad.
+public final class AudioCompiler {
+    // Frecuencia de muestreo de cada calidad, en el orden de AudioManifest.QUALITIES.
+    static final int[] SAMPLE_RATES = { 22050, 11025 };
+    // Amplitud por debajo de la cual una muestra final se considera silencio.
+    private static final int SILENCE_THRESHOLD = 8;
+
+    private AudioCompiler() {}
+
+    // Punto de entrada: recibe la carpeta de assets (por defecto "assets").
+    public static void main(String[] args) throws IOException {
+        File assetsDir = new File(args.length > 0 ? args[0] : "assets");
+        File sourceDir = new File(assetsDir, AudioManifest.SOURCE_DIR);
+        File targetDir = new File(assetsDir, AudioManifest.COMPILED_DIR);
+        File[] sources = sourceDir.listFiles(File::isFile);
+        if (sources == null) {
+            throw new IOException("No existe la carpeta de efectos de sonido: " + sourceDir);
+        }
+
+        // Elige el archivo fuente de cada AudioId; dos codificaciones del mismo sonido son un error.
+        Map<AudioId, File> chosen = new EnumMap<>(AudioId.class);
+        for (File source : sources) {
+            String name = source.getName();
+            int dot = name.lastIndexOf('.');
+            if (dot < 0 || !AudioManifest.isSupported(name.substring(dot + 1))) continue;
+            AudioId id = AudioManifest.parseId(name.substring(0, dot));
+            if (id == null) {
+                System.out.println("Sonido sin AudioId, no se incluye: " + name);
+                continue;
+            }
+            File previous = chosen.put(id, source);
+            if (previous != null) {
+                throw new IOException("Codificaciones duplicadas de " + id + ": "
+                    + previous.getName() + " y " + name + "; elimina una de la carpeta fuente");
+            }
+        }
+
+        // Vacia la carpeta de salida para no dejar sonidos eliminados de la fuente.
+        if (!targetDir.isDirectory() && !targetDir.mkdirs()) {
+            throw new IOException("No se pudo crear la carpeta: " + targetDir);
+        }
+        deleteContents(targetDir);
+
+        for (String quality : AudioManifest.QUALITIES) {
+            File qualityDir = new File(targetDir, quality);
+            if (!qualityDir.mkdirs()) {
+                throw new IOException("No se pudo crear la carpeta: " + qualityDir);
+            }
+        }
+
+        Map<AudioId, String[]> manifest = new EnumMap<>(AudioId.class);
+        long sourceBytes = 0;
+        long[] targetBytes = new long[AudioManifest.QUALITIES.length];
+        for (Map.Entry<AudioId, File> entry : chosen.entrySet()) {
+            File source = entry.getValue();
+            String extension = source.getName().substring(source.getName().lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            String fileName = entry.getKey().name() + "." + extension;
+            String[] paths = new String[AudioManifest.QUALITIES.length];
+            if (extension.equals("wav")) {
+                for (int q = 0; q < paths.length; q++) {
+                    File target = new File(new File(targetDir, AudioManifest.QUALITIES[q]), fileName);
+                    compileWav(source, target, SAMPLE_RATES[q]);
+                    paths[q] = AudioManifest.COMPILED_DIR + "/" + AudioManifest.QUALITIES[q] + "/" + fileName;
+                    targetBytes[q] += target.length();
+                }
+            } else {
+                File target = new File(targetDir, fileName);
+                Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                for (int q = 0; q < paths.length; q++) {
+                    paths[q] = AudioManifest.COMPILED_DIR + "/" + fileName;
+                    targetBytes[q] += target.length();
+                }
+            }
+            manifest.put(entry.getKey(), paths);
+            sourceBytes += source.length();
+        }
+        for (AudioId id : AudioId.values()) {
+            if (!manifest.containsKey(id)) {
+                System.out.println("AudioId sin archivo fuente: " + id);
+            }
+        }
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(assetsDir, AudioManifest.PATH)), StandardCharsets.UTF_8)) {
+            JsonWriter json = new JsonWriter(writer);
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.object();
+            for (Map.Entry<AudioId, String[]> entry : manifest.entrySet()) {
+                json.object(entry.getKey().name());
+                for (int q = 0; q < AudioManifest.QUALITIES.length; q++) {
+                    json.set(AudioManifest.QUALITIES[q], entry.getValue()[q]);
+                }
+                json.pop();
+            }
+            json.pop();
+        }
+        for (int q = 0; q < AudioManifest.QUALITIES.length; q++) {
+            System.out.println("Efectos compilados (" + AudioManifest.QUALITIES[q] + ", " + SAMPLE_RATES[q] + " Hz): "
+                + manifest.size() + " (" + sourceBytes + " -> " + targetBytes[q] + " bytes)");
+        }
+    }
+
+    // Borra el contenido de una carpeta, incluidas sus subcarpetas.
+    private static void deleteContents(File dir) throws IOException {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            if (file.isDirectory()) deleteContents(file);
+            Files.delete(file.toPath());
+        }
+    }
+
+    // Convierte un WAV PCM a 16 bits, mono y la frecuencia indicada, sin el silencio final.
+    private static void compileWav(File source, File target, int targetRate) throws IOException {
+        short[] samples;
+        try (InputStream in = new FileInputStream(source)) {
+            samples = readWavMono(new DataInputStream(in), source.getName(), targetRate);
+        }
+
+        int length = samples.length;
+        while (length > 0 && Math.abs(samples[length - 1]) < SILENCE_THRESHOLD) {
+            length--;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(44 + length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        out.put(new byte[] { 'R', 'I', 'F', 'F' }).putInt(36 + length * 2);
+        out.put(new byte[] { 'W', 'A', 'V', 'E' });
+        out.put(new byte[] { 'f', 'm', 't', ' ' }).putInt(16);
+        out.putShort((short) 1).putShort((short) 1);                   // PCM, mono
+        out.putInt(targetRate).putInt(targetRate * 2);                  // frecuencia, bytes por segundo
+        out.putShort((short) 2).putShort((short) 16);                  // bytes por muestra, bits
+        out.put(new byte[] { 'd', 'a', 't', 'a' }).putInt(length * 2);
+        for (int i = 0; i < length; i++) {
+            out.putShort(samples[i]);
+        }
+        try (OutputStream file = new BufferedOutputStream(new FileOutputStream(target))) {
+            file.write(out.array());
+        }
+    }
+
+    // Lee un WAV PCM de 8 o 16 bits y devuelve sus muestras mezcladas a mono y remuestreadas.
+    private static short[] readWavMono(DataInputStream in, String name, int targetRate) throws IOException {
+        byte[] header = new byte[12];
+        in.readFully(header);
+        if (header[0] != 'R' || header[1] != 'I' || header[8] != 'W' || header[9] != 'A') {
+            throw new IOException("No es un WAV: " + name);
+        }
+
+        int channels = 0, sampleRate = 0, bits = 0;
+        byte[] chunkHeader = new byte[8];
+        while (true) {
+            in.readFully(chunkHeader);
+            ByteBuffer chunk = ByteBuffer.wrap(chunkHeader).order(ByteOrder.LITTLE_ENDIAN);
+            String id = new String(chunkHeader, 0, 4, StandardCharsets.US_ASCII);
+            int size = chunk.getInt(4);
+            byte[] data = new byte[size];
+            in.readFully(data);
+            if ((size & 1) != 0) in.skipBytes(1); // Los bloques se alinean a 2 bytes.
+
+            ByteBuffer body = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+            if (id.equals("fmt ")) {
+                int format = body.getShort(0) & 0xFFFF;
+                channels = body.getShort(2);
+                sampleRate = body.getInt(4);
+                bits = body.getShort(14);
+                // 0xFFFE = WAVE_FORMAT_EXTENSIBLE, que aqui solo se acepta con muestras enteras.
+                if ((format != 1 && format != 0xFFFE) || (bits != 8 && bits != 16)) {
+                    throw new IOException("Solo se admiten WAV PCM de 8 o 16 bits: " + name);
+                }
+            } else if (id.equals("data")) {
+                if (channels <= 0) throw new IOException("WAV sin bloque de formato: " + name);
+                int bytesPerSample = bits / 8;
+                int frames = size / (bytesPerSample * channels);
+                float[] mono = new float[frames];
+                for (int f = 0; f < frames; f++) {
+                    float sum = 0f;
+                    for (int c = 0; c < channels; c++) {
+                        int offset = (f * channels + c) * bytesPerSample;
+                        sum += bits == 16 ? body.getShort(offset) : ((data[offset] & 0xFF) - 128) << 8;
+                    }
+                    mono[f] = sum / channels;
+                }
+                return resample(mono, sampleRate, targetRate);
+            }
+        }
+    }
+
+    // Remuestrea por interpolacion lineal a la frecuencia indicada.
+    private static short[] resample(float[] samples, int sampleRate, int targetRate) {
+        int length = sampleRate == targetRate
+            ? samples.length
+            : (int) ((long) samples.length * targetRate / sampleRate);
+        short[] result = new short[length];
+        double step = (double) sampleRate / targetRate;
+        for (int i = 0; i < length; i++) {
+            double position = i * step;
+            int index = (int) position;
+            float fraction = (float) (position - index);
+            float a = samples[Math.min(index, samples.length - 1)];
+            float b = samples[Math.min(index + 1, samples.length - 1)];
+            float value = a + (b - a) * fraction;
+            result[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value)));
+        }
+        return result;
+    }
+}
@@ -1,25 +1,51 @@
 package com.machinehunterdev.game.Audio;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // Clase singleton que gestiona la reproduccion de musica y efectos de sonido.
 // Maneja volumenes, fundidos (fade), y reproduce sonidos solo si estan cerca de la camara.
+// Los efectos pasan por un SfxMixer: se combinan por fotograma y se limitan por AudioId.
+// Los sonidos se cargan bajo demanda en una SoundCache; cada estado declara con warmSounds()
+// los que necesita tener cargados antes de empezar.
+// La musica usa dos pistas: mientras una suena, la siguiente se abre en segundo plano
+// (con prepareMusic() o al pedirla) y al cambiar se hace un fundido cruzado entre ambas.
 public class AudioManager {
     // Instancia unica del gestor de audio (patron singleton).
     private static AudioManager instance;
 
-    // Musica actualmente en reproduccion.
-    private Music currentMusic;
-    // Ruta del archivo de la musica actual.
-    private String currentMusicPath;
+    // Pista de musica actual; durante un fundido cruzado, la que entra.
+    private MusicTrack currentMusic;
+    // Segunda pista: la siguiente ya preparada, o la que sale durante un fundido cruzado.
+    private MusicTrack standbyMusic;
+    // Indica si la segunda pista es la que sale en un fundido cruzado.
+    private boolean standbyFadingOut = false;
+    // Volumen de la pista saliente al empezar el fundido cruzado.
+    private float standbyStartVolume;
+    // Pista pedida con prepareMusic() mientras la segunda pista aun estaba saliendo.
+    private String deferredMusicPath;
+    // Indica si la pista actual se repite y si debe entrar con fundido cuando empiece.
+    private boolean currentLoop;
+    private boolean currentFadeIn;
+    // Volumen aplicado a la pista actual.
+    private float currentVolume;
     // Indica si la musica esta en pausa.
     private boolean isMusicPaused = false;
+    // Hilo que abre las pistas de musica.
+    private final ExecutorService musicLoader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "music-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Sistema de fundido (fade) para la musica.
     private float musicVolume = 0.2f;        // Volumen base de la musica.
@@ -31,12 +57,25 @@ public class AudioManager {
     private boolean isFading;                // Indica si se esta realizando un fundido.
     private Runnable onFadeComplete;         // Accion a ejecutar al terminar el fundido.
 
-    // Mapa que asocia cada AudioId con su respectivo efecto de sonido cargado.
-    private final ObjectMap<AudioId, Sound> sfxMap = new ObjectMap<>();
     // Referencia al personaje jugador (para audio espacial).
     private Character player;
     // Camara del juego (para determinar visibilidad de sonidos).
     private OrthographicCamera camera;
+    // Mezclador que combina, limita y prioriza los efectos de sonido.
+    private final SfxMixer sfxMixer = new SfxMixer();
+    // Cache de efectos de sonido cargados bajo demanda.
+    private final SoundCache soundCache = new SoundCache(sfxMixer, GlobalSettings.SFX_CACHE_BUDGET_BYTES);
+
+    // Sonidos de la interfaz, que necesitan todos los menus.
+    public static final List<AudioId> UI_SOUNDS = Arrays.asList(
+        AudioId.UIAccept, AudioId.UIChange, AudioId.UICancel, AudioId.NotAvailable);
+
+    // Margen alrededor de la camara dentro del cual se escuchan los sonidos.
+    private static final float SFX_CAMERA_TOLERANCE = 40f;
+    // Paneo maximo para los sonidos en el borde de la pantalla.
+    private static final float SFX_MAX_PAN = 0.6f;
+    // Atenuacion del volumen para los sonidos en el borde de la pantalla.
+    private static final float SFX_EDGE_ATTENUATION = 0.4f;
 
     // Devuelve la unica instancia del gestor de audio.
     public static AudioManager getInstance() {
@@ -52,8 +91,10 @@ public class AudioManager {
     // Establece el volumen de la musica.
     public void setMusicVolume(float volume) {
         this.musicVolume = volume;
+        finishCrossfade();
+        currentVolume = musicVolume;
         if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
+            currentMusic.setVolume(currentVolume);
         }
         isFading = false;
     }
@@ -73,33 +114,42 @@ public class AudioManager {
         return soundVolume;
     }
 
-    // Actualiza el estado del fundido cada frame.
+    // Actualiza el estado del fundido cada frame y empieza la pista actual cuando termina de abrirse.
+    // Se llama una vez por fotograma desde GameController.
     public void update(float delta) {
+        startPendingMusic();
         if (isFading && currentMusic != null) {
             fadeTimer += delta;
             float progress = Math.min(fadeTimer / fadeDuration, 1.0f);
-            float newVolume = volumeBeforeFade + (targetVolume - volumeBeforeFade) * progress;
-            currentMusic.setVolume(newVolume);
+            currentVolume = volumeBeforeFade + (targetVolume - volumeBeforeFade) * progress;
+            currentMusic.setVolume(currentVolume);
+            // La pista saliente de un fundido cruzado baja al mismo ritmo.
+            if (standbyFadingOut) {
+                standbyMusic.setVolume(standbyStartVolume * (1.0f - progress));
+            }
 
             if (progress >= 1.0f) {
                 isFading = false;
                 if (onFadeComplete != null) {
-                    onFadeComplete.run();
+                    Runnable complete = onFadeComplete;
                     onFadeComplete = null;
+                    complete.run();
                 }
             }
         }
     }
 
     // Inicia un fundido de volumen en la musica actual.
+    // Un fundido cruzado en curso se termina antes de empezar el nuevo.
     private void startFade(float duration, float targetVol, Runnable onComplete) {
-        if (currentMusic == null) {
+        finishCrossfade();
+        if (currentMusic == null || !currentMusic.isStarted()) {
             if (onComplete != null) onComplete.run();
             return;
         }
         this.fadeDuration = Math.max(0.01f, duration);
         this.targetVolume = targetVol;
-        this.volumeBeforeFade = currentMusic.getVolume();
+        this.volumeBeforeFade = currentVolume;
         this.fadeTimer = 0;
         this.isFading = true;
         this.onFadeComplete = onComplete;
@@ -109,36 +159,133 @@ public class AudioManager {
     // path: ruta del archivo.
     // loop: indica si debe repetirse.
     // fade: indica si debe iniciar con fundido.
+    // Si la pista ya estaba preparada empieza en este mismo fotograma; si no, se abre en
+    // segundo plano y empieza cuando este lista. Si habia otra pista sonando, ambas se
+    // mezclan con un fundido cruzado.
     public void playMusic(String path, boolean loop, boolean fade) {
-        if (currentMusic != null) {
-            if (currentMusicPath != null && currentMusicPath.equals(path)) {
-                return; // No reiniciar la misma musica.
-            }
-            stopMusic(fade);
+        if (currentMusic != null && currentMusic.path.equals(path)) {
+            return; // No reiniciar la misma musica.
         }
 
-        currentMusic = Gdx.audio.newMusic(Gdx.files.internal(path));
-        currentMusicPath = path;
-        currentMusic.setLooping(loop);
+        // Una pista que aun salia de un fundido cruzado anterior se corta.
+        if (standbyFadingOut) {
+            releaseStandbyMusic();
+        }
+
+        // Usa la pista preparada si es la pedida; si no, la descarta y abre la nueva.
+        MusicTrack next;
+        if (standbyMusic != null && standbyMusic.path.equals(path)) {
+            next = standbyMusic;
+            standbyMusic = null;
+        } else {
+            releaseStandbyMusic();
+            next = new MusicTrack(path, musicLoader);
+        }
+
+        // La pista actual pasa a la segunda ranura y sale cuando la nueva empiece.
+        if (currentMusic != null && currentMusic.isStarted()) {
+            standbyMusic = currentMusic;
+            standbyFadingOut = true;
+            standbyStartVolume = currentVolume;
+        } else if (currentMusic != null) {
+            currentMusic.dispose(musicLoader);
+        }
+        isFading = false;
+        onFadeComplete = null;
+
+        currentMusic = next;
+        currentLoop = loop;
+        currentFadeIn = fade;
+        currentVolume = 0f;
         isMusicPaused = false;
-        
-        if (fade) {
-            currentMusic.setVolume(0);
-            startFade(1.0f, musicVolume, null);
+        startPendingMusic();
+    }
+
+    // Abre en segundo plano la pista que se va a reproducir despues, para que playMusic()
+    // la empiece sin esperar. Solo se conserva una pista preparada.
+    public void prepareMusic(String path) {
+        if (path == null || (currentMusic != null && currentMusic.path.equals(path))) return;
+        if (standbyFadingOut) {
+            deferredMusicPath = path; // Se prepara cuando termine el fundido cruzado.
+            return;
+        }
+        if (standbyMusic != null) {
+            if (standbyMusic.path.equals(path)) return;
+            standbyMusic.dispose(musicLoader);
+        }
+        standbyMusic = new MusicTrack(path, musicLoader);
+    }
+
+    // Empieza la pista actual si ya termino de abrirse.
+    private void startPendingMusic() {
+        if (currentMusic == null || currentMusic.isStarted() || !currentMusic.isReady()) return;
+        float target = isMusicPaused ? 0.2f * musicVolume : musicVolume;
+        boolean crossfade = standbyFadingOut;
+        boolean fadeIn = currentFadeIn || crossfade;
+
+        if (!currentMusic.start(currentLoop, fadeIn ? 0f : target)) {
+            // No se pudo abrir: se descarta junto con la pista saliente.
+            currentMusic = null;
+            finishCrossfade();
+            return;
+        }
+
+        if (crossfade) {
+            currentVolume = 0f;
+            this.fadeDuration = GlobalSettings.MUSIC_CROSSFADE_SECONDS;
+            this.targetVolume = target;
+            this.volumeBeforeFade = 0f;
+            this.fadeTimer = 0;
+            this.isFading = true;
+            this.onFadeComplete = this::finishCrossfade;
+        } else if (fadeIn) {
+            currentVolume = 0f;
+            startFade(1.0f, target, null);
         } else {
-            currentMusic.setVolume(musicVolume);
+            currentVolume = target;
+        }
+    }
+
+    // Termina el fundido cruzado en curso: libera la pista saliente y prepara la pedida mientras tanto.
+    private void finishCrossfade() {
+        if (!standbyFadingOut) return;
+        releaseStandbyMusic();
+        if (deferredMusicPath != null) {
+            String path = deferredMusicPath;
+            deferredMusicPath = null;
+            prepareMusic(path);
+        }
+    }
+
+    // Libera la segunda pista, este preparada o saliendo.
+    private void releaseStandbyMusic() {
+        if (standbyMusic != null) {
+            standbyMusic.dispose(musicLoader);
+            standbyMusic = null;
+        }
+        standbyFadingOut = false;
+    }
+
+    // Libera la pista actual.
+    private void releaseCurrentMusic() {
+        if (currentMusic != null) {
+            currentMusic.dispose(musicLoader);
+            currentMusic = null;
         }
-        currentMusic.play();
     }
 
     // Pausa la musica actual.
     public void pauseMusic(boolean fade) {
         if (currentMusic == null) return;
         isMusicPaused = true;
+        if (!currentMusic.isStarted()) return; // Empezara ya con el volumen de pausa.
         if (fade) {
             startFade(0.5f, 0.2f * musicVolume, null);
         } else {
-            currentMusic.setVolume(0.2f * musicVolume);
+            finishCrossfade();
+            isFading = false;
+            currentVolume = 0.2f * musicVolume;
+            currentMusic.setVolume(currentVolume);
         }
     }
 
@@ -146,28 +293,32 @@ public class AudioManager {
     public void resumeMusic(boolean fade) {
         if (currentMusic == null) return;
         isMusicPaused = false;
+        if (!currentMusic.isStarted()) return; // Empezara ya con el volumen normal.
         if (fade) {
             startFade(0.5f, musicVolume, null);
         } else {
-            currentMusic.setVolume(musicVolume);
+            finishCrossfade();
+            isFading = false;
+            currentVolume = musicVolume;
+            currentMusic.setVolume(currentVolume);
         }
     }
 
-    // Detiene la musica actual.
+    // Detiene la musica actual (y la que estuviera saliendo de un fundido cruzado).
     public void stopMusic(boolean fade) {
         if (currentMusic == null) return;
         if (fade) {
+            // Libera la pista que se estaba deteniendo, aunque para entonces ya suene otra.
+            final MusicTrack stopping = currentMusic;
             startFade(1.0f, 0.0f, () -> {
-                currentMusic.stop();
-                currentMusic.dispose();
-                currentMusic = null;
-                currentMusicPath = null;
+                stopping.dispose(musicLoader);
+                if (currentMusic == stopping) currentMusic = null;
             });
         } else {
-            currentMusic.stop();
-            currentMusic.dispose();
-            currentMusic = null;
-            currentMusicPath = null;
+            finishCrossfade();
+            isFading = false;
+            onFadeComplete = null;
+            releaseCurrentMusic();
         }
     }
 
@@ -178,56 +329,92 @@ public class AudioManager {
     // Establece la camara del juego.
     public void setCamera(OrthographicCamera camera) { this.camera = camera; }
 
-    // Carga una lista de efectos de sonido en memoria.
-    public void loadAssets(Array<AudioData> sfxList) {
+    // Registra una lista de efectos de sonido; se cargan cuando se piden o se precargan.
+    public void registerSounds(Array<AudioData> sfxList) {
         for (AudioData data : sfxList) {
-            sfxMap.put(data.id, Gdx.audio.newSound(Gdx.files.internal(data.path)));
+            soundCache.register(data.id, data.path);
         }
     }
 
+    // Carga los sonidos que necesita el estado actual, esperando a que terminen, y los
+    // protege del descarte hasta la siguiente llamada.
+    public void warmSounds(Collection<AudioId> ids) {
+        soundCache.warm(ids);
+    }
+
+    // Como warmSounds(), pero sin esperar: los sonidos se cargan en segundo plano.
+    // soundsReady() indica cuando terminaron.
+    public void warmSoundsAsync(Collection<AudioId> ids) {
+        soundCache.warmAsync(ids);
+    }
+
+    // Indica si ya se cargaron los sonidos pedidos con warmSoundsAsync().
+    public boolean soundsReady(Collection<AudioId> ids) {
+        return soundCache.isLoaded(ids);
+    }
+
     // Reproduce un efecto de sonido asociado a un personaje.
     public void playSfx(AudioId id, Character source) {
         playSfx(id, source, soundVolume);
     }
 
     // Version sobrecargada que permite especificar un volumen adicional.
+    // El sonido se reproduce al final del fotograma, en flushSfx().
     public void playSfx(AudioId id, Character source, float volume) {
-        // Si el sonido proviene del jugador, se reproduce siempre.
+        // Si el sonido proviene del jugador, se reproduce siempre y centrado.
         if (source != null && source.isPlayer) {
-            Sound sound = sfxMap.get(id);
-            if (sound != null) sound.play(soundVolume * volume);
+            sfxMixer.request(id, soundVolume * volume, 0f);
             return;
         }
 
         // Si hay camara y el sonido proviene de otro personaje,
-        // se reproduce solo si esta dentro del area visible (con tolerancia).
+        // se reproduce solo si esta dentro del area visible (con tolerancia),
+        // con paneo y atenuacion segun su distancia al centro de la camara.
         if (camera != null && source != null) {
-            float tolerance = 40f;
-            float cameraLeft = camera.position.x - camera.viewportWidth / 2 - tolerance;
-            float cameraRight = camera.position.x + camera.viewportWidth / 2 + tolerance;
-            if (source.getX() >= cameraLeft && source.getX() <= cameraRight) {
-                Sound sound = sfxMap.get(id);
-                if (sound != null) sound.play(soundVolume * volume);
+            float range = camera.viewportWidth / 2 + SFX_CAMERA_TOLERANCE;
+            float offset = source.getX() - camera.position.x;
+            if (Math.abs(offset) > range) {
+                sfxMixer.reject();
+                return;
             }
+            float distance = offset / range;
+            float attenuation = 1f - SFX_EDGE_ATTENUATION * Math.abs(distance);
+            sfxMixer.request(id, soundVolume * volume * attenuation, distance * SFX_MAX_PAN);
         } else {
             // Si no hay camara o fuente, se reproduce sin restricciones.
-            Sound sound = sfxMap.get(id);
-            if (sound != null) sound.play(soundVolume * volume);
+            sfxMixer.request(id, soundVolume * volume, 0f);
         }
     }
 
+    // Reproduce los efectos pedidos durante el fotograma. Se llama una vez al final de cada fotograma.
+    // Tambien guarda los sonidos que terminaron de cargarse en segundo plano.
+    public void flushSfx() {
+        soundCache.update();
+        sfxMixer.flush(soundCache);
+    }
+
+    // Estadisticas de efectos: peticiones recibidas, reproducidas, combinadas y descartadas.
+    public long getSfxRequested() { return sfxMixer.getRequested(); }
+    public long getSfxPlayed() { return sfxMixer.getPlayed(); }
+    public long getSfxCoalesced() { return sfxMixer.getCoalesced(); }
+    public long getSfxDropped() { return sfxMixer.getDropped(); }
+    // Estadisticas de la cache: sonidos cargados, su PCM estimado y cargas en curso.
+    public int getSfxResidentCount() { return soundCache.getResidentCount(); }
+    public long getSfxResidentBytes() { return soundCache.getResidentBytes(); }
+    public int getSfxPendingCount() { return soundCache.getPendingCount(); }
+
     // Devuelve el objeto Sound asociado a un AudioId (para uso avanzado).
+    // Si aun no esta cargado, pide su carga y devuelve null.
     public Sound getSound(AudioId id) {
-        return sfxMap.get(id);
+        return soundCache.get(id);
     }
 
     // Libera todos los recursos de audio al cerrar el juego o cambiar de pantalla.
     public void dispose() {
-        for (Sound s : sfxMap.values()) s.dispose();
-        if (currentMusic != null) {
-            currentMusic.dispose();
-        }
-        sfxMap.clear();
-        currentMusic = null;
+        sfxMixer.stopAll();
+        soundCache.dispose();
+        releaseStandbyMusic();
+        releaseCurrentMusic();
+        musicLoader.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.machinehunterdev.game.Audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Manifiesto de los efectos de sonido: indica el archivo de cada AudioId en cada calidad.
+// Lo genera AudioCompiler (tarea de Gradle 'compileAudio') junto con los sonidos compilados, y
+// load() elige la calidad de GlobalSettings.AUDIO_QUALITY.
+// Si no existe, por ejemplo al ejecutar sin compilar los assets, cada AudioId se busca en la
+// carpeta fuente por su nombre, con la primera extension admitida que exista.
+public final class AudioManifest {
+    private static final String TAG = "AudioManifest";
+
+    // Ruta del manifiesto generado.
+    public static final String PATH = "Audio/sfx.json";
+    // Carpeta fuente de los efectos de sonido; cada archivo se llama como su AudioId.
+    public static final String SOURCE_DIR = "Audio/Sfx";
+    // Carpeta de los efectos compilados.
+    public static final String COMPILED_DIR = "Audio/SfxCompiled";
+    // Calidades que genera AudioCompiler, de mayor a menor.
+    public static final String[] QUALITIES = { "high", "low" };
+    // Extensiones admitidas en la carpeta fuente, en orden de preferencia.
+    private static final String[] EXTENSIONS = { "wav", "WAV", "ogg", "mp3" };
+
+    private AudioManifest() {}
+
+    // Devuelve el archivo de cada AudioId en la calidad configurada, listo para AudioManager.registerSounds().
+    public static Array<AudioData> load() {
+        return load(GlobalSettings.AUDIO_QUALITY);
+    }
+
+    // Devuelve el archivo de cada AudioId en una calidad. Si el manifiesto no la tiene,
+    // se usa la primera que tenga para ese sonido.
+    public static Array<AudioData> load(String quality) {
+        Map<AudioId, String> paths = new EnumMap<>(AudioId.class);
+
+        FileHandle manifest = Gdx.files.internal(PATH);
+        if (manifest.exists()) {
+            try {
+                JsonValue root = new JsonReader().parse(manifest);
+                for (JsonValue entry = root.child; entry != null; entry = entry.next) {
+                    AudioId id = parseId(entry.name);
+                    String path = choose(entry, quality);
+                    if (id != null && path != null) paths.put(id, path);
+                }
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error al leer el manifiesto de audio: " + PATH, e);
+                paths.clear();
+            }
+        }
+
+        // Lo que no esta en el manifiesto se busca en la carpeta fuente.
+        for (AudioId id : AudioId.values()) {
+            if (paths.containsKey(id)) continue;
+            String path = findSource(id);
+            if (path != null) {
+                paths.put(id, path);
+            } else {
+                Gdx.app.error(TAG, "No hay archivo para el sonido: " + id);
+            }
+        }
+
+        Array<AudioData> list = new Array<>(paths.size());
+        for (Map.Entry<AudioId, String> entry : paths.entrySet()) {
+            list.add(new AudioData(entry.getKey(), entry.getValue()));
+        }
+        return list;
+    }
+
+    // Elige el archivo de una entrada del manifiesto para una calidad.
+    private static String choose(JsonValue entry, String quality) {
+        if (entry.isString()) return entry.asString(); // Manifiesto de una sola calidad.
+        String path = entry.getString(quality, null);
+        if (path == null && entry.child != null) {
+            Gdx.app.error(TAG, "El sonido " + entry.name + " no tiene la calidad " + quality + ", se usa " + entry.child.name);
+            path = entry.child.asString();
+        }
+        return path;
+    }
+
+    // Busca el archivo fuente de un AudioId, probando las extensiones en orden.
+    private static String findSource(AudioId id) {
+        for (String extension : EXTENSIONS) {
+            String path = SOURCE_DIR + "/" + id.name() + "." + extension;
+            if (Gdx.files.internal(path).exists()) return path;
+        }
+        return null;
+    }
+
+    // Indica si una extension es de un formato de audio admitido.
+    static boolean isSupported(String extension) {
+        for (String supported : EXTENSIONS) {
+            if (supported.equalsIgnoreCase(extension)) return true;
+        }
+        return false;
+    }
+
+    // Convierte un nombre de archivo o de entrada del manifiesto en su AudioId, o null si no existe.
+    static AudioId parseId(String name) {
+        for (AudioId id : AudioId.values()) {
+            if (id.name().equals(name)) return id;
+        }
+        return null;
+    }
+}
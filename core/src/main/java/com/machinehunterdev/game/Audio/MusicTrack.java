@@ -0,0 +1,93 @@
+package com.machinehunterdev.game.Audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Pista de musica usada por AudioManager.
+// El archivo se abre en un hilo de fondo (abrir un MP3 lee el archivo y prepara su
+// decodificador), de modo que cambiar de pista no detiene el hilo de render.
+// La pista empieza a sonar en el hilo de render cuando ya esta abierta.
+final class MusicTrack {
+    private static final String TAG = "MusicTrack";
+
+    // Ruta del archivo de la pista.
+    final String path;
+    // Apertura en curso en el hilo de carga.
+    private final Future<Music> opening;
+    // Pista abierta, o null si aun se esta abriendo.
+    private Music music;
+    // Indica si la apertura fallo.
+    private boolean failed = false;
+    // Indica si la pista ya empezo a sonar.
+    private boolean started = false;
+
+    MusicTrack(String path, ExecutorService loader) {
+        this.path = path;
+        this.opening = loader.submit(() -> Gdx.audio.newMusic(Gdx.files.internal(path)));
+    }
+
+    // Indica si la pista ya termino de abrirse (o fallo al abrirse).
+    boolean isReady() {
+        return music != null || failed || opening.isDone();
+    }
+
+    // Indica si la pista ya empezo a sonar.
+    boolean isStarted() {
+        return started;
+    }
+
+    // Empieza a reproducir la pista. Devuelve false si no esta abierta o no se pudo abrir.
+    boolean start(boolean loop, float volume) {
+        Music opened = get();
+        if (opened == null) return false;
+        opened.setLooping(loop);
+        opened.setVolume(volume);
+        opened.play();
+        started = true;
+        return true;
+    }
+
+    // Cambia el volumen de la pista si ya esta sonando.
+    void setVolume(float volume) {
+        if (started) music.setVolume(volume);
+    }
+
+    // Devuelve la pista abierta, o null si aun se esta abriendo o fallo.
+    private Music get() {
+        if (music == null && !failed && opening.isDone()) {
+            try {
+                music = opening.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed = true;
+            } catch (ExecutionException e) {
+                Gdx.app.error(TAG, "No se pudo abrir la musica: " + path, e.getCause());
+                failed = true;
+            }
+        }
+        return music;
+    }
+
+    // Detiene y libera la pista. Si aun se esta abriendo, se libera en el hilo de carga
+    // en cuanto termine; una pista que nunca sono no usa fuentes de OpenAL.
+    void dispose(ExecutorService loader) {
+        if (get() != null) {
+            if (started) music.stop();
+            music.dispose();
+            music = null;
+            return;
+        }
+        if (failed) return;
+        loader.execute(() -> {
+            try {
+                opening.get().dispose();
+            } catch (InterruptedException | ExecutionException e) {
+                // No se abrio; no hay nada que liberar.
+            }
+        });
+    }
+}
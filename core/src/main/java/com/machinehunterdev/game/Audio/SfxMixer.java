@@ -0,0 +1,235 @@
+package com.machinehunterdev.game.Audio;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+// Mezclador de efectos de sonido usado por AudioManager.
+// Las peticiones de un mismo fotograma se acumulan por AudioId y se reproducen juntas al final
+// del fotograma como una sola voz, con el volumen combinado y el paneo promedio.
+// Cada AudioId tiene un limite de voces simultaneas, un intervalo minimo entre disparos y una
+// prioridad: si no quedan voces libres, un sonido de mayor prioridad reemplaza al de menor.
+final class SfxMixer {
+    // Voces simultaneas maximas para efectos; deja fuentes de OpenAL libres para la musica.
+    static final int MAX_VOICES = 14;
+
+    // === PRIORIDADES ===
+    static final int PRIORITY_AMBIENT = 0;   // Sonidos secundarios de enemigos (saltos, aterrizajes).
+    static final int PRIORITY_ENEMY = 1;     // Golpes, disparos y explosiones de enemigos.
+    static final int PRIORITY_PLAYER = 2;    // Sonidos del jugador y del jefe.
+    static final int PRIORITY_UI = 3;        // Sonidos de la interfaz; nunca se descartan por otros.
+
+    // Reglas de reproduccion de cada AudioId, indexadas por ordinal.
+    private static final Rule[] RULES = new Rule[AudioId.values().length];
+    // AudioIds ordenados de mayor a menor prioridad, para resolver primero los importantes.
+    private static final AudioId[] BY_PRIORITY;
+
+    static {
+        Arrays.fill(RULES, new Rule(2, 0.05f, PRIORITY_ENEMY, 0.5f));
+        rule(AudioId.PlayerJump, 1, 0.05f, PRIORITY_PLAYER, 0.3f);
+        rule(AudioId.PlayerHurt, 1, 0.1f, PRIORITY_PLAYER, 0.5f);
+        rule(AudioId.PlayerLand, 1, 0.05f, PRIORITY_PLAYER, 0.3f);
+        rule(AudioId.LaserAttack, 3, 0.05f, PRIORITY_PLAYER, 0.4f);
+        rule(AudioId.IonAttack, 2, 0.05f, PRIORITY_PLAYER, 0.4f);
+        rule(AudioId.RailgunAttack, 2, 0.1f, PRIORITY_PLAYER, 0.6f);
+        rule(AudioId.GameOverSound, 1, 0.5f, PRIORITY_PLAYER, 2.0f);
+        rule(AudioId.EnemyJump, 2, 0.1f, PRIORITY_AMBIENT, 0.3f);
+        rule(AudioId.EnemyHurt, 3, 0.06f, PRIORITY_ENEMY, 0.4f);
+        rule(AudioId.EnemyAttack, 3, 0.06f, PRIORITY_ENEMY, 0.4f);
+        rule(AudioId.Explosion, 3, 0.08f, PRIORITY_ENEMY, 0.8f);
+        rule(AudioId.EnemyLand, 2, 0.1f, PRIORITY_AMBIENT, 0.3f);
+        rule(AudioId.Exclamation, 2, 0.1f, PRIORITY_ENEMY, 0.5f);
+        rule(AudioId.BossThunderWarning, 1, 0.1f, PRIORITY_PLAYER, 0.5f);
+        rule(AudioId.BossThunderAttack, 1, 0.2f, PRIORITY_PLAYER, 1.0f);
+        rule(AudioId.BossSummonWarning, 1, 0.1f, PRIORITY_PLAYER, 0.5f);
+        rule(AudioId.BossSummonAttack, 1, 0.2f, PRIORITY_PLAYER, 1.0f);
+        rule(AudioId.BossDeath, 1, 0.5f, PRIORITY_PLAYER, 2.0f);
+        rule(AudioId.BossAngry, 1, 0.5f, PRIORITY_PLAYER, 1.5f);
+        rule(AudioId.UIAccept, 2, 0.03f, PRIORITY_UI, 0.3f);
+        rule(AudioId.UIChange, 2, 0.03f, PRIORITY_UI, 0.3f);
+        rule(AudioId.UICancel, 2, 0.03f, PRIORITY_UI, 0.3f);
+        rule(AudioId.NotAvailable, 2, 0.03f, PRIORITY_UI, 0.3f);
+
+        BY_PRIORITY = AudioId.values();
+        Arrays.sort(BY_PRIORITY, (a, b) -> RULES[b.ordinal()].priority - RULES[a.ordinal()].priority);
+    }
+
+    private static void rule(AudioId id, int maxVoices, float minInterval, int priority, float length) {
+        RULES[id.ordinal()] = new Rule(maxVoices, minInterval, priority, length);
+    }
+
+    // === PETICIONES DEL FOTOGRAMA ===
+    private final int[] pendingCount = new int[RULES.length];
+    private final float[] pendingMaxVolume = new float[RULES.length];
+    private final float[] pendingVolumeSum = new float[RULES.length];
+    private final float[] pendingPanSum = new float[RULES.length];
+    private boolean hasPending = false;
+
+    // Momento del ultimo disparo de cada AudioId.
+    private final long[] lastPlayNanos = new long[RULES.length];
+
+    // === VOCES ACTIVAS ===
+    // La duracion de un Sound no se puede consultar, asi que cada voz se considera
+    // activa durante la duracion aproximada de su regla.
+    private final AudioId[] voiceIds = new AudioId[MAX_VOICES];
+    private final Sound[] voiceSounds = new Sound[MAX_VOICES];
+    private final long[] voiceHandles = new long[MAX_VOICES];
+    private final long[] voiceStart = new long[MAX_VOICES];
+    private final long[] voiceEnd = new long[MAX_VOICES];
+
+    // === ESTADISTICAS ===
+    // Cada peticion termina reproducida, combinada con otra del mismo fotograma o descartada.
+    private long requested = 0;
+    private long played = 0;
+    private long coalesced = 0;
+    private long dropped = 0;
+
+    SfxMixer() {
+        Arrays.fill(lastPlayNanos, Long.MIN_VALUE / 2);
+    }
+
+    // Cuenta una peticion descartada antes de llegar al mezclador (por ejemplo, fuera de camara).
+    void reject() {
+        requested++;
+        dropped++;
+    }
+
+    // Registra una peticion; se reproducira en flush() junto con las demas del mismo AudioId.
+    void request(AudioId id, float volume, float pan) {
+        int i = id.ordinal();
+        requested++;
+        pendingCount[i]++;
+        pendingVolumeSum[i] += volume;
+        pendingPanSum[i] += pan * volume;
+        if (volume > pendingMaxVolume[i]) pendingMaxVolume[i] = volume;
+        hasPending = true;
+    }
+
+    // Reproduce las peticiones acumuladas en el fotograma.
+    // Los sonidos que aun no estan cargados se piden a la cache y se descartan en este fotograma.
+    void flush(SoundCache sounds) {
+        if (!hasPending) return;
+        long now = TimeUtils.nanoTime();
+
+        for (AudioId id : BY_PRIORITY) {
+            int i = id.ordinal();
+            int count = pendingCount[i];
+            if (count == 0) continue;
+
+            // Volumen combinado: el mas fuerte, mas una parte del resto, sin pasar de 1.
+            float max = pendingMaxVolume[i];
+            float volume = Math.min(1f, max + 0.25f * (pendingVolumeSum[i] - max));
+            float pan = pendingVolumeSum[i] > 0 ? pendingPanSum[i] / pendingVolumeSum[i] : 0f;
+
+            pendingCount[i] = 0;
+            pendingMaxVolume[i] = 0f;
+            pendingVolumeSum[i] = 0f;
+            pendingPanSum[i] = 0f;
+
+            Sound sound = sounds.get(id);
+            Rule rule = RULES[i];
+            if (sound == null || now - lastPlayNanos[i] < rule.minIntervalNanos) {
+                dropped += count;
+                continue;
+            }
+
+            int voice = findVoice(id, rule, now);
+            if (voice < 0) {
+                dropped += count;
+                continue;
+            }
+
+            if (voiceSounds[voice] != null && voiceEnd[voice] > now) {
+                voiceSounds[voice].stop(voiceHandles[voice]); // Reemplaza la voz robada.
+            }
+            voiceIds[voice] = id;
+            voiceSounds[voice] = sound;
+            voiceHandles[voice] = sound.play(volume, 1f, pan);
+            voiceStart[voice] = now;
+            voiceEnd[voice] = now + rule.lengthNanos;
+            lastPlayNanos[i] = now;
+            played++;
+            coalesced += count - 1;
+        }
+        hasPending = false;
+    }
+
+    // Busca una voz para el AudioId: una libre, la mas antigua del mismo AudioId si alcanzo
+    // su limite, o la mas antigua de menor prioridad. Devuelve -1 si no hay ninguna.
+    private int findVoice(AudioId id, Rule rule, long now) {
+        int free = -1;
+        int sameCount = 0;
+        int oldestSame = -1;
+        int weakest = -1;
+
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceEnd[v] <= now) {
+                if (free < 0) free = v;
+                continue;
+            }
+            if (voiceIds[v] == id) {
+                sameCount++;
+                if (oldestSame < 0 || voiceStart[v] < voiceStart[oldestSame]) oldestSame = v;
+            }
+            int priority = RULES[voiceIds[v].ordinal()].priority;
+            if (priority < rule.priority && (weakest < 0
+                    || priority < RULES[voiceIds[weakest].ordinal()].priority
+                    || (priority == RULES[voiceIds[weakest].ordinal()].priority && voiceStart[v] < voiceStart[weakest]))) {
+                weakest = v;
+            }
+        }
+
+        if (sameCount >= rule.maxVoices) return oldestSame;
+        if (free >= 0) return free;
+        return weakest;
+    }
+
+    // Olvida las voces de un sonido que se va a liberar.
+    void release(Sound sound) {
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceSounds[v] == sound) {
+                voiceIds[v] = null;
+                voiceSounds[v] = null;
+                voiceEnd[v] = 0L;
+            }
+        }
+    }
+
+    // Detiene todas las voces activas y descarta las peticiones pendientes.
+    void stopAll() {
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceSounds[v] != null) {
+                voiceSounds[v].stop(voiceHandles[v]);
+            }
+            voiceIds[v] = null;
+            voiceSounds[v] = null;
+            voiceEnd[v] = 0L;
+        }
+        Arrays.fill(pendingCount, 0);
+        Arrays.fill(pendingMaxVolume, 0f);
+        Arrays.fill(pendingVolumeSum, 0f);
+        Arrays.fill(pendingPanSum, 0f);
+        hasPending = false;
+    }
+
+    long getRequested() { return requested; }
+    long getPlayed() { return played; }
+    long getCoalesced() { return coalesced; }
+    long getDropped() { return dropped; }
+
+    // Regla de reproduccion de un AudioId.
+    private static final class Rule {
+        final int maxVoices;          // Voces simultaneas maximas.
+        final long minIntervalNanos;  // Tiempo minimo entre dos disparos.
+        final int priority;           // Prioridad frente a otros sonidos.
+        final long lengthNanos;       // Duracion aproximada del sonido.
+
+        Rule(int maxVoices, float minInterval, int priority, float length) {
+            this.maxVoices = maxVoices;
+            this.minIntervalNanos = (long) (minInterval * 1000000000L);
+            this.priority = priority;
+            this.lengthNanos = (long) (length * 1000000000L);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.machinehunterdev.game.Audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Cache de efectos de sonido usada por AudioManager.
+// Los sonidos se registran con su ruta pero no se cargan hasta que se piden: la carga
+// se hace en un hilo de fondo y, mientras tanto, el sonido simplemente no suena.
+// Los sonidos de la lista de precarga del estado actual se cargan antes de empezar y no
+// se descartan; el resto se descarta, del menos usado al mas usado, cuando el total de
+// PCM decodificado supera el presupuesto.
+final class SoundCache {
+    private static final String TAG = "SoundCache";
+
+    // Ruta de cada sonido registrado.
+    private final Map<AudioId, String> paths = new EnumMap<>(AudioId.class);
+    // Sonidos cargados, del menos al mas usado recientemente.
+    private final LinkedHashMap<AudioId, Loaded> resident = new LinkedHashMap<>(32, 0.75f, true);
+    // Cargas en curso.
+    private final Map<AudioId, Future<Loaded>> pending = new EnumMap<>(AudioId.class);
+    // Sonidos de la lista de precarga actual, que no se descartan.
+    private final EnumSet<AudioId> pinned = EnumSet.noneOf(AudioId.class);
+
+    // Presupuesto de PCM decodificado, en bytes.
+    private final long budgetBytes;
+    // PCM decodificado de los sonidos cargados, en bytes (estimado).
+    private long residentBytes = 0;
+    // Mezclador que puede tener voces activas de un sonido descartado.
+    private final SfxMixer mixer;
+    // Hilo que carga los sonidos.
+    private final ExecutorService loader;
+
+    SoundCache(SfxMixer mixer, long budgetBytes) {
+        this.mixer = mixer;
+        this.budgetBytes = budgetBytes;
+        this.loader = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "sound-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Registra la ruta de un sonido, sin cargarlo.
+    void register(AudioId id, String path) {
+        paths.put(id, path);
+    }
+
+    // Devuelve el sonido si ya esta cargado; si no, pide su carga y devuelve null.
+    Sound get(AudioId id) {
+        Loaded loaded = resident.get(id);
+        if (loaded != null) return loaded.sound;
+        request(id);
+        return null;
+    }
+
+    // Pide la carga de un sonido en segundo plano, si no esta cargado ni pedido.
+    void request(AudioId id) {
+        if (resident.containsKey(id) || pending.containsKey(id)) return;
+        final String path = paths.get(id);
+        if (path == null) return;
+        pending.put(id, loader.submit(() -> load(path)));
+    }
+
+    // Establece la lista de precarga: carga sus sonidos, esperando a que terminen,
+    // y permite descartar los de la lista anterior.
+    void warm(Collection<AudioId> ids) {
+        pinned.clear();
+        pinned.addAll(ids);
+        for (AudioId id : ids) {
+            request(id);
+        }
+        for (AudioId id : ids) {
+            Future<Loaded> future = pending.remove(id);
+            if (future != null) {
+                store(id, await(id, future));
+            }
+        }
+        trim();
+    }
+
+    // Establece la lista de precarga sin esperar: sus sonidos se cargan en segundo plano.
+    void warmAsync(Collection<AudioId> ids) {
+        pinned.clear();
+        pinned.addAll(ids);
+        for (AudioId id : ids) {
+            request(id);
+        }
+    }
+
+    // Indica si ya termino la carga de todos los sonidos indicados (con exito o no).
+    boolean isLoaded(Collection<AudioId> ids) {
+        for (AudioId id : ids) {
+            if (pending.containsKey(id)) return false;
+        }
+        return true;
+    }
+
+    // Guarda los sonidos que terminaron de cargarse. Se llama una vez por fotograma.
+    void update() {
+        if (pending.isEmpty()) return;
+        Iterator<Map.Entry<AudioId, Future<Loaded>>> it = pending.entrySet().iterator();
+        boolean stored = false;
+        while (it.hasNext()) {
+            Map.Entry<AudioId, Future<Loaded>> entry = it.next();
+            if (!entry.getValue().isDone()) continue;
+            it.remove();
+            store(entry.getKey(), await(entry.getKey(), entry.getValue()));
+            stored = true;
+        }
+        if (stored) trim();
+    }
+
+    // Decodifica un sonido y estima su tamano en PCM. Se ejecuta en el hilo de carga.
+    private static Loaded load(String path) {
+        FileHandle file = Gdx.files.internal(path);
+        long bytes = file.length();
+        // Los formatos comprimidos ocupan unas once veces mas al decodificarse.
+        String extension = file.extension().toLowerCase();
+        if (extension.equals("mp3") || extension.equals("ogg")) {
+            bytes *= 11;
+        }
+        return new Loaded(Gdx.audio.newSound(file), bytes);
+    }
+
+    private void store(AudioId id, Loaded loaded) {
+        if (loaded == null) return;
+        resident.put(id, loaded);
+        residentBytes += loaded.bytes;
+    }
+
+    // Descarta los sonidos menos usados que no estan en la lista de precarga hasta cumplir el presupuesto.
+    private void trim() {
+        Iterator<Map.Entry<AudioId, Loaded>> it = resident.entrySet().iterator();
+        while (residentBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<AudioId, Loaded> entry = it.next();
+            if (pinned.contains(entry.getKey())) continue;
+            it.remove();
+            mixer.release(entry.getValue().sound);
+            entry.getValue().sound.dispose();
+            residentBytes -= entry.getValue().bytes;
+        }
+    }
+
+    // Espera el resultado de una carga; devuelve null si fallo.
+    private Loaded await(AudioId id, Future<Loaded> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Gdx.app.error(TAG, "No se pudo cargar el sonido: " + id, e.getCause());
+            return null;
+        }
+    }
+
+    int getResidentCount() { return resident.size(); }
+    long getResidentBytes() { return residentBytes; }
+    int getPendingCount() { return pending.size(); }
+
+    // Libera todos los sonidos y detiene el hilo de carga.
+    void dispose() {
+        for (Map.Entry<AudioId, Future<Loaded>> entry : pending.entrySet()) {
+            Loaded loaded = await(entry.getKey(), entry.getValue());
+            if (loaded != null) loaded.sound.dispose();
+        }
+        pending.clear();
+        for (Loaded loaded : resident.values()) {
+            loaded.sound.dispose();
+        }
+        resident.clear();
+        residentBytes = 0;
+        loader.shutdownNow();
+    }
+
+    // Sonido cargado junto con su tamano estimado en PCM.
+    private static final class Loaded {
+        final Sound sound;
+        final long bytes;
+
+        Loaded(Sound sound, long bytes) {
+            this.sound = sound;
+            this.bytes = bytes;
+        }
+    }
+}
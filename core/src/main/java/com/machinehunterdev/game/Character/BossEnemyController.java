@@ -1,6 +1,8 @@
 package com.machinehunterdev.game.Character;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Random;
 
 import com.badlogic.gdx.math.Vector2;
@@ -20,6 +22,9 @@ import com.machinehunterdev.game.Environment.SolidObject;
  */
 public class BossEnemyController extends CharacterController {
 
+    /** Tipos de enemigo que los jefes pueden invocar; GameplayState los precarga al cargar el nivel */
+    public static final EnemyType[] SUMMONABLE_TYPES = { EnemyType.PATROLLER, EnemyType.SHOOTER, EnemyType.FLYING };
+
     // === ATRIBUTOS DE CONFIGURACION DEL JEFE ===
     private float attackTimer; // Temporizador para controlar el intervalo entre ataques.
     private final float attackInterval; // Intervalo de ataque en la fase 1.
@@ -252,10 +257,7 @@ public class BossEnemyController extends CharacterController {
         if (canSummon) {
             boolean summonAll = (BossType == EnemyType.BOSS_GEMINI && isLowHealth) || (BossType == EnemyType.BOSS_CHATGPT && isPhaseTwo);
             if (summonAll) {
-                ArrayList<EnemyType> availableToSummon = new ArrayList<>();
-                availableToSummon.add(EnemyType.PATROLLER);
-                availableToSummon.add(EnemyType.SHOOTER);
-                availableToSummon.add(EnemyType.FLYING);
+                ArrayList<EnemyType> availableToSummon = new ArrayList<>(Arrays.asList(SUMMONABLE_TYPES));
                 for (IEnemy enemy : enemies) {
                     if (enemy.getCharacter() != character) {
                         availableToSummon.remove(enemy.getType());
@@ -354,20 +356,12 @@ public class BossEnemyController extends CharacterController {
 
     // Invoca un enemigo aleatorio de los tres tipos basicos.
     private void summonOneRandomEnemy() {
-        int randomEnemy = random.nextInt(3);
-        switch (randomEnemy) {
-            case 0: pendingEnemyToSummon = EnemyType.PATROLLER; break;
-            case 1: pendingEnemyToSummon = EnemyType.SHOOTER; break;
-            case 2: pendingEnemyToSummon = EnemyType.FLYING; break;
-        }
+        pendingEnemyToSummon = SUMMONABLE_TYPES[random.nextInt(SUMMONABLE_TYPES.length)];
     }
 
     // Invoca un tipo de enemigo que aun no este presente en la escena.
     private void summonAllMissingEnemies(ArrayList<IEnemy> enemies) {
-        ArrayList<EnemyType> availableToSummon = new ArrayList<>();
-        availableToSummon.add(EnemyType.PATROLLER);
-        availableToSummon.add(EnemyType.SHOOTER);
-        availableToSummon.add(EnemyType.FLYING);
+        ArrayList<EnemyType> availableToSummon = new ArrayList<>(Arrays.asList(SUMMONABLE_TYPES));
 
         for (IEnemy enemy : enemies) {
             if (enemy.getCharacter() != character) {
@@ -382,4 +376,41 @@ public class BossEnemyController extends CharacterController {
             character.isPerformingSpecialAttack = false; // Cancela el ataque si no hay enemigos para invocar.
         }
     }
-}
\ No newline at end of file
+
+    // === INSTANTANEAS ===
+
+    // Escribe el estado del jefe: temporizador de ataque, rayo, invocacion y fase.
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putFloat(attackTimer);
+        out.put((byte) (lightningAttackActive ? 1 : 0));
+        out.putFloat(lightningAttackTimer);
+        out.putFloat(lightningPlayerX);
+        out.putInt(previousFlashCount);
+        out.put((byte) (summonWarningActive ? 1 : 0));
+        out.putFloat(summonWarningTimer);
+        out.putInt(previousSummonFlashCount);
+        out.put((byte) (pendingEnemyToSummon != null ? pendingEnemyToSummon.ordinal() : -1));
+        out.put((byte) (enemyToSummon != null ? enemyToSummon.ordinal() : -1));
+        out.put((byte) (hasEnteredPhaseTwo ? 1 : 0));
+    }
+
+    // Restaura el estado del jefe.
+    @Override
+    public void readState(ByteBuffer in) {
+        EnemyType[] types = EnemyType.values();
+        attackTimer = in.getFloat();
+        lightningAttackActive = in.get() != 0;
+        lightningAttackTimer = in.getFloat();
+        lightningPlayerX = in.getFloat();
+        previousFlashCount = in.getInt();
+        summonWarningActive = in.get() != 0;
+        summonWarningTimer = in.getFloat();
+        previousSummonFlashCount = in.getInt();
+        byte pending = in.get();
+        pendingEnemyToSummon = pending >= 0 ? types[pending] : null;
+        byte requested = in.get();
+        enemyToSummon = requested >= 0 ? types[requested] : null;
+        hasEnteredPhaseTwo = in.get() != 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.machinehunterdev.game.Character;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 import com.badlogic.gdx.graphics.Color;
@@ -16,11 +17,24 @@ import com.machinehunterdev.game.DamageTriggers.DamageType;
 import com.machinehunterdev.game.DamageTriggers.WeaponType;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
 import com.machinehunterdev.game.Levels.LevelData;
+import com.machinehunterdev.game.Util.ISnapshotable;
+import com.machinehunterdev.game.Util.IdAllocator;
 
 // Clase base para todos los personajes del juego: jugador, enemigos y NPCs.
 // Gestiona fisica, animacion, daño, armas, invulnerabilidad y efectos visuales.
-public class Character 
+public class Character implements ISnapshotable
 {
+    // === IDENTIFICADOR ===
+
+    // Asignador compartido de identificadores densos para todos los personajes.
+    private static final IdAllocator ID_ALLOCATOR = new IdAllocator();
+    // Identificador entero estable del personaje (-1 una vez liberado).
+    private int id;
+    // Contador de numeros de serie; a diferencia de los ids, nunca se reutilizan.
+    private static long nextSerial = 0;
+    // Numero de serie unico del personaje, con el que las instantaneas lo reconocen.
+    private final long serial = nextSerial++;
+
     // === ATRIBUTOS DE ESTADO ===
     
     // Salud actual y maxima del personaje.
@@ -51,10 +65,14 @@ public class Character
     private float hitboxOffsetY = 0;
     private float originalHitboxHeight = 0;
 
+    // Valores iniciales del salto y la gravedad, tambien usados por 'LevelCompiler' para revisar las rutas de patrulla.
+    public static final float DEFAULT_JUMP_FORCE = 400.0f;
+    public static final float DEFAULT_GRAVITY = -1200.0f;
+
     // Parametros fisicos basicos: velocidad, salto y gravedad.
     public float speed = 150.0f;        // Velocidad horizontal
-    public float jumpForce = 400.0f;    // Fuerza de salto
-    public float gravity = -1200.0f;    // Gravedad (negativa porque Y crece hacia arriba)
+    public float jumpForce = DEFAULT_JUMP_FORCE;    // Fuerza de salto
+    public float gravity = DEFAULT_GRAVITY;    // Gravedad (negativa porque Y crece hacia arriba)
 
     // === SISTEMA DE EMPUJE POR DANO ===
     
@@ -88,6 +106,11 @@ public class Character
         this.enemyType = enemyType;
     }
 
+    // Devuelve el tipo de enemigo (null si no aplica).
+    public EnemyType getEnemyType() {
+        return enemyType;
+    }
+
     // === SISTEMA DE INVULNERABILIDAD ===
     
     // Indica si el personaje no puede recibir dano.
@@ -141,6 +164,7 @@ public class Character
         this.position = new Vector2(x, y);
         this.velocity = new Vector2(0, 0);
         this.isPlayer = isPlayer;
+        this.id = ID_ALLOCATOR.allocate();
         setHitbox(null); // Inicializa hitbox con valores por defecto
         initDefaults();
     }
@@ -636,6 +660,7 @@ public class Character
         return fallbackTexture;
     }
 
+    public int getId() { return id; }
     public int getHealth() { return health; }
     public int getMaxHealth() { return maxHealth; }
     public boolean isMoving() { return isMoving; }
@@ -740,11 +765,130 @@ public class Character
         return !isAlive && characterAnimator != null && characterAnimator.isAnimationFinished(CharacterAnimator.AnimationState.DEAD);
     }
 
-    // Libera recursos graficos.
-    public void dispose() {
+    // Devuelve el numero de serie unico del personaje.
+    public long getSerial() {
+        return serial;
+    }
+
+    // === INSTANTANEAS ===
+
+    // Escribe el estado mutable del personaje: fisica, banderas, temporizadores, arma y animacion.
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putInt(health);
+        out.putInt(maxHealth);
+        out.putInt(width);
+        out.putInt(height);
+        out.putFloat(position.x);
+        out.putFloat(position.y);
+        out.putFloat(velocity.x);
+        out.putFloat(velocity.y);
+        out.putFloat(hitbox.height);
+        out.putFloat(distanceToGround);
+
+        int flags = 0;
+        if (isKnockedBack) flags |= 1;
+        if (isMoving) flags |= 1 << 1;
+        if (isSeeingRight) flags |= 1 << 2;
+        if (isAttacking) flags |= 1 << 3;
+        if (isAlive) flags |= 1 << 4;
+        if (onGround) flags |= 1 << 5;
+        if (onPlatform) flags |= 1 << 6;
+        if (isCrouching) flags |= 1 << 7;
+        if (isPerformingSpecialAttack) flags |= 1 << 8;
+        if (isFallingThroughPlatform) flags |= 1 << 9;
+        if (justLanded) flags |= 1 << 10;
+        if (readyForGameOverTransition) flags |= 1 << 11;
+        if (isPaused) flags |= 1 << 12;
+        if (invulnerable) flags |= 1 << 13;
+        if (flashTransparent) flags |= 1 << 14;
+        if (isHurt) flags |= 1 << 15;
+        if (bulletInvocationPending) flags |= 1 << 16;
+        out.putInt(flags);
+
+        out.putFloat(invulnerabilityTimer);
+        out.putFloat(fallThroughTimer);
+        out.putFloat(transparentFlashTimer);
+        out.putFloat(hurtTimer);
+        out.put((byte) (pendingWeaponType != null ? pendingWeaponType.ordinal() : -1));
+        out.put((byte) currentWeapon.ordinal());
+        out.putFloat(rifleCooldown);
+        out.putFloat(shotgunCooldown);
+        out.putFloat(sniperCooldown);
+        out.putFloat(thunderCooldown);
+
+        out.put((byte) (characterAnimator != null ? 1 : 0));
         if (characterAnimator != null) {
-            // characterAnimator.dispose();
+            characterAnimator.writeState(out);
         }
+    }
+
+    // Restaura el estado escrito por writeState.
+    @Override
+    public void readState(ByteBuffer in) {
+        health = in.getInt();
+        maxHealth = in.getInt();
+        width = in.getInt();
+        height = in.getInt();
+        position.set(in.getFloat(), in.getFloat());
+        velocity.set(in.getFloat(), in.getFloat());
+        hitbox.height = in.getFloat();
+        distanceToGround = in.getFloat();
+
+        int flags = in.getInt();
+        isKnockedBack = (flags & 1) != 0;
+        isMoving = (flags & 1 << 1) != 0;
+        isSeeingRight = (flags & 1 << 2) != 0;
+        isAttacking = (flags & 1 << 3) != 0;
+        isAlive = (flags & 1 << 4) != 0;
+        onGround = (flags & 1 << 5) != 0;
+        onPlatform = (flags & 1 << 6) != 0;
+        isCrouching = (flags & 1 << 7) != 0;
+        isPerformingSpecialAttack = (flags & 1 << 8) != 0;
+        isFallingThroughPlatform = (flags & 1 << 9) != 0;
+        justLanded = (flags & 1 << 10) != 0;
+        readyForGameOverTransition = (flags & 1 << 11) != 0;
+        isPaused = (flags & 1 << 12) != 0;
+        invulnerable = (flags & 1 << 13) != 0;
+        flashTransparent = (flags & 1 << 14) != 0;
+        isHurt = (flags & 1 << 15) != 0;
+        // La lista de balas pendiente es la del nivel; si no hay una, no se puede disparar.
+        bulletInvocationPending = (flags & 1 << 16) != 0 && pendingBulletsList != null;
+
+        invulnerabilityTimer = in.getFloat();
+        fallThroughTimer = in.getFloat();
+        transparentFlashTimer = in.getFloat();
+        hurtTimer = in.getFloat();
+        byte pending = in.get();
+        pendingWeaponType = pending >= 0 ? WeaponType.values()[pending] : null;
+        currentWeapon = WeaponType.values()[in.get()];
+        rifleCooldown = in.getFloat();
+        shotgunCooldown = in.getFloat();
+        sniperCooldown = in.getFloat();
+        thunderCooldown = in.getFloat();
+
+        if (in.get() != 0 && characterAnimator != null) {
+            characterAnimator.readState(in);
+        }
+
+        // Recoloca la hitbox segun la posicion restaurada.
+        if (isSeeingRight) {
+            hitbox.setPosition(position.x + hitboxOffsetX, position.y + hitboxOffsetY);
+        } else {
+            hitbox.setPosition(position.x + getWidth() - hitboxOffsetX - hitbox.width, position.y + hitboxOffsetY);
+        }
+    }
+
+    // Devuelve el limite superior de los identificadores entregados (para dimensionar arreglos).
+    public static int getIdCapacity() {
+        return ID_ALLOCATOR.getCapacity();
+    }
+
+    // Libera recursos graficos y devuelve el identificador para que se reutilice.
+    public void dispose() {
+        ID_ALLOCATOR.release(id);
+        id = -1;
+        // Los frames del animador pertenecen a TextureCache, que los comparte entre personajes: no se liberan aqui.
         if (fallbackTexture != null) {
             fallbackTexture.dispose();
         }
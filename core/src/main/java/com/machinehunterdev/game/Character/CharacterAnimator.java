@@ -1,11 +1,13 @@
 package com.machinehunterdev.game.Character;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.machinehunterdev.game.Util.ISnapshotable;
 import com.machinehunterdev.game.Util.SpriteAnimator;
 
 /**
@@ -16,7 +18,7 @@ import com.machinehunterdev.game.Util.SpriteAnimator;
  * 
  * @author MachineHunterDev
  */
-public class CharacterAnimator {
+public class CharacterAnimator implements ISnapshotable {
     /**
      * Enumeracion de todos los posibles estados de animacion que un personaje puede tener.
      * Cada estado corresponde a una secuencia de sprites.
@@ -40,6 +42,9 @@ public class CharacterAnimator {
         SUMMON          // Invocacion (para jefes o enemigos especiales)
     }
 
+    // Todos los estados, en un orden fijo para las instantaneas.
+    private static final AnimationState[] ALL_STATES = AnimationState.values();
+
     // Un mapa que asocia cada estado de animacion con su respectivo objeto SpriteAnimator.
     private Map<AnimationState, SpriteAnimator> animators;
     
@@ -313,6 +318,42 @@ public class CharacterAnimator {
         return animator != null && animator.isFinished();
     }
 
+    /**
+     * Escribe el estado actual y anterior, la direccion y el progreso de cada animacion.
+     * @param out Buffer de destino.
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) currentState.ordinal());
+        out.put((byte) previousState.ordinal());
+        out.putShort((short) interruptedFrame);
+        out.put((byte) (facingRight ? 1 : 0));
+        for (AnimationState state : ALL_STATES) {
+            SpriteAnimator animator = animators.get(state);
+            if (animator != null) {
+                animator.writeState(out);
+            }
+        }
+    }
+
+    /**
+     * Restaura el estado escrito por 'writeState'.
+     * @param in Buffer de origen.
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        currentState = ALL_STATES[in.get()];
+        previousState = ALL_STATES[in.get()];
+        interruptedFrame = in.getShort();
+        facingRight = in.get() != 0;
+        for (AnimationState state : ALL_STATES) {
+            SpriteAnimator animator = animators.get(state);
+            if (animator != null) {
+                animator.readState(in);
+            }
+        }
+    }
+
     /**
      * Libera todos los recursos (texturas) utilizados por los animadores.
      * Es importante llamar a este metodo para evitar fugas de memoria.
@@ -1,10 +1,12 @@
 package com.machinehunterdev.game.Character;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import com.badlogic.gdx.math.Rectangle;
 import com.machinehunterdev.game.DamageTriggers.Bullet;
 import com.machinehunterdev.game.Environment.SolidObject;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.ISnapshotable;
 
 /**
  * Clase base abstracta para los controladores de personajes.
@@ -13,10 +15,12 @@ import com.machinehunterdev.game.Gameplay.GlobalSettings;
  * ejecutando una IA (en el caso de los controladores de enemigos).
  * 
  * Define la logica comun de colisiones y actualizacion que todos los controladores deben tener.
+ * Los controladores con estado propio (maquinas de estados, temporizadores) lo escriben en
+ * las instantaneas del mundo sobreescribiendo 'writeState' y 'readState'.
  * 
  * @author MachineHunterDev
  */
-public abstract class CharacterController {
+public abstract class CharacterController implements ISnapshotable {
     
     // Referencia al objeto Character que este controlador maneja.
     // El controlador actua sobre este personaje para moverlo, hacerlo atacar, etc.
@@ -131,4 +135,18 @@ public abstract class CharacterController {
             character.isPerformingSpecialAttack = false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Escribe el estado propio del controlador. Por defecto no tiene estado.
+     * @param out Buffer de destino
+     */
+    @Override
+    public void writeState(ByteBuffer out) {}
+
+    /**
+     * Restaura el estado escrito por 'writeState'. Por defecto no tiene estado.
+     * @param in Buffer de origen
+     */
+    @Override
+    public void readState(ByteBuffer in) {}
+}
@@ -20,12 +20,16 @@ public class EnemyManager {
     // La lista que contiene todas las instancias de enemigos activos en el juego.
     private ArrayList<IEnemy> enemies;
 
+    // Enemigos indexados por el id de su personaje, para busquedas en tiempo constante.
+    private IEnemy[] enemiesById;
+
     /**
      * Constructor del gestor de enemigos.
      * Inicializa la lista de enemigos.
      */
     public EnemyManager() {
         enemies = new ArrayList<>();
+        enemiesById = new IEnemy[32];
     }
 
     /**
@@ -66,6 +70,53 @@ public class EnemyManager {
                 enemies.add(new BossEnemy(character, EnemyType.BOSS_CHATGPT));
                 break;
         }
+
+        // Registra al enemigo recien creado en el indice por id.
+        if (!enemies.isEmpty() && enemies.get(enemies.size() - 1).getCharacter() == character) {
+            registerById(enemies.get(enemies.size() - 1));
+        }
+    }
+
+    /**
+     * Registra un enemigo en el arreglo indexado por id, ampliandolo si hace falta.
+     * @param enemy El enemigo a registrar.
+     */
+    private void registerById(IEnemy enemy) {
+        int id = enemy.getCharacter().getId();
+        if (id < 0) return;
+        if (id >= enemiesById.length) {
+            IEnemy[] grown = new IEnemy[Math.max(id + 1, enemiesById.length * 2)];
+            System.arraycopy(enemiesById, 0, grown, 0, enemiesById.length);
+            enemiesById = grown;
+        }
+        enemiesById[id] = enemy;
+    }
+
+    /**
+     * Quita un enemigo del gestor.
+     * Debe llamarse antes de liberar su personaje, mientras su id sigue siendo valido.
+     * @param index La posicion del enemigo en la lista.
+     * @return El enemigo quitado.
+     */
+    public IEnemy removeEnemy(int index) {
+        IEnemy enemy = enemies.remove(index);
+        int id = enemy.getCharacter().getId();
+        if (id >= 0 && id < enemiesById.length && enemiesById[id] == enemy) {
+            enemiesById[id] = null;
+        }
+        return enemy;
+    }
+
+    /**
+     * Quita del gestor el enemigo de un personaje, por ejemplo al descargar su zona del nivel.
+     * Debe llamarse antes de liberar el personaje, mientras su id sigue siendo valido.
+     * @param character El personaje del enemigo.
+     * @return El enemigo quitado, o null si no estaba en el gestor.
+     */
+    public IEnemy removeEnemy(Character character) {
+        IEnemy enemy = getEnemy(character.getId());
+        int index = enemy != null && enemy.getCharacter() == character ? enemies.indexOf(enemy) : -1;
+        return index >= 0 ? removeEnemy(index) : null;
     }
 
     /**
@@ -128,17 +179,26 @@ public class EnemyManager {
         return enemies;
     }
 
+    /**
+     * Obtiene un enemigo a partir del id de su personaje.
+     * @param id El id del personaje.
+     * @return El enemigo, o null si no hay ninguno con ese id.
+     */
+    public IEnemy getEnemy(int id) {
+        if (id < 0 || id >= enemiesById.length) return null;
+        return enemiesById[id];
+    }
+
     /**
      * Obtiene el controlador de un enemigo especifico a partir de su objeto Character.
      * @param character El personaje asociado al enemigo cuyo controlador se desea obtener.
      * @return El controlador del enemigo, o null si no se encuentra.
      */
     public CharacterController getController(Character character) {
-        for (IEnemy enemy : enemies) {
-            if (enemy.getCharacter() == character) {
-                return ((BaseEnemy) enemy).getController();
-            }
+        IEnemy enemy = getEnemy(character.getId());
+        if (enemy == null || enemy.getCharacter() != character) {
+            return null;
         }
-        return null;
+        return ((BaseEnemy) enemy).getController();
     }
 }
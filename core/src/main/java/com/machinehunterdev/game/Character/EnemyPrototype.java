@@ -0,0 +1,175 @@
+package com.machinehunterdev.game.Character;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.machinehunterdev.game.DamageTriggers.WeaponType;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Levels.LevelData;
+import com.machinehunterdev.game.Util.TextureCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plantilla de un enemigo invocable por los jefes.
+ * Obtiene una sola vez los frames de animacion de su 'EnemySkin' y guarda la configuracion
+ * de la invocacion (salud, puntos de aparicion, patrullas y tiempos). Las instancias se
+ * crean a partir de la plantilla sin volver a leer archivos del disco.
+ *
+ * @author MachineHunterDev
+ */
+public class EnemyPrototype {
+
+    /** Numero de enemigos que aparecen en cada invocacion */
+    public static final int SUMMON_COUNT = 2;
+
+    // === CONFIGURACION ===
+    public final EnemyType type; // Tipo de enemigo que genera la plantilla.
+    public final int health; // Salud de las instancias invocadas.
+    public final float waitTime; // Tiempo de espera en cada punto de patrullaje.
+    public final float shootInterval; // Intervalo de disparo.
+    public final float shootTime; // Duracion del ataque.
+
+    // Posicion de aparicion y patrulla de cada enemigo de la invocacion.
+    private final float[] spawnX = new float[SUMMON_COUNT];
+    private final float[] spawnY = new float[SUMMON_COUNT];
+    private final List<ArrayList<LevelData.Point>> patrolPoints = new ArrayList<>();
+
+    // === FRAMES COMPARTIDOS ===
+    private final List<Sprite> idleFrames;
+    private final List<Sprite> runFrames;
+    private final List<Sprite> deadFrames;
+    private final List<Sprite> jumpFrames;
+    private final List<Sprite> fallFrames;
+    private final List<Sprite> hurtFrames;
+    private final List<Sprite> attackFrames;
+    private final List<Sprite> attack1Frames;
+
+    /**
+     * Crea la plantilla de invocacion para un tipo de enemigo y carga sus frames.
+     * @param type El tipo de enemigo (PATROLLER, SHOOTER o FLYING).
+     */
+    public EnemyPrototype(EnemyType type) {
+        this.type = type;
+        EnemySkin skin = EnemySkin.getSkin(type);
+
+        // Carga los frames de animacion una sola vez.
+        idleFrames = loadFrames(skin.idleFrames, type == EnemyType.FLYING ? 9 : 4);
+        runFrames = loadFrames(skin.runFrames, 4);
+        deadFrames = loadFrames(skin.deadFrames, 4);
+        jumpFrames = loadFrames(skin.jumpFrames, 1);
+        fallFrames = loadFrames(skin.fallFrames, 1);
+        hurtFrames = loadFrames(skin.hurtFrames, 1);
+        attackFrames = loadFrames(skin.attackFrames, 2);
+        attack1Frames = type == EnemyType.SHOOTER ? loadFrames(skin.attack1Frames, 3) : null;
+
+        // Establece la salud de los enemigos invocados.
+        switch (type) {
+            case PATROLLER:
+                health = GlobalSettings.PATROLLER_HEALTH;
+                break;
+            case SHOOTER:
+                health = GlobalSettings.SHOOTER_HEALTH / 2; // Menos salud para enemigos disparadores invocados
+                break;
+            case FLYING:
+                health = GlobalSettings.FLYING_HEALTH;
+                break;
+            default:
+                health = 1;
+                break;
+        }
+
+        // Posiciones de aparicion; la Y de los enemigos terrestres se ajusta al suelo al invocarlos.
+        spawnX[0] = 88;
+        spawnX[1] = 352;
+        if (type == EnemyType.FLYING) {
+            spawnY[0] = 342;
+            spawnY[1] = 270;
+        } else {
+            spawnY[0] = 480;
+            spawnY[1] = 480;
+        }
+
+        // Define puntos de patrulla y tiempos para los enemigos invocados.
+        ArrayList<LevelData.Point> patrolPoints1 = new ArrayList<>();
+        ArrayList<LevelData.Point> patrolPoints2 = new ArrayList<>();
+        float wait = 0, interval = 0, time = 0;
+        switch (type) {
+            case PATROLLER:
+                patrolPoints1.add(point(352, 32, "Jump"));
+                patrolPoints1.add(point(88, 32, "Jump"));
+                patrolPoints2.add(point(88, 32, "Jump"));
+                patrolPoints2.add(point(352, 32, "Jump"));
+                wait = 1.0f;
+                break;
+            case SHOOTER:
+                interval = 2.0f;
+                time = 1f;
+                break;
+            case FLYING:
+                patrolPoints1.add(point(138, 168, null));
+                patrolPoints1.add(point(138, 96, null));
+                patrolPoints2.add(point(302, 96, null));
+                patrolPoints2.add(point(302, 168, null));
+                wait = 0.5f;
+                break;
+            default:
+                break;
+        }
+        patrolPoints.add(patrolPoints1);
+        patrolPoints.add(patrolPoints2);
+        waitTime = wait;
+        shootInterval = interval;
+        shootTime = time;
+    }
+
+    /**
+     * Crea una nueva instancia inactiva del enemigo.
+     * Los frames se comparten con la plantilla, por lo que no se lee nada del disco.
+     * @param slot Posicion dentro de la invocacion (0 o 1).
+     * @return El personaje listo para activarse.
+     */
+    public Character createInstance(int slot) {
+        CharacterAnimator animator = new CharacterAnimator(
+            idleFrames, runFrames, deadFrames,
+            jumpFrames, fallFrames, attackFrames,
+            null, null, null,
+            hurtFrames, null, null, null, attack1Frames, null, null
+        );
+        Character enemy = new Character(health, animator, null, spawnX[slot], spawnY[slot], false);
+        if (type == EnemyType.SHOOTER) {
+            enemy.switchWeapon(WeaponType.SHOOTER);
+        }
+        return enemy;
+    }
+
+    /**
+     * Obtiene los puntos de patrulla de una posicion de la invocacion.
+     * La lista se comparte entre todas las invocaciones y no debe modificarse.
+     * @param slot Posicion dentro de la invocacion (0 o 1).
+     * @return Los puntos de patrulla.
+     */
+    public ArrayList<LevelData.Point> getPatrolPoints(int slot) {
+        return patrolPoints.get(slot);
+    }
+
+    // Obtiene los frames de una animacion desde la cache de texturas.
+    private List<Sprite> loadFrames(String basePath, int frameCount) {
+        if (basePath == null) {
+            return null;
+        }
+        List<Sprite> frames = new ArrayList<>();
+        for (int i = 1; i <= frameCount; i++) {
+            frames.add(new Sprite(TextureCache.getInstance().get(basePath + i + ".png")));
+        }
+        return frames;
+    }
+
+    // Crea un punto de patrulla.
+    private static LevelData.Point point(float x, float y, String action) {
+        LevelData.Point point = new LevelData.Point();
+        point.x = x;
+        point.y = y;
+        point.action = action;
+        return point;
+    }
+}
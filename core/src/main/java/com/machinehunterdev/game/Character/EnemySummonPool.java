@@ -0,0 +1,91 @@
+package com.machinehunterdev.game.Character;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reserva de enemigos preconstruidos para las invocaciones de los jefes.
+ * Al cargar el nivel crea una 'EnemyPrototype' por cada tipo invocable y deja
+ * listas las instancias de una invocacion completa, de modo que invocar durante
+ * el combate solo activa y posiciona enemigos ya construidos.
+ *
+ * @author MachineHunterDev
+ */
+public class EnemySummonPool {
+
+    // Plantillas por tipo de enemigo.
+    private final Map<EnemyType, EnemyPrototype> prototypes = new EnumMap<>(EnemyType.class);
+
+    // Instancias inactivas listas para invocarse, por tipo y posicion.
+    private final Map<EnemyType, ArrayDeque<Character>[]> idle = new EnumMap<>(EnemyType.class);
+
+    /**
+     * Crea la reserva y precalienta todos los tipos que un jefe puede invocar.
+     */
+    public EnemySummonPool() {
+        for (EnemyType type : BossEnemyController.SUMMONABLE_TYPES) {
+            prototypes.put(type, new EnemyPrototype(type));
+            @SuppressWarnings("unchecked")
+            ArrayDeque<Character>[] slots = new ArrayDeque[EnemyPrototype.SUMMON_COUNT];
+            for (int slot = 0; slot < slots.length; slot++) {
+                slots[slot] = new ArrayDeque<>();
+            }
+            idle.put(type, slots);
+        }
+        refill();
+    }
+
+    /**
+     * Obtiene la plantilla de un tipo de enemigo.
+     * @param type El tipo de enemigo.
+     * @return La plantilla, o null si el tipo no es invocable.
+     */
+    public EnemyPrototype getPrototype(EnemyType type) {
+        return prototypes.get(type);
+    }
+
+    /**
+     * Entrega una instancia inactiva para una posicion de la invocacion.
+     * Si la reserva esta vacia se construye a partir de la plantilla, sin leer del disco.
+     * @param type El tipo de enemigo.
+     * @param slot Posicion dentro de la invocacion.
+     * @return El personaje a activar, o null si el tipo no es invocable.
+     */
+    public Character obtain(EnemyType type, int slot) {
+        ArrayDeque<Character>[] slots = idle.get(type);
+        if (slots == null) return null;
+        Character enemy = slots[slot].poll();
+        return enemy != null ? enemy : prototypes.get(type).createInstance(slot);
+    }
+
+    /**
+     * Repone las instancias entregadas para que la siguiente invocacion tambien este lista.
+     * Conviene llamarlo en un fotograma sin invocaciones.
+     */
+    public void refill() {
+        for (Map.Entry<EnemyType, ArrayDeque<Character>[]> entry : idle.entrySet()) {
+            ArrayDeque<Character>[] slots = entry.getValue();
+            for (int slot = 0; slot < slots.length; slot++) {
+                if (slots[slot].isEmpty()) {
+                    slots[slot].add(prototypes.get(entry.getKey()).createInstance(slot));
+                }
+            }
+        }
+    }
+
+    /**
+     * Libera las instancias sin usar. Las texturas pertenecen a 'TextureCache'.
+     */
+    public void dispose() {
+        for (ArrayDeque<Character>[] slots : idle.values()) {
+            for (ArrayDeque<Character> queue : slots) {
+                for (Character enemy : queue) {
+                    enemy.dispose();
+                }
+                queue.clear();
+            }
+        }
+        prototypes.clear();
+    }
+}
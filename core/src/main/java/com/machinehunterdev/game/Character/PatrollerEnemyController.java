@@ -1,5 +1,6 @@
 package com.machinehunterdev.game.Character;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import com.badlogic.gdx.math.Vector2;
 import com.machinehunterdev.game.DamageTriggers.Bullet;
@@ -143,4 +144,25 @@ public class PatrollerEnemyController extends CharacterController {
             currentState = State.PATROLLING; // Vuelve al estado de patrullaje.
         }
     }
+
+    // === INSTANTANEAS ===
+
+    // Escribe el estado de la patrulla: estado, espera y punto de destino.
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) currentState.ordinal());
+        out.putFloat(waitTimer);
+        out.putInt(currentTargetIndex);
+    }
+
+    // Restaura el estado de la patrulla y vuelve a tomar el punto de destino de la lista.
+    @Override
+    public void readState(ByteBuffer in) {
+        currentState = State.values()[in.get()];
+        waitTimer = in.getFloat();
+        currentTargetIndex = in.getInt();
+        if (patrolPoints != null && currentTargetIndex < patrolPoints.size()) {
+            currentTarget = patrolPoints.get(currentTargetIndex);
+        }
+    }
 }
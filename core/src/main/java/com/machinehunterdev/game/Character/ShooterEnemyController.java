@@ -7,6 +7,7 @@ import com.machinehunterdev.game.Gameplay.GlobalSettings;
 import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.Audio.AudioId;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 /**
@@ -158,4 +159,24 @@ public class ShooterEnemyController extends CharacterController {
             character.isSeeingRight = false;
         }
     }
+
+    // === INSTANTANEAS ===
+
+    // Escribe el estado del tirador: estado, temporizadores y ultimo fotograma procesado.
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) currentState.ordinal());
+        out.putFloat(shootDuration);
+        out.putFloat(shootCooldown);
+        out.putInt(previousFrameIndex);
+    }
+
+    // Restaura el estado del tirador.
+    @Override
+    public void readState(ByteBuffer in) {
+        currentState = State.values()[in.get()];
+        shootDuration = in.getFloat();
+        shootCooldown = in.getFloat();
+        previousFrameIndex = in.getInt();
+    }
 }
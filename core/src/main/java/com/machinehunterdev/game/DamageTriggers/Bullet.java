@@ -1,14 +1,17 @@
 package com.machinehunterdev.game.DamageTriggers;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Util.ISnapshotable;
 import com.machinehunterdev.game.Util.SpriteAnimator;
+import com.machinehunterdev.game.Util.TextureCache;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -18,8 +21,14 @@ import java.util.List;
  * 
  * @author MachineHunterDev
  */
-public class Bullet
+public class Bullet implements ISnapshotable
 {
+    /** Cantidad de fotogramas de la animacion de cada bala */
+    public static final int FRAME_COUNT = 2;
+
+    /** Textura de respaldo si no se pueden cargar los fotogramas del arma */
+    public static final String FALLBACK_TEXTURE = "plasma.png";
+
     // === PROPIEDADES DE LA BALA ===
     public Vector2 position; // Posicion actual de la bala.
     public Vector2 velocity; // Velocidad y direccion de la bala.
@@ -29,7 +38,8 @@ public class Bullet
     private float distanceTraveled; // La distancia que la bala ha recorrido hasta ahora.
     private boolean piercing; // Si es verdadero, la bala puede atravesar a multiples enemigos.
     private Rectangle bounds; // La caja de colision de la bala.
-    private List<Character> hitEnemies; // Una lista de los enemigos que ya han sido golpeados por esta bala (para balas perforantes).
+    private BitSet hitEnemyIds; // Ids de los enemigos que ya han sido golpeados por esta bala (para balas perforantes).
+    private long[] hitEnemySerials = new long[0]; // Numero de serie del enemigo golpeado con cada id, porque los ids se reutilizan.
     private Character owner; // El personaje que disparo la bala.
 
     /**
@@ -44,7 +54,7 @@ public class Bullet
         this.position = new Vector2(x, y);
         this.velocity = velocity;
         this.weaponType = weaponType;
-        this.hitEnemies = new ArrayList<>();
+        this.hitEnemyIds = new BitSet();
         this.owner = owner;
 
         // Configura las propiedades de la bala (distancia, animacion, etc.) segun el tipo de arma.
@@ -73,33 +83,27 @@ public class Bullet
     private void configureBullet(boolean seeingRight) {
         this.maxDistance = 0;
         this.piercing = false;
-        String basePath = "Bullets/"; // Carpeta base para las texturas de las balas.
-        String textureName = "";
 
         switch (weaponType) {
             case LASER:
                 maxDistance = 400f;
-                textureName = "Laser";
                 break;
             case ION:
                 maxDistance = 100f;
-                textureName = "Ion";
                 break;
             case RAILGUN:
                 maxDistance = 600f;
                 piercing = true; // El Railgun es perforante.
-                textureName = "Railgun";
                 break;
             case SHOOTER:
                 maxDistance = 350f;
-                textureName = "Thunder";
                 break;
             default:
                 // No se hace nada para otros tipos.
         }
 
-        // Carga los fotogramas de la animacion de la bala.
-        List<Sprite> frames = loadBulletFrames(basePath + textureName, 2, !seeingRight);
+        // Obtiene los fotogramas de la animacion de la bala.
+        List<Sprite> frames = loadBulletFrames(FRAME_COUNT, !seeingRight);
 
         // Inicializa el animador de sprites.
         this.animator = new SpriteAnimator(frames, 0.1f, true);
@@ -108,25 +112,44 @@ public class Bullet
         // Si la carga de fotogramas falla, usa una textura de respaldo.
         if (frames.isEmpty()) {
             List<Sprite> plasmaFrames = new ArrayList<>();
-            plasmaFrames.add(new Sprite(new Texture("plasma.png")));
+            plasmaFrames.add(new Sprite(TextureCache.getInstance().get(FALLBACK_TEXTURE)));
             this.animator = new SpriteAnimator(plasmaFrames, 0.1f, true);
             this.animator.start();
         }
     }
 
     /**
-     * Carga los fotogramas de la animacion de la bala desde los archivos.
-     * @param basePath La ruta base de las texturas.
+     * Obtiene la ruta de un fotograma de la bala de un arma.
+     * Tambien la usa 'LevelAssetManifest' para precargar las balas del nivel.
+     * @param weaponType El tipo de arma.
+     * @param frame El numero de fotograma, empezando en 1.
+     * @param flipped Indica si se trata de la version volteada horizontalmente.
+     * @return La ruta interna de la textura.
+     */
+    public static String getFramePath(WeaponType weaponType, int frame, boolean flipped) {
+        String textureName = "";
+        switch (weaponType) {
+            case LASER: textureName = "Laser"; break;
+            case ION: textureName = "Ion"; break;
+            case RAILGUN: textureName = "Railgun"; break;
+            case SHOOTER: textureName = "Thunder"; break;
+            default: break;
+        }
+        return "Bullets/" + textureName + frame + (flipped ? "_flipped.png" : ".png");
+    }
+
+    /**
+     * Obtiene los fotogramas de la animacion de la bala desde la cache de texturas.
      * @param frameCount El numero de fotogramas a cargar.
      * @param flipped Indica si las texturas deben ser volteadas horizontalmente.
      * @return Una lista de los sprites cargados.
      */
-    private List<Sprite> loadBulletFrames(String basePath, int frameCount, boolean flipped) {
+    private List<Sprite> loadBulletFrames(int frameCount, boolean flipped) {
         List<Sprite> frames = new ArrayList<>();
         for (int i = 1; i <= frameCount; i++) {
-            String texturePath = basePath + i + (flipped ? "_flipped.png" : ".png");
+            String texturePath = getFramePath(weaponType, i, flipped);
             try {
-                frames.add(new Sprite(new Texture(texturePath)));
+                frames.add(new Sprite(TextureCache.getInstance().get(texturePath)));
             } catch (Exception e) {
                 System.err.println("Advertencia: No se pudo cargar el fotograma de la bala: " + texturePath);
                 return new ArrayList<>();
@@ -206,28 +229,103 @@ public class Bullet
 
     /**
      * Comprueba si un enemigo especifico ya ha sido golpeado por esta bala.
-     * Util para las balas perforantes.
+     * Util para las balas perforantes. El coste es constante sin importar
+     * cuantos enemigos haya atravesado la bala. Un enemigo que recibe el id de uno ya
+     * golpeado (por ejemplo, una invocacion) tiene otro numero de serie y si recibe el golpe.
      * @param enemy El enemigo a comprobar.
      * @return Verdadero si ya ha sido golpeado.
      */
     public boolean hasHit(Character enemy) {
-        return hitEnemies.contains(enemy);
+        int id = enemy.getId();
+        return id >= 0 && hitEnemyIds.get(id) && hitEnemySerials[id] == enemy.getSerial();
     }
 
     /**
      * Registra que un enemigo ha sido golpeado por esta bala.
-     * @param enemy El enemigo que ha sido anadido a la lista de golpeados.
+     * @param enemy El enemigo que ha sido anadido al conjunto de golpeados.
      */
     public void addHitEnemy(Character enemy) {
-        hitEnemies.add(enemy);
+        if (enemy.getId() >= 0) {
+            markHit(enemy.getId(), enemy.getSerial());
+        }
+    }
+
+    // Marca un id como golpeado y guarda el numero de serie de su enemigo.
+    private void markHit(int id, long serial) {
+        if (id >= hitEnemySerials.length) {
+            long[] grown = new long[Math.max(id + 1, hitEnemySerials.length * 2)];
+            System.arraycopy(hitEnemySerials, 0, grown, 0, hitEnemySerials.length);
+            hitEnemySerials = grown;
+        }
+        hitEnemyIds.set(id);
+        hitEnemySerials[id] = serial;
     }
 
+    // === INSTANTANEAS ===
+
     /**
-     * Libera los recursos (texturas) utilizados por la animacion de la bala.
+     * Escribe el estado de la bala: tipo de arma, movimiento, enemigos golpeados y animacion.
+     * El propietario no se escribe; lo registra quien toma la instantanea.
+     * @param out Buffer de destino
      */
-    public void dispose() {
-        if (animator != null) {
-            animator.dispose();
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.put((byte) weaponType.ordinal());
+        out.putFloat(position.x);
+        out.putFloat(position.y);
+        out.putFloat(velocity.x);
+        out.putFloat(velocity.y);
+        out.putFloat(distanceTraveled);
+        out.putShort((short) hitEnemyIds.cardinality());
+        for (int id = hitEnemyIds.nextSetBit(0); id >= 0; id = hitEnemyIds.nextSetBit(id + 1)) {
+            out.putShort((short) id);
+            out.putLong(hitEnemySerials[id]);
         }
+        animator.writeState(out);
+    }
+
+    /**
+     * Restaura el estado escrito por 'writeState'.
+     * El tipo de arma se lee pero no cambia: es el de la bala creada con 'fromState'.
+     * @param in Buffer de origen
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        in.get();
+        position.set(in.getFloat(), in.getFloat());
+        velocity.set(in.getFloat(), in.getFloat());
+        distanceTraveled = in.getFloat();
+        hitEnemyIds.clear();
+        int hits = in.getShort();
+        for (int i = 0; i < hits; i++) {
+            int id = in.getShort();
+            markHit(id, in.getLong());
+        }
+        animator.readState(in);
+        bounds.setPosition(position.x, position.y);
+    }
+
+    /**
+     * Crea una bala a partir del estado escrito por 'writeState'.
+     * @param in Buffer de origen, situado al inicio del estado
+     * @param owner El personaje que disparo la bala
+     * @return La bala restaurada
+     */
+    public static Bullet fromState(ByteBuffer in, Character owner) {
+        int start = in.position();
+        WeaponType type = WeaponType.values()[in.get(start)];
+        Vector2 velocity = new Vector2(in.getFloat(start + 9), in.getFloat(start + 13));
+        Bullet bullet = new Bullet(in.getFloat(start + 1), in.getFloat(start + 5), velocity, type, owner);
+        bullet.readState(in);
+        return bullet;
+    }
+
+    /**
+     * Libera los recursos de la bala.
+     * Las texturas pertenecen a 'TextureCache' y se comparten entre balas,
+     * por lo que no se liberan aqui.
+     */
+    public void dispose() {
+        // Nada que liberar.
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.machinehunterdev.game.DamageTriggers;
+
+import com.machinehunterdev.game.Character.Character;
+
+/**
+ * Representa un golpe registrado durante un fotograma.
+ * Los eventos no modifican al objetivo al crearse; se acumulan en la
+ * 'DamageQueue' y se resuelven todos juntos en la fase de dano.
+ *
+ * @author MachineHunterDev
+ */
+public class DamageEvent {
+    // === DATOS DEL GOLPE ===
+    public Character target; // El personaje que recibe el dano.
+    public Character source; // El personaje que causa el dano (puede ser null).
+    public int amount; // La cantidad de dano (acumulada si hay varios golpes en el mismo fotograma).
+    public DamageType damageType; // El tipo de dano.
+    public WeaponType weaponType; // El arma que causo el golpe (para el efecto de impacto, puede ser null).
+    public boolean knockback; // Si se debe aplicar empuje.
+    public float knockbackForce; // La fuerza del empuje.
+    public boolean invulnerability; // Si el golpe activa el periodo de invulnerabilidad.
+    public float impactX, impactY; // Punto donde se produjo el ultimo golpe.
+
+    // === RESULTADO DE LA RESOLUCION ===
+    public int hitCount; // Numero de golpes agrupados en este evento.
+    public boolean killed; // Verdadero si el objetivo murio al resolver el evento.
+
+    /**
+     * Constructor completo de un evento de dano.
+     * @param target El personaje que recibe el dano.
+     * @param source El personaje que causa el dano (puede ser null).
+     * @param amount La cantidad de dano.
+     * @param damageType El tipo de dano.
+     * @param weaponType El arma que causo el golpe (puede ser null).
+     * @param knockback Si se debe aplicar empuje.
+     * @param knockbackForce La fuerza del empuje.
+     * @param invulnerability Si el golpe activa el periodo de invulnerabilidad.
+     * @param impactX Posicion X del golpe.
+     * @param impactY Posicion Y del golpe.
+     */
+    public DamageEvent(Character target, Character source, int amount, DamageType damageType, WeaponType weaponType,
+                       boolean knockback, float knockbackForce, boolean invulnerability, float impactX, float impactY) {
+        this.target = target;
+        this.source = source;
+        this.amount = amount;
+        this.damageType = damageType;
+        this.weaponType = weaponType;
+        this.knockback = knockback;
+        this.knockbackForce = knockbackForce;
+        this.invulnerability = invulnerability;
+        this.impactX = impactX;
+        this.impactY = impactY;
+        this.hitCount = 1;
+        this.killed = false;
+    }
+
+    /**
+     * Crea un evento de dano por contacto (con empuje e invulnerabilidad), igual que 'applyContactDamage'.
+     * @param target El personaje que recibe el dano.
+     * @param source El personaje que causa el dano.
+     * @param amount La cantidad de dano.
+     * @param weaponType El arma o enemigo que causo el golpe.
+     * @param impactX Posicion X del golpe.
+     * @param impactY Posicion Y del golpe.
+     * @return El nuevo evento.
+     */
+    public static DamageEvent contact(Character target, Character source, int amount, WeaponType weaponType, float impactX, float impactY) {
+        return new DamageEvent(target, source, amount, DamageType.CONTACT, weaponType, true, 0.7f, true, impactX, impactY);
+    }
+
+    /**
+     * Crea un evento de dano de proyectil sin invulnerabilidad, igual que 'applyDamageWithoutInvulnerability'.
+     * @param target El personaje que recibe el dano.
+     * @param amount La cantidad de dano.
+     * @param weaponType El arma que causo el golpe.
+     * @param impactX Posicion X del golpe.
+     * @param impactY Posicion Y del golpe.
+     * @return El nuevo evento.
+     */
+    public static DamageEvent projectile(Character target, int amount, WeaponType weaponType, float impactX, float impactY) {
+        return new DamageEvent(target, null, amount, DamageType.PROJECTILE, weaponType, false, 0f, false, impactX, impactY);
+    }
+
+    /**
+     * Agrupa otro golpe del mismo fotograma en este evento.
+     * Los golpes sin invulnerabilidad suman su dano; los que activan invulnerabilidad
+     * solo cuentan una vez, porque el primero ya bloquearia a los demas.
+     * @param other El golpe a agrupar.
+     */
+    void merge(DamageEvent other) {
+        if (!invulnerability) {
+            amount += other.amount;
+        }
+        impactX = other.impactX;
+        impactY = other.impactY;
+        hitCount++;
+    }
+}
@@ -0,0 +1,169 @@
+package com.machinehunterdev.game.DamageTriggers;
+
+import com.machinehunterdev.game.Character.Character;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cola de dano por fotograma.
+ * Las colisiones registran sus golpes aqui en lugar de modificar la salud al momento.
+ * Los golpes se agrupan por objetivo y se aplican una sola vez en 'resolve', de modo que
+ * varios impactos en el mismo fotograma (escopeta, railgun perforante, cascada del jefe)
+ * solo producen una reduccion de salud, un parpadeo y una animacion de dano por objetivo.
+ *
+ * @author MachineHunterDev
+ */
+public class DamageQueue {
+
+    // Golpes agrupados por objetivo: un bit por id de personaje con dano pendiente
+    // y el evento agrupado indexado por ese mismo id.
+    private final BitSet pendingIds = new BitSet();
+    private DamageEvent[] pendingById = new DamageEvent[32];
+    // Golpes agrupados en el orden en que se registraron.
+    private final List<DamageEvent> pendingOrder = new ArrayList<>();
+
+    // Todos los golpes individuales registrados desde la ultima resolucion (para metricas).
+    private final List<DamageEvent> frameEvents = new ArrayList<>();
+    // Golpes individuales del ultimo fotograma resuelto.
+    private final List<DamageEvent> lastFrameEvents = new ArrayList<>();
+    // Eventos agrupados devueltos por la ultima resolucion (la lista se reutiliza).
+    private final List<DamageEvent> resolved = new ArrayList<>();
+
+    // Dano total aplicado desde que se creo la cola.
+    private long totalDamage = 0;
+
+    /**
+     * Registra un golpe para el fotograma actual.
+     * @param event El golpe a registrar.
+     */
+    public void enqueue(DamageEvent event) {
+        if (event == null || event.target == null || event.target.getId() < 0) return;
+        frameEvents.add(event);
+
+        int id = event.target.getId();
+        if (!pendingIds.get(id)) {
+            // Copia para que el evento original se conserve intacto en el flujo de metricas.
+            DamageEvent pending = new DamageEvent(event.target, event.source, event.amount, event.damageType, event.weaponType,
+                    event.knockback, event.knockbackForce, event.invulnerability, event.impactX, event.impactY);
+            if (id >= pendingById.length) {
+                DamageEvent[] grown = new DamageEvent[Math.max(id + 1, pendingById.length * 2)];
+                System.arraycopy(pendingById, 0, grown, 0, pendingById.length);
+                pendingById = grown;
+            }
+            pendingById[id] = pending;
+            pendingIds.set(id);
+            pendingOrder.add(pending);
+        } else {
+            pendingById[id].merge(event);
+        }
+    }
+
+    /**
+     * Comprueba si un personaje ya tiene dano pendiente en este fotograma.
+     * @param target El personaje a comprobar.
+     * @return Verdadero si ya fue golpeado en este fotograma.
+     */
+    public boolean hasPending(Character target) {
+        return target.getId() >= 0 && pendingIds.get(target.getId());
+    }
+
+    /**
+     * Comprueba si el dano pendiente ya basta para matar al personaje.
+     * Permite que las balas posteriores del mismo fotograma lo ignoren, igual que
+     * cuando el dano se aplicaba al momento.
+     * @param target El personaje a comprobar.
+     * @return Verdadero si el personaje morira al resolver la cola.
+     */
+    public boolean isPendingDeath(Character target) {
+        if (!hasPending(target)) return false;
+        return pendingById[target.getId()].amount >= target.getHealth();
+    }
+
+    /**
+     * Comprueba si quedan golpes sin resolver.
+     * @return Verdadero si la cola tiene golpes pendientes.
+     */
+    public boolean isEmpty() {
+        return pendingOrder.isEmpty();
+    }
+
+    /**
+     * Aplica todos los golpes pendientes, una vez por objetivo.
+     * Los golpes registrados durante el procesamiento del resultado (por ejemplo,
+     * la cascada al morir un jefe) quedan pendientes para la siguiente llamada.
+     * @return Los eventos agrupados ya aplicados. La lista se reutiliza en cada llamada.
+     */
+    public List<DamageEvent> resolve() {
+        resolved.clear();
+        if (pendingOrder.isEmpty()) return resolved;
+
+        resolved.addAll(pendingOrder);
+        clearPending();
+
+        for (DamageEvent event : resolved) {
+            Character target = event.target;
+            if (!target.isAlive()) continue;
+
+            int healthBefore = target.getHealth();
+            if (event.invulnerability) {
+                DamageSystem.applyDamage(target, event.source, event.amount, event.damageType, event.knockback, event.knockbackForce);
+            } else {
+                DamageSystem.applyDamageWithoutInvulnerability(target, event.amount, event.knockback);
+            }
+            totalDamage += healthBefore - target.getHealth();
+            event.killed = !target.isAlive();
+        }
+        return resolved;
+    }
+
+    /**
+     * Cierra el fotograma: los golpes individuales pasan al historial del ultimo fotograma.
+     * Se llama una vez despues de resolver toda la cola.
+     */
+    public void endFrame() {
+        lastFrameEvents.clear();
+        lastFrameEvents.addAll(frameEvents);
+        frameEvents.clear();
+    }
+
+    /**
+     * Devuelve los golpes individuales del ultimo fotograma resuelto como un flujo,
+     * util para calcular metricas de dano por segundo.
+     * @return Un flujo con los golpes del ultimo fotograma.
+     */
+    public Stream<DamageEvent> stream() {
+        return lastFrameEvents.stream();
+    }
+
+    /**
+     * Obtiene el dano total aplicado desde que se creo la cola.
+     * @return El dano total.
+     */
+    public long getTotalDamage() {
+        return totalDamage;
+    }
+
+    /**
+     * Vacia los golpes agrupados; solo recorre los ids marcados.
+     */
+    private void clearPending() {
+        for (int id = pendingIds.nextSetBit(0); id >= 0; id = pendingIds.nextSetBit(id + 1)) {
+            pendingById[id] = null;
+        }
+        pendingIds.clear();
+        pendingOrder.clear();
+    }
+
+    /**
+     * Descarta todos los golpes pendientes y el historial.
+     */
+    public void clear() {
+        clearPending();
+        frameEvents.clear();
+        lastFrameEvents.clear();
+        resolved.clear();
+    }
+}
@@ -7,6 +7,8 @@ import com.machinehunterdev.game.Character.Character;
  * Esta clase estatica proporciona metodos para aplicar diferentes tipos de dano
  * a los personajes, manejando la reduccion de salud, los efectos visuales,
  * el empuje (knockback) y la invulnerabilidad.
+ * Durante el juego, las colisiones no lo llaman directamente: registran sus golpes en
+ * una 'DamageQueue', que los agrupa por objetivo y los aplica aqui una vez por fotograma.
  * 
  * @author MachineHunterDev
  */
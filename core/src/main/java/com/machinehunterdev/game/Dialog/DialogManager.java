@@ -1,8 +1,5 @@
 package com.machinehunterdev.game.Dialog;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.machinehunterdev.game.GameController;
 import com.badlogic.gdx.Gdx;
 import com.machinehunterdev.game.GameStates.MainMenuState;
@@ -12,7 +9,13 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.machinehunterdev.game.UI.FontRegistry;
+import com.machinehunterdev.game.UI.GlyphLayoutCache;
+import com.machinehunterdev.game.UI.MainMenuUI;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.TextureCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -33,12 +36,14 @@ public class DialogManager {
     // === ATRIBUTOS DE RENDERIZADO ===
     private SpriteBatch batch; // El SpriteBatch para dibujar los elementos del dialogo.
     private BitmapFont font; // La fuente utilizada para el texto del dialogo.
-    private GlyphLayout glyphLayout; // Utilidad para medir y formatear el texto.
-    private ScreenViewport uiViewport; // Viewport para asegurar que la UI se escale correctamente.
+    private BitmapFont promptFont; // La fuente a media escala para el indicador de continuar.
+    private GlyphLayout glyphLayout; // Layout completo de la pagina actual.
+    private BitmapFontCache pageCache; // Glifos de la pagina actual, para dibujar solo los visibles.
+    private ScreenViewport uiViewport; // Viewport de interfaz compartido, propiedad de GameController.
     private Texture backgroundTexture; // Textura para el fondo del cuadro de dialogo.
     private Texture borderTexture; // Textura para el borde del cuadro de dialogo.
     private Texture skipIndicatorTexture; // Textura para el indicador de "continuar".
-    private Texture flashbackBackground; // Textura de fondo especial para flashbacks.
+    private Texture flashbackBackground; // Textura de fondo especial para flashbacks (propiedad de TextureCache).
 
     // === ESTADO DEL DIALOGO ===
     private Dialog currentDialog; // El dialogo que se esta mostrando actualmente.
@@ -53,11 +58,12 @@ public class DialogManager {
     private float dialogBoxY;
 
     // === EFECTO DE ESCRITURA Y PAGINACION ===
-    private String currentVisibleText = ""; // El texto que es visible en el cuadro en un momento dado.
+    private int visibleGlyphs = 0; // Cantidad de glifos de la pagina visibles en un momento dado.
+    private int totalGlyphs = 0; // Cantidad de glifos de la pagina actual.
     private float textTimer = 0f; // Temporizador para controlar la velocidad de escritura.
     private float textSpeed = 0.03f; // Velocidad a la que aparecen los caracteres.
     private boolean textFullyVisible = false; // Bandera que indica si la linea actual ya se ha mostrado por completo.
-    private List<String> pages; // Lista de paginas para una linea de dialogo que no cabe en el cuadro.
+    private String[] pages; // Paginas de la linea actual (compartidas con DialogPaginator, no se modifican).
     private int currentPage; // La pagina actual que se esta mostrando.
 
     // === AUDIO ===
@@ -74,36 +80,37 @@ public class DialogManager {
     public DialogManager(GameController owner, SpriteBatch batch) {
         this.owner = owner;
         this.batch = batch;
-        font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-        font.setColor(Color.WHITE);
+        font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+        promptFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64, 0.5f);
         glyphLayout = new GlyphLayout();
-        pages = new ArrayList<>();
+        pageCache = font.newFontCache();
+        pages = new String[0];
 
         // Crea una textura de 1x1 pixel para el fondo semi-transparente.
         Pixmap bgPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         bgPixmap.setColor(0, 0, 0, 0.8f);
         bgPixmap.fill();
-        backgroundTexture = new Texture(bgPixmap);
+        backgroundTexture = GpuResourceTracker.getInstance().track(new Texture(bgPixmap));
         bgPixmap.dispose();
 
         // Crea una textura de 1x1 pixel para el borde blanco.
         Pixmap borderPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         borderPixmap.setColor(Color.WHITE);
         borderPixmap.fill();
-        borderTexture = new Texture(borderPixmap);
+        borderTexture = GpuResourceTracker.getInstance().track(new Texture(borderPixmap));
         borderPixmap.dispose();
 
         // Crea una textura para el indicador de "saltar" o "continuar".
         Pixmap skipPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         skipPixmap.setColor(Color.WHITE);
         skipPixmap.fill();
-        skipIndicatorTexture = new Texture(skipPixmap);
+        skipIndicatorTexture = GpuResourceTracker.getInstance().track(new Texture(skipPixmap));
         skipPixmap.dispose();
 
-        flashbackBackground = new Texture(Gdx.files.internal("Fondos/NameInputBackgroundShadowless.png"));
+        // Es el mismo fondo del menu, que TextureCache conserva entre niveles.
+        flashbackBackground = TextureCache.getInstance().get(MainMenuUI.BACKGROUND_TEXTURE);
 
-        uiViewport = new ScreenViewport();
-        uiViewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+        uiViewport = owner.uiViewport;
 
         updateDialogPosition();
         dialogActive = false;
@@ -144,38 +151,13 @@ public class DialogManager {
     private void startNewLine() {
         String fullText = currentDialog.getLines().get(currentLineIndex)
             .replace("Roberto Julián", GlobalSettings.playerName); // Reemplaza el placeholder con el nombre del jugador.
-        pages.clear();
         currentPage = 0;
 
-        GlyphLayout layout = new GlyphLayout();
-        float targetWidth = dialogBoxWidth - 20;
-
         if (isFlashback) {
-            pages.add(fullText);
+            pages = new String[] { fullText };
         } else {
-            // Logica de paginacion: divide el texto en multiples paginas si no cabe en el cuadro.
-            float targetHeight = dialogBoxHeight - 20;
-            int start = 0;
-            while (start < fullText.length()) {
-                int end = start;
-                while (end < fullText.length()) {
-                    end++;
-                    layout.setText(font, fullText.substring(start, end), Color.WHITE, targetWidth, Align.left, true);
-                    if (layout.height > targetHeight) {
-                        end = fullText.lastIndexOf(' ', end - 1);
-                        if (end == -1 || end <= start) {
-                            end = fullText.indexOf(' ', start);
-                            if (end == -1) end = fullText.length();
-                        }
-                        break;
-                    }
-                }
-                pages.add(fullText.substring(start, end));
-                start = end;
-                if (start < fullText.length() && fullText.charAt(start) == ' ') {
-                    start++;
-                }
-            }
+            // Divide el texto en multiples paginas si no cabe en el cuadro.
+            pages = DialogPaginator.getInstance().paginate(font, fullText, dialogBoxWidth - 20, dialogBoxHeight - 20);
         }
 
         startPage();
@@ -185,9 +167,26 @@ public class DialogManager {
      * Inicia una nueva pagina del dialogo actual, reiniciando el efecto de escritura.
      */
     private void startPage() {
-        currentVisibleText = "";
+        visibleGlyphs = 0;
         textTimer = 0f;
         textFullyVisible = false;
+        layoutPage();
+    }
+
+    /**
+     * Mide la pagina actual completa una sola vez; el efecto de escritura solo
+     * cambia cuantos de sus glifos se dibujan.
+     */
+    private void layoutPage() {
+        glyphLayout.setText(font, pages[currentPage], Color.WHITE, dialogBoxWidth - 20, isFlashback ? Align.center : Align.left, true);
+        pageCache.setText(glyphLayout, 0, 0);
+        totalGlyphs = 0;
+        for (GlyphLayout.GlyphRun run : glyphLayout.runs) {
+            totalGlyphs += run.glyphs.size;
+        }
+        if (textFullyVisible) {
+            visibleGlyphs = totalGlyphs;
+        }
     }
 
     /**
@@ -196,7 +195,7 @@ public class DialogManager {
      */
     public void nextLine() {
         if (textFullyVisible) {
-            if (currentPage < pages.size() - 1) {
+            if (currentPage < pages.length - 1) {
                 currentPage++;
                 startPage();
             } else {
@@ -213,7 +212,7 @@ public class DialogManager {
             }
         } else {
             // Si el texto aun esta apareciendo, lo muestra por completo.
-            currentVisibleText = pages.get(currentPage);
+            visibleGlyphs = totalGlyphs;
             textFullyVisible = true;
         }
     }
@@ -240,14 +239,13 @@ public class DialogManager {
         }
 
         textTimer += dt;
-        String fullText = pages.get(currentPage);
 
         // Calcula cuantos caracteres deben ser visibles segun el tiempo transcurrido.
         int charIndex = (int)(textTimer / textSpeed);
-        if (charIndex < fullText.length()) {
-            currentVisibleText = fullText.substring(0, charIndex + 1);
+        if (charIndex + 1 < totalGlyphs) {
+            visibleGlyphs = charIndex + 1;
         } else {
-            currentVisibleText = fullText;
+            visibleGlyphs = totalGlyphs;
             textFullyVisible = true;
         }
     }
@@ -274,9 +272,9 @@ public class DialogManager {
         if (isFlashback) {
             // Renderizado especial para flashbacks.
             batch.draw(flashbackBackground, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-            glyphLayout.setText(font, currentVisibleText, Color.WHITE, dialogBoxWidth - 20, Align.center, true);
             float textY = dialogBoxY + dialogBoxHeight / 2 + glyphLayout.height / 2;
-            font.draw(batch, glyphLayout, dialogBoxX + 10, textY);
+            pageCache.setPosition(dialogBoxX + 10, textY);
+            pageCache.draw(batch, 0, visibleGlyphs);
         } else {
             // Renderizado normal del cuadro de dialogo.
             batch.draw(backgroundTexture, dialogBoxX, dialogBoxY, dialogBoxWidth, dialogBoxHeight);
@@ -285,19 +283,18 @@ public class DialogManager {
             batch.draw(borderTexture, dialogBoxX, dialogBoxY, 1, dialogBoxHeight); // Borde izquierdo
             batch.draw(borderTexture, dialogBoxX + dialogBoxWidth - 1, dialogBoxY, 1, dialogBoxHeight); // Borde derecho
 
-            glyphLayout.setText(font, currentVisibleText, Color.WHITE, dialogBoxWidth - 20, Align.left, true);
             float textY = dialogBoxY + dialogBoxHeight - 20;
-            font.draw(batch, glyphLayout, dialogBoxX + 10, textY);
+            pageCache.setPosition(dialogBoxX + 10, textY);
+            pageCache.draw(batch, 0, visibleGlyphs);
         }
 
         // Muestra un indicador para continuar cuando el texto esta completo en un flashback.
         if (textFullyVisible && isFlashback) {
-            font.getData().setScale(0.5f);
-            glyphLayout.setText(font, "Presiona E para continuar");
-            float promptX = (Gdx.graphics.getWidth() - glyphLayout.width) / 2f;
+            promptFont.setColor(Color.WHITE);
+            GlyphLayout promptLayout = GlyphLayoutCache.getInstance().get(promptFont, "Presiona E para continuar");
+            float promptX = (Gdx.graphics.getWidth() - promptLayout.width) / 2f;
             float promptY = 40;
-            font.draw(batch, glyphLayout, promptX, promptY);
-            font.getData().setScale(1.0f);
+            promptFont.draw(batch, promptLayout, promptX, promptY);
         }
         
         batch.end();
@@ -311,20 +308,32 @@ public class DialogManager {
     public void resize(int width, int height) {
         uiViewport.update(width, height, true);
         updateDialogPosition();
+        if (dialogActive) {
+            layoutPage(); // Vuelve a ajustar la pagina actual al nuevo ancho.
+        }
     }
 
     /**
-     * Libera los recursos utilizados por el gestor de dialogos para evitar fugas de memoria.
+     * Cierra el dialogo actual y detiene el sonido de escritura, conservando los recursos
+     * para mostrar otro dialogo despues.
      */
-    public void dispose() {
+    public void closeDialog() {
+        dialogActive = false;
         if (talkingSound != null) {
             talkingSound.stop();
             talkingSound = null;
         }
-        font.dispose();
+    }
+
+    /**
+     * Libera los recursos utilizados por el gestor de dialogos para evitar fugas de memoria.
+     */
+    public void dispose() {
+        closeDialog();
+        // Las fuentes pertenecen a FontRegistry, el fondo de flashback a TextureCache
+        // y el viewport a GameController.
         backgroundTexture.dispose();
         borderTexture.dispose();
         skipIndicatorTexture.dispose();
-        flashbackBackground.dispose();
     }
 }
\ No newline at end of file
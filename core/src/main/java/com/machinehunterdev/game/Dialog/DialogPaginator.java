@@ -0,0 +1,199 @@
+package com.machinehunterdev.game.Dialog;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Divide las lineas de dialogo en paginas que caben en el cuadro de dialogo (patron singleton).
+ * Recorre el texto una sola vez sumando los avances de cada glifo de la fuente, con el mismo
+ * ajuste por palabras que 'GlyphLayout', en lugar de medir cada prefijo del texto.
+ * Las paginas se guardan por texto (ya con el nombre del jugador), fuente y tamano del cuadro,
+ * de modo que volver a mostrar una linea no la vuelve a dividir.
+ *
+ * @author MachineHunterDev
+ */
+public class DialogPaginator {
+
+    /** Cantidad maxima de lineas divididas guardadas */
+    private static final int MAX_ENTRIES = 128;
+
+    /** Instancia unica del paginador */
+    private static DialogPaginator instance;
+
+    /** Paginas de cada linea, de la menos a la mas usada recientemente */
+    private final LinkedHashMap<Key, String[]> pages = new LinkedHashMap<Key, String[]>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String[]> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /** Clave reutilizada para las busquedas */
+    private final Key probe = new Key();
+
+    /**
+     * Devuelve la unica instancia del paginador.
+     * @return El paginador de dialogos
+     */
+    public static DialogPaginator getInstance() {
+        if (instance == null) {
+            instance = new DialogPaginator();
+        }
+        return instance;
+    }
+
+    private DialogPaginator() {}
+
+    /**
+     * Obtiene las paginas de un texto.
+     * @param font La fuente, con la escala con la que se dibujara
+     * @param text El texto completo de la linea
+     * @param maxWidth Ancho disponible para el texto
+     * @param maxHeight Alto disponible para el texto
+     * @return Las paginas compartidas (no deben modificarse)
+     */
+    public String[] paginate(BitmapFont font, String text, float maxWidth, float maxHeight) {
+        probe.set(font, text, maxWidth, maxHeight);
+        String[] result = pages.get(probe);
+        if (result == null) {
+            result = split(font.getData(), text, maxWidth, maxHeight);
+            Key key = new Key();
+            key.set(font, text, maxWidth, maxHeight);
+            pages.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Descarta todas las paginas guardadas.
+     */
+    public void clear() {
+        pages.clear();
+    }
+
+    // Divide el texto en una sola pasada, palabra por palabra.
+    private static String[] split(BitmapFontData data, String text, float maxWidth, float maxHeight) {
+        // Un 'GlyphLayout' de n lineas mide capHeight + (n - 1) * lineHeight de alto.
+        float lineHeight = Math.abs(data.lineHeight);
+        int maxLines = Math.max(1, 1 + (int) ((maxHeight - data.capHeight) / lineHeight));
+        float spaceWidth = data.spaceXadvance * data.scaleX;
+
+        List<String> result = new ArrayList<>();
+        int length = text.length();
+        int pageStart = 0;
+        int lines = 1;
+        float lineWidth = 0f;
+        int i = 0;
+
+        while (i < length) {
+            // Salta los espacios entre palabras.
+            while (i < length && text.charAt(i) == ' ') i++;
+            if (i >= length) break;
+
+            int wordStart = i;
+            while (i < length && text.charAt(i) != ' ') i++;
+            float wordWidth = measure(data, text, wordStart, i);
+
+            if (lineWidth > 0 && lineWidth + spaceWidth + wordWidth > maxWidth) {
+                lines++;
+                lineWidth = 0f;
+            }
+            if (lines > maxLines && wordStart > pageStart) {
+                result.add(text.substring(pageStart, trimEnd(text, pageStart, wordStart)));
+                pageStart = wordStart;
+                lines = 1;
+                lineWidth = 0f;
+            }
+
+            if (lineWidth > 0) {
+                lineWidth += spaceWidth;
+            }
+            lineWidth += wordWidth;
+
+            // Una palabra mas ancha que el cuadro se parte en varias lineas.
+            while (lineWidth > maxWidth && maxWidth > 0) {
+                lines++;
+                lineWidth -= maxWidth;
+            }
+        }
+
+        if (pageStart < length) {
+            result.add(text.substring(pageStart, trimEnd(text, pageStart, length)));
+        }
+        if (result.isEmpty()) {
+            result.add(text);
+        }
+        return result.toArray(new String[0]);
+    }
+
+    // Suma los avances de los glifos de una palabra, con su interletraje.
+    private static float measure(BitmapFontData data, String text, int start, int end) {
+        float width = 0f;
+        Glyph previous = null;
+        for (int i = start; i < end; i++) {
+            Glyph glyph = data.getGlyph(text.charAt(i));
+            if (glyph == null) glyph = data.missingGlyph;
+            if (glyph == null) continue;
+            if (previous != null) {
+                width += previous.getKerning(text.charAt(i)) * data.scaleX;
+            }
+            width += glyph.xadvance * data.scaleX;
+            previous = glyph;
+        }
+        return width;
+    }
+
+    // Devuelve el final del rango sin los espacios finales.
+    private static int trimEnd(String text, int start, int end) {
+        while (end > start && text.charAt(end - 1) == ' ') end--;
+        return end;
+    }
+
+    /**
+     * Clave de una linea dividida: fuente, escala, texto y tamano del cuadro.
+     */
+    private static final class Key {
+        private BitmapFont font;
+        private String text;
+        private float maxWidth, maxHeight;
+        private float scaleX, scaleY;
+
+        private void set(BitmapFont font, String text, float maxWidth, float maxHeight) {
+            this.font = font;
+            this.text = text;
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            this.scaleX = font.getData().scaleX;
+            this.scaleY = font.getData().scaleY;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return font == other.font
+                && Float.compare(maxWidth, other.maxWidth) == 0
+                && Float.compare(maxHeight, other.maxHeight) == 0
+                && Float.compare(scaleX, other.scaleX) == 0
+                && Float.compare(scaleY, other.scaleY) == 0
+                && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = System.identityHashCode(font);
+            h = 31 * h + text.hashCode();
+            h = 31 * h + Float.floatToIntBits(maxWidth);
+            h = 31 * h + Float.floatToIntBits(maxHeight);
+            h = 31 * h + Float.floatToIntBits(scaleX);
+            h = 31 * h + Float.floatToIntBits(scaleY);
+            return h;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.machinehunterdev.game.Dialog;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base de datos de dialogos (patron singleton).
+ * Cada archivo de 'assets/Dialogos' se analiza una sola vez, la primera vez que se consulta,
+ * y sus entradas quedan indexadas por seccion y por nombre en estructuras inmutables.
+ * Asi, un nivel con muchos NPCs que hablan no vuelve a leer el JSON por cada uno.
+ * Todos los metodos son seguros para usarse desde varios hilos.
+ *
+ * @author MachineHunterDev
+ */
+public class DialogueDatabase
+{
+    /** Instancia unica de la base de datos */
+    private static DialogueDatabase instance;
+
+    /** Archivos ya analizados, indexados por ruta */
+    private final Map<String, DialogueFile> files = new HashMap<>();
+
+    /**
+     * Devuelve la unica instancia de la base de datos.
+     * @return La base de datos de dialogos
+     */
+    public static synchronized DialogueDatabase getInstance() {
+        if (instance == null) {
+            instance = new DialogueDatabase();
+        }
+        return instance;
+    }
+
+    private DialogueDatabase() {}
+
+    /**
+     * Obtiene una seccion de un archivo de dialogos.
+     * @param fileName Ruta del archivo JSON
+     * @param sectionName Nombre de la seccion (ej. "Flashbacks")
+     * @return La seccion, o null si no existe
+     */
+    public Section getSection(String fileName, String sectionName) {
+        return getFile(fileName).sections.get(sectionName);
+    }
+
+    /**
+     * Busca una entrada por nombre dentro de una seccion.
+     * @param fileName Ruta del archivo JSON
+     * @param sectionName Nombre de la seccion
+     * @param name Nombre de la entrada (campo "Name")
+     * @return La entrada, o null si no existe
+     */
+    public Entry find(String fileName, String sectionName, String name) {
+        Section section = getSection(fileName, sectionName);
+        return section != null ? section.find(name) : null;
+    }
+
+    /**
+     * Busca una entrada por nombre en cualquier seccion del archivo.
+     * Si el nombre se repite, se devuelve la primera aparicion en el archivo.
+     * @param fileName Ruta del archivo JSON
+     * @param name Nombre de la entrada (campo "Name")
+     * @return La entrada, o null si no existe
+     */
+    public Entry find(String fileName, String name) {
+        return getFile(fileName).entriesByName.get(name);
+    }
+
+    /**
+     * Descarta un archivo para que la siguiente consulta lo vuelva a analizar.
+     * @param fileName Ruta del archivo JSON
+     */
+    public synchronized void invalidate(String fileName) {
+        files.remove(fileName);
+    }
+
+    /**
+     * Descarta todos los archivos analizados.
+     */
+    public synchronized void clear() {
+        files.clear();
+    }
+
+    // Obtiene un archivo analizado, analizandolo si es la primera consulta.
+    private synchronized DialogueFile getFile(String fileName) {
+        DialogueFile file = files.get(fileName);
+        if (file == null) {
+            file = parse(fileName);
+            files.put(fileName, file);
+        }
+        return file;
+    }
+
+    // Analiza un archivo de dialogos; si falla, devuelve un archivo vacio.
+    private static DialogueFile parse(String fileName) {
+        DialogueFile file = new DialogueFile();
+        try {
+            JsonValue base = new JsonReader().parse(Gdx.files.internal(fileName));
+            for (JsonValue sectionValue : base) {
+                if (!sectionValue.isArray()) continue;
+
+                Entry[] entries = new Entry[sectionValue.size];
+                int count = 0;
+                for (JsonValue dialogValue : sectionValue) {
+                    entries[count++] = parseEntry(dialogValue);
+                }
+                Section section = new Section(sectionValue.name, entries);
+                file.sections.put(section.name, section);
+                for (Entry entry : entries) {
+                    if (entry.name != null && !file.entriesByName.containsKey(entry.name)) {
+                        file.entriesByName.put(entry.name, entry);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Gdx.app.error("DialogueDatabase", "Error al cargar los dialogos: " + fileName, e);
+        }
+        return file;
+    }
+
+    // Lee una entrada; "Texto" puede ser una sola cadena o un arreglo de lineas.
+    private static Entry parseEntry(JsonValue dialogValue) {
+        String[] lines;
+        JsonValue texto = dialogValue.get("Texto");
+        if (texto == null) {
+            lines = new String[0];
+        } else if (texto.isArray()) {
+            lines = new String[texto.size];
+            int i = 0;
+            for (JsonValue line : texto) {
+                lines[i++] = line.asString();
+            }
+        } else {
+            lines = new String[] { texto.asString() };
+        }
+        return new Entry(dialogValue.getInt("ID", -1), dialogValue.getString("Name", null), lines);
+    }
+
+    /**
+     * Archivo de dialogos analizado.
+     */
+    private static final class DialogueFile {
+        private final Map<String, Section> sections = new HashMap<>();
+        private final Map<String, Entry> entriesByName = new HashMap<>();
+    }
+
+    /**
+     * Seccion de un archivo de dialogos (ej. "Dialogos_Tutorial"), con sus entradas en orden.
+     */
+    public static final class Section {
+        private final String name;
+        private final List<Entry> entries;
+        private final Map<String, Entry> entriesByName = new HashMap<>();
+
+        private Section(String name, Entry[] entries) {
+            this.name = name;
+            this.entries = Collections.unmodifiableList(Arrays.asList(entries));
+            for (Entry entry : entries) {
+                if (entry.name != null && !entriesByName.containsKey(entry.name)) {
+                    entriesByName.put(entry.name, entry);
+                }
+            }
+        }
+
+        /**
+         * Obtiene el nombre de la seccion.
+         * @return El nombre
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Obtiene las entradas de la seccion, en el orden del archivo.
+         * @return Lista inmutable de entradas
+         */
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Busca una entrada por nombre.
+         * @param name Nombre de la entrada
+         * @return La entrada, o null si no existe
+         */
+        public Entry find(String name) {
+            return entriesByName.get(name);
+        }
+
+        /**
+         * Obtiene todas las lineas de la seccion, entrada tras entrada.
+         * @return Una lista nueva con las lineas
+         */
+        public List<String> getAllLines() {
+            List<String> lines = new ArrayList<>();
+            for (Entry entry : entries) {
+                lines.addAll(entry.lines);
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Entrada de dialogo: su identificador, su nombre y sus lineas.
+     */
+    public static final class Entry {
+        private final int id;
+        private final String name;
+        private final List<String> lines;
+
+        private Entry(int id, String name, String[] lines) {
+            this.id = id;
+            this.name = name;
+            this.lines = Collections.unmodifiableList(Arrays.asList(lines));
+        }
+
+        /**
+         * Obtiene el identificador de la entrada (campo "ID").
+         * @return El identificador, o -1 si no tiene
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * Obtiene el nombre de la entrada (campo "Name").
+         * @return El nombre, o null si no tiene
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Obtiene las lineas de la entrada.
+         * @return Lista inmutable de lineas
+         */
+        public List<String> getLines() {
+            return lines;
+        }
+
+        /**
+         * Crea un dialogo con las lineas de la entrada.
+         * @return Un dialogo nuevo que comparte las lineas inmutables
+         */
+        public Dialog toDialog() {
+            return new Dialog(lines);
+        }
+    }
+}
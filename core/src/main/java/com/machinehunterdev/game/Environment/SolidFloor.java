@@ -3,6 +3,7 @@ package com.machinehunterdev.game.Environment;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 
 /**
  * Clase que representa un suelo solido en el entorno del juego.
@@ -34,7 +35,7 @@ public class SolidFloor
      */
     public SolidFloor(float x, float y, float width, float height, String texturePath, boolean walkable) {
         this.bounds = new Rectangle(x, y, width, height); 
-        this.texture = new Texture(texturePath); 
+        this.texture = GpuResourceTracker.getInstance().track(new Texture(texturePath));
         this.isWalkable = walkable;
     }
 
@@ -3,6 +3,7 @@ package com.machinehunterdev.game.Environment;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import com.machinehunterdev.game.Util.TextureCache;
 
 /**
  * Representa un objeto solido en el entorno del juego.
@@ -31,7 +32,7 @@ public class SolidObject
             PlatformType type = PlatformType.parse(typeString);
             if (type != null) {
                 this.bounds = new Rectangle(x, y, type.width, type.height); 
-                this.texture = new Texture(type.texturePath);
+                this.texture = TextureCache.getInstance().get(type.texturePath);
                 this.isWalkable = walkable;
             } else {
                 // Si el tipo no es valido, crea un objeto vacio para evitar errores.
@@ -41,9 +42,8 @@ public class SolidObject
         } else if (typeString.startsWith("Chain")) {
             ChainType type = ChainType.parse(typeString);
             if (type != null) {
-                System.out.println("Cargando textura de cadena: " + type.texturePath);
                 this.bounds = new Rectangle(x, y, type.width, type.height); 
-                this.texture = new Texture(type.texturePath);
+                this.texture = TextureCache.getInstance().get(type.texturePath);
                 this.isWalkable = walkable;
             } else {
                 this.bounds = new Rectangle(x, y, 0, 0);
@@ -71,6 +71,22 @@ public class SolidObject
         this.isWalkable = walkable;
     }
 
+    /**
+     * Obtiene la ruta de la textura que usa un tipo de objeto.
+     * @param typeString La cadena que describe el tipo de objeto (ej. "Platform_Red_Small").
+     * @return La ruta de la textura, o null si el tipo no es valido.
+     */
+    public static String getTexturePath(String typeString) {
+        if (typeString.startsWith("Platform")) {
+            PlatformType type = PlatformType.parse(typeString);
+            return type != null ? type.texturePath : null;
+        } else if (typeString.startsWith("Chain")) {
+            ChainType type = ChainType.parse(typeString);
+            return type != null ? type.texturePath : null;
+        }
+        return null;
+    }
+
     /**
      * Renderiza el objeto en la pantalla.
      * @param batch El SpriteBatch utilizado para dibujar.
@@ -82,12 +98,11 @@ public class SolidObject
     }
     
     /**
-     * Libera los recursos de la textura para evitar fugas de memoria.
+     * Libera los recursos del objeto.
+     * La textura pertenece a 'TextureCache', por lo que no se libera aqui.
      */
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        texture = null;
     }
 
     /**
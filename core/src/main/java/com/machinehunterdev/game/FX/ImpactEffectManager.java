@@ -1,9 +1,9 @@
 package com.machinehunterdev.game.FX;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.machinehunterdev.game.DamageTriggers.WeaponType;
+import com.machinehunterdev.game.Util.TextureCache;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -57,7 +57,7 @@ public class ImpactEffectManager {
     private List<Sprite> loadSpriteFrames(String basePath, int frameCount) {
         List<Sprite> frames = new ArrayList<>();
         for (int i = 1; i <= frameCount; i++) {
-            frames.add(new Sprite(new Texture(basePath + i + ".png")));
+            frames.add(new Sprite(TextureCache.getInstance().get(basePath + i + ".png")));
         }
         return frames;
     }
@@ -102,15 +102,11 @@ public class ImpactEffectManager {
     }
 
     /**
-     * Libera todos los recursos (texturas) utilizados por los efectos de impacto.
-     * Es importante llamar a este metodo para evitar fugas de memoria.
+     * Descarta los efectos de impacto activos.
+     * Las texturas pertenecen a 'TextureCache', que las libera al cambiar de nivel.
      */
     public void dispose() {
-        // Libera las texturas de todos los fotogramas cargados.
-        for (List<Sprite> frames : impactFrames.values()) {
-            for (Sprite frame : frames) {
-                frame.getTexture().dispose();
-            }
-        }
+        // Las texturas pertenecen a TextureCache; solo se descartan los efectos activos.
+        activeEffects.clear();
     }
 }
@@ -1,8 +1,8 @@
 package com.machinehunterdev.game.FX;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.machinehunterdev.game.Util.TextureCache;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -52,7 +52,7 @@ public class LandingEffectManager {
     private List<Sprite> loadSpriteFrames(String basePath, int frameCount) {
         List<Sprite> frames = new ArrayList<>();
         for (int i = 1; i <= frameCount; i++) {
-            frames.add(new Sprite(new Texture(basePath + i + ".png")));
+            frames.add(new Sprite(TextureCache.getInstance().get(basePath + i + ".png")));
         }
         return frames;
     }
@@ -98,10 +98,7 @@ public class LandingEffectManager {
      * Libera los recursos utilizados por los efectos.
      */
     public void dispose() {
-        for (List<Sprite> frames : effectFrames.values()) {
-            for (Sprite frame : frames) {
-                frame.getTexture().dispose();
-            }
-        }
+        // Las texturas pertenecen a TextureCache; solo se descartan los efectos activos.
+        activeEffects.clear();
     }
 }
@@ -5,24 +5,42 @@ import java.util.Stack;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.machinehunterdev.game.Audio.AudioData;
-import com.machinehunterdev.game.Audio.AudioId;
+import com.machinehunterdev.game.Audio.AudioManifest;
 import com.machinehunterdev.game.Audio.AudioManager;
+import com.machinehunterdev.game.GameStates.CreditState;
+import com.machinehunterdev.game.GameStates.GameOverState;
+import com.machinehunterdev.game.GameStates.GameplayState;
+import com.machinehunterdev.game.GameStates.LoadingState;
 import com.machinehunterdev.game.GameStates.MainMenuState;
+import com.machinehunterdev.game.GameStates.NameInputState;
+import com.machinehunterdev.game.GameStates.OptionState;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Gameplay.LeakCheck;
+import com.machinehunterdev.game.UI.FontRegistry;
+import com.machinehunterdev.game.Util.DisposalQueue;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 import com.machinehunterdev.game.Util.IState;
+import com.machinehunterdev.game.Util.StartupGraph;
 import com.machinehunterdev.game.Util.StateMachine;
-import com.badlogic.gdx.utils.Array;
+import com.machinehunterdev.game.Util.TextureCache;
+import com.machinehunterdev.game.Util.TextureUploader;
 
 /**
  * Controlador principal del juego que implementa ApplicationAdapter.
@@ -51,6 +69,12 @@ public class GameController extends ApplicationAdapter{
     /** Viewport para manejar diferentes tamanos de pantalla */
     private Viewport viewport;
 
+    /** Viewport de pantalla compartido por las interfaces (dialogos y depuracion) */
+    public ScreenViewport uiViewport;
+
+    /** Prueba de fugas de la GPU; null si no esta activada */
+    private LeakCheck leakCheck;
+
     // === Componentes para depuracion de estados ===
 
     /** Stage para manejar la UI de depuracion */
@@ -64,64 +88,132 @@ public class GameController extends ApplicationAdapter{
 
     /**
      * Metodo llamado al crear la aplicacion.
-     * Inicializa todos los componentes del juego.
+     * Inicializa lo minimo para dibujar y deja el resto de la carga a LoadingState,
+     * que ejecuta las tareas de inicio mientras muestra el progreso.
      */
     @Override
     public void create() 
     {
-        // Inicializar componentes de depuración
-        initializeStateStackText();
+        long startNanos = TimeUtils.nanoTime();
 
         // Inicializar instancia singleton
         instance = this;
 
-        // Cargar assets de audio
-        Array<AudioData> sfxList = new Array<>();
-        sfxList.add(new AudioData(AudioId.Talking, "Audio/Sfx/Talking.wav"));
-        sfxList.add(new AudioData(AudioId.PlayerJump, "Audio/Sfx/PlayerJump.wav"));
-        sfxList.add(new AudioData(AudioId.PlayerHurt, "Audio/Sfx/PlayerHurt.wav"));
-        sfxList.add(new AudioData(AudioId.LaserAttack, "Audio/Sfx/LaserAttack.wav"));
-        sfxList.add(new AudioData(AudioId.IonAttack, "Audio/Sfx/IonAttack.wav"));
-        sfxList.add(new AudioData(AudioId.RailgunAttack, "Audio/Sfx/RailgunAttack.wav"));
-        sfxList.add(new AudioData(AudioId.PlayerLand, "Audio/Sfx/PlayerLand.wav"));
-        sfxList.add(new AudioData(AudioId.GameOverSound, "Audio/Sfx/GameOverSound.mp3"));
-        sfxList.add(new AudioData(AudioId.EnemyJump, "Audio/Sfx/EnemyJump.wav"));
-        sfxList.add(new AudioData(AudioId.EnemyHurt, "Audio/Sfx/EnemyHurt.wav"));
-        sfxList.add(new AudioData(AudioId.Explosion, "Audio/Sfx/Explosion.wav"));
-        sfxList.add(new AudioData(AudioId.EnemyAttack, "Audio/Sfx/EnemyAttack.wav"));
-        sfxList.add(new AudioData(AudioId.EnemyLand, "Audio/Sfx/EnemyLand.wav"));
-        sfxList.add(new AudioData(AudioId.Exclamation, "Audio/Sfx/Exclamation.wav"));
-        sfxList.add(new AudioData(AudioId.BossThunderWarning, "Audio/Sfx/BossThunderWarning.mp3"));
-        sfxList.add(new AudioData(AudioId.BossThunderAttack, "Audio/Sfx/BossThunderAttack.mp3"));
-        sfxList.add(new AudioData(AudioId.BossSummonWarning, "Audio/Sfx/BossSummonWarning.wav"));
-        sfxList.add(new AudioData(AudioId.BossSummonAttack, "Audio/Sfx/BossSummonAttack.wav"));
-        sfxList.add(new AudioData(AudioId.BossDeath, "Audio/Sfx/BossDeath.wav"));
-        sfxList.add(new AudioData(AudioId.BossAngry, "Audio/Sfx/BossAngry.wav"));
-        sfxList.add(new AudioData(AudioId.UIAccept, "Audio/Sfx/UIAccept.wav"));
-        sfxList.add(new AudioData(AudioId.UIChange, "Audio/Sfx/UIChange.wav"));
-        sfxList.add(new AudioData(AudioId.UICancel, "Audio/Sfx/UICancel.wav"));
-        sfxList.add(new AudioData(AudioId.NotAvailable, "Audio/Sfx/NotAvailable.wav"));
-
-        AudioManager.getInstance().loadAssets(sfxList);
-        
         // Inicializar cámara y viewport
         camera = new OrthographicCamera();
         camera.setToOrtho(false, GlobalSettings.VIRTUAL_WIDTH, GlobalSettings.VIRTUAL_HEIGHT);
         viewport = new FitViewport(GlobalSettings.VIRTUAL_WIDTH, GlobalSettings.VIRTUAL_HEIGHT, camera);
 
-        // Inicializar SpriteBatch
+        // Inicializar SpriteBatch y viewport de interfaz, compartidos por todos los estados
         batch = new SpriteBatch();
+        uiViewport = new ScreenViewport();
+        uiViewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+
+        // Inicializar componentes de depuración; el skin se carga con las tareas de inicio
+        initializeStateStackText();
 
         // Inicializar máquina de estados
         stateMachine = new StateMachine<GameController>(this);
 
-        // Establecer estado inicial
-        stateMachine.changeState(MainMenuState.instance);
+        // Estados que se visitan a menudo: conservan su interfaz entre entradas
+        stateMachine.keepResident(MainMenuState.instance);
+        stateMachine.keepResident(OptionState.instance);
+        stateMachine.keepResident(NameInputState.instance);
+        stateMachine.keepResident(GameOverState.instance);
+        stateMachine.keepResident(CreditState.instance);
+
+        // Establecer estado inicial: la pantalla de carga pasa al menu cuando todo esta listo
+        StartupGraph startup = new StartupGraph();
+        addStartupTasks(startup);
+        MainMenuState.addStartupTasks(startup, "registrar-audio");
+        stateMachine.changeState(new LoadingState(startup, MainMenuState.instance, startNanos));
+
+        // La prueba de fugas toma el control en cuanto el menu esta listo
+        if (GlobalSettings.LEAK_CHECK_CYCLES > 0) {
+            leakCheck = new LeakCheck(this, GlobalSettings.LEAK_CHECK_CYCLES);
+        }
 
         // Ocultar el cursor del ratón
         Gdx.input.setCursorCatched(true);
     }
 
+    /**
+     * Agrega al grafo de inicio las tareas globales: el registro de los efectos de sonido
+     * y el skin de la UI de depuracion. La lectura de archivos se hace en hilos de trabajo
+     * y la creacion de objetos de OpenGL en el hilo principal.
+     * @param graph El grafo de inicio
+     */
+    private void addStartupTasks(StartupGraph graph)
+    {
+        // Registrar los efectos de sonido del manifiesto de audio; cada estado precarga los que necesita
+        final Array<AudioData> sounds = new Array<>();
+        graph.worker("manifiesto-audio", () -> sounds.addAll(AudioManifest.load()));
+        graph.main("registrar-audio", () -> {
+            AudioManager.getInstance().registerSounds(sounds);
+            return true;
+        }, "manifiesto-audio");
+
+        // Skin de depuracion: el atlas y sus paginas se decodifican en un hilo de trabajo,
+        // igual que lo haria 'new Skin(FileHandle)' en el hilo principal
+        final FileHandle skinFile = Gdx.files.internal("uiskin.json");
+        final FileHandle atlasFile = skinFile.sibling(skinFile.nameWithoutExtension() + ".atlas");
+        final TextureAtlas.TextureAtlasData[] atlasData = new TextureAtlas.TextureAtlasData[1];
+        final Array<Pixmap> atlasPages = new Array<>();
+        graph.worker("decodificar-skin", () -> {
+            if (!atlasFile.exists()) return;
+            try {
+                TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+                for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+                    atlasPages.add(new Pixmap(page.textureFile));
+                }
+                atlasData[0] = data;
+            } catch (Exception e) {
+                // Se vuelve a intentar en el hilo principal, que registra el error.
+                for (Pixmap pixmap : atlasPages) {
+                    pixmap.dispose();
+                }
+                atlasPages.clear();
+            }
+        });
+        graph.main("skin", () -> {
+            loadSkin(skinFile, atlasData[0], atlasPages);
+            return true;
+        }, "decodificar-skin");
+    }
+
+    /**
+     * Crea el skin de depuracion a partir del atlas ya decodificado.
+     * Si falla, la UI de depuracion queda desactivada.
+     */
+    private void loadSkin(FileHandle skinFile, TextureAtlas.TextureAtlasData atlasData, Array<Pixmap> atlasPages)
+    {
+        try {
+            if (atlasData != null) {
+                Array<TextureAtlas.TextureAtlasData.Page> pages = atlasData.getPages();
+                for (int i = 0; i < pages.size; i++) {
+                    TextureAtlas.TextureAtlasData.Page page = pages.get(i);
+                    page.texture = GpuResourceTracker.getInstance().track(
+                        new Texture(atlasPages.get(i), page.format, page.useMipMaps), this);
+                }
+                skin = new Skin(new TextureAtlas(atlasData));
+                skin.load(skinFile);
+            } else {
+                skin = new Skin(skinFile);
+            }
+        } catch (Exception e) {
+            Gdx.app.error("GameController", "No se pudo cargar el skin de depuracion", e);
+            if (skin != null) {
+                skin.dispose();
+                skin = null;
+            }
+        } finally {
+            for (Pixmap pixmap : atlasPages) {
+                pixmap.dispose();
+            }
+            atlasPages.clear();
+        }
+    }
+
     /**
      * Obtiene la instancia del AudioManager.
      * @return La instancia del AudioManager.
@@ -153,11 +245,27 @@ public class GameController extends ApplicationAdapter{
         // Actualizar cámara
         camera.update();
 
-
+        // Subir las texturas decodificadas en segundo plano, dentro del presupuesto del fotograma
+        TextureCache.getInstance().update(GlobalSettings.TEXTURE_UPLOAD_BUDGET_MS);
 
         // Ejecutar el estado actual
         stateMachine.execute();
 
+        // Liberar los recursos de los estados que salieron, dentro del presupuesto del fotograma
+        // (no se libera nada en el fotograma de una transicion)
+        DisposalQueue.getInstance().update(GlobalSettings.DISPOSAL_BUDGET_MS);
+
+        // Informar de los recursos de la GPU que los estados que salieron no liberaron
+        GpuResourceTracker.getInstance().update();
+        if (leakCheck != null) {
+            leakCheck.update();
+        }
+
+        // Actualizar la musica (fundidos y pistas que terminaron de abrirse) y reproducir
+        // los efectos de sonido pedidos en el fotograma, ya combinados
+        AudioManager.getInstance().update(Gdx.graphics.getDeltaTime());
+        AudioManager.getInstance().flushSfx();
+
         // Mostrar depuración de estados
         showStateStack();
     }
@@ -171,6 +279,7 @@ public class GameController extends ApplicationAdapter{
     public void resize(int width, int height) 
     {
         viewport.update(width, height);
+        uiViewport.update(width, height, true);
     }
 
     /**
@@ -180,8 +289,13 @@ public class GameController extends ApplicationAdapter{
     @Override
     public void dispose() 
     {
+        GameplayState.releaseRetainedState();
+        stateMachine.disposeResidentStates();
+        DisposalQueue.getInstance().flush();
         batch.dispose();
         AudioManager.getInstance().dispose();
+        TextureCache.getInstance().dispose();
+        FontRegistry.getInstance().dispose();
 
         if (stage != null) {
             stage.dispose();
@@ -196,8 +310,7 @@ public class GameController extends ApplicationAdapter{
      */
     private void initializeStateStackText()
     {
-        stage = new Stage(new ScreenViewport());
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        stage = new Stage(uiViewport, batch);
         rootTable = new Table();
         rootTable.setFillParent(true);
         rootTable.top().left();
@@ -210,6 +323,8 @@ public class GameController extends ApplicationAdapter{
     @SuppressWarnings("unchecked") // Para evitar la advertencia de conversion de Stack
     private void showStateStack() 
     {
+        if (skin == null) return; // Aun no termino de cargarse o no se pudo cargar.
+
         rootTable.clear();
 
         // Título de la depuración
@@ -229,6 +344,36 @@ public class GameController extends ApplicationAdapter{
                     .row();
         }
 
+        // Mostrar la cola de subida de texturas
+        TextureUploader uploader = TextureCache.getInstance().getUploader();
+        Label uploadLabel = new Label("Texturas en cola: " + uploader.getQueueDepth()
+                + " | Subida: " + String.format("%.2f", uploader.getLastUploadMillis()) + " ms", skin);
+        rootTable.add(uploadLabel).left().padLeft(10).row();
+
+        // Mostrar la cola de liberacion de recursos
+        DisposalQueue disposal = DisposalQueue.getInstance();
+        Label disposalLabel = new Label("Por liberar: " + disposal.getPendingCount()
+                + " | Liberacion: " + String.format("%.2f", disposal.getLastDisposeMillis()) + " ms", skin);
+        rootTable.add(disposalLabel).left().padLeft(10).row();
+
+        // Mostrar los recursos de la GPU registrados y las fugas detectadas
+        if (GlobalSettings.TRACK_GPU_RESOURCES) {
+            GpuResourceTracker tracker = GpuResourceTracker.getInstance();
+            Label gpuLabel = new Label("GPU: " + tracker.getLiveCount() + " recursos ("
+                    + (tracker.getLiveBytes() / 1024) + " KB) | Fugas: " + tracker.getLeakedCount(), skin);
+            rootTable.add(gpuLabel).left().padLeft(10).row();
+        }
+
+        // Mostrar las peticiones de efectos de sonido combinadas y descartadas
+        AudioManager audio = AudioManager.getInstance();
+        Label sfxLabel = new Label("SFX pedidos: " + audio.getSfxRequested()
+                + " | Combinados: " + audio.getSfxCoalesced()
+                + " | Descartados: " + audio.getSfxDropped(), skin);
+        rootTable.add(sfxLabel).left().padLeft(10).row();
+        Label sfxCacheLabel = new Label("SFX cargados: " + audio.getSfxResidentCount()
+                + " (" + (audio.getSfxResidentBytes() / 1024) + " KB) | En carga: " + audio.getSfxPendingCount(), skin);
+        rootTable.add(sfxCacheLabel).left().padLeft(10).row();
+
         // Renderizar la UI de depuración
         stage.act(Gdx.graphics.getDeltaTime());
         stage.draw();
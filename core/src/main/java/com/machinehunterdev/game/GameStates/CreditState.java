@@ -1,7 +1,6 @@
 package com.machinehunterdev.game.GameStates;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.UI.CreditUI;
 import com.machinehunterdev.game.Util.IState;
@@ -31,13 +30,16 @@ public class CreditState implements IState<GameController> {
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Inicializa la UI de los creditos y la musica.
+     * Crea la UI de los creditos la primera vez (despues solo la reinicia) e inicia la musica.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
-        SpriteBatch batch = new SpriteBatch();
-        this.creditUI = new CreditUI(batch, owner);
+        if (creditUI == null) {
+            this.creditUI = new CreditUI(owner.batch, owner);
+        } else {
+            creditUI.reset();
+        }
         
         // Establece la UI como el procesador de entrada para manejar interacciones.
         Gdx.input.setInputProcessor(this.creditUI);
@@ -59,14 +61,11 @@ public class CreditState implements IState<GameController> {
 
     /**
      * Se llama una vez al salir de este estado.
-     * Libera los recursos de la UI y el procesador de entrada.
+     * Libera el procesador de entrada; la UI se conserva.
      */
     @Override
     public void exit() {
         Gdx.input.setInputProcessor(null);
-        if (creditUI != null) {
-            creditUI.dispose();
-        }
     }
 
     /**
@@ -76,4 +75,15 @@ public class CreditState implements IState<GameController> {
     public void resume() {
         // No se necesita logica de reanudacion especifica por ahora.
     }
+
+    /**
+     * Libera la UI de los creditos al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (creditUI != null) {
+            creditUI.dispose();
+            creditUI = null;
+        }
+    }
 }
@@ -1,14 +1,14 @@
 package com.machinehunterdev.game.GameStates;
 
 import java.util.ArrayList;
-import java.util.List;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputProcessor;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.Dialog.Dialog;
 import com.machinehunterdev.game.Dialog.DialogManager;
+import com.machinehunterdev.game.Dialog.DialogueDatabase;
+import com.machinehunterdev.game.Levels.LevelCache;
+import com.machinehunterdev.game.Levels.LevelData;
 import com.machinehunterdev.game.Util.IState;
 import com.machinehunterdev.game.Audio.AudioManager;
 
@@ -16,11 +16,15 @@ import com.machinehunterdev.game.Audio.AudioManager;
  * Estado del juego dedicado exclusivamente a mostrar dialogos.
  * Este estado se utiliza para escenas cinematicas, interacciones con NPCs,
  * o flashbacks que cuentan la historia. Pausa la accion del juego principal.
+ * Es residente: se obtiene con 'forDialog' o 'forFlashback' y conserva su DialogManager.
  * 
  * @author MachineHunterDev
  */
 public class DialogState implements IState<GameController>, InputProcessor {
 
+    /** Musica de los flashbacks que no indican otra y del dialogo final. */
+    public static final String DEFAULT_MUSIC = "Audio/Soundtrack/Flashback.mp3";
+
     // === CAMPOS DE LA INSTANCIA ===
     private GameController owner; // Referencia al controlador principal del juego.
     private DialogManager dialogManager; // Gestor que renderiza y controla el dialogo.
@@ -29,60 +33,77 @@ public class DialogState implements IState<GameController>, InputProcessor {
     private boolean isFlashback = false; // Bandera para indicar si el dialogo es un flashback.
     private String dialogueSection; // Nombre de la seccion de dialogo a cargar desde JSON.
 
-    // === CONSTRUCTORES ===
+    // === OBTENCION DEL ESTADO RESIDENTE ===
+
+    /**
+     * Constructor privado; el estado residente se obtiene con 'forDialog' o 'forFlashback'.
+     */
+    private DialogState() {
+    }
 
     /**
-     * Constructor para un dialogo estandar (ej. interaccion con NPC).
+     * Obtiene el estado de dialogo residente, preparado para un dialogo estandar (ej. interaccion con NPC).
+     * @param owner El controlador principal del juego.
      * @param dialog El objeto Dialog con las lineas a mostrar.
+     * @return El estado de dialogo, listo para apilarse.
      */
-    public DialogState(Dialog dialog) {
-        this.currentDialog = dialog;
-        this.levelFile = null; // No hay transicion de nivel.
-        this.isFlashback = false;
+    public static DialogState forDialog(GameController owner, Dialog dialog) {
+        DialogState state = owner.stateMachine.getResident(DialogState.class, DialogState::new);
+        state.currentDialog = dialog;
+        state.levelFile = null; // No hay transicion de nivel.
+        state.isFlashback = false;
+        state.dialogueSection = null;
+        return state;
     }
 
     /**
-     * Constructor para un dialogo de tipo "flashback" o cinematico.
+     * Obtiene el estado de dialogo residente, preparado para un dialogo de tipo "flashback" o cinematico.
      * Carga el dialogo desde un archivo JSON y puede transicionar a un nivel al finalizar.
+     * @param owner El controlador principal del juego.
      * @param dialogueSection El nombre de la seccion en el JSON a cargar.
      * @param levelFile La ruta al archivo .json del nivel a cargar al finalizar.
+     * @return El estado de dialogo, listo para entrar.
      */
-    public DialogState(String dialogueSection, String levelFile) {
-        this.levelFile = levelFile;
-        this.isFlashback = true;
-        this.dialogueSection = dialogueSection;
+    public static DialogState forFlashback(GameController owner, String dialogueSection, String levelFile) {
+        DialogState state = owner.stateMachine.getResident(DialogState.class, DialogState::new);
+        state.levelFile = levelFile;
+        state.isFlashback = true;
+        state.dialogueSection = dialogueSection;
         // Carga el dialogo desde el archivo JSON correspondiente.
         if (dialogueSection.equals("Final")) {
-            this.currentDialog = loadDialog("Dialogos/Dialogos_personajes.json", "Dialogos_final", null);
+            state.currentDialog = state.loadDialog("Dialogos/Dialogos_personajes.json", "Dialogos_final", null);
         } else {
-            this.currentDialog = loadDialog("Dialogos/Diagolos_flahsbacks.json", "Flashbacks", dialogueSection);
+            state.currentDialog = state.loadDialog("Dialogos/Diagolos_flahsbacks.json", "Flashbacks", dialogueSection);
         }
+        return state;
     }
 
     // === METODOS DE LA INTERFAZ IState ===
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Inicializa el DialogManager y establece el procesador de entrada.
+     * Crea el DialogManager la primera vez (despues se reutiliza) y establece el procesador de entrada.
      * @param owner El GameController que posee esta maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
         this.owner = owner;
-        this.dialogManager = new DialogManager(owner, owner.batch);
+        if (dialogManager == null) {
+            this.dialogManager = new DialogManager(owner, owner.batch);
+        }
         dialogManager.showDialog(currentDialog, isFlashback);
 
         // Establece esta clase para que escuche los eventos de entrada.
         Gdx.input.setInputProcessor(this);
 
-        // Reproduce musica especifica si es un flashback.
+        // Reproduce la musica del flashback (campo "flashbackMusic" del nivel al que lleva)
+        // y prepara la del nivel, que es la siguiente que sonara.
         if (isFlashback) {
-            if ("Flashback3".equals(dialogueSection)) {
-                AudioManager.getInstance().playMusic("Audio/Soundtrack/WarningGemini.mp3", true, false);
-            } else if ("Flashback5".equals(dialogueSection)) {
-                AudioManager.getInstance().playMusic("Audio/Soundtrack/WarningChatGPT.mp3", true, false);
-            } else {
-                AudioManager.getInstance().playMusic("Audio/Soundtrack/Flashback.mp3", true, false);
+            LevelData level = levelFile.equals("credits") ? null : LevelCache.getInstance().get(levelFile);
+            String music = level != null && level.flashbackMusic != null ? level.flashbackMusic : DEFAULT_MUSIC;
+            AudioManager.getInstance().playMusic(music, true, false);
+            if (level != null) {
+                AudioManager.getInstance().prepareMusic(level.music);
             }
         }
     }
@@ -101,11 +122,12 @@ public class DialogState implements IState<GameController>, InputProcessor {
 
     /**
      * Se llama una vez al salir de este estado.
-     * Libera recursos y el procesador de entrada.
+     * Cierra el dialogo y libera el procesador de entrada; el DialogManager se conserva.
      */
     @Override
     public void exit() {
-        dialogManager.dispose();
+        dialogManager.closeDialog();
+        currentDialog = null;
         Gdx.input.setInputProcessor(null);
     }
 
@@ -117,6 +139,17 @@ public class DialogState implements IState<GameController>, InputProcessor {
         Gdx.input.setInputProcessor(this);
     }
 
+    /**
+     * Libera el DialogManager al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (dialogManager != null) {
+            dialogManager.dispose();
+            dialogManager = null;
+        }
+    }
+
     // === METODOS DE LA INTERFAZ InputProcessor ===
 
     /**
@@ -152,38 +185,27 @@ public class DialogState implements IState<GameController>, InputProcessor {
     // === METODOS PRIVADOS DE AYUDA ===
 
     /**
-     * Carga las lineas de dialogo desde un archivo JSON.
+     * Obtiene las lineas de dialogo desde la base de datos de dialogos.
      * @param fileName El nombre del archivo JSON.
      * @param sectionName La seccion principal dentro del JSON (ej. "Flashbacks").
-     * @param filter El nombre especifico del dialogo a cargar dentro de la seccion.
+     * @param filter El nombre especifico del dialogo a cargar dentro de la seccion, o null para toda la seccion.
      * @return Un objeto Dialog con las lineas cargadas.
      */
     private Dialog loadDialog(String fileName, String sectionName, String filter) {
-        List<String> lines = new ArrayList<>();
-        try {
-            JsonReader jsonReader = new JsonReader();
-            JsonValue base = jsonReader.parse(Gdx.files.internal(fileName));
-            JsonValue section = base.get(sectionName);
-
-            for (JsonValue dialogValue : section) {
-                if (filter == null || dialogValue.getString("Name").equals(filter)) {
-                    JsonValue texto = dialogValue.get("Texto");
-                    if (texto.isArray()) {
-                        for (JsonValue line : texto) {
-                            lines.add(line.asString());
-                        }
-                    } else {
-                        lines.add(texto.asString());
-                    }
-                    if (filter != null) {
-                        break; // Detenerse despues de encontrar el dialogo filtrado.
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Gdx.app.error("DialogState", "Error al cargar el dialogo: " + sectionName, e);
+        DialogueDatabase.Section section = DialogueDatabase.getInstance().getSection(fileName, sectionName);
+        if (section == null) {
+            Gdx.app.error("DialogState", "Error al cargar el dialogo: " + sectionName);
+            return new Dialog(new ArrayList<String>());
+        }
+        if (filter == null) {
+            return new Dialog(section.getAllLines());
+        }
+        DialogueDatabase.Entry entry = section.find(filter);
+        if (entry == null) {
+            Gdx.app.error("DialogState", "Dialogo no encontrado: " + filter);
+            return new Dialog(new ArrayList<String>());
         }
-        return new Dialog(lines);
+        return entry.toDialog();
     }
 
     // --- METODOS DE InputProcessor NO UTILIZADOS ---
@@ -3,11 +3,14 @@ package com.machinehunterdev.game.GameStates;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.util.ArrayList;
+import java.util.List;
 import com.machinehunterdev.game.Character.CharacterAnimator;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.Audio.AudioId;
 import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.UI.GameOverUI;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 import com.machinehunterdev.game.Util.IState;
 
 /**
@@ -21,6 +24,14 @@ public class GameOverState implements IState<GameController> {
 
     /** Instancia unica de este estado (patron Singleton). */
     public static GameOverState instance = new GameOverState();
+
+    /** Sonidos que usa la pantalla de Game Over, precargados al entrar. */
+    private static final List<AudioId> SOUNDS = new ArrayList<>(AudioManager.UI_SOUNDS);
+    static {
+        SOUNDS.add(AudioId.GameOverSound);
+        SOUNDS.add(AudioId.Talking);
+        SOUNDS.add(AudioId.EnemyHurt);
+    }
     
     // === COMPONENTES DEL ESTADO ===
     private SpriteBatch batch;
@@ -55,15 +66,20 @@ public class GameOverState implements IState<GameController> {
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Inicializa la UI, la musica y los temporizadores de la secuencia.
+     * Crea la UI y el fondo la primera vez (despues solo reinicia la UI),
+     * detiene la musica y reinicia los temporizadores de la secuencia.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
         this.batch = owner.batch;
-        this.gameOverUI = new GameOverUI(batch, owner, playerAnimator);
+        if (gameOverUI == null) {
+            this.gameOverUI = new GameOverUI(batch, owner, playerAnimator);
+            backgroundTexture = GpuResourceTracker.getInstance().track(new Texture("Fondos/GameOverBackground.png"));
+        } else {
+            gameOverUI.reset(playerAnimator);
+        }
         Gdx.input.setInputProcessor(gameOverUI);
-        backgroundTexture = new Texture("Fondos/GameOverBackground.png");
 
         // Detiene cualquier musica que se este reproduciendo.
         AudioManager.getInstance().stopMusic(false);
@@ -74,7 +90,8 @@ public class GameOverState implements IState<GameController> {
         isGameOverTextFinished = false;
         isDialogueTypingFinished = false;
 
-        // Reproduce el sonido de Game Over.
+        // Precarga los sonidos de la pantalla y reproduce el sonido de Game Over.
+        AudioManager.getInstance().warmSounds(SOUNDS);
         AudioManager.getInstance().playSfx(AudioId.GameOverSound, null, 2.5f);
     }
 
@@ -84,6 +101,7 @@ public class GameOverState implements IState<GameController> {
      */
     @Override
     public void execute() {
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.end();
@@ -130,20 +148,13 @@ public class GameOverState implements IState<GameController> {
 
     /**
      * Se llama una vez al salir de este estado.
-     * Libera todos los recursos utilizados.
+     * Detiene los sonidos y suelta la referencia al jugador; la UI y el fondo se conservan.
      */
     @Override
     public void exit() {
-        if (gameOverUI != null) {
-            gameOverUI.dispose();
-        }
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
-        if (playerAnimator != null) {
-            playerAnimator.dispose();
-            playerAnimator = null;
-        }
+        gameOverUI.stopSounds();
+        // Los frames del jugador pertenecen a TextureCache; solo se suelta la referencia.
+        playerAnimator = null;
         Gdx.input.setInputProcessor(null);
     }
 
@@ -154,4 +165,19 @@ public class GameOverState implements IState<GameController> {
     public void resume() {
         Gdx.input.setInputProcessor(gameOverUI);
     }
+
+    /**
+     * Libera la UI y el fondo al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (gameOverUI != null) {
+            gameOverUI.dispose();
+            gameOverUI = null;
+        }
+        if (backgroundTexture != null) {
+            backgroundTexture.dispose();
+            backgroundTexture = null;
+        }
+    }
 }
\ No newline at end of file
@@ -15,8 +15,7 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.machinehunterdev.game.Audio.AudioId;
 import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.Character.BaseEnemy;
@@ -24,28 +23,45 @@ import com.machinehunterdev.game.Character.BossEnemyController;
 import com.machinehunterdev.game.Character.Character;
 import com.machinehunterdev.game.Character.CharacterAnimator;
 import com.machinehunterdev.game.Character.EnemyManager;
+import com.machinehunterdev.game.Character.EnemyPrototype;
 import com.machinehunterdev.game.Character.EnemySkin;
+import com.machinehunterdev.game.Character.EnemySummonPool;
 import com.machinehunterdev.game.Character.EnemyType;
 import com.machinehunterdev.game.Character.IEnemy;
 import com.machinehunterdev.game.Character.NPCController;
 import com.machinehunterdev.game.Character.PlayerController;
 import com.machinehunterdev.game.DamageTriggers.Bullet;
+import com.machinehunterdev.game.DamageTriggers.DamageEvent;
+import com.machinehunterdev.game.DamageTriggers.DamageQueue;
 import com.machinehunterdev.game.DamageTriggers.DamageSystem;
 import com.machinehunterdev.game.DamageTriggers.WeaponType;
 import com.machinehunterdev.game.Dialog.Dialog;
 import com.machinehunterdev.game.Dialog.DialogManager;
+import com.machinehunterdev.game.Dialog.DialogueDatabase;
 import com.machinehunterdev.game.Environment.SolidObject;
 import com.machinehunterdev.game.FX.ImpactEffectManager;
 import com.machinehunterdev.game.FX.LandingEffectManager;
 import com.machinehunterdev.game.FX.LandingEffectManager.EffectType;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Gameplay.RewindBuffer;
+import com.machinehunterdev.game.Gameplay.WorldSnapshot;
+import com.machinehunterdev.game.Levels.LevelAssetManifest;
 import com.machinehunterdev.game.Levels.LevelData;
-import com.machinehunterdev.game.Levels.LevelLoader;
+import com.machinehunterdev.game.Levels.LevelCache;
+import com.machinehunterdev.game.Levels.LevelChunks;
+import com.machinehunterdev.game.Levels.LevelCompiler;
+import com.machinehunterdev.game.Levels.LevelStreamer;
+import com.machinehunterdev.game.Levels.LevelWatcher;
+import com.machinehunterdev.game.UI.FontRegistry;
 import com.machinehunterdev.game.UI.GameplayUI;
+import com.machinehunterdev.game.UI.GlyphLayoutCache;
 import com.machinehunterdev.game.UI.NextLevelUI;
+import com.machinehunterdev.game.Util.DisposalQueue;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 import com.machinehunterdev.game.Util.IState;
 import com.machinehunterdev.game.Util.SpriteAnimator;
+import com.machinehunterdev.game.Util.TextureCache;
 
 /**
  * Representa el estado principal del juego donde ocurre la accion.
@@ -58,6 +74,8 @@ public class GameplayState implements IState<GameController> {
     private LevelData currentLevel;
     // Ruta del archivo del nivel actual.
     private String currentLevelFile;
+    // Texturas que necesita el nivel actual, precargadas antes del primer fotograma.
+    private LevelAssetManifest assetManifest;
     
     // === ENTIDADES DEL JUEGO ===
     // Lista de objetos solidos en el nivel (plataformas, paredes, etc.).
@@ -68,8 +86,44 @@ public class GameplayState implements IState<GameController> {
     private PlayerController playerController;
     // Administrador de todos los enemigos en el nivel.
     private EnemyManager enemyManager;
+    // Enemigos precargados para las invocaciones de los jefes (null si el nivel no tiene jefe).
+    private EnemySummonPool summonPool;
     // Lista de controladores para los personajes no jugables (NPCs).
     private List<NPCController> npcControllers;
+    // Crea y libera los objetos de las franjas del nivel cercanas a la camara.
+    private LevelStreamer levelStreamer;
+    // Vigila el JSON del nivel para recargarlo en caliente (solo en modo desarrollo).
+    private LevelWatcher levelWatcher;
+    // Crea los objetos del mundo que pide el cargador de franjas.
+    private final LevelStreamer.Spawner spawner = new LevelStreamer.Spawner() {
+        @Override
+        public SolidObject createSolid(LevelData.SolidObjectData data) {
+            return createSolidObject(data);
+        }
+
+        @Override
+        public Character spawnEnemy(LevelData.EnemyData data, float y) {
+            Character enemy = createEnemy(data, y);
+            enemy.isPaused = isDialogActive;
+            return enemy;
+        }
+
+        @Override
+        public NPCController spawnNpc(LevelData.NPCData data, float y) {
+            return createNpc(data, y);
+        }
+
+        @Override
+        public void despawnEnemy(Character enemy) {
+            enemyManager.removeEnemy(enemy);
+            enemy.dispose();
+        }
+
+        @Override
+        public void despawnNpc(NPCController npc) {
+            DisposalQueue.getInstance().add(npc.character::dispose);
+        }
+    };
 
     // === SISTEMAS DE RENDERIZADO ===
     // Batch para dibujar los sprites del juego.
@@ -104,6 +158,12 @@ public class GameplayState implements IState<GameController> {
     // === SISTEMA DE COMBATE ===
     // Lista de balas activas en el juego.
     private ArrayList<Bullet> bullets;
+    // Cola de dano del fotograma; los golpes se aplican juntos en resolveDamage().
+    private DamageQueue damageQueue;
+    // Instantaneas de los ultimos fotogramas, para retroceder en el tiempo.
+    private RewindBuffer rewindBuffer;
+    // Punto de control guardado manualmente.
+    private WorldSnapshot checkpoint;
     // Administrador de efectos de impacto.
     private ImpactEffectManager impactEffectManager;
     private LandingEffectManager landingEffectManager;
@@ -122,8 +182,16 @@ public class GameplayState implements IState<GameController> {
     private GameController owner;
     // Bandera para ignorar la entrada del usuario en el primer frame.
     private boolean ignoreInputOnFirstFrame = true;
+    // Indica que al entrar solo se reinicia el mundo, porque los recursos siguen cargados.
+    private boolean warmRestart = false;
     //private boolean isBossPhase2 = false;
 
+    // Estado conservado tras un "Game Over" para reintentar sin volver a cargar el nivel.
+    private static GameplayState retainedState;
+
+    // Musica que suena al completar un nivel.
+    private static final String LEVEL_COMPLETED_MUSIC = "Audio/Soundtrack/LevelCompleted.mp3";
+
 
     // Constructor privado para forzar el uso del metodo estatico de creacion.
     private GameplayState() {}
@@ -136,11 +204,44 @@ public class GameplayState implements IState<GameController> {
     public static GameplayState createForLevel(String levelFile) {
         // Desactiva el procesador de entrada para evitar interacciones no deseadas.
         Gdx.input.setInputProcessor(null);
+        // Un nivel nuevo reemplaza al que se conservaba para reintentar.
+        releaseRetainedState();
         GameplayState state = new GameplayState();
         state.currentLevelFile = levelFile;
         return state;
     }
 
+    /**
+     * Obtiene el estado para reintentar un nivel despues de un "Game Over".
+     * Si se conservo el estado de ese nivel, se reutiliza con sus recursos cargados y al
+     * entrar solo se reinicia el mundo; si no, se crea uno nuevo.
+     * @param levelFile La ruta del archivo del nivel a reintentar.
+     * @return El estado del nivel listo para entrar.
+     */
+    public static GameplayState createForRetry(String levelFile) {
+        if (retainedState != null && retainedState.currentLevelFile.equals(levelFile)) {
+            Gdx.input.setInputProcessor(null);
+            GameplayState state = retainedState;
+            retainedState = null;
+            GpuResourceTracker.getInstance().releaseOwner(state);
+            state.warmRestart = true;
+            return state;
+        }
+        return createForLevel(levelFile);
+    }
+
+    /**
+     * Libera los recursos del estado conservado tras un "Game Over", si lo hay.
+     * Se llama al salir al menu principal o al cerrar el juego.
+     */
+    public static void releaseRetainedState() {
+        if (retainedState != null) {
+            retainedState.releaseResources();
+            GpuResourceTracker.getInstance().releaseOwner(retainedState);
+            retainedState = null;
+        }
+    }
+
 
 
     /**
@@ -161,8 +262,11 @@ public class GameplayState implements IState<GameController> {
         AudioManager.getInstance().stopMusic(false);
         // Si el juego esta en pausa, quita el estado de pausa.
         owner.stateMachine.pop(); 
-        // Cambia a una nueva instancia del nivel actual.
-        owner.stateMachine.changeState(createForLevel(currentLevelFile));
+        // Reinicia el mundo en esta misma instancia; texturas, UI y prototipos se conservan.
+        Gdx.input.setInputProcessor(null);
+        this.ignoreInputOnFirstFrame = true;
+        playLevelMusic();
+        resetWorld();
     }
 
     /**
@@ -184,28 +288,60 @@ public class GameplayState implements IState<GameController> {
         // Establece la camara en el administrador de audio para efectos 3D.
         AudioManager.getInstance().setCamera(this.camera);
 
-        // Selecciona y reproduce la musica de fondo segun el nivel actual.
-        if (currentLevelFile.equals("Levels/Level 0.json") || 
-            currentLevelFile.equals("Levels/Level 1.json") || 
-            currentLevelFile.equals("Levels/Level 2.json") || 
-            currentLevelFile.equals("Levels/Level 4.json")) {
-            AudioManager.getInstance().playMusic("Audio/Soundtrack/NormalBattleTheme.mp3", true, false);
-        } else if (currentLevelFile.equals("Levels/Level 3.json")) {
-            AudioManager.getInstance().playMusic("Audio/Soundtrack/GeminiBattle.mp3", true, false);
-        } else if (currentLevelFile.equals("Levels/Level 5.json")) {
-            AudioManager.getInstance().playMusic("Audio/Soundtrack/ChatGPTBattle.mp3", true, false);
+        // Reproduce la musica de fondo del nivel.
+        playLevelMusic();
+
+        // Reintento tras un "Game Over": los recursos siguen cargados, solo se reinicia el mundo.
+        if (warmRestart) {
+            warmRestart = false;
+            AudioManager.getInstance().warmSounds(assetManifest.getSounds());
+            resetWorld();
+            return;
         }
 
         // Carga los datos del nivel.
         loadLevel(currentLevelFile);
     }
 
+    /**
+     * Reproduce la musica de fondo del nivel actual (campo "music" del nivel)
+     * y prepara la de nivel completado, que es la siguiente que sonara.
+     */
+    private void playLevelMusic() {
+        LevelData level = LevelCache.getInstance().get(currentLevelFile);
+        if (level != null && level.music != null) {
+            AudioManager.getInstance().playMusic(level.music, true, false);
+        }
+        AudioManager.getInstance().prepareMusic(LEVEL_COMPLETED_MUSIC);
+    }
+
+    /**
+     * Prepara la musica que sonara despues de la de nivel completado: la del flashback
+     * del siguiente nivel, la del propio nivel si no tiene flashback, o la del final del juego.
+     */
+    private void prepareNextLevelMusic() {
+        String music = DialogState.DEFAULT_MUSIC;
+        if (currentLevel.nextLevel != null && !currentLevel.nextLevel.isEmpty()) {
+            LevelData next = LevelCache.getInstance().get(currentLevel.nextLevel);
+            if (next != null) {
+                boolean hasFlashback = next.flashbackDialogueSection != null && !next.flashbackDialogueSection.isEmpty();
+                music = hasFlashback ? next.flashbackMusic : next.music;
+            }
+        }
+        AudioManager.getInstance().prepareMusic(music);
+    }
+
     /**
      * Carga los datos del nivel desde un archivo JSON.
      * @param levelFile La ruta del archivo del nivel.
      */
     private void loadLevel(String levelFile) {
-        currentLevel = LevelLoader.loadLevel(levelFile);
+        currentLevel = LevelCache.getInstance().get(levelFile);
+        // Precarga todas las texturas del nivel; lo que no este en el manifiesto se libera.
+        assetManifest = LevelAssetManifest.forLevel(currentLevel);
+        TextureCache.getInstance().prewarm(assetManifest);
+        // Precarga los efectos de sonido que el nivel puede reproducir.
+        AudioManager.getInstance().warmSounds(assetManifest.getSounds());
         initializeResources();
         initializeLevelObjects();
     }
@@ -215,7 +351,7 @@ public class GameplayState implements IState<GameController> {
      */
     private void initializeResources() {
         // Carga la textura de fondo del nivel.
-        backgroundTexture = new Texture(currentLevel.backgroundTexture);
+        backgroundTexture = TextureCache.getInstance().get(currentLevel.backgroundTexture);
         // Establece el ancho del nivel en la configuracion global.
         GlobalSettings.levelWidth = currentLevel.levelWidth; 
         // Inicializa el administrador de dialogos.
@@ -227,60 +363,176 @@ public class GameplayState implements IState<GameController> {
         nextLevelUI = new NextLevelUI(this, gameBatch);
         // Inicializa la lista de balas.
         bullets = new ArrayList<>();
-        // Carga la fuente para las interacciones.
-        interactionFont = new BitmapFont(Gdx.files.internal("fonts/OrangeKid32.fnt"));
+        // Inicializa la cola de dano.
+        damageQueue = new DamageQueue();
+        // Inicializa las instantaneas del mundo.
+        rewindBuffer = new RewindBuffer(GlobalSettings.REWIND_FRAMES);
+        checkpoint = new WorldSnapshot();
+        // Obtiene la fuente para las interacciones, a media escala.
+        interactionFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_32, 0.5f);
         // Inicializa el administrador de efectos de impacto.
         impactEffectManager = new ImpactEffectManager(0.1f);
         // Inicializa el administrador de efectos de aterrizaje.
         landingEffectManager = new LandingEffectManager(0.1f);
         // Carga la textura del suelo.
-        groundTexture = new Texture(currentLevel.groundTexture);
+        groundTexture = TextureCache.getInstance().get(currentLevel.groundTexture);
         // Inicializa el renderizador de formas para la depuracion.
-        shapeRenderer = new ShapeRenderer();
-        // Carga las texturas de advertencia para ataques de jefes.
-        thunderWarningTexture = new Texture("FX/ThunderWarning.png");
-        summonWarningTexture = new Texture("FX/SummonWarning.png");
-        // Carga los frames de animacion para el ataque de trueno.
-        List<Sprite> thunderFrames = loadSpriteFrames("FX/ThunderAttack", 5);
-        thunderAttackAnimator = new SpriteAnimator(thunderFrames, 0.1f, false);
+        shapeRenderer = GpuResourceTracker.getInstance().newShapeRenderer();
+        // Carga las texturas de advertencia y el ataque de trueno solo si el nivel tiene jefe.
+        if (assetManifest.hasBoss()) {
+            thunderWarningTexture = TextureCache.getInstance().get("FX/ThunderWarning.png");
+            summonWarningTexture = TextureCache.getInstance().get("FX/SummonWarning.png");
+            List<Sprite> thunderFrames = loadSpriteFrames("FX/ThunderAttack", 5);
+            thunderAttackAnimator = new SpriteAnimator(thunderFrames, 0.1f, false);
+        }
 
         // Crea una textura de un pixel negro semitransparente para superposiciones.
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(0, 0, 0, 0.7f);
         pixmap.fill();
-        blackTexture = new Texture(pixmap);
+        blackTexture = GpuResourceTracker.getInstance().track(new Texture(pixmap));
         pixmap.dispose();
     }
 
     /**
-     * Inicializa los objetos del nivel, como objetos solidos, jugador, enemigos y NPCs.
+     * Reinicia solo el estado del mundo a partir de los datos del nivel en cache:
+     * jugador, enemigos, balas, efectos y banderas de la partida. Las texturas, la UI,
+     * los objetos solidos, los NPCs y la reserva de invocaciones se conservan.
+     */
+    private void resetWorld() {
+        releaseWorld();
+
+        damageQueue.clear();
+        rewindBuffer.clear();
+        checkpoint = new WorldSnapshot();
+        levelCompleted = false;
+        isDialogActive = false;
+        activeNPCDialogues.clear();
+        transitioningToGameOver = false;
+        isBossDefeatedAndAnimationFinished = false;
+        bossFinalFrameSprite = null;
+        wasBossStriking = false;
+
+        // Los enemigos vuelven a aparecer alrededor del inicio, sin recordar los derrotados.
+        enemyManager = new EnemyManager();
+        float halfView = GlobalSettings.VIRTUAL_WIDTH / 2f;
+        levelStreamer.resetEnemies(currentLevel.playerStartX - halfView, currentLevel.playerStartX + halfView);
+        initializePlayer();
+        for (NPCController npcController : npcControllers) {
+            npcController.character.isPaused = false;
+        }
+    }
+
+    /**
+     * Inicializa los objetos del nivel. El nivel se divide en franjas y solo se crean los
+     * objetos solidos, enemigos y NPCs de las franjas cercanas a la camara; 'LevelStreamer'
+     * crea y libera los demas a medida que el jugador avanza.
      */
     private void initializeLevelObjects() {
-        initializeSolidObjects();
+        LevelChunks chunks = LevelChunks.build(currentLevel, GlobalSettings.LEVEL_CHUNK_WIDTH);
+        levelStreamer = new LevelStreamer(currentLevel, chunks, spawner);
+        solidObjects = levelStreamer.getSolidObjects();
+        npcControllers = levelStreamer.getNpcs();
+        enemyManager = new EnemyManager();
+
+        float halfView = GlobalSettings.VIRTUAL_WIDTH / 2f;
+        levelStreamer.activateAround(currentLevel.playerStartX - halfView, currentLevel.playerStartX + halfView);
         initializePlayer();
-        initializeEnemies();
-        initializeNPCs();
+
+        if (GlobalSettings.DEV_MODE) {
+            levelWatcher = new LevelWatcher(currentLevelFile);
+        }
     }
 
     /**
-     * Inicializa los objetos solidos del nivel.
+     * Aplica la ultima version del JSON del nivel si cambio (recarga en caliente en modo desarrollo).
+     * Solo se crean y liberan los objetos que se agregaron, quitaron o movieron; el jugador,
+     * las texturas cargadas y los objetos sin cambios se conservan.
+     * Si el nivel editado usa una textura o un tipo de enemigo que no existe, se informa en el log
+     * y se conserva el nivel actual.
      */
-    private void initializeSolidObjects() {
-        solidObjects = new ArrayList<>();
-        for (LevelData.SolidObjectData objData : currentLevel.solidObjectsData) {
-            SolidObject newObject = null;
-            if (objData.type != null && !objData.type.isEmpty()) {
-                // Crear objeto basado en el "type"
-                newObject = new SolidObject(objData.x, objData.y, objData.type, objData.walkable);
-            } else if (objData.texture != null && !objData.texture.equals(currentLevel.groundTexture)) {
-                // Crear objeto con definicion explicita (sistema antiguo)
-                newObject = new SolidObject(objData.x, objData.y, objData.width, objData.height, new Texture(objData.texture), objData.walkable);
-            }
+    private void applyLevelChanges() {
+        LevelData edited = levelWatcher != null ? levelWatcher.poll() : null;
+        if (edited == null) return;
 
-            if (newObject != null) {
-                solidObjects.add(newObject);
+        long start = TimeUtils.nanoTime();
+        Texture newBackground;
+        Texture newGround;
+        try {
+            // Mismo formato que los niveles compilados, para comparar los objetos con los cargados.
+            LevelCompiler.resolveSolidObjects(edited);
+            if (currentLevel.spawnsResolved) {
+                // Igual que el compilador: un frame que no existe mide {0, 0}.
+                LevelCompiler.FrameSizes frameSizes = basePath -> {
+                    try {
+                        Texture frame = TextureCache.getInstance().get(basePath + "1.png");
+                        return new float[] { frame.getWidth(), frame.getHeight() };
+                    } catch (RuntimeException e) {
+                        Gdx.app.error("GameplayState", "No se pudo medir el frame: " + basePath);
+                        return new float[] { 0f, 0f };
+                    }
+                };
+                LevelCompiler.resolveSpawns(edited, frameSizes);
+                for (String error : LevelCompiler.checkPatrolRoutes(edited, frameSizes)) {
+                    Gdx.app.error("GameplayState", "Ruta no valida: " + error);
+                }
             }
+            newBackground = TextureCache.getInstance().get(edited.backgroundTexture);
+            newGround = TextureCache.getInstance().get(edited.groundTexture);
+            checkLevelAssets(edited);
+        } catch (RuntimeException e) {
+            Gdx.app.error("GameplayState", "El nivel editado no es valido, se conserva el actual: " + e.getMessage());
+            return;
+        }
+
+        currentLevel = edited;
+        GlobalSettings.levelWidth = edited.levelWidth;
+        backgroundTexture = newBackground;
+        groundTexture = newGround;
+
+        float halfView = camera.viewportWidth / 2f;
+        LevelChunks chunks = LevelChunks.build(edited, GlobalSettings.LEVEL_CHUNK_WIDTH);
+        levelStreamer.reload(edited, chunks, camera.position.x - halfView, camera.position.x + halfView);
+        Gdx.app.log("GameplayState", "Recarga en caliente de " + currentLevelFile + " en "
+            + String.format("%.1f", TimeUtils.timeSinceNanos(start) / 1000000f) + " ms");
+    }
+
+    /**
+     * Comprueba que existan las texturas y los tipos de enemigo que usa un nivel, antes de
+     * reemplazar al actual: el cargador de franjas los crea despues y no puede deshacer la recarga.
+     * @param level Los datos del nivel, con los objetos solidos resueltos.
+     * @throws RuntimeException Si falta una textura o un tipo de enemigo no existe.
+     */
+    private void checkLevelAssets(LevelData level) {
+        TextureCache textures = TextureCache.getInstance();
+        for (LevelData.SolidObjectData objData : level.solidObjectsData) {
+            if (objData.texture != null) textures.get(objData.texture);
+        }
+        for (LevelData.EnemyData enemyData : level.enemies) {
+            EnemySkin.getSkin(enemyData.type);
+        }
+        for (LevelData.NPCData npcData : level.npcs) {
+            loadSpriteFrames(npcData.idleFrames, 4);
+        }
+    }
+
+    /**
+     * Crea un objeto solido del nivel.
+     * @param objData Los datos del objeto.
+     * @return El objeto creado, o null si no se crea como objeto (por ejemplo, el suelo).
+     */
+    private SolidObject createSolidObject(LevelData.SolidObjectData objData) {
+        if (objData.type != null && !objData.type.isEmpty() && objData.texture != null) {
+            // Objeto basado en "type" ya resuelto por LevelCompiler
+            return new SolidObject(objData.x, objData.y, objData.width, objData.height, TextureCache.getInstance().get(objData.texture), objData.walkable);
+        } else if (objData.type != null && !objData.type.isEmpty()) {
+            // Crear objeto basado en el "type"
+            return new SolidObject(objData.x, objData.y, objData.type, objData.walkable);
+        } else if (objData.texture != null && !objData.texture.equals(currentLevel.groundTexture)) {
+            // Crear objeto con definicion explicita (sistema antiguo)
+            return new SolidObject(objData.x, objData.y, objData.width, objData.height, TextureCache.getInstance().get(objData.texture), objData.walkable);
         }
+        return null;
     }
 
     /**
@@ -313,9 +565,10 @@ public class GameplayState implements IState<GameController> {
         // Establece el hitbox del jugador.
         playerCharacter.setHitbox(currentLevel.playerHitbox);
         
-        // Ajusta la posicion Y del jugador para que este sobre el suelo.
-        float adjustedPlayerY = findGroundY(playerCharacter.position.x, currentLevel.playerStartY, playerCharacter.getWidth());
-        playerCharacter.position.y = adjustedPlayerY;
+        // Ajusta la posicion Y del jugador para que este sobre el suelo (los niveles compilados ya la traen ajustada).
+        if (!currentLevel.spawnsResolved) {
+            playerCharacter.position.y = findGroundY(playerCharacter.position.x, currentLevel.playerStartY, playerCharacter.getWidth());
+        }
         playerCharacter.onGround = true;
         playerCharacter.velocity.y = 0;
 
@@ -326,192 +579,163 @@ public class GameplayState implements IState<GameController> {
     }
 
     /**
-     * Inicializa los enemigos del nivel.
+     * Crea un enemigo del nivel y lo agrega al administrador de enemigos.
+     * @param enemyData Los datos del enemigo.
+     * @param y La coordenada Y de aparicion, ya ajustada al suelo.
+     * @return El personaje del enemigo.
      */
-    private void initializeEnemies() {
-        enemyManager = new EnemyManager();
+    private Character createEnemy(LevelData.EnemyData enemyData, float y) {
+        // Obtiene la skin del enemigo segun su tipo.
+        EnemySkin skin = EnemySkin.getSkin(enemyData.type);
 
-        for (LevelData.EnemyData enemyData : currentLevel.enemies) {
-            // Obtiene la skin del enemigo segun su tipo.
-            EnemySkin skin = EnemySkin.getSkin(enemyData.type);
+        // Carga los frames de animacion para el enemigo.
+        List<Sprite> enemyIdleFrames;
+        if (enemyData.type == EnemyType.FLYING) {
+            enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 9);
+        } else {
+            enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 4);
+        }
 
-            // Carga los frames de animacion para el enemigo.
-            List<Sprite> enemyIdleFrames;
-            if (enemyData.type == EnemyType.FLYING) {
-                enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 9);
-            } else {
-                enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 4);
-            }
+        List<Sprite> enemyRunFrames = loadSpriteFrames(skin.runFrames, 4);
+        List<Sprite> enemyDeadFrames;
+        if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
+            enemyDeadFrames = loadSpriteFrames(skin.deadFrames, 10);
+        } else {
+            enemyDeadFrames = loadSpriteFrames(skin.deadFrames, 4);
+        }
 
-            List<Sprite> enemyRunFrames = loadSpriteFrames(skin.runFrames, 4);
-            List<Sprite> enemyDeadFrames;
-            if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
-                enemyDeadFrames = loadSpriteFrames(skin.deadFrames, 10);
-            } else {
-                enemyDeadFrames = loadSpriteFrames(skin.deadFrames, 4);
-            }
+        List<Sprite> enemyJumpFrames = loadSpriteFrames(skin.jumpFrames, 1);
+        List<Sprite> enemyFallFrames = loadSpriteFrames(skin.fallFrames, 1);
+        List<Sprite> enemyHurtFrames = loadSpriteFrames(skin.hurtFrames, 1);
+        List<Sprite> enemyAngryHurtFrames = loadSpriteFrames(skin.angryHurtFrames, 1);
+        List<Sprite> enemyAttackFrames = loadSpriteFrames(skin.attackFrames, 2);
 
-            List<Sprite> enemyJumpFrames = loadSpriteFrames(skin.jumpFrames, 1);
-            List<Sprite> enemyFallFrames = loadSpriteFrames(skin.fallFrames, 1);
-            List<Sprite> enemyHurtFrames = loadSpriteFrames(skin.hurtFrames, 1);
-            List<Sprite> enemyAngryHurtFrames = loadSpriteFrames(skin.angryHurtFrames, 1);
-            List<Sprite> enemyAttackFrames = loadSpriteFrames(skin.attackFrames, 2);
-
-            // Carga animaciones especificas para jefes.
-            List<Sprite> idleRageFrames = null;
-            List<Sprite> attack1Frames = null;
-            List<Sprite> attack2Frames = null;
-            List<Sprite> summonFrames = null;
-
-            if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
-                idleRageFrames = loadSpriteFrames(skin.idleRageFrames, 4); 
-                attack1Frames = loadSpriteFrames(skin.attack1Frames, 8); 
-                attack2Frames = loadSpriteFrames(skin.attack2Frames, 8); 
-                summonFrames = loadSpriteFrames(skin.summonFrames, 8); 
-            } else if (enemyData.type == EnemyType.SHOOTER) {
-                attack1Frames = loadSpriteFrames(skin.attack1Frames, 3);
-            }
+        // Carga animaciones especificas para jefes.
+        List<Sprite> idleRageFrames = null;
+        List<Sprite> attack1Frames = null;
+        List<Sprite> attack2Frames = null;
+        List<Sprite> summonFrames = null;
+
+        if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
+            idleRageFrames = loadSpriteFrames(skin.idleRageFrames, 4); 
+            attack1Frames = loadSpriteFrames(skin.attack1Frames, 8); 
+            attack2Frames = loadSpriteFrames(skin.attack2Frames, 8); 
+            summonFrames = loadSpriteFrames(skin.summonFrames, 8); 
+        } else if (enemyData.type == EnemyType.SHOOTER) {
+            attack1Frames = loadSpriteFrames(skin.attack1Frames, 3);
+        }
 
-            // Crea el animador del personaje enemigo.
-            CharacterAnimator enemyAnimator = new CharacterAnimator(
-                enemyIdleFrames, enemyRunFrames, enemyDeadFrames,
-                enemyJumpFrames, enemyFallFrames, enemyAttackFrames,
-                null, null, null,
-                enemyHurtFrames, enemyAngryHurtFrames, null,
-                idleRageFrames, attack1Frames, attack2Frames, summonFrames
-            );
-
-            // Establece la salud del enemigo segun su tipo.
-            int health = 0;
-            switch (enemyData.type) {
-                case PATROLLER:
-                    health = com.machinehunterdev.game.Gameplay.GlobalSettings.PATROLLER_HEALTH;
-                    break;
-                case SHOOTER:
-                    health = com.machinehunterdev.game.Gameplay.GlobalSettings.SHOOTER_HEALTH;
-                    break;
-                case FLYING:
-                    health = com.machinehunterdev.game.Gameplay.GlobalSettings.FLYING_HEALTH;
-                    break;
-                case BOSS_GEMINI:
-                    health = com.machinehunterdev.game.Gameplay.GlobalSettings.BOSS_GEMINI_HEALTH;
-                    break;
-                case BOSS_CHATGPT:
-                    health = com.machinehunterdev.game.Gameplay.GlobalSettings.BOSS_CHATGPT_HEALTH;
-                    break;
-                default:
-                    health = 50; // Salud por defecto si el tipo no es reconocido.
-            }
+        // Crea el animador del personaje enemigo.
+        CharacterAnimator enemyAnimator = new CharacterAnimator(
+            enemyIdleFrames, enemyRunFrames, enemyDeadFrames,
+            enemyJumpFrames, enemyFallFrames, enemyAttackFrames,
+            null, null, null,
+            enemyHurtFrames, enemyAngryHurtFrames, null,
+            idleRageFrames, attack1Frames, attack2Frames, summonFrames
+        );
 
-            // Crea la instancia del personaje enemigo.
-            Character enemy = new Character(health, enemyAnimator, null, enemyData.x, enemyData.y, false);
-            // Usa el hitbox de los datos del nivel si existe, de lo contrario usa el de la skin.
-            LevelData.HitboxData hitboxToUse = enemyData.hitbox != null ? enemyData.hitbox : skin.hitbox;
-            enemy.setHitbox(hitboxToUse);
-            // Si es un enemigo tipo SHOOTER, le asigna el arma correspondiente.
-            if (enemyData.type == EnemyType.SHOOTER) {
-                enemy.switchWeapon(com.machinehunterdev.game.DamageTriggers.WeaponType.SHOOTER);
-            }
+        // Establece la salud del enemigo segun su tipo.
+        int health = 0;
+        switch (enemyData.type) {
+            case PATROLLER:
+                health = com.machinehunterdev.game.Gameplay.GlobalSettings.PATROLLER_HEALTH;
+                break;
+            case SHOOTER:
+                health = com.machinehunterdev.game.Gameplay.GlobalSettings.SHOOTER_HEALTH;
+                break;
+            case FLYING:
+                health = com.machinehunterdev.game.Gameplay.GlobalSettings.FLYING_HEALTH;
+                break;
+            case BOSS_GEMINI:
+                health = com.machinehunterdev.game.Gameplay.GlobalSettings.BOSS_GEMINI_HEALTH;
+                break;
+            case BOSS_CHATGPT:
+                health = com.machinehunterdev.game.Gameplay.GlobalSettings.BOSS_CHATGPT_HEALTH;
+                break;
+            default:
+                health = 50; // Salud por defecto si el tipo no es reconocido.
+        }
 
-            // Ajusta la posicion Y del enemigo para que este sobre el suelo o en el aire si es volador.
-            if (enemyData.type == EnemyType.FLYING) {
-                enemy.position.y -= enemy.getHeight() / 2;
-            } else {
-                float adjustedEnemyY = findGroundY(enemy.position.x, enemyData.y, enemy.getWidth());
-                enemy.position.y = adjustedEnemyY;
-                enemy.onGround = true;
-                enemy.velocity.y = 0;
-            }
+        // Crea la instancia del personaje enemigo.
+        Character enemy = new Character(health, enemyAnimator, null, enemyData.x, enemyData.y, false);
+        // Usa el hitbox de los datos del nivel si existe, de lo contrario usa el de la skin.
+        LevelData.HitboxData hitboxToUse = enemyData.hitbox != null ? enemyData.hitbox : skin.hitbox;
+        enemy.setHitbox(hitboxToUse);
+        // Si es un enemigo tipo SHOOTER, le asigna el arma correspondiente.
+        if (enemyData.type == EnemyType.SHOOTER) {
+            enemy.switchWeapon(com.machinehunterdev.game.DamageTriggers.WeaponType.SHOOTER);
+        }
+
+        // Coloca al enemigo en la Y calculada: sobre el suelo, o en el aire si es volador.
+        enemy.position.y = y;
+        if (enemyData.type != EnemyType.FLYING) {
+            enemy.onGround = true;
+            enemy.velocity.y = 0;
+        }
 
-            // Agrega el enemigo al administrador de enemigos.
-            enemyManager.addEnemy(enemyData.type, enemy, enemyData.patrolPoints, enemyData.waitTime, enemyData.shootInterval, enemyData.shootTime, false);
+        // Agrega el enemigo al administrador de enemigos.
+        enemyManager.addEnemy(enemyData.type, enemy, enemyData.patrolPoints, enemyData.waitTime, enemyData.shootInterval, enemyData.shootTime, false);
 
-            // Si es un jefe, lo establece en la interfaz de usuario.
-            if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
-                gameplayUI.setBoss((com.machinehunterdev.game.Character.Character) enemy, enemyData.name, enemyData.type);
+        // Si es un jefe, lo establece en la interfaz de usuario.
+        if (enemyData.type == EnemyType.BOSS_GEMINI || enemyData.type == EnemyType.BOSS_CHATGPT) {
+            gameplayUI.setBoss((com.machinehunterdev.game.Character.Character) enemy, enemyData.name, enemyData.type);
+            // Precarga los enemigos que el jefe puede invocar para no leer del disco durante el combate.
+            if (summonPool == null) {
+                summonPool = new EnemySummonPool();
             }
         }
+        return enemy;
     }
 
     /**
-     * Inicializa los personajes no jugables (NPCs) del nivel.
+     * Crea un personaje no jugable (NPC) del nivel.
+     * @param npcData Los datos del NPC.
+     * @param y La coordenada Y de aparicion, ya ajustada al suelo.
+     * @return El controlador del NPC.
      */
-    private void initializeNPCs() {
-        npcControllers = new ArrayList<>();
-        if (currentLevel.npcs.isEmpty()) {
-            return;
-        }
-
-        for (LevelData.NPCData npcData : currentLevel.npcs) {
-            // Carga los frames de animacion para el NPC.
-            List<Sprite> npcIdleFrames = loadSpriteFrames(npcData.idleFrames, 4);
+    private NPCController createNpc(LevelData.NPCData npcData, float y) {
+        // Carga los frames de animacion para el NPC.
+        List<Sprite> npcIdleFrames = loadSpriteFrames(npcData.idleFrames, 4);
 
-            // Crea el animador del personaje NPC.
-            CharacterAnimator npcAnimator = new CharacterAnimator(
-                npcIdleFrames, null, null,
-                null, null, null,
-                null, null, null,
-                null, null, null, null, null, null, null
-            );
-            
-            // Crea la instancia del personaje NPC.
-            Character npcCharacter = new Character(100, npcAnimator, null, npcData.x, npcData.y, false);
-            
-            // Ajusta la posicion Y del NPC para que este sobre el suelo.
-            float adjustedNpcY = findGroundY(npcCharacter.position.x, npcData.y, npcCharacter.getWidth());
-            npcCharacter.position.y = adjustedNpcY;
-            npcCharacter.onGround = true;
-            npcCharacter.velocity.y = 0;
-            
-            // Carga los dialogos asociados al NPC.
-            List<Dialog> npcDialogues = loadNPCCDialogues(npcData.dialogues);
-            
-            // Agrega el controlador del NPC a la lista.
-            npcControllers.add(new NPCController(npcCharacter, npcData.interactionRadius, npcDialogues));
-        }
+        // Crea el animador del personaje NPC.
+        CharacterAnimator npcAnimator = new CharacterAnimator(
+            npcIdleFrames, null, null,
+            null, null, null,
+            null, null, null,
+            null, null, null, null, null, null, null
+        );
+        
+        // Crea la instancia del personaje NPC sobre el suelo.
+        Character npcCharacter = new Character(100, npcAnimator, null, npcData.x, y, false);
+        npcCharacter.onGround = true;
+        npcCharacter.velocity.y = 0;
+        // Un NPC que aparece durante un dialogo espera a que termine, como los demas.
+        npcCharacter.isPaused = isDialogActive;
+        
+        // Carga los dialogos asociados al NPC.
+        List<Dialog> npcDialogues = loadNPCCDialogues(npcData.dialogues);
+        return new NPCController(npcCharacter, npcData.interactionRadius, npcDialogues);
     }
 
     /**
-     * Carga los dialogos de los NPCs desde un archivo JSON.
+     * Obtiene los dialogos de los NPCs desde la base de datos de dialogos.
      * @param dialogueIds Lista de IDs de dialogos a cargar.
      * @return Una lista de objetos Dialog.
      */
     private List<Dialog> loadNPCCDialogues(List<String> dialogueIds) {
         List<Dialog> npcDialogues = new ArrayList<>();
-        if (currentLevel.dialogueFile == null || currentLevel.dialogueFile.isEmpty()) {
+        if (currentLevel.dialogueFile == null || currentLevel.dialogueFile.isEmpty() || dialogueIds == null) {
             return npcDialogues;
         }
 
-        try {
-            JsonReader jsonReader = new JsonReader();
-            JsonValue base = jsonReader.parse(Gdx.files.internal(currentLevel.dialogueFile));
-
-            for (String dialogueIdStr : dialogueIds) {
-                // Itera a traves de todas las secciones de dialogo (ej. "Dialogos_Tutorial", "Dialogos_acto2")
-                for (JsonValue dialogueSection : base) {
-                    if (dialogueSection.isArray()) { // Asegura que sea un array de dialogos
-                        for (JsonValue dialogValue : dialogueSection) {
-                            if (dialogValue.has("Name") && dialogValue.getString("Name").equals(dialogueIdStr)) {
-                                List<String> lines = new ArrayList<>();
-                                JsonValue texto = dialogValue.get("Texto");
-                                if (texto != null) {
-                                    if (texto.isArray()) {
-                                        for (JsonValue line : texto) {
-                                            lines.add(line.asString());
-                                        }
-                                    } else { // Si "Texto" es una sola cadena
-                                        lines.add(texto.asString());
-                                    }
-                                }
-                                npcDialogues.add(new Dialog(lines));
-                                break; // Se encontro el dialogo, pasa al siguiente dialogueIdStr
-                            }
-                        }
-                    }
-                }
+        DialogueDatabase database = DialogueDatabase.getInstance();
+        for (String dialogueIdStr : dialogueIds) {
+            DialogueDatabase.Entry entry = database.find(currentLevel.dialogueFile, dialogueIdStr);
+            if (entry != null) {
+                npcDialogues.add(entry.toDialog());
+            } else {
+                Gdx.app.error("GameplayState", "Dialogo de NPC no encontrado: " + dialogueIdStr);
             }
-        } catch (Exception e) {
-            Gdx.app.error("GameplayState", "Error al cargar dialogos del NPC", e);
         }
 
         return npcDialogues;
@@ -531,9 +755,6 @@ public class GameplayState implements IState<GameController> {
      */
     @Override
     public void execute() {
-        // Actualiza el administrador de audio.
-        AudioManager.getInstance().update(Gdx.graphics.getDeltaTime());
-
         // Codigo de depuracion: Mata a todos los enemigos al presionar F9.
         if(Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F9)) {
             killAllEnemies();
@@ -541,16 +762,35 @@ public class GameplayState implements IState<GameController> {
 
         // Codigo de depuracion: Mata al jugador al presionar F8
         if(Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F8)) {
-            DamageSystem.applyContactDamage(playerCharacter, playerCharacter, 3);
+            damageQueue.enqueue(DamageEvent.contact(playerCharacter, playerCharacter, 3, null, playerCharacter.position.x, playerCharacter.position.y));
+        }
+
+        if (GlobalSettings.DEV_MODE) {
+            // Codigo de depuracion: Retrocede un segundo al presionar F7.
+            if(Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F7)) {
+                int missing = rewindBuffer.rewind(GlobalSettings.REWIND_STEP_FRAMES, playerCharacter, enemyManager, bullets);
+                onWorldRestored(missing);
+            }
+
+            // Codigo de depuracion: Guarda un punto de control con F6 y vuelve a el con F5.
+            if(Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F6)) {
+                checkpoint.capture(playerCharacter, enemyManager, bullets);
+                Gdx.app.log("GameplayState", "Punto de control guardado (" + checkpoint.getSizeBytes() + " bytes)");
+            }
+            if(Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F5) && checkpoint.isCaptured()) {
+                onWorldRestored(checkpoint.restore(playerCharacter, enemyManager, bullets));
+                rewindBuffer.clear();
+            }
         }
 
         // Maneja la entrada para pausar el juego.
         if (Gdx.input.isKeyJustPressed(GlobalSettings.CONTROL_PAUSE) && !levelCompleted && !isDialogActive) {
-            owner.stateMachine.push(new PauseState(this));
+            owner.stateMachine.push(PauseState.of(this));
             return; // Detiene la ejecucion del resto del frame.
         }
 
         // Actualiza la logica del juego y dibuja el mundo.
+        applyLevelChanges();
         updateGameLogic();
         drawGameWorld();
 
@@ -645,9 +885,35 @@ public class GameplayState implements IState<GameController> {
             // Actualiza los sistemas de combate y centra la camara.
             updateCombatSystems(deltaTime);
             playerController.centerCameraOnPlayer(camera);
+            // Carga las franjas del nivel que entran en la vista y descarga las que quedan lejos.
+            float halfView = camera.viewportWidth / 2f;
+            levelStreamer.update(camera.position.x - halfView, camera.position.x + halfView);
 
             // Desactiva la bandera para ignorar la entrada.
             ignoreInputOnFirstFrame = false;
+
+            // Guarda el fotograma en el buffer de retroceso (solo se usa en modo desarrollo).
+            if (GlobalSettings.DEV_MODE) {
+                rewindBuffer.capture(playerCharacter, enemyManager, bullets);
+            }
+        }
+    }
+
+    /**
+     * Completa la restauracion de una instantanea: descarta el dano pendiente y los
+     * efectos activos, y recoloca la camara sobre el jugador.
+     * @param missing Entidades de la instantanea que ya no existen (-1 si no habia instantanea)
+     */
+    private void onWorldRestored(int missing) {
+        if (missing < 0) return;
+        // Vuelven a aparecer los enemigos de las franjas activas que no existian en la instantanea.
+        levelStreamer.onWorldRestored(enemyManager.getEnemies());
+        damageQueue.clear();
+        impactEffectManager.dispose();
+        landingEffectManager.dispose();
+        playerController.centerCameraOnPlayer(camera);
+        if (missing > 0) {
+            Gdx.app.log("GameplayState", missing + " entidades ya no existen y no se restauraron");
         }
     }
 
@@ -676,6 +942,11 @@ public class GameplayState implements IState<GameController> {
             summonEnemy(type);
         }
 
+        // Repone la reserva de invocaciones en un fotograma sin invocaciones.
+        if (enemiesToSummon.isEmpty() && summonPool != null) {
+            summonPool.refill();
+        }
+
         // Elimina a los enemigos muertos que estan listos para ser removidos.
         ArrayList<com.machinehunterdev.game.Character.IEnemy> enemies = enemyManager.getEnemies();
         for (int i = enemies.size() - 1; i >= 0; i--) {
@@ -686,7 +957,7 @@ public class GameplayState implements IState<GameController> {
                     if (!isBossDefeatedAndAnimationFinished) {
                         isBossDefeatedAndAnimationFinished = true;
                         // Mismo frame para GEMINI y CHATGPT
-                        bossFinalFrameTexture = new Texture("Enemy/GeminiEXE/GeminiEXEDeath10.png");
+                        bossFinalFrameTexture = TextureCache.getInstance().get(LevelAssetManifest.BOSS_FINAL_FRAME);
                         bossFinalFrameSprite = new Sprite(bossFinalFrameTexture);
 
                         // Necesita posicionarlo correctamente antes de deshechar el jefe
@@ -695,147 +966,49 @@ public class GameplayState implements IState<GameController> {
                         bossFinalFrameSprite.setPosition(bossCharacter.position.x - 10, bossCharacter.position.y);
                     }
                 }
+                enemyManager.removeEnemy(i);
+                levelStreamer.onEnemyRemoved(enemy.getCharacter());
                 enemy.getCharacter().dispose();
-                enemies.remove(i);
             }
         }
     }
 
     /**
      * Invoca nuevos enemigos en el juego.
+     * Los enemigos salen de la reserva precargada, por lo que solo se activan y posicionan.
      * @param type El tipo de enemigo a invocar.
      */
     private void summonEnemy(EnemyType type) {
-        // Obtiene la skin del enemigo segun su tipo.
-        EnemySkin skin = EnemySkin.getSkin(type);
-
-        // Carga los frames de animacion para el enemigo invocado.
-        List<Sprite> enemyIdleFrames;
-        if (type == EnemyType.FLYING) {
-            enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 9);
-        } else {
-            enemyIdleFrames = loadSpriteFrames(skin.idleFrames, 4);
+        if (summonPool == null) {
+            summonPool = new EnemySummonPool();
         }
+        EnemyPrototype prototype = summonPool.getPrototype(type);
+        if (prototype == null) return;
 
-        List<Sprite> enemyRunFrames = loadSpriteFrames(skin.runFrames, 4);
-        List<Sprite> enemyDeadFrames = loadSpriteFrames(skin.deadFrames, 4);
-        List<Sprite> enemyJumpFrames = loadSpriteFrames(skin.jumpFrames, 1);
-        List<Sprite> enemyFallFrames = loadSpriteFrames(skin.fallFrames, 1);
-        List<Sprite> enemyHurtFrames = loadSpriteFrames(skin.hurtFrames, 1);
-        List<Sprite> enemyAttackFrames = loadSpriteFrames(skin.attackFrames, 2);
-        List<Sprite> attack1Frames = null;
-
-        if (type == EnemyType.SHOOTER)
-        {
-            attack1Frames = loadSpriteFrames(skin.attack1Frames, 3);
-        }
+        for (int slot = 0; slot < EnemyPrototype.SUMMON_COUNT; slot++) {
+            Character enemy = summonPool.obtain(type, slot);
 
-        // Crea dos animadores para los dos enemigos invocados.
-        CharacterAnimator enemyAnimator1 = new CharacterAnimator(
-            enemyIdleFrames, enemyRunFrames, enemyDeadFrames,
-            enemyJumpFrames, enemyFallFrames, enemyAttackFrames,
-            null, null, null,
-            enemyHurtFrames, null, null, null, attack1Frames, null, null
-        );
-
-        CharacterAnimator enemyAnimator2 = new CharacterAnimator(
-            enemyIdleFrames, enemyRunFrames, enemyDeadFrames,
-            enemyJumpFrames, enemyFallFrames, enemyAttackFrames,
-            null, null, null,
-            enemyHurtFrames, null, null, null, attack1Frames, null, null
-        );
-
-        // Establece la salud de los enemigos invocados.
-        int health = 1;
-        switch (type) {
-            case PATROLLER:
-                health = com.machinehunterdev.game.Gameplay.GlobalSettings.PATROLLER_HEALTH;
-                break;
-            case SHOOTER:
-                health = com.machinehunterdev.game.Gameplay.GlobalSettings.SHOOTER_HEALTH / 2; // Menos salud para enemigos disparadores invocados
-                break;
-            case FLYING:
-                health = com.machinehunterdev.game.Gameplay.GlobalSettings.FLYING_HEALTH;
-                break;
-            default:
-                health = 1;
-                break;
-        }
-
-        // Crea las instancias de los personajes enemigos invocados.
-        Character enemy1 = new Character(health, enemyAnimator1, null, 88, 480, false);
-        Character enemy2 = new Character(health, enemyAnimator2, null, 352, 480, false);
-
-        // Ajusta la posicion Y de los enemigos invocados.
-        if (type == EnemyType.FLYING) {
-            enemy1.position.y = 342; 
-            enemy2.position.y = 270;
-        } else {
-            float adjustedY1 = findGroundY(enemy1.position.x, 480, enemy1.getWidth());
-            enemy1.position.y = adjustedY1;
-            enemy1.onGround = true;
-            enemy1.velocity.y = 0;
-
-            float adjustedY2 = findGroundY(enemy2.position.x, 480, enemy2.getWidth());
-            enemy2.position.y = adjustedY2;
-            enemy2.onGround = true;
-            enemy2.velocity.y = 0;
-        }
-
-        // Asigna armas si son SHOOTER.
-        if (type == EnemyType.SHOOTER) {
-            enemy1.switchWeapon(com.machinehunterdev.game.DamageTriggers.WeaponType.SHOOTER);
-            enemy2.switchWeapon(com.machinehunterdev.game.DamageTriggers.WeaponType.SHOOTER);
-        }
-
-        // Define puntos de patrulla y tiempos para los enemigos invocados.
-        ArrayList<LevelData.Point> patrolPoints1 = new ArrayList<>();
-        ArrayList<LevelData.Point> patrolPoints2 = new ArrayList<>();
-        float waitTime = 0, shootInterval = 0, shootTime = 0;
+            // Ajusta la posicion Y de los enemigos terrestres al suelo.
+            if (type != EnemyType.FLYING) {
+                enemy.position.y = findGroundY(enemy.position.x, enemy.position.y, enemy.getWidth());
+                enemy.onGround = true;
+                enemy.velocity.y = 0;
+            }
 
-        switch (type) {
-            case PATROLLER:
-                LevelData.Point p1 = new LevelData.Point();
-                p1.x = 352; p1.y = 32; p1.action = "Jump"; patrolPoints1.add(p1);
-                LevelData.Point p2 = new LevelData.Point();
-                p2.x = 88; p2.y = 32; p2.action = "Jump"; patrolPoints1.add(p2);
-                LevelData.Point p3 = new LevelData.Point();
-                p3.x = 88; p3.y = 32; p3.action = "Jump"; patrolPoints2.add(p3);
-                LevelData.Point p4 = new LevelData.Point();
-                p4.x = 352; p4.y = 32; p4.action = "Jump"; patrolPoints2.add(p4);
-                waitTime = 1.0f;
-                break;
-            case SHOOTER:
-                shootInterval = 2.0f;
-                shootTime = 1f;
-                break;
-            case FLYING:
-                LevelData.Point p5 = new LevelData.Point();
-                p5.x = 138; p5.y = 168; patrolPoints1.add(p5);
-                LevelData.Point p6 = new LevelData.Point();
-                p6.x = 138; p6.y = 96; patrolPoints1.add(p6);
-                LevelData.Point p7 = new LevelData.Point();
-                p7.x = 302; p7.y = 96; patrolPoints2.add(p7);
-                LevelData.Point p8 = new LevelData.Point();
-                p8.x = 302; p8.y = 168; patrolPoints2.add(p8);
-                waitTime = 0.5f;
-                break;
-            default:
-                break;
+            // Agrega el enemigo invocado al administrador de enemigos.
+            enemyManager.addEnemy(type, enemy, prototype.getPatrolPoints(slot), prototype.waitTime, prototype.shootInterval, prototype.shootTime, true);
         }
-
-        // Agrega los enemigos invocados al administrador de enemigos.
-        enemyManager.addEnemy(type, enemy1, patrolPoints1, waitTime, shootInterval, shootTime, true);
-        enemyManager.addEnemy(type, enemy2, patrolPoints2, waitTime, shootInterval, shootTime, true);
     }
 
     /**
-     * Verifica si el nivel ha sido completado (todos los enemigos han sido derrotados).
+     * Verifica si el nivel ha sido completado (todos los enemigos han sido derrotados,
+     * incluidos los de las franjas que aun no se activaron).
      */
     private void checkLevelCompletion() {
-        if (enemyManager.getEnemies().isEmpty()) {
+        if (enemyManager.getEnemies().isEmpty() && levelStreamer.getPendingEnemyCount() == 0) {
             // Reproduce la musica de nivel completado.
-            AudioManager.getInstance().playMusic("Audio/Soundtrack/LevelCompleted.mp3", false, false);
+            AudioManager.getInstance().playMusic(LEVEL_COMPLETED_MUSIC, false, false);
+            prepareNextLevelMusic();
             levelCompleted = true;
             // Establece el procesador de entrada para la interfaz de "Siguiente Nivel".
             Gdx.input.setInputProcessor(nextLevelUI);
@@ -900,6 +1073,7 @@ public class GameplayState implements IState<GameController> {
         checkBulletEnemyCollision();
         checkBulletPlayerCollision();
         checkLightningCollisions();
+        resolveDamage();
     }
 
     /**
@@ -915,7 +1089,10 @@ public class GameplayState implements IState<GameController> {
         int backgroundWidth = GlobalSettings.VIRTUAL_WIDTH;
         int mapWidth = GlobalSettings.levelWidth;
         int backgroundCount = (int) Math.ceil((float) mapWidth / backgroundWidth) + 1;
-        for (int i = 0; i < backgroundCount; i++) {
+        // Solo se dibujan las copias que cruzan la vista, para que el costo no dependa del largo del nivel.
+        int firstBackground = Math.max(0, (int) ((camera.position.x - camera.viewportWidth / 2) / backgroundWidth));
+        int lastBackground = Math.min(backgroundCount - 1, (int) ((camera.position.x + camera.viewportWidth / 2) / backgroundWidth));
+        for (int i = firstBackground; i <= lastBackground; i++) {
             gameBatch.draw(backgroundTexture, i * backgroundWidth, 0);
         }
         gameBatch.setColor(1, 1, 1, 1);
@@ -995,10 +1172,8 @@ public class GameplayState implements IState<GameController> {
      * @param npcController El controlador del NPC.
      */
     private void drawNPCInteractionPrompt(NPCController npcController) {
-        GlyphLayout layout = new GlyphLayout();
-        String message = "E para interactuar";
-        interactionFont.getData().setScale(0.5f);
-        layout.setText(interactionFont, message);
+        interactionFont.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(interactionFont, "E para interactuar");
 
         float boxWidth = layout.width + 20;
         float boxHeight = layout.height + 10;
@@ -1012,7 +1187,6 @@ public class GameplayState implements IState<GameController> {
         float textX = boxX + 10;
         float textY = boxY + layout.height + 5;
         interactionFont.draw(gameBatch, layout, textX, textY);
-        interactionFont.getData().setScale(1.0f);
     }
 
     /**
@@ -1021,7 +1195,9 @@ public class GameplayState implements IState<GameController> {
     private void drawGround() {
         int groundWidth = 320; // Ancho del sprite del suelo.
         int groundCount = (int) Math.ceil((float) GlobalSettings.levelWidth / groundWidth);
-        for (int i = 0; i < groundCount; i++) {
+        int firstGround = Math.max(0, (int) ((camera.position.x - camera.viewportWidth / 2) / groundWidth));
+        int lastGround = Math.min(groundCount - 1, (int) ((camera.position.x + camera.viewportWidth / 2) / groundWidth));
+        for (int i = firstGround; i <= lastGround; i++) {
             gameBatch.draw(groundTexture, i * groundWidth, 0);
         }
     }
@@ -1066,12 +1242,7 @@ public class GameplayState implements IState<GameController> {
                 Rectangle enemyBounds = enemyCharacter.getBounds();
 
                 if (playerBounds.overlaps(enemyBounds)) {
-                    if (DamageSystem.canTakeDamage(playerCharacter)) {
-                        // Reproduce sonido de dano al jugador.
-                        AudioManager.getInstance().playSfx(AudioId.PlayerHurt, playerCharacter);
-                        // Aplica dano al jugador por contacto.
-                        DamageSystem.applyContactDamage(playerCharacter, enemyCharacter, 1);
-
+                    if (DamageSystem.canTakeDamage(playerCharacter) && !damageQueue.hasPending(playerCharacter)) {
                         /* Animacion de impacto al contacto */
                         // Calcula la interseccion de las cajas de colision.
                         Rectangle intersection = new Rectangle(playerBounds);
@@ -1085,23 +1256,21 @@ public class GameplayState implements IState<GameController> {
                         float impactX = intersection.x + intersection.width / 2;
                         float impactY = intersection.y + intersection.height / 2;
 
-                        // Crea el efecto de impacto en el punto de colision segun el tipo de enemigo.
+                        // El efecto de impacto depende del tipo de enemigo.
+                        WeaponType impactType;
                         switch (enemy.getType()) {
                             case PATROLLER:
-                                impactEffectManager.createImpact(impactX, impactY, WeaponType.PATROLLER);
-                                break;
-                            case SHOOTER:
-                                impactEffectManager.createImpact(impactX, impactY, WeaponType.SHOOTER);
+                                impactType = WeaponType.PATROLLER;
                                 break;
                             case FLYING:
-                                impactEffectManager.createImpact(impactX, impactY, WeaponType.FLYING);
-                                break;
-                            case BOSS_GEMINI:
-                            case BOSS_CHATGPT:
-                                impactEffectManager.createImpact(impactX, impactY, WeaponType.SHOOTER);
+                                impactType = WeaponType.FLYING;
                                 break;
                             default:
+                                impactType = WeaponType.SHOOTER;
                         }
+
+                        // Registra el dano por contacto; se aplica en la fase de dano.
+                        damageQueue.enqueue(DamageEvent.contact(playerCharacter, enemyCharacter, 1, impactType, impactX, impactY));
                     }
                     break; // Solo un enemigo puede danar al jugador por contacto a la vez.
                 }
@@ -1139,39 +1308,25 @@ public class GameplayState implements IState<GameController> {
         }
     }
 
+    /**
+     * Registra los impactos de las balas del jugador sobre los enemigos.
+     * El dano no se aplica aqui, sino en resolveDamage().
+     */
     private void checkBulletEnemyCollision() {
-        List<Character> enemiesHitThisFrame = new ArrayList<>();
         for (int i = bullets.size() - 1; i >= 0; i--) {
             Bullet bullet = bullets.get(i);
             if (bullet.getOwner() == playerCharacter) {
                 for (com.machinehunterdev.game.Character.IEnemy enemy : enemyManager.getEnemies()) {
                     Character enemyCharacter = enemy.getCharacter();
-                    if (enemyCharacter.isAlive() && bullet.getBounds().overlaps(enemyCharacter.getBounds())) {
+                    // Un enemigo que ya va a morir en este fotograma no absorbe mas balas.
+                    if (enemyCharacter.isAlive() && !damageQueue.isPendingDeath(enemyCharacter) && bullet.getBounds().overlaps(enemyCharacter.getBounds())) {
                         if (bullet.isPiercing()) {
                             if (!bullet.hasHit(enemyCharacter)) {
-                                enemyCharacter.takeDamageWithoutVulnerability(bullet.getDamage());
-                                if (enemyCharacter.isAlive()) {
-                                    if (!enemiesHitThisFrame.contains(enemyCharacter)) {
-                                        AudioManager.getInstance().playSfx(AudioId.EnemyHurt, enemyCharacter, GlobalSettings.ANNOYING_VOLUME);
-                                        enemiesHitThisFrame.add(enemyCharacter);
-                                    }
-                                } else {
-                                    handleEnemyDeath(enemy, enemyCharacter);
-                                }
+                                damageQueue.enqueue(DamageEvent.projectile(enemyCharacter, bullet.getDamage(), bullet.getWeaponType(), bullet.position.x, bullet.position.y));
                                 bullet.addHitEnemy(enemyCharacter);
-                                impactEffectManager.createImpact(bullet.position.x, bullet.position.y, bullet.getWeaponType());
                             }
                         } else {
-                            enemyCharacter.takeDamageWithoutVulnerability(bullet.getDamage());
-                            if (enemyCharacter.isAlive()) {
-                                if (!enemiesHitThisFrame.contains(enemyCharacter)) {
-                                    AudioManager.getInstance().playSfx(AudioId.EnemyHurt, enemyCharacter, GlobalSettings.ANNOYING_VOLUME);
-                                    enemiesHitThisFrame.add(enemyCharacter);
-                                }
-                            } else {
-                                handleEnemyDeath(enemy, enemyCharacter);
-                            }
-                            impactEffectManager.createImpact(bullet.position.x, bullet.position.y, bullet.getWeaponType());
+                            damageQueue.enqueue(DamageEvent.projectile(enemyCharacter, bullet.getDamage(), bullet.getWeaponType(), bullet.position.x, bullet.position.y));
                             bullets.remove(i);
                             bullet.dispose();
                             break;
@@ -1182,21 +1337,56 @@ public class GameplayState implements IState<GameController> {
         }
     }
 
-    private void handleEnemyDeath(com.machinehunterdev.game.Character.IEnemy enemy, Character enemyCharacter) {
-        if (enemy.getType() == EnemyType.BOSS_GEMINI || enemy.getType() == EnemyType.BOSS_CHATGPT) {
-            enemyCharacter.isPerformingSpecialAttack = false;
-            AudioManager.getInstance().playSfx(AudioId.BossDeath, enemyCharacter, GlobalSettings.ANNOYING_VOLUME * 6f);
-
-            // Eliminar a todos los enemigos restantes al morir el jefe
-            for (com.machinehunterdev.game.Character.IEnemy remainingEnemy : enemyManager.getEnemies()) {
-                // Verifica que el enemigo esté vivo y no sea el jefe que acaba de morir
-                if (remainingEnemy.getCharacter().isAlive() && remainingEnemy != enemy) {
-                    remainingEnemy.getCharacter().takeDamageWithoutVulnerability(remainingEnemy.getCharacter().getHealth());
-                    AudioManager.getInstance().playSfx(AudioId.Explosion, remainingEnemy.getCharacter());
+    /**
+     * Fase de dano: aplica una vez por objetivo todos los golpes registrados en el fotograma
+     * y genera la respuesta agrupada (un sonido de dano y un efecto de impacto por objetivo,
+     * una sola explosion para todas las muertes del fotograma).
+     */
+    private void resolveDamage() {
+        Character explosionSource = null;
+
+        // La muerte de un jefe registra nuevos golpes (la cascada), por eso se resuelve hasta vaciar la cola.
+        while (!damageQueue.isEmpty()) {
+            for (DamageEvent event : damageQueue.resolve()) {
+                Character target = event.target;
+                if (event.weaponType != null) {
+                    impactEffectManager.createImpact(event.impactX, event.impactY, event.weaponType);
+                }
+
+                if (target == playerCharacter) {
+                    AudioManager.getInstance().playSfx(AudioId.PlayerHurt, playerCharacter);
+                } else if (!event.killed) {
+                    AudioManager.getInstance().playSfx(AudioId.EnemyHurt, target, GlobalSettings.ANNOYING_VOLUME);
+                } else if (target.getEnemyType() == EnemyType.BOSS_GEMINI || target.getEnemyType() == EnemyType.BOSS_CHATGPT) {
+                    handleBossDeath(target);
+                } else if (explosionSource == null) {
+                    explosionSource = target;
                 }
             }
-        } else {
-            AudioManager.getInstance().playSfx(AudioId.Explosion, enemyCharacter);
+        }
+
+        if (explosionSource != null) {
+            AudioManager.getInstance().playSfx(AudioId.Explosion, explosionSource);
+        }
+        damageQueue.endFrame();
+    }
+
+    /**
+     * Gestiona la muerte de un jefe: detiene sus ataques y registra la muerte
+     * de todos los enemigos restantes, que se resuelve en la misma fase de dano.
+     * @param bossCharacter El personaje del jefe que acaba de morir.
+     */
+    private void handleBossDeath(Character bossCharacter) {
+        bossCharacter.isPerformingSpecialAttack = false;
+        AudioManager.getInstance().playSfx(AudioId.BossDeath, bossCharacter, GlobalSettings.ANNOYING_VOLUME * 6f);
+
+        // Eliminar a todos los enemigos restantes al morir el jefe
+        for (com.machinehunterdev.game.Character.IEnemy remainingEnemy : enemyManager.getEnemies()) {
+            Character remaining = remainingEnemy.getCharacter();
+            // Verifica que el enemigo este vivo, no sea el jefe y no tenga ya su muerte pendiente.
+            if (remaining.isAlive() && remaining != bossCharacter && !damageQueue.isPendingDeath(remaining)) {
+                damageQueue.enqueue(DamageEvent.projectile(remaining, remaining.getHealth(), null, remaining.position.x, remaining.position.y));
+            }
         }
     }
 
@@ -1204,10 +1394,8 @@ public class GameplayState implements IState<GameController> {
         for (int i = bullets.size() - 1; i >= 0; i--) {
             Bullet bullet = bullets.get(i);
             if (bullet.getOwner() != playerCharacter) {
-                if (DamageSystem.canTakeDamage(playerCharacter) && playerCharacter.isAlive() && bullet.getBounds().overlaps(playerCharacter.getBounds())) {
-                    AudioManager.getInstance().playSfx(AudioId.PlayerHurt, playerCharacter);
-                    DamageSystem.applyContactDamage(playerCharacter, bullet.getOwner(), bullet.getDamage());
-                    impactEffectManager.createImpact(bullet.position.x, bullet.position.y, bullet.getWeaponType());
+                if (DamageSystem.canTakeDamage(playerCharacter) && !damageQueue.hasPending(playerCharacter) && bullet.getBounds().overlaps(playerCharacter.getBounds())) {
+                    damageQueue.enqueue(DamageEvent.contact(playerCharacter, bullet.getOwner(), bullet.getDamage(), bullet.getWeaponType(), bullet.position.x, bullet.position.y));
                     bullets.remove(i);
                     bullet.dispose();
                 }
@@ -1218,7 +1406,10 @@ public class GameplayState implements IState<GameController> {
     /* PARA DEPURACION, DESTRUIR TODOS LOS ENEMIGOS */
     private void killAllEnemies() {
         for (com.machinehunterdev.game.Character.IEnemy enemy : enemyManager.getEnemies()) {
-            enemy.getCharacter().takeDamageWithoutVulnerability(enemy.getCharacter().getHealth());
+            Character enemyCharacter = enemy.getCharacter();
+            if (enemyCharacter.isAlive()) {
+                damageQueue.enqueue(DamageEvent.projectile(enemyCharacter, enemyCharacter.getHealth(), null, enemyCharacter.position.x, enemyCharacter.position.y));
+            }
         }
     }
 
@@ -1229,10 +1420,9 @@ public class GameplayState implements IState<GameController> {
                 if (controller.isLightningStriking()) {
                     // + 10 para centrar la hitbox
                     Rectangle lightningBounds = new Rectangle(controller.getLightningPlayerX() + 10, 32, 20, 448);
-                    if (DamageSystem.canTakeDamage(playerCharacter) && playerCharacter.isAlive() && lightningBounds.overlaps(playerCharacter.getBounds())) {
-                        AudioManager.getInstance().playSfx(AudioId.PlayerHurt, playerCharacter);
-                        DamageSystem.applyContactDamage(playerCharacter, enemy.getCharacter(), 1);
-                        impactEffectManager.createImpact(playerCharacter.position.x + playerCharacter.getWidth() / 2, playerCharacter.position.y + playerCharacter.getHeight() / 2, WeaponType.PATROLLER);
+                    if (DamageSystem.canTakeDamage(playerCharacter) && !damageQueue.hasPending(playerCharacter) && lightningBounds.overlaps(playerCharacter.getBounds())) {
+                        damageQueue.enqueue(DamageEvent.contact(playerCharacter, enemy.getCharacter(), 1, WeaponType.PATROLLER,
+                                playerCharacter.position.x + playerCharacter.getWidth() / 2, playerCharacter.position.y + playerCharacter.getHeight() / 2));
                     }
                 }
             }
@@ -1256,8 +1446,8 @@ public class GameplayState implements IState<GameController> {
         List<Sprite> frames = new ArrayList<>(); // Crea una nueva lista para almacenar los sprites cargados.
         for (int i = 1; i <= frameCount; i++) { // Bucle que itera desde 1 hasta el numero total de frames.
             // Concatena la ruta base, el numero de frame y la extension ".png" para formar la ruta completa del archivo.
-            // Crea una nueva Textura a partir del archivo y luego un nuevo Sprite a partir de esa textura.
-            frames.add(new Sprite(new Texture(basePath + i + ".png"))); // Anade el nuevo sprite a la lista de frames.
+            // Obtiene la Textura precargada en la cache y crea un nuevo Sprite a partir de ella.
+            frames.add(new Sprite(TextureCache.getInstance().get(basePath + i + ".png"))); // Anade el nuevo sprite a la lista de frames.
         }
         return frames; // Devuelve la lista completa de frames de la animacion.
     }
@@ -1288,69 +1478,85 @@ public class GameplayState implements IState<GameController> {
      */
     @Override // Indica que este metodo sobrescribe un metodo de la interfaz IState.
     public void exit() { // Metodo para liberar todos los recursos del estado.
-        // Libera las texturas principales del nivel.
-        disposeTexture(backgroundTexture); // Llama al metodo de utilidad para liberar la textura de fondo.
-        disposeTexture(blackTexture); // Libera la textura negra usada para superposiciones.
-        disposeTexture(groundTexture); // Libera la textura del suelo.
-        
-        // Itera sobre todos los objetos solidos y libera sus recursos.
-        for (SolidObject obj : solidObjects) {
-            obj.dispose(); // Cada objeto solido es responsable de liberar sus propias texturas.
+        releaseWorld();
+
+        // Tras un "Game Over" se conservan los recursos para reintentar sin volver a cargar el nivel.
+        if (transitioningToGameOver) {
+            if (retainedState != this) {
+                releaseRetainedState();
+                retainedState = this;
+                GpuResourceTracker.getInstance().retainOwner(this);
+            }
+            return;
         }
+        releaseResources();
+    }
 
-        // Libera la fuente de texto.
-        if (interactionFont != null) {
-            interactionFont.dispose();
+    /**
+     * Libera el estado del mundo: balas, jugador, enemigos y efectos activos.
+     */
+    private void releaseWorld() {
+        // Libera los recursos de todas las balas activas.
+        if (bullets != null) {
+            for (Bullet bullet : bullets) {
+                bullet.dispose();
+            }
+            bullets.clear();
         }
-        
-        // Libera los recursos de los sistemas de UI y efectos.
-        if (dialogManager != null) dialogManager.dispose();
-        if (gameplayUI != null) gameplayUI.dispose();
-        if (nextLevelUI != null) nextLevelUI.dispose();
+
+        // Descarta los efectos activos; sus texturas pertenecen a TextureCache.
         if (impactEffectManager != null) impactEffectManager.dispose();
         if (landingEffectManager != null) landingEffectManager.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
 
-        // Libera las texturas de advertencia y animaciones de ataques.
-        disposeTexture(thunderWarningTexture);
-        disposeTexture(summonWarningTexture);
-        disposeTexture(bossFinalFrameTexture);
-        if (thunderAttackAnimator != null) {
-            thunderAttackAnimator.dispose();
-        }
-        
-        // Libera los recursos de todas las balas activas.
-        for (Bullet bullet : bullets) {
-            bullet.dispose();
-        }
-        
-        // Libera los recursos de todos los personajes.
+        // Libera los recursos de todos los personajes; se sueltan las referencias para no liberarlos dos veces.
         if (playerCharacter != null) playerCharacter.dispose(); // Libera los recursos del jugador.
         if (enemyManager != null) {
             for (com.machinehunterdev.game.Character.IEnemy enemy : enemyManager.getEnemies()) {
                 enemy.getCharacter().dispose(); // Libera los recursos de cada enemigo.
             }
         }
-        if (npcControllers != null) {
-            for (NPCController npcController : npcControllers) {
-                if (npcController != null && npcController.character != null) {
-                    npcController.character.dispose(); // Libera los recursos de cada NPC.
-                }
-            }
-        }
+        playerCharacter = null;
+        enemyManager = null;
     }
 
     /**
-     * Metodo de utilidad para liberar de forma segura la memoria de una textura.
-     * Comprueba si la textura no es nula antes de intentar llamar a su metodo `dispose()`,
-     * lo que previene errores de tipo `NullPointerException`.
-     *
-     * @param texture La textura que se desea liberar.
+     * Libera los recursos del nivel: UI, objetos solidos, NPCs y la reserva de invocaciones.
+     * Los recursos de OpenGL se agregan a 'DisposalQueue', que los libera en los fotogramas
+     * siguientes mientras el nuevo estado ya se dibuja.
      */
-    private void disposeTexture(Texture texture) { // Declaracion del metodo privado que recibe un objeto Texture.
-        if (texture != null) { // Comprueba si el objeto de textura no es nulo.
-            texture.dispose(); // Si no es nulo, libera la memoria asociada a la textura.
+    private void releaseResources() {
+        DisposalQueue disposal = DisposalQueue.getInstance();
+
+        // Libera la textura negra usada para superposiciones.
+        // El fondo, el suelo y los frames pertenecen a TextureCache, que los conserva para el siguiente nivel.
+        disposal.add(blackTexture);
+        blackTexture = null;
+        
+        // Libera los objetos solidos y los NPCs de las franjas activas y detiene su hilo de carga.
+        if (levelStreamer != null) {
+            levelStreamer.dispose();
+            levelStreamer = null;
+        }
+        if (levelWatcher != null) {
+            levelWatcher.dispose();
+            levelWatcher = null;
+        }
+
+        // La fuente de texto pertenece a FontRegistry.
+        interactionFont = null;
+
+        // Libera los recursos de los sistemas de UI.
+        if (dialogManager != null) disposal.add(dialogManager::dispose);
+        if (gameplayUI != null) disposal.add(gameplayUI::dispose);
+        if (nextLevelUI != null) disposal.add(nextLevelUI::dispose);
+        if (shapeRenderer != null) disposal.add(shapeRenderer);
+
+        // Libera las instancias de invocacion sin usar.
+        if (summonPool != null) {
+            disposal.add(summonPool::dispose);
+            summonPool = null;
         }
+
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.machinehunterdev.game.GameStates;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.machinehunterdev.game.GameController;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.IState;
+import com.machinehunterdev.game.Util.StartupGraph;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Estado de carga que se muestra al iniciar el juego.
+ * Avanza el grafo de tareas de inicio en cada fotograma y dibuja una barra de progreso,
+ * sin fuentes ni texturas de archivo, para que el primer fotograma aparezca de inmediato.
+ * Cuando terminan todas las tareas, registra el tiempo de inicio y cambia al siguiente estado.
+ *
+ * @author MachineHunterDev
+ */
+public class LoadingState implements IState<GameController> {
+
+    private static final String TAG = "Startup";
+
+    /** Grafo con las tareas de inicio */
+    private final StartupGraph graph;
+
+    /** Estado al que se pasa cuando termina la carga */
+    private final IState<GameController> nextState;
+
+    /** Momento en que empezo el inicio del juego */
+    private final long startNanos;
+
+    /** Tiempo hasta el primer fotograma, o -1 si aun no se dibujo */
+    private float firstFrameMillis = -1f;
+
+    private GameController owner;
+    private SpriteBatch batch;
+
+    /** Textura blanca de 1x1 para dibujar la barra */
+    private Texture pixel;
+
+    /**
+     * Crea el estado de carga.
+     * @param graph El grafo de tareas de inicio, aun sin empezar
+     * @param nextState El estado al que se pasa al terminar
+     * @param startNanos Momento en que empezo el inicio, segun 'TimeUtils.nanoTime'
+     */
+    public LoadingState(StartupGraph graph, IState<GameController> nextState, long startNanos) {
+        this.graph = graph;
+        this.nextState = nextState;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Crea la textura de la barra y empieza las tareas de inicio.
+     * @param owner El GameController que gestiona la maquina de estados.
+     */
+    @Override
+    public void enter(GameController owner) {
+        this.owner = owner;
+        this.batch = owner.batch;
+
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        this.pixel = GpuResourceTracker.getInstance().track(new Texture(pixmap));
+        pixmap.dispose();
+
+        graph.start();
+    }
+
+    /**
+     * Avanza las tareas de inicio y dibuja el progreso.
+     */
+    @Override
+    public void execute() {
+        if (firstFrameMillis < 0) {
+            firstFrameMillis = elapsedMillis();
+        }
+
+        boolean done = graph.update(GlobalSettings.STARTUP_STEP_BUDGET_MS);
+        draw(graph.getProgress());
+
+        if (done) {
+            Gdx.app.log(TAG, "Primer fotograma: " + String.format("%.1f", firstFrameMillis)
+                + " ms | Menu listo: " + String.format("%.1f", elapsedMillis()) + " ms"
+                + " | Memoria residente: " + residentMemory());
+            graph.logTimings();
+            if (GlobalSettings.EXIT_AFTER_STARTUP) {
+                Gdx.app.exit();
+                return;
+            }
+            owner.stateMachine.changeState(nextState);
+        }
+    }
+
+    // Dibuja un fondo negro con la barra de progreso centrada.
+    private void draw(float progress) {
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barWidth = width * 0.5f;
+        float barHeight = 16f;
+        float barX = (width - barWidth) / 2f;
+        float barY = height * 0.2f;
+
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.begin();
+        batch.setColor(Color.BLACK);
+        batch.draw(pixel, 0, 0, width, height);
+        batch.setColor(Color.DARK_GRAY);
+        batch.draw(pixel, barX - 2, barY - 2, barWidth + 4, barHeight + 4);
+        batch.setColor(Color.RED);
+        batch.draw(pixel, barX, barY, barWidth * progress, barHeight);
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    private float elapsedMillis() {
+        return (TimeUtils.nanoTime() - startNanos) / 1000000f;
+    }
+
+    /**
+     * Obtiene la memoria residente del proceso (actual y maxima), para comparar el lanzador de la
+     * JVM con la imagen nativa. Solo esta disponible en Linux.
+     * @return La memoria residente en MB, o "n/d" si el sistema no la expone
+     */
+    private static String residentMemory() {
+        try {
+            long currentKb = -1, peakKb = -1;
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"), StandardCharsets.US_ASCII)) {
+                if (line.startsWith("VmRSS:")) currentKb = parseKb(line);
+                else if (line.startsWith("VmHWM:")) peakKb = parseKb(line);
+            }
+            if (currentKb < 0) return "n/d";
+            return (currentKb / 1024) + " MB (maxima " + (peakKb / 1024) + " MB)";
+        } catch (IOException | RuntimeException e) {
+            return "n/d";
+        }
+    }
+
+    // Lee el valor de una linea de /proc/self/status, como "VmRSS:   123456 kB".
+    private static long parseKb(String line) {
+        return Long.parseLong(line.substring(line.indexOf(':') + 1).replace("kB", "").trim());
+    }
+
+    /**
+     * Libera la textura de la barra y los hilos de inicio.
+     */
+    @Override
+    public void exit() {
+        graph.dispose();
+        if (pixel != null) {
+            pixel.dispose();
+            pixel = null;
+        }
+    }
+
+    /**
+     * No se usa: el estado de carga no se apila bajo otros.
+     */
+    @Override
+    public void resume() {
+    }
+}
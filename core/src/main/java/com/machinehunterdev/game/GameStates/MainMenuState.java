@@ -1,12 +1,12 @@
 package com.machinehunterdev.game.GameStates;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.machinehunterdev.game.GameController;
+import com.machinehunterdev.game.UI.FontRegistry;
 import com.machinehunterdev.game.UI.MainMenuUI;
-import com.machinehunterdev.game.GameStates.OptionState;
 import com.machinehunterdev.game.Util.IState;
+import com.machinehunterdev.game.Util.StartupGraph;
+import com.machinehunterdev.game.Util.TextureCache;
 import com.machinehunterdev.game.Audio.AudioManager;
 
 /**
@@ -24,6 +24,12 @@ public class MainMenuState implements IState<GameController>{
     /** Instancia unica de este estado, siguiendo el patron Singleton para evitar multiples instancias. */
     public static MainMenuState instance = new MainMenuState();
 
+    /** Musica del menu principal */
+    public static final String MUSIC = "Audio/Soundtrack/MainMenu.mp3";
+
+    /** Fuentes que usa la UI del menu */
+    private static final String[] FONTS = { FontRegistry.ORANGE_KID_64, FontRegistry.ORANGE_KID_128 };
+
     /**
      * Constructor privado para implementar el patron Singleton.
      * Esto asegura que solo exista una instancia de MainMenuState.
@@ -33,23 +39,64 @@ public class MainMenuState implements IState<GameController>{
         instance = this;
     }
 
+    /**
+     * Agrega al grafo de inicio las tareas que dejan listos los recursos del menu:
+     * fuentes, fondo, sonidos de la interfaz y musica. Las fuentes se decodifican en
+     * hilos de trabajo y se suben a la GPU en el hilo principal.
+     * @param graph El grafo de inicio
+     * @param soundsRegistered Tarea tras la cual los efectos de sonido ya estan registrados
+     */
+    public static void addStartupTasks(StartupGraph graph, String soundsRegistered) {
+        for (String path : FONTS) {
+            final FontRegistry.Decoded[] decoded = new FontRegistry.Decoded[1];
+            graph.worker("decodificar:" + path, () -> decoded[0] = FontRegistry.decode(path));
+            graph.main("fuente:" + path, () -> {
+                FontRegistry.getInstance().upload(decoded[0]);
+                return true;
+            }, "decodificar:" + path);
+        }
+
+        graph.main("pedir-fondo-menu", () -> {
+            TextureCache.getInstance().requestPersistent(MainMenuUI.BACKGROUND_TEXTURE);
+            return true;
+        });
+        graph.main("fondo-menu", () -> TextureCache.getInstance().isReady(MainMenuUI.BACKGROUND_TEXTURE), "pedir-fondo-menu");
+
+        graph.main("pedir-sonidos-menu", () -> {
+            AudioManager.getInstance().warmSoundsAsync(AudioManager.UI_SOUNDS);
+            return true;
+        }, soundsRegistered);
+        graph.main("sonidos-menu", () -> AudioManager.getInstance().soundsReady(AudioManager.UI_SOUNDS), "pedir-sonidos-menu");
+
+        graph.main("musica-menu", () -> {
+            AudioManager.getInstance().prepareMusic(MUSIC);
+            return true;
+        });
+    }
+
     /**
      * Se llama una vez cuando se entra en este estado.
-     * Se encarga de inicializar la UI del menu y la musica.
+     * Se encarga de preparar la UI del menu y la musica.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) 
     {
-        // Crea una nueva instancia de la UI del menu principal.
-        SpriteBatch batch = new SpriteBatch();
-        this.menuUI = new MainMenuUI(batch, owner);
+        // Crea la UI del menu la primera vez, con el SpriteBatch compartido; despues solo la reinicia.
+        if (menuUI == null) {
+            this.menuUI = new MainMenuUI(owner.batch, owner);
+        } else {
+            menuUI.reset();
+        }
         
         // Establece la UI como el procesador de entrada para que pueda recibir clics de boton.
         Gdx.input.setInputProcessor(this.menuUI);
         
+        // Precarga los sonidos de la interfaz; los del ultimo nivel pueden descartarse.
+        AudioManager.getInstance().warmSounds(AudioManager.UI_SOUNDS);
+
         // Inicia la reproduccion de la musica del menu principal.
-        AudioManager.getInstance().playMusic("Audio/Soundtrack/MainMenu.mp3", true, false);
+        AudioManager.getInstance().playMusic(MUSIC, true, false);
     }
 
     /**
@@ -82,4 +129,15 @@ public class MainMenuState implements IState<GameController>{
     public void resume() {
         Gdx.input.setInputProcessor(this.menuUI);
     }
+
+    /**
+     * Libera la UI del menu al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (menuUI != null) {
+            menuUI.dispose();
+            menuUI = null;
+        }
+    }
 }
\ No newline at end of file
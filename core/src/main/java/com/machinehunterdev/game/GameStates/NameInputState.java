@@ -9,6 +9,7 @@ import com.machinehunterdev.game.Character.Character;
 import com.machinehunterdev.game.Character.CharacterAnimator;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.UI.NameInputUI;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 import com.machinehunterdev.game.Util.IState;
 import com.machinehunterdev.game.Audio.AudioManager;
 
@@ -32,6 +33,7 @@ public class NameInputState implements IState<GameController> {
     private NameInputUI nameInputUI; // La interfaz de usuario que maneja el campo de texto y los botones.
     private SpriteBatch batch; // El SpriteBatch para dibujar.
     private Character playerCharacter; // Un personaje animado que se muestra en el fondo.
+    private List<Sprite> playerIdleFrames; // Fotogramas del personaje; sus texturas son propias de este estado.
     private Texture backgroundTexture; // La textura de fondo de la pantalla.
 
     /**
@@ -43,18 +45,31 @@ public class NameInputState implements IState<GameController> {
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Inicializa la UI, la musica, y el personaje animado.
+     * Crea la UI, el fondo y el personaje animado la primera vez (despues solo reinicia la UI)
+     * e inicia la musica.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
         this.batch = owner.batch;
-        this.nameInputUI = new NameInputUI(batch, owner);
+        if (nameInputUI == null) {
+            this.nameInputUI = new NameInputUI(batch, owner);
+            backgroundTexture = GpuResourceTracker.getInstance().track(new Texture("Fondos/NameInputBackground.png"));
+            createPlayerCharacter();
+        } else {
+            nameInputUI.reset();
+        }
         Gdx.input.setInputProcessor(nameInputUI); // La UI manejara la entrada del teclado.
-        backgroundTexture = new Texture("Fondos/NameInputBackground.png");
 
-        // Carga y configura la animacion del personaje que se muestra en esta pantalla.
-        List<Sprite> playerIdleFrames = loadSpriteFrames("Player/PlayerIdle", 4);
+        // Inicia la musica de fondo para esta pantalla.
+        AudioManager.getInstance().playMusic("Audio/Soundtrack/ChillTheme.mp3", true, false);
+    }
+
+    /**
+     * Carga y configura la animacion del personaje que se muestra en esta pantalla.
+     */
+    private void createPlayerCharacter() {
+        playerIdleFrames = loadSpriteFrames("Player/PlayerIdle", 4);
         for (Sprite frame : playerIdleFrames) {
             frame.setSize(frame.getWidth() * 6, frame.getHeight() * 6); // Escala el personaje para que se vea mas grande.
         }
@@ -69,9 +84,6 @@ public class NameInputState implements IState<GameController> {
         float charX = (Gdx.graphics.getWidth() / 2f) - (playerIdleFrames.get(0).getWidth() / 2f);
         float charY = (Gdx.graphics.getHeight() / 2f) - (playerIdleFrames.get(0).getHeight() / 2f);
         playerCharacter = new Character(0, playerAnimator, charX, charY);
-        
-        // Inicia la musica de fondo para esta pantalla.
-        AudioManager.getInstance().playMusic("Audio/Soundtrack/ChillTheme.mp3", true, false);
     }
 
     /**
@@ -83,6 +95,7 @@ public class NameInputState implements IState<GameController> {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.end();
@@ -100,16 +113,10 @@ public class NameInputState implements IState<GameController> {
 
     /**
      * Se llama una vez al salir de este estado.
-     * Libera los recursos y el procesador de entrada.
+     * Libera el procesador de entrada; la UI, el fondo y el personaje se conservan.
      */
     @Override
     public void exit() {
-        if (nameInputUI != null) {
-            nameInputUI.dispose();
-        }
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
         Gdx.input.setInputProcessor(null);
     }
 
@@ -121,6 +128,28 @@ public class NameInputState implements IState<GameController> {
         Gdx.input.setInputProcessor(nameInputUI);
     }
 
+    /**
+     * Libera la UI, el fondo y los fotogramas del personaje al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (nameInputUI != null) {
+            nameInputUI.dispose();
+            nameInputUI = null;
+        }
+        if (backgroundTexture != null) {
+            backgroundTexture.dispose();
+            backgroundTexture = null;
+        }
+        if (playerIdleFrames != null) {
+            for (Sprite frame : playerIdleFrames) {
+                frame.getTexture().dispose();
+            }
+            playerIdleFrames = null;
+        }
+        playerCharacter = null;
+    }
+
     /**
      * Metodo de utilidad para cargar una secuencia de fotogramas de animacion.
      * @param basePath La ruta base de los archivos de imagen.
@@ -130,7 +159,7 @@ public class NameInputState implements IState<GameController> {
     private List<Sprite> loadSpriteFrames(String basePath, int frameCount) {
         List<Sprite> frames = new ArrayList<>();
         for (int i = 1; i <= frameCount; i++) {
-            frames.add(new Sprite(new Texture(basePath + i + ".png")));
+            frames.add(new Sprite(GpuResourceTracker.getInstance().track(new Texture(basePath + i + ".png"))));
         }
         return frames;
     }
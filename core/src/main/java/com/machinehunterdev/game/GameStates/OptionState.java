@@ -38,13 +38,16 @@ public class OptionState implements IState<GameController> {
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Carga las preferencias de volumen guardadas e inicializa la UI.
+     * Carga las preferencias de volumen guardadas y crea la UI la primera vez.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
         this.gameController = owner;
-        this.optionUI = new OptionUI(gameController);
+        if (optionUI == null) {
+            this.optionUI = new OptionUI(gameController);
+        }
+        currentSelection = 0;
 
         // Carga las preferencias guardadas del archivo "GameOptions".
         prefs = Gdx.app.getPreferences("GameOptions");
@@ -83,6 +86,17 @@ public class OptionState implements IState<GameController> {
         // No se necesita logica de reanudacion especifica.
     }
 
+    /**
+     * Libera la UI de opciones al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (optionUI != null) {
+            optionUI.dispose();
+            optionUI = null;
+        }
+    }
+
     /**
      * Procesa la entrada del teclado para navegar y modificar las opciones.
      */
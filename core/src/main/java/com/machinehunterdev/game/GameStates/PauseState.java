@@ -3,7 +3,6 @@ package com.machinehunterdev.game.GameStates;
 import com.badlogic.gdx.Gdx;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.UI.PauseUI;
-import com.machinehunterdev.game.GameStates.OptionState;
 import com.machinehunterdev.game.Util.IState;
 import com.machinehunterdev.game.Audio.AudioManager;
 
@@ -11,6 +10,7 @@ import com.machinehunterdev.game.Audio.AudioManager;
  * Representa el estado de pausa del juego.
  * Este estado se superpone al estado de juego (GameplayState) sin detener
  * completamente su renderizado, creando un efecto de "juego congelado" en el fondo.
+ * Es residente: se obtiene con 'of' y conserva su UI entre pausas.
  * 
  * @author MachineHunterDev
  */
@@ -21,23 +21,36 @@ public class PauseState implements IState<GameController> {
     private PauseUI pauseUI; // La interfaz de usuario para el menu de pausa.
 
     /**
-     * Constructor para el estado de pausa.
+     * Constructor privado; el estado residente se obtiene con 'of'.
+     */
+    private PauseState() {
+    }
+
+    /**
+     * Obtiene el estado de pausa residente, preparado para pausar un estado de juego.
      * @param gameplayState La instancia del estado de juego que se esta pausando.
+     * @return El estado de pausa, listo para apilarse.
      */
-    public PauseState(GameplayState gameplayState) {
-        this.gameplayState = gameplayState;
+    public static PauseState of(GameplayState gameplayState) {
+        PauseState state = gameplayState.getOwner().stateMachine.getResident(PauseState.class, PauseState::new);
+        state.gameplayState = gameplayState;
+        return state;
     }
 
     /**
      * Se llama una vez al entrar en este estado.
-     * Inicializa la UI de pausa y pausa la musica del juego.
+     * Crea la UI de pausa la primera vez (despues solo la reinicia) y pausa la musica del juego.
      * @param owner El GameController que gestiona la maquina de estados.
      */
     @Override
     public void enter(GameController owner) {
         this.owner = owner;
         this.owner.clearScreen = false; // Evita que la pantalla se limpie para mantener el fondo del juego.
-        this.pauseUI = new PauseUI(this, owner, owner.batch);
+        if (pauseUI == null) {
+            this.pauseUI = new PauseUI(this, owner, owner.batch);
+        } else {
+            pauseUI.reset();
+        }
         Gdx.input.setInputProcessor(pauseUI); // La UI de pausa maneja la entrada.
         AudioManager.getInstance().pauseMusic(false); // Pausa la musica del nivel.
         draw(); // Dibuja el primer fotograma inmediatamente.
@@ -45,11 +58,10 @@ public class PauseState implements IState<GameController> {
 
     /**
      * Se llama en cada fotograma.
-     * Actualiza el audio y redibuja la pantalla de pausa.
+     * Redibuja la pantalla de pausa.
      */
     @Override
     public void execute() {
-        AudioManager.getInstance().update(Gdx.graphics.getDeltaTime());
         draw();
     }
 
@@ -67,16 +79,14 @@ public class PauseState implements IState<GameController> {
 
     /**
      * Se llama una vez al salir de este estado.
-     * Reanuda la musica y limpia los recursos.
+     * Reanuda la musica; la UI se conserva para la siguiente pausa.
      */
     @Override
     public void exit() {
         owner.clearScreen = true; // Restaura el comportamiento normal de limpieza de pantalla.
         AudioManager.getInstance().resumeMusic(false); // Reanuda la musica del nivel.
         Gdx.input.setInputProcessor(null);
-        if (pauseUI != null) {
-            pauseUI.dispose();
-        }
+        gameplayState = null; // No retiene el nivel pausado mientras el estado no se usa.
     }
 
     /**
@@ -87,6 +97,17 @@ public class PauseState implements IState<GameController> {
         Gdx.input.setInputProcessor(pauseUI);
     }
 
+    /**
+     * Libera la UI de pausa al descartar el estado residente.
+     */
+    @Override
+    public void dispose() {
+        if (pauseUI != null) {
+            pauseUI.dispose();
+            pauseUI = null;
+        }
+    }
+
     // === METODOS DE ACCION LLAMADOS DESDE LA UI ===
 
     /**
@@ -19,6 +19,38 @@ public class GlobalSettings
     // === AUDIO ===
     /** Un volumen base para sonidos que pueden ser repetitivos o molestos, como los disparos. */
     public static final float ANNOYING_VOLUME = 0.2f;
+    /** Calidad de los efectos de sonido compilados ("high" o "low"), con -Dmachinehunter.audioQuality=low. La baja ocupa la mitad de memoria. */
+    public static final String AUDIO_QUALITY = System.getProperty("machinehunter.audioQuality", "high");
+
+    // === RENDIMIENTO ===
+    /** Milisegundos maximos por fotograma dedicados a subir texturas a la GPU durante el juego. */
+    public static final float TEXTURE_UPLOAD_BUDGET_MS = 4f;
+    /** Fotogramas que guarda el buffer de retroceso (unos tres segundos a 60 FPS). */
+    public static final int REWIND_FRAMES = 180;
+    /** Fotogramas que se retroceden cada vez que se pide volver atras. */
+    public static final int REWIND_STEP_FRAMES = 60;
+    /** PCM decodificado maximo de los efectos de sonido cargados; los de la lista de precarga actual no se descartan. */
+    public static final long SFX_CACHE_BUDGET_BYTES = 2L * 1024 * 1024;
+    /** Segundos del fundido cruzado entre dos pistas de musica. */
+    public static final float MUSIC_CROSSFADE_SECONDS = 1.0f;
+    /** Milisegundos maximos por fotograma dedicados a las tareas de inicio del hilo principal en la pantalla de carga. */
+    public static final float STARTUP_STEP_BUDGET_MS = 8f;
+    /** Milisegundos maximos por fotograma dedicados a liberar los recursos de los estados que salieron. */
+    public static final float DISPOSAL_BUDGET_MS = 2f;
+    /** Ancho de las franjas en que se divide un nivel; solo las cercanas a la camara tienen objetos creados. */
+    public static final int LEVEL_CHUNK_WIDTH = VIRTUAL_WIDTH * 2;
+    /** Franjas del nivel que se pueden activar en un mismo fotograma. */
+    public static final int LEVEL_CHUNKS_PER_FRAME = 1;
+
+    // === DESARROLLO ===
+    /** Modo desarrollo, activado con -Dmachinehunter.dev=true (la tarea 'run' de Gradle lo activa). Vuelve a validar los assets editados. */
+    public static final boolean DEV_MODE = Boolean.getBoolean("machinehunter.dev");
+    /** Cierra el juego en cuanto el menu esta listo, con -Dmachinehunter.exitAfterStartup=true (la tarea 'measureStartup' lo usa para medir el inicio). */
+    public static final boolean EXIT_AFTER_STARTUP = Boolean.getBoolean("machinehunter.exitAfterStartup");
+    /** Ciclos de carga del nivel de la prueba de fugas, con -Dmachinehunter.leakCheckCycles=N (la tarea 'leakCheck' lo usa); 0 la desactiva. */
+    public static final int LEAK_CHECK_CYCLES = Integer.getInteger("machinehunter.leakCheckCycles", 0);
+    /** Registra los recursos de la GPU con su origen e informa de las fugas al salir de cada estado. */
+    public static final boolean TRACK_GPU_RESOURCES = DEV_MODE || LEAK_CHECK_CYCLES > 0;
 
     // === DATOS DEL JUGADOR Y NIVELES ===
     /** El nombre del jugador, que puede ser establecido por el usuario. */
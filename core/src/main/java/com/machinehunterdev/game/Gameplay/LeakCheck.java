@@ -0,0 +1,106 @@
+package com.machinehunterdev.game.Gameplay;
+
+import com.badlogic.gdx.Gdx;
+import com.machinehunterdev.game.GameController;
+import com.machinehunterdev.game.GameStates.GameplayState;
+import com.machinehunterdev.game.GameStates.MainMenuState;
+import com.machinehunterdev.game.Util.DisposalQueue;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.StateMachine;
+import com.machinehunterdev.game.Util.TextureCache;
+
+/**
+ * Prueba de fugas de recursos de la GPU, activada con 'GlobalSettings.LEAK_CHECK_CYCLES'.
+ * Cuando el menu esta listo, carga un nivel, lo deja correr unos fotogramas y toma como base
+ * los bytes registrados por 'GpuResourceTracker'. Despues vuelve a cargar el mismo nivel la
+ * cantidad de ciclos indicada y, si al final los bytes superan la base, detiene el juego con
+ * un error (el proceso termina con un codigo distinto de cero). La tarea 'leakCheck' la ejecuta.
+ *
+ * @author MachineHunterDev
+ */
+public class LeakCheck
+{
+    private static final String TAG = "LeakCheck";
+
+    /** Nivel que se carga en cada ciclo */
+    private static final String LEVEL_FILE = "Levels/Level 1.json";
+
+    /** Fotogramas minimos que corre el nivel antes de medir */
+    private static final int FRAMES_PER_CYCLE = 30;
+
+    private final GameController owner;
+    private final int cycles;
+
+    /** Ciclo actual; -1 mientras se espera al menu y 'cycles + 1' al terminar */
+    private int cycle = -1;
+
+    /** Fotogramas transcurridos en el ciclo actual */
+    private int frames = 0;
+
+    /** Bytes registrados en el primer ciclo */
+    private long baselineBytes = 0;
+
+    /**
+     * Crea la prueba de fugas.
+     * @param owner El GameController cuya maquina de estados se controla
+     * @param cycles Cantidad de recargas del nivel despues de la medicion base
+     */
+    public LeakCheck(GameController owner, int cycles) {
+        this.owner = owner;
+        this.cycles = cycles;
+    }
+
+    /**
+     * Avanza la prueba. Se llama en cada fotograma, despues de ejecutar el estado actual.
+     * @throws IllegalStateException Si los bytes de la GPU superan la base al terminar
+     */
+    public void update() {
+        if (cycle > cycles) return; // Ya termino; el juego se esta cerrando.
+        if (cycle < 0) {
+            if (owner.stateMachine.currentState != MainMenuState.instance) return;
+            startCycle(0);
+            return;
+        }
+
+        // Se mide cuando el nivel ya corrio y no quedan texturas por subir ni recursos por liberar.
+        if (++frames < FRAMES_PER_CYCLE || !isSettled()) return;
+
+        GpuResourceTracker tracker = GpuResourceTracker.getInstance();
+        long bytes = tracker.getLiveBytes();
+        if (cycle == 0) {
+            baselineBytes = bytes;
+        }
+        Gdx.app.log(TAG, "Ciclo " + cycle + "/" + cycles + ": " + tracker.getLiveCount() + " recursos, "
+            + (bytes / 1024) + " KB | Base: " + (baselineBytes / 1024) + " KB");
+
+        if (cycle < cycles) {
+            startCycle(cycle + 1);
+            return;
+        }
+
+        if (bytes > baselineBytes) {
+            throw new IllegalStateException("Prueba de fugas fallida: " + (bytes / 1024) + " KB en la GPU tras "
+                + cycles + " ciclos, base " + (baselineBytes / 1024) + " KB, "
+                + tracker.getLeakedCount() + " recursos sin liberar");
+        }
+        Gdx.app.log(TAG, "Prueba de fugas superada tras " + cycles + " ciclos");
+        cycle = cycles + 1;
+        Gdx.app.exit();
+    }
+
+    // Vacia la pila de estados y vuelve a cargar el nivel desde cero.
+    private void startCycle(int next) {
+        StateMachine<GameController> stateMachine = owner.stateMachine;
+        while (stateMachine.currentState != null) {
+            stateMachine.pop();
+        }
+        stateMachine.changeState(GameplayState.createForLevel(LEVEL_FILE));
+        cycle = next;
+        frames = 0;
+    }
+
+    private static boolean isSettled() {
+        return DisposalQueue.getInstance().getPendingCount() == 0
+            && TextureCache.getInstance().getUploader().getQueueDepth() == 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.machinehunterdev.game.Gameplay;
+
+import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Character.EnemyManager;
+import com.machinehunterdev.game.DamageTriggers.Bullet;
+
+import java.util.List;
+
+/**
+ * Buffer circular con las instantaneas de los ultimos fotogramas del nivel.
+ * Las instantaneas se crean una sola vez y se sobreescriben en orden, por lo que
+ * capturar en cada fotograma no crea objetos. Permite volver atras en el tiempo.
+ *
+ * @author MachineHunterDev
+ */
+public class RewindBuffer
+{
+    /** Instantaneas, usadas como anillo */
+    private final WorldSnapshot[] snapshots;
+
+    /** Posicion donde se escribira la siguiente captura */
+    private int head = 0;
+
+    /** Cantidad de capturas validas en el anillo */
+    private int size = 0;
+
+    /**
+     * Crea el buffer.
+     * @param capacity Cantidad de fotogramas que se pueden recordar
+     */
+    public RewindBuffer(int capacity) {
+        snapshots = new WorldSnapshot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            snapshots[i] = new WorldSnapshot();
+        }
+    }
+
+    /**
+     * Captura el fotograma actual, sobreescribiendo el mas antiguo si el anillo esta lleno.
+     * @param player El personaje del jugador
+     * @param enemyManager El gestor de enemigos del nivel
+     * @param bullets Las balas activas
+     */
+    public void capture(Character player, EnemyManager enemyManager, List<Bullet> bullets) {
+        snapshots[head].capture(player, enemyManager, bullets);
+        head = (head + 1) % snapshots.length;
+        if (size < snapshots.length) size++;
+    }
+
+    /**
+     * Vuelve atras una cantidad de fotogramas y descarta los posteriores.
+     * La captura mas reciente es el fotograma actual, asi que retroceder N fotogramas
+     * restaura la captura anterior a ella en N posiciones, que pasa a ser la mas reciente.
+     * @param frames Fotogramas a retroceder (se limita a los disponibles)
+     * @param player El personaje del jugador
+     * @param enemyManager El gestor de enemigos del nivel
+     * @param bullets La lista de balas activas, que se reemplaza
+     * @return La cantidad de entidades que ya no existen y no se restauraron, o -1 si no hay capturas anteriores
+     */
+    public int rewind(int frames, Character player, EnemyManager enemyManager, List<Bullet> bullets) {
+        if (size < 2) return -1;
+        int steps = Math.min(Math.max(frames, 1), size - 1);
+        head = (head - steps + snapshots.length) % snapshots.length;
+        size -= steps;
+        return latest().restore(player, enemyManager, bullets);
+    }
+
+    /**
+     * Obtiene la captura mas reciente.
+     * @return La ultima instantanea, o null si no hay capturas
+     */
+    public WorldSnapshot latest() {
+        if (size == 0) return null;
+        return snapshots[(head - 1 + snapshots.length) % snapshots.length];
+    }
+
+    /**
+     * Descarta todas las capturas (por ejemplo, al reiniciar el nivel).
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de capturas guardadas.
+     * @return Numero de capturas validas, incluida la del fotograma actual
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,279 @@
+package com.machinehunterdev.game.Gameplay;
+
+import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Character.CharacterController;
+import com.machinehunterdev.game.Character.EnemyManager;
+import com.machinehunterdev.game.Character.IEnemy;
+import com.machinehunterdev.game.DamageTriggers.Bullet;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instantanea binaria del estado mutable de un nivel: jugador, enemigos con sus
+ * controladores y balas. Se escribe en un 'ByteBuffer' directo que se reutiliza entre
+ * capturas (solo crece si el mundo deja de caber), de modo que tomar una instantanea en
+ * cada fotograma no crea objetos.
+ *
+ * Estructura: cantidad de registros y, por cada entidad, un registro con su tipo
+ * (PLAYER, ENEMY o BULLET), su numero de serie, la longitud del contenido y el contenido
+ * escrito por 'ISnapshotable'. Las texturas, los objetos solidos y los NPCs no cambian
+ * durante el nivel y no se guardan.
+ *
+ * Los personajes se reconocen por su numero de serie: un enemigo ya eliminado del nivel
+ * no se puede recrear al restaurar, y los enemigos aparecidos despues de la captura se quitan.
+ *
+ * @author MachineHunterDev
+ */
+public class WorldSnapshot
+{
+    private static final byte KIND_PLAYER = 0;
+    private static final byte KIND_ENEMY = 1;
+    private static final byte KIND_BULLET = 2;
+
+    /** Capacidad inicial del buffer en bytes */
+    private static final int INITIAL_CAPACITY = 4096;
+
+    /** Contenido de la instantanea, entre 0 y el limite */
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+
+    /** Indica si la instantanea contiene una captura */
+    private boolean captured = false;
+
+    /**
+     * Crea una instantanea vacia.
+     */
+    public WorldSnapshot() {
+        buffer.limit(0);
+    }
+
+    // === CAPTURA ===
+
+    /**
+     * Captura el estado del mundo, reemplazando el contenido anterior.
+     * @param player El personaje del jugador
+     * @param enemyManager El gestor de enemigos del nivel
+     * @param bullets Las balas activas
+     */
+    public void capture(Character player, EnemyManager enemyManager, List<Bullet> bullets) {
+        while (true) {
+            buffer.clear();
+            try {
+                write(player, enemyManager, bullets);
+                break;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+            }
+        }
+        buffer.flip();
+        captured = true;
+    }
+
+    private void write(Character player, EnemyManager enemyManager, List<Bullet> bullets) {
+        int countPosition = buffer.position();
+        buffer.putInt(0);
+        int count = 0;
+
+        int start = beginRecord(KIND_PLAYER, player.getSerial());
+        player.writeState(buffer);
+        endRecord(start);
+        count++;
+
+        for (IEnemy enemy : enemyManager.getEnemies()) {
+            Character character = enemy.getCharacter();
+            start = beginRecord(KIND_ENEMY, character.getSerial());
+            buffer.put((byte) enemy.getType().ordinal());
+            character.writeState(buffer);
+            CharacterController controller = enemyManager.getController(character);
+            buffer.put((byte) (controller != null ? 1 : 0));
+            if (controller != null) {
+                controller.writeState(buffer);
+            }
+            endRecord(start);
+            count++;
+        }
+
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            // Las balas no tienen numero de serie; se identifican por su posicion en la lista.
+            start = beginRecord(KIND_BULLET, -(i + 1));
+            buffer.putLong(bullet.getOwner() != null ? bullet.getOwner().getSerial() : -1L);
+            bullet.writeState(buffer);
+            endRecord(start);
+            count++;
+        }
+
+        buffer.putInt(countPosition, count);
+    }
+
+    // Escribe la cabecera de un registro y devuelve la posicion de su longitud.
+    private int beginRecord(byte kind, long serial) {
+        buffer.put(kind);
+        buffer.putLong(serial);
+        int lengthPosition = buffer.position();
+        buffer.putInt(0);
+        return lengthPosition;
+    }
+
+    // Completa la longitud del registro una vez escrito su contenido.
+    private void endRecord(int lengthPosition) {
+        buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+    }
+
+    // === RESTAURACION ===
+
+    /**
+     * Restaura el mundo al estado capturado.
+     * Las balas actuales se descartan y se recrean las de la instantanea; los enemigos
+     * aparecidos despues de la captura se quitan del gestor y se liberan.
+     * @param player El personaje del jugador
+     * @param enemyManager El gestor de enemigos del nivel
+     * @param bullets La lista de balas activas, que se reemplaza
+     * @return La cantidad de entidades de la instantanea que ya no existen y no se restauraron
+     */
+    public int restore(Character player, EnemyManager enemyManager, List<Bullet> bullets) {
+        if (!captured) return 0;
+
+        Map<Long, IEnemy> enemiesBySerial = new HashMap<>();
+        Map<Long, Character> owners = new HashMap<>();
+        owners.put(player.getSerial(), player);
+        for (IEnemy enemy : enemyManager.getEnemies()) {
+            enemiesBySerial.put(enemy.getCharacter().getSerial(), enemy);
+            owners.put(enemy.getCharacter().getSerial(), enemy.getCharacter());
+        }
+
+        for (Bullet bullet : bullets) {
+            bullet.dispose();
+        }
+        bullets.clear();
+
+        ByteBuffer in = buffer.duplicate();
+        in.rewind();
+        int count = in.getInt();
+        int missing = 0;
+
+        for (int r = 0; r < count; r++) {
+            byte kind = in.get();
+            long serial = in.getLong();
+            int length = in.getInt();
+            int end = in.position() + length;
+
+            switch (kind) {
+                case KIND_PLAYER:
+                    if (player.getSerial() == serial) {
+                        player.readState(in);
+                    } else {
+                        missing++;
+                    }
+                    break;
+                case KIND_ENEMY:
+                    IEnemy enemy = enemiesBySerial.remove(serial);
+                    if (enemy != null && enemy.getType().ordinal() == in.get()) {
+                        enemy.getCharacter().readState(in);
+                        CharacterController controller = enemyManager.getController(enemy.getCharacter());
+                        if (in.get() != 0 && controller != null) {
+                            controller.readState(in);
+                        }
+                    } else {
+                        missing++;
+                    }
+                    break;
+                case KIND_BULLET:
+                    Character owner = owners.get(in.getLong());
+                    if (owner != null) {
+                        bullets.add(Bullet.fromState(in, owner));
+                    } else {
+                        missing++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            in.position(end);
+        }
+
+        // Quita a los enemigos que no existian al tomar la instantanea.
+        ArrayList<IEnemy> enemies = enemyManager.getEnemies();
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            IEnemy enemy = enemies.get(i);
+            if (enemiesBySerial.containsKey(enemy.getCharacter().getSerial())) {
+                enemyManager.removeEnemy(i);
+                enemy.getCharacter().dispose();
+            }
+        }
+
+        return missing;
+    }
+
+    // === COMPARACION ===
+
+    /**
+     * Compara dos instantaneas entidad por entidad.
+     * @param other La otra instantanea
+     * @return Los numeros de serie de las entidades que cambiaron, aparecieron o desaparecieron
+     *         (las balas usan -1, -2, ... segun su posicion en la lista)
+     */
+    public long[] diff(WorldSnapshot other) {
+        Map<Long, ByteBuffer> mine = records();
+        Map<Long, ByteBuffer> theirs = other.records();
+        long[] changed = new long[mine.size() + theirs.size()];
+        int count = 0;
+
+        for (Map.Entry<Long, ByteBuffer> entry : mine.entrySet()) {
+            ByteBuffer record = theirs.remove(entry.getKey());
+            if (record == null || !record.equals(entry.getValue())) {
+                changed[count++] = entry.getKey();
+            }
+        }
+        for (Long serial : theirs.keySet()) {
+            changed[count++] = serial;
+        }
+
+        long[] result = new long[count];
+        System.arraycopy(changed, 0, result, 0, count);
+        return result;
+    }
+
+    // Indexa el contenido de cada registro (tipo incluido) por numero de serie.
+    private Map<Long, ByteBuffer> records() {
+        Map<Long, ByteBuffer> records = new HashMap<>();
+        if (!captured) return records;
+
+        ByteBuffer in = buffer.duplicate();
+        in.rewind();
+        int count = in.getInt();
+        for (int r = 0; r < count; r++) {
+            int start = in.position();
+            in.get();
+            long serial = in.getLong();
+            int end = in.position() + 4 + in.getInt();
+
+            ByteBuffer record = buffer.duplicate();
+            record.limit(end);
+            record.position(start);
+            records.put(serial, record);
+            in.position(end);
+        }
+        return records;
+    }
+
+    /**
+     * Indica si la instantanea contiene una captura.
+     * @return Verdadero si se ha capturado el mundo al menos una vez
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    /**
+     * Obtiene el tamano de la ultima captura.
+     * @return Bytes ocupados por la instantanea
+     */
+    public int getSizeBytes() {
+        return buffer.limit();
+    }
+}
@@ -0,0 +1,230 @@
+package com.machinehunterdev.game.Levels;
+
+import com.machinehunterdev.game.Audio.AudioId;
+import com.machinehunterdev.game.Audio.AudioManager;
+import com.machinehunterdev.game.Character.BossEnemyController;
+import com.machinehunterdev.game.Character.EnemySkin;
+import com.machinehunterdev.game.Character.EnemyType;
+import com.machinehunterdev.game.DamageTriggers.Bullet;
+import com.machinehunterdev.game.DamageTriggers.WeaponType;
+import com.machinehunterdev.game.Environment.SolidObject;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Lista de las texturas y los efectos de sonido que necesita un nivel.
+ * Se genera recorriendo 'LevelData': fondo, suelo, plataformas, jugador, enemigos y sus skins,
+ * NPCs, las invocaciones posibles de los jefes y las armas que pueden dispararse.
+ * 'TextureCache' y 'AudioManager' precargan estas listas antes del primer fotograma de juego.
+ * Las cantidades de frames deben coincidir con las que usan los cargadores;
+ * una diferencia aparece en el registro como un fallo del manifiesto.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelAssetManifest {
+
+    /** Textura final que se muestra al derrotar a un jefe */
+    public static final String BOSS_FINAL_FRAME = "Enemy/GeminiEXE/GeminiEXEDeath10.png";
+
+    // Rutas de las texturas, en el orden en que se agregaron.
+    private final Set<String> textures = new LinkedHashSet<>();
+
+    // Efectos de sonido que el nivel puede reproducir.
+    private final Set<AudioId> sounds = EnumSet.noneOf(AudioId.class);
+
+    // Indica si el nivel tiene un jefe (ataques e invocaciones incluidos).
+    private boolean hasBoss = false;
+
+    /**
+     * Genera el manifiesto de un nivel.
+     * @param level Los datos del nivel.
+     * @return El manifiesto con todas las texturas que el nivel puede usar.
+     */
+    public static LevelAssetManifest forLevel(LevelData level) {
+        LevelAssetManifest manifest = new LevelAssetManifest();
+
+        // Fondo y suelo.
+        manifest.addTexture(level.backgroundTexture);
+        manifest.addTexture(level.groundTexture);
+
+        // Plataformas y cadenas, igual que GameplayState.initializeSolidObjects.
+        for (LevelData.SolidObjectData objData : level.solidObjectsData) {
+            if (objData.type != null && !objData.type.isEmpty() && objData.texture == null) {
+                manifest.addTexture(SolidObject.getTexturePath(objData.type));
+            } else {
+                manifest.addTexture(objData.texture);
+            }
+        }
+
+        // Jugador y sus armas.
+        manifest.addFrames("Player/PlayerIdle", 4);
+        manifest.addFrames("Player/PlayerRun", 8);
+        manifest.addFrames("Player/PlayerJump", 1);
+        manifest.addFrames("Player/PlayerFall", 1);
+        manifest.addFrames("Player/PlayerHurt", 1);
+        manifest.addFrames("Player/PlayerCrouch", 4);
+        manifest.addFrames("Player/PlayerLaserAttack", 2);
+        manifest.addFrames("Player/PlayerIonAttack", 2);
+        manifest.addFrames("Player/PlayerRailgunAttack", 2);
+        manifest.addFrames("Player/PlayerDead", 14);
+        manifest.addBullet(WeaponType.LASER);
+        manifest.addBullet(WeaponType.ION);
+        manifest.addBullet(WeaponType.RAILGUN);
+        manifest.addTexture(Bullet.FALLBACK_TEXTURE);
+        manifest.sounds.addAll(AudioManager.UI_SOUNDS);
+        Collections.addAll(manifest.sounds, AudioId.PlayerJump, AudioId.PlayerHurt, AudioId.PlayerLand,
+            AudioId.LaserAttack, AudioId.IonAttack, AudioId.RailgunAttack, AudioId.GameOverSound);
+
+        // Efectos de impacto y aterrizaje.
+        for (String impact : new String[] { "Laser", "Ion", "Railgun", "Shooter", "Patroller", "Flying" }) {
+            manifest.addFrames("FX/" + impact + "Impact", 4);
+        }
+        manifest.addFrames("FX/Cloud", 5);
+        manifest.addFrames("FX/Spark", 5);
+
+        // Enemigos del nivel.
+        if (!level.enemies.isEmpty()) {
+            Collections.addAll(manifest.sounds, AudioId.EnemyJump, AudioId.EnemyHurt, AudioId.EnemyLand, AudioId.Explosion);
+        }
+        for (LevelData.EnemyData enemy : level.enemies) {
+            manifest.addEnemy(enemy.type);
+            if (enemy.type == EnemyType.BOSS_GEMINI || enemy.type == EnemyType.BOSS_CHATGPT) {
+                manifest.hasBoss = true;
+            }
+        }
+
+        // Ataques, invocaciones y frame final de los jefes.
+        if (manifest.hasBoss) {
+            manifest.addTexture("FX/ThunderWarning.png");
+            manifest.addTexture("FX/SummonWarning.png");
+            manifest.addFrames("FX/ThunderAttack", 5);
+            manifest.addTexture(BOSS_FINAL_FRAME);
+            manifest.addBullet(WeaponType.SHOOTER);
+            for (EnemyType type : BossEnemyController.SUMMONABLE_TYPES) {
+                manifest.addSummon(type);
+            }
+            Collections.addAll(manifest.sounds, AudioId.BossThunderWarning, AudioId.BossThunderAttack,
+                AudioId.BossSummonWarning, AudioId.BossSummonAttack, AudioId.BossDeath, AudioId.BossAngry,
+                AudioId.EnemyAttack, AudioId.Exclamation);
+        }
+
+        // Dialogos del nivel y de los NPCs.
+        if (level.dialogueSection != null || !level.npcs.isEmpty()) {
+            manifest.sounds.add(AudioId.Talking);
+        }
+
+        // NPCs.
+        for (LevelData.NPCData npc : level.npcs) {
+            manifest.addFrames(npc.idleFrames, 4);
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Agrega una textura al manifiesto.
+     * @param path Ruta interna de la textura (se ignora si es null).
+     */
+    public void addTexture(String path) {
+        if (path != null) {
+            textures.add(path);
+        }
+    }
+
+    /**
+     * Agrega una secuencia de frames con el formato 'basePath' + numero + ".png".
+     * @param basePath Ruta base de los frames (se ignora si es null).
+     * @param frameCount Cantidad de frames.
+     */
+    public void addFrames(String basePath, int frameCount) {
+        if (basePath == null) return;
+        for (int i = 1; i <= frameCount; i++) {
+            textures.add(basePath + i + ".png");
+        }
+    }
+
+    /**
+     * Indica si el nivel tiene un jefe, y por lo tanto sus ataques e invocaciones.
+     * @return Verdadero si hay un jefe en el nivel.
+     */
+    public boolean hasBoss() {
+        return hasBoss;
+    }
+
+    /**
+     * Comprueba si una textura forma parte del manifiesto.
+     * @param path Ruta interna de la textura.
+     * @return Verdadero si esta en el manifiesto.
+     */
+    public boolean contains(String path) {
+        return textures.contains(path);
+    }
+
+    /**
+     * Obtiene todas las texturas del manifiesto.
+     * @return Un conjunto de solo lectura con las rutas.
+     */
+    public Set<String> getTextures() {
+        return Collections.unmodifiableSet(textures);
+    }
+
+    /**
+     * Obtiene los efectos de sonido del nivel.
+     * @return Un conjunto de solo lectura con los sonidos.
+     */
+    public Set<AudioId> getSounds() {
+        return Collections.unmodifiableSet(sounds);
+    }
+
+    // Agrega los frames de un enemigo colocado en el nivel, igual que GameplayState.initializeEnemies.
+    private void addEnemy(EnemyType type) {
+        EnemySkin skin = EnemySkin.getSkin(type);
+        boolean isBoss = type == EnemyType.BOSS_GEMINI || type == EnemyType.BOSS_CHATGPT;
+
+        addFrames(skin.idleFrames, type == EnemyType.FLYING ? 9 : 4);
+        addFrames(skin.runFrames, 4);
+        addFrames(skin.deadFrames, isBoss ? 10 : 4);
+        addFrames(skin.jumpFrames, 1);
+        addFrames(skin.fallFrames, 1);
+        addFrames(skin.hurtFrames, 1);
+        addFrames(skin.angryHurtFrames, 1);
+        addFrames(skin.attackFrames, 2);
+        if (isBoss) {
+            addFrames(skin.idleRageFrames, 4);
+            addFrames(skin.attack1Frames, 8);
+            addFrames(skin.attack2Frames, 8);
+            addFrames(skin.summonFrames, 8);
+        } else if (type == EnemyType.SHOOTER) {
+            addFrames(skin.attack1Frames, 3);
+            addBullet(WeaponType.SHOOTER);
+            sounds.add(AudioId.EnemyAttack);
+            sounds.add(AudioId.Exclamation);
+        }
+    }
+
+    // Agrega los frames de un enemigo invocado, igual que EnemyPrototype.
+    private void addSummon(EnemyType type) {
+        EnemySkin skin = EnemySkin.getSkin(type);
+        addFrames(skin.idleFrames, type == EnemyType.FLYING ? 9 : 4);
+        addFrames(skin.runFrames, 4);
+        addFrames(skin.deadFrames, 4);
+        addFrames(skin.jumpFrames, 1);
+        addFrames(skin.fallFrames, 1);
+        addFrames(skin.hurtFrames, 1);
+        addFrames(skin.attackFrames, 2);
+        if (type == EnemyType.SHOOTER) {
+            addFrames(skin.attack1Frames, 3);
+        }
+    }
+
+    // Agrega los frames de la bala de un arma en ambas direcciones.
+    private void addBullet(WeaponType weaponType) {
+        for (int i = 1; i <= Bullet.FRAME_COUNT; i++) {
+            addTexture(Bullet.getFramePath(weaponType, i, false));
+            addTexture(Bullet.getFramePath(weaponType, i, true));
+        }
+    }
+}
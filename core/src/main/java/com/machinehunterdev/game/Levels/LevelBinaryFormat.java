@@ -0,0 +1,308 @@
+package com.machinehunterdev.game.Levels;
+
+import com.machinehunterdev.game.Character.EnemyType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Formato binario compilado de los niveles (.lvl).
+ * 'LevelCompiler' lo genera a partir de los JSON de 'assets/Levels' y 'LevelLoader' lo lee
+ * directamente de un 'ByteBuffer' a 'LevelData', sin reflexion ni arbol JSON intermedio.
+ *
+ * Estructura (big-endian):
+ * cabecera (MAGIC, VERSION), tabla de cadenas (cada texto aparece una sola vez y se
+ * referencia por indice, -1 = null), datos generales del nivel (con la marca de apariciones
+ * ya ajustadas al suelo), objetos solidos con su textura y tamano ya resueltos, enemigos con sus puntos de patrulla como un bloque plano
+ * de floats, y NPCs.
+ *
+ * @author MachineHunterDev
+ */
+public final class LevelBinaryFormat
+{
+    /** Identificador del archivo: "MHLV" */
+    public static final int MAGIC = 0x4D484C56;
+
+    /** Version del formato; se incrementa si cambia la estructura */
+    public static final short VERSION = 4;
+
+    /** Extension de los niveles compilados */
+    public static final String EXTENSION = ".lvl";
+
+    private static final int NULL_INDEX = -1;
+
+    private LevelBinaryFormat() {}
+
+    /**
+     * Obtiene la ruta del nivel compilado que corresponde a un archivo JSON.
+     * @param levelFile Ruta del nivel JSON (ej. "Levels/Level 1.json")
+     * @return Ruta del nivel compilado (ej. "Levels/Level 1.lvl")
+     */
+    public static String compiledPath(String levelFile) {
+        int dot = levelFile.lastIndexOf('.');
+        return (dot >= 0 ? levelFile.substring(0, dot) : levelFile) + EXTENSION;
+    }
+
+    // === ESCRITURA ===
+
+    /**
+     * Escribe un nivel en formato binario.
+     * Los objetos solidos con "type" deben venir ya resueltos (textura, ancho y alto).
+     * @param level Los datos del nivel
+     * @param out Destino del archivo compilado
+     * @throws IOException Si falla la escritura
+     */
+    public static void write(LevelData level, OutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        // Datos generales.
+        body.writeInt(intern(strings, level.backgroundTexture));
+        body.writeInt(intern(strings, level.groundTexture));
+        body.writeInt(level.levelWidth);
+        body.writeFloat(level.playerStartX);
+        body.writeFloat(level.playerStartY);
+        body.writeInt(intern(strings, level.dialogueFile));
+        body.writeInt(intern(strings, level.dialogueSection));
+        body.writeInt(intern(strings, level.nextLevel));
+        body.writeInt(intern(strings, level.flashbackDialogueSection));
+        body.writeInt(intern(strings, level.music));
+        body.writeInt(intern(strings, level.flashbackMusic));
+        writeStringList(body, strings, level.flashbackDialogues);
+        body.writeBoolean(level.playerHitbox != null);
+        if (level.playerHitbox != null) {
+            writeHitbox(body, level.playerHitbox);
+        }
+        body.writeBoolean(level.spawnsResolved);
+
+        // Objetos solidos.
+        body.writeInt(level.solidObjectsData.size());
+        for (LevelData.SolidObjectData obj : level.solidObjectsData) {
+            body.writeInt(intern(strings, obj.type));
+            body.writeInt(intern(strings, obj.texture));
+            body.writeBoolean(obj.walkable);
+            body.writeFloat(obj.x);
+            body.writeFloat(obj.y);
+            body.writeFloat(obj.width);
+            body.writeFloat(obj.height);
+        }
+
+        // Enemigos.
+        body.writeInt(level.enemies.size());
+        for (LevelData.EnemyData enemy : level.enemies) {
+            body.writeByte(enemy.type != null ? enemy.type.ordinal() : NULL_INDEX);
+            body.writeInt(intern(strings, enemy.name));
+            body.writeFloat(enemy.x);
+            body.writeFloat(enemy.y);
+            body.writeFloat(enemy.waitTime);
+            body.writeFloat(enemy.shootInterval);
+            body.writeFloat(enemy.shootTime);
+            body.writeBoolean(enemy.hitbox != null);
+            if (enemy.hitbox != null) {
+                writeHitbox(body, enemy.hitbox);
+            }
+
+            // Puntos de patrulla: primero todas las coordenadas, despues las acciones.
+            List<LevelData.Point> points = enemy.patrolPoints;
+            body.writeInt(points != null ? points.size() : NULL_INDEX);
+            if (points != null) {
+                for (LevelData.Point point : points) {
+                    body.writeFloat(point.x);
+                    body.writeFloat(point.y);
+                }
+                for (LevelData.Point point : points) {
+                    body.writeInt(intern(strings, point.action));
+                }
+            }
+        }
+
+        // NPCs.
+        body.writeInt(level.npcs.size());
+        for (LevelData.NPCData npc : level.npcs) {
+            body.writeInt(intern(strings, npc.idleFrames));
+            body.writeFloat(npc.x);
+            body.writeFloat(npc.y);
+            body.writeFloat(npc.interactionRadius);
+            writeStringList(body, strings, npc.dialogues);
+        }
+        body.flush();
+
+        // Cabecera y tabla de cadenas, seguidas del cuerpo.
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(strings.size());
+        for (String text : strings.keySet()) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            data.writeShort(bytes.length);
+            data.write(bytes);
+        }
+        bodyBytes.writeTo(data);
+        data.flush();
+    }
+
+    // Devuelve el indice de una cadena en la tabla, agregandola si es nueva.
+    private static int intern(Map<String, Integer> strings, String text) {
+        if (text == null) return NULL_INDEX;
+        Integer index = strings.get(text);
+        if (index == null) {
+            index = strings.size();
+            strings.put(text, index);
+        }
+        return index;
+    }
+
+    private static void writeStringList(DataOutputStream body, Map<String, Integer> strings, List<String> list) throws IOException {
+        body.writeInt(list != null ? list.size() : NULL_INDEX);
+        if (list != null) {
+            for (String text : list) {
+                body.writeInt(intern(strings, text));
+            }
+        }
+    }
+
+    private static void writeHitbox(DataOutputStream body, LevelData.HitboxData hitbox) throws IOException {
+        body.writeFloat(hitbox.offsetX);
+        body.writeFloat(hitbox.offsetY);
+        body.writeFloat(hitbox.width);
+        body.writeFloat(hitbox.height);
+    }
+
+    // === LECTURA ===
+
+    /**
+     * Lee un nivel compilado.
+     * @param buffer El contenido del archivo, por ejemplo mapeado en memoria
+     * @return Los datos del nivel
+     * @throws IllegalArgumentException Si el archivo no es un nivel compilado o es de otra version
+     */
+    public static LevelData read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("No es un nivel compilado");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Version de nivel compilado no soportada: " + version);
+        }
+
+        // Tabla de cadenas.
+        String[] strings = new String[buffer.getInt()];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getShort() & 0xFFFF;
+            if (length > scratch.length) {
+                scratch = new byte[length];
+            }
+            buffer.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        LevelData level = new LevelData();
+
+        // Datos generales.
+        level.backgroundTexture = string(strings, buffer.getInt());
+        level.groundTexture = string(strings, buffer.getInt());
+        level.levelWidth = buffer.getInt();
+        level.playerStartX = buffer.getFloat();
+        level.playerStartY = buffer.getFloat();
+        level.dialogueFile = string(strings, buffer.getInt());
+        level.dialogueSection = string(strings, buffer.getInt());
+        level.nextLevel = string(strings, buffer.getInt());
+        level.flashbackDialogueSection = string(strings, buffer.getInt());
+        level.music = string(strings, buffer.getInt());
+        level.flashbackMusic = string(strings, buffer.getInt());
+        level.flashbackDialogues = readStringList(buffer, strings);
+        level.playerHitbox = buffer.get() != 0 ? readHitbox(buffer) : null;
+        level.spawnsResolved = buffer.get() != 0;
+
+        // Objetos solidos.
+        int solidCount = buffer.getInt();
+        level.solidObjectsData.ensureCapacity(solidCount);
+        for (int i = 0; i < solidCount; i++) {
+            LevelData.SolidObjectData obj = new LevelData.SolidObjectData();
+            obj.type = string(strings, buffer.getInt());
+            obj.texture = string(strings, buffer.getInt());
+            obj.walkable = buffer.get() != 0;
+            obj.x = buffer.getFloat();
+            obj.y = buffer.getFloat();
+            obj.width = buffer.getFloat();
+            obj.height = buffer.getFloat();
+            level.solidObjectsData.add(obj);
+        }
+
+        // Enemigos.
+        EnemyType[] enemyTypes = EnemyType.values();
+        int enemyCount = buffer.getInt();
+        for (int i = 0; i < enemyCount; i++) {
+            LevelData.EnemyData enemy = new LevelData.EnemyData();
+            byte type = buffer.get();
+            enemy.type = type >= 0 ? enemyTypes[type] : null;
+            enemy.name = string(strings, buffer.getInt());
+            enemy.x = buffer.getFloat();
+            enemy.y = buffer.getFloat();
+            enemy.waitTime = buffer.getFloat();
+            enemy.shootInterval = buffer.getFloat();
+            enemy.shootTime = buffer.getFloat();
+            enemy.hitbox = buffer.get() != 0 ? readHitbox(buffer) : null;
+
+            int pointCount = buffer.getInt();
+            if (pointCount < 0) {
+                enemy.patrolPoints = null;
+            } else {
+                ArrayList<LevelData.Point> points = new ArrayList<>(pointCount);
+                for (int p = 0; p < pointCount; p++) {
+                    LevelData.Point point = new LevelData.Point();
+                    point.x = buffer.getFloat();
+                    point.y = buffer.getFloat();
+                    points.add(point);
+                }
+                for (int p = 0; p < pointCount; p++) {
+                    points.get(p).action = string(strings, buffer.getInt());
+                }
+                enemy.patrolPoints = points;
+            }
+            level.enemies.add(enemy);
+        }
+
+        // NPCs.
+        int npcCount = buffer.getInt();
+        for (int i = 0; i < npcCount; i++) {
+            LevelData.NPCData npc = new LevelData.NPCData();
+            npc.idleFrames = string(strings, buffer.getInt());
+            npc.x = buffer.getFloat();
+            npc.y = buffer.getFloat();
+            npc.interactionRadius = buffer.getFloat();
+            npc.dialogues = readStringList(buffer, strings);
+            level.npcs.add(npc);
+        }
+
+        return level;
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NULL_INDEX ? null : strings[index];
+    }
+
+    private static List<String> readStringList(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getInt();
+        if (count < 0) return null;
+        List<String> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(string(strings, buffer.getInt()));
+        }
+        return list;
+    }
+
+    private static LevelData.HitboxData readHitbox(ByteBuffer buffer) {
+        return new LevelData.HitboxData(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+    }
+}
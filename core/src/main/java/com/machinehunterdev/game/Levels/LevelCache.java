@@ -0,0 +1,105 @@
+package com.machinehunterdev.game.Levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Cache de niveles ya cargados, indexados por ruta (patron singleton).
+ * Reintentar un nivel, pasar al siguiente o consultar su flashback desde un menu
+ * reutiliza el mismo 'LevelData' en lugar de volver a leer el archivo.
+ * Los datos son compartidos: quien los obtiene debe tratarlos como de solo lectura.
+ * En modo desarrollo se comprueba el contenido del archivo en cada consulta y el
+ * nivel se vuelve a cargar si cambio.
+ * Todos los metodos son seguros para usarse desde varios hilos.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelCache
+{
+    /** Instancia unica de la cache */
+    private static LevelCache instance;
+
+    /** Niveles cargados, indexados por la ruta del JSON */
+    private final Map<String, Entry> levels = new HashMap<>();
+
+    /**
+     * Devuelve la unica instancia de la cache.
+     * @return La cache de niveles
+     */
+    public static synchronized LevelCache getInstance() {
+        if (instance == null) {
+            instance = new LevelCache();
+        }
+        return instance;
+    }
+
+    private LevelCache() {}
+
+    /**
+     * Obtiene un nivel, cargandolo con 'LevelLoader' si todavia no esta en la cache.
+     * @param levelFile Ruta del archivo JSON del nivel
+     * @return Los datos compartidos del nivel (de solo lectura)
+     */
+    public synchronized LevelData get(String levelFile) {
+        Entry entry = levels.get(levelFile);
+        long hash = GlobalSettings.DEV_MODE ? contentHash(levelFile) : 0L;
+
+        if (entry != null && entry.hash != hash) {
+            Gdx.app.log("LevelCache", "El nivel cambio, se vuelve a cargar: " + levelFile);
+            entry = null;
+        }
+        if (entry == null) {
+            entry = new Entry(LevelLoader.loadLevel(levelFile), hash);
+            levels.put(levelFile, entry);
+        }
+        return entry.data;
+    }
+
+    /**
+     * Descarta un nivel para que la siguiente consulta lo vuelva a cargar.
+     * @param levelFile Ruta del archivo JSON del nivel
+     */
+    public synchronized void invalidate(String levelFile) {
+        levels.remove(levelFile);
+    }
+
+    /**
+     * Descarta todos los niveles.
+     */
+    public synchronized void clear() {
+        levels.clear();
+    }
+
+    // Calcula un CRC32 del JSON y de su version compilada, si existen.
+    private static long contentHash(String levelFile) {
+        CRC32 crc = new CRC32();
+        FileHandle[] files = {
+            Gdx.files.internal(levelFile),
+            Gdx.files.internal(LevelBinaryFormat.compiledPath(levelFile))
+        };
+        for (FileHandle file : files) {
+            if (file.exists()) {
+                crc.update(file.readBytes());
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Nivel cargado junto con el hash del contenido con el que se cargo.
+     */
+    private static final class Entry {
+        private final LevelData data;
+        private final long hash;
+
+        private Entry(LevelData data, long hash) {
+            this.data = data;
+            this.hash = hash;
+        }
+    }
+}
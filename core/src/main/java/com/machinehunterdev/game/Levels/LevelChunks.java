@@ -0,0 +1,195 @@
+package com.machinehunterdev.game.Levels;
+
+import com.machinehunterdev.game.Environment.ChainType;
+import com.machinehunterdev.game.Environment.PlatformType;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Division de un nivel en franjas de ancho fijo a lo largo del eje X.
+ * Se deriva de 'LevelData' al cargar el nivel: cada franja guarda los indices de los objetos
+ * solidos que la cruzan y de los enemigos y NPCs que aparecen en ella. Tambien guarda la caja
+ * de cada objeto solido ya resuelta, para calcular el suelo de una aparicion sin crear objetos.
+ * Es inmutable despues de construirse, por lo que se puede consultar desde cualquier hilo.
+ *
+ * @author MachineHunterDev
+ */
+public final class LevelChunks
+{
+    /** Ancho de cada franja en pixeles */
+    public final int chunkWidth;
+
+    /** Cantidad de franjas del nivel */
+    public final int chunkCount;
+
+    // Indices en las listas de LevelData, por franja.
+    private final int[][] solids;
+    private final int[][] enemies;
+    private final int[][] npcs;
+
+    // Caja de cada objeto solido (x, y, ancho, alto), o null si no se dibuja como objeto.
+    private final float[][] solidBounds;
+    private final boolean[] solidWalkable;
+
+    private LevelChunks(int chunkWidth, int chunkCount, int solidCount) {
+        this.chunkWidth = chunkWidth;
+        this.chunkCount = chunkCount;
+        this.solids = new int[chunkCount][];
+        this.enemies = new int[chunkCount][];
+        this.npcs = new int[chunkCount][];
+        this.solidBounds = new float[solidCount][];
+        this.solidWalkable = new boolean[solidCount];
+    }
+
+    /**
+     * Divide un nivel en franjas. Debe llamarse desde el hilo de OpenGL, porque resuelve
+     * los tipos de plataforma que el nivel no trae compilados.
+     * @param level Los datos del nivel
+     * @param chunkWidth Ancho de cada franja en pixeles
+     * @return Las franjas del nivel
+     */
+    public static LevelChunks build(LevelData level, int chunkWidth) {
+        float right = level.levelWidth;
+        for (LevelData.EnemyData enemy : level.enemies) right = Math.max(right, enemy.x + 1);
+        for (LevelData.NPCData npc : level.npcs) right = Math.max(right, npc.x + 1);
+        int count = Math.max(1, (int) Math.ceil(right / chunkWidth));
+
+        LevelChunks chunks = new LevelChunks(chunkWidth, count, level.solidObjectsData.size());
+        List<List<Integer>> solidLists = newLists(count);
+        List<List<Integer>> enemyLists = newLists(count);
+        List<List<Integer>> npcLists = newLists(count);
+
+        for (int i = 0; i < level.solidObjectsData.size(); i++) {
+            LevelData.SolidObjectData data = level.solidObjectsData.get(i);
+            float[] bounds = resolveBounds(data, level.groundTexture);
+            if (bounds == null) continue;
+            chunks.solidBounds[i] = bounds;
+            chunks.solidWalkable[i] = data.walkable;
+            // Un objeto se agrega a todas las franjas que cruza.
+            int first = chunks.chunkOf(bounds[0]);
+            int last = chunks.chunkOf(bounds[0] + Math.max(0, bounds[2] - 1));
+            for (int c = first; c <= last; c++) {
+                solidLists.get(c).add(i);
+            }
+        }
+        for (int i = 0; i < level.enemies.size(); i++) {
+            enemyLists.get(chunks.chunkOf(level.enemies.get(i).x)).add(i);
+        }
+        for (int i = 0; i < level.npcs.size(); i++) {
+            npcLists.get(chunks.chunkOf(level.npcs.get(i).x)).add(i);
+        }
+
+        for (int c = 0; c < count; c++) {
+            chunks.solids[c] = toArray(solidLists.get(c));
+            chunks.enemies[c] = toArray(enemyLists.get(c));
+            chunks.npcs[c] = toArray(npcLists.get(c));
+        }
+        return chunks;
+    }
+
+    // Caja de un objeto solido con las mismas reglas que GameplayState al crearlo;
+    // null si no se crea como objeto (por ejemplo, el suelo, que se dibuja aparte).
+    private static float[] resolveBounds(LevelData.SolidObjectData data, String groundTexture) {
+        boolean typed = data.type != null && !data.type.isEmpty();
+        if (typed && data.texture != null) {
+            return new float[] { data.x, data.y, data.width, data.height };
+        }
+        if (typed) {
+            if (data.type.startsWith("Platform")) {
+                PlatformType type = PlatformType.parse(data.type);
+                if (type != null) return new float[] { data.x, data.y, type.width, type.height };
+            } else if (data.type.startsWith("Chain")) {
+                ChainType type = ChainType.parse(data.type);
+                if (type != null) return new float[] { data.x, data.y, type.width, type.height };
+            }
+            // Los tipos no validos crean un objeto vacio que no colisiona.
+            return new float[] { data.x, data.y, 0, 0 };
+        }
+        if (data.texture != null && !data.texture.equals(groundTexture)) {
+            return new float[] { data.x, data.y, data.width, data.height };
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la franja que contiene una coordenada X, limitada a las franjas del nivel.
+     * @param x La coordenada X
+     * @return El indice de la franja
+     */
+    public int chunkOf(float x) {
+        int chunk = (int) Math.floor(x / chunkWidth);
+        return Math.max(0, Math.min(chunkCount - 1, chunk));
+    }
+
+    /**
+     * Obtiene los objetos solidos que cruzan una franja.
+     * @param chunk El indice de la franja
+     * @return Indices en 'LevelData.solidObjectsData'
+     */
+    public int[] getSolids(int chunk) {
+        return solids[chunk];
+    }
+
+    /**
+     * Obtiene los enemigos que aparecen en una franja.
+     * @param chunk El indice de la franja
+     * @return Indices en 'LevelData.enemies'
+     */
+    public int[] getEnemies(int chunk) {
+        return enemies[chunk];
+    }
+
+    /**
+     * Obtiene los NPCs que aparecen en una franja.
+     * @param chunk El indice de la franja
+     * @return Indices en 'LevelData.npcs'
+     */
+    public int[] getNpcs(int chunk) {
+        return npcs[chunk];
+    }
+
+    /**
+     * Calcula la Y del suelo mas alto debajo de una posicion, como 'GameplayState.findGroundY',
+     * pero a partir de los datos del nivel y revisando solo las franjas que cruza el personaje.
+     * @param x La coordenada X del personaje
+     * @param initialY La coordenada Y de aparicion
+     * @param characterWidth El ancho del personaje
+     * @return La Y de la superficie sobre la que aparece
+     */
+    public float groundY(float x, float initialY, float characterWidth) {
+        float closestGroundY = GlobalSettings.GROUND_LEVEL;
+        int first = chunkOf(x);
+        int last = chunkOf(x + characterWidth);
+        for (int c = first; c <= last; c++) {
+            for (int i : solids[c]) {
+                if (!solidWalkable[i]) continue;
+                float[] platform = solidBounds[i];
+                if (x < platform[0] + platform[2] && x + characterWidth > platform[0]) {
+                    float platformTop = platform[1] + platform[3];
+                    if (platformTop <= initialY && platformTop > closestGroundY) {
+                        closestGroundY = platformTop;
+                    }
+                }
+            }
+        }
+        return closestGroundY;
+    }
+
+    private static List<List<Integer>> newLists(int count) {
+        List<List<Integer>> lists = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lists.add(new ArrayList<Integer>());
+        }
+        return lists;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,243 @@
+package com.machinehunterdev.game.Levels;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Character.EnemySkin;
+import com.machinehunterdev.game.Character.EnemyType;
+import com.machinehunterdev.game.Environment.ChainType;
+import com.machinehunterdev.game.Environment.PlatformType;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Herramienta de compilacion de niveles.
+ * Convierte cada JSON de una carpeta de niveles al formato de 'LevelBinaryFormat',
+ * resolviendo de antemano la textura y el tamano de las plataformas y cadenas, la Y de
+ * aparicion de cada personaje sobre el suelo, y la altura a la que llega cada patrullero en
+ * cada punto de su ruta. Las rutas que la fisica del salto no puede recorrer detienen la
+ * compilacion con la lista de errores, en lugar de producir enemigos atascados.
+ * La ejecuta la tarea de Gradle 'compileLevels'; los JSON siguen siendo el formato fuente.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelCompiler
+{
+    /** Animacion de reposo del jugador, para ajustar su aparicion */
+    public static final String PLAYER_IDLE_FRAMES = "Player/PlayerIdle";
+
+    /** Distancia a la que el controlador de patrulla considera alcanzado un punto */
+    private static final float ROUTE_TOLERANCE = 5f;
+
+    /** Paso de la simulacion de las rutas */
+    private static final float ROUTE_STEP = 4f;
+
+    /**
+     * Punto de entrada de la herramienta.
+     * @param args La carpeta de niveles (por defecto "assets/Levels")
+     * @throws IOException Si falla la lectura o escritura de algun nivel
+     */
+    public static void main(String[] args) throws IOException {
+        File levelsDir = new File(args.length > 0 ? args[0] : "assets/Levels");
+        File[] sources = levelsDir.listFiles((dir, name) -> name.endsWith(".json"));
+        if (sources == null) {
+            throw new IOException("No existe la carpeta de niveles: " + levelsDir);
+        }
+        FrameSizes frameSizes = pngFrameSizes(levelsDir.getAbsoluteFile().getParentFile());
+
+        Json json = new Json();
+        List<String> errors = new ArrayList<>();
+        for (File source : sources) {
+            LevelData level = json.fromJson(LevelData.class, new FileHandle(source));
+            resolveSolidObjects(level);
+            resolveSpawns(level, frameSizes);
+
+            List<String> routeErrors = checkPatrolRoutes(level, frameSizes);
+            if (!routeErrors.isEmpty()) {
+                for (String error : routeErrors) {
+                    errors.add(source.getName() + ": " + error);
+                }
+                continue;
+            }
+
+            File target = new File(levelsDir, LevelBinaryFormat.compiledPath(source.getName()));
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+                LevelBinaryFormat.write(level, out);
+            }
+            System.out.println("Nivel compilado: " + source.getName() + " -> " + target.getName()
+                + " (" + target.length() + " bytes)");
+        }
+
+        if (!errors.isEmpty()) {
+            for (String error : errors) {
+                System.err.println("Ruta no valida en " + error);
+            }
+            throw new IllegalStateException(errors.size() + " rutas de patrulla no validas; esos niveles no se compilaron");
+        }
+    }
+
+    /**
+     * Resuelve la textura y el tamano de los objetos solidos definidos por "type",
+     * para que el juego no tenga que analizar las cadenas de tipo al cargar el nivel.
+     * @param level Los datos del nivel
+     */
+    public static void resolveSolidObjects(LevelData level) {
+        for (LevelData.SolidObjectData obj : level.solidObjectsData) {
+            if (obj.type == null || obj.type.isEmpty()) continue;
+
+            if (obj.type.startsWith("Platform")) {
+                PlatformType type = PlatformType.parse(obj.type);
+                if (type != null) {
+                    obj.texture = type.texturePath;
+                    obj.width = type.width;
+                    obj.height = type.height;
+                }
+            } else if (obj.type.startsWith("Chain")) {
+                ChainType type = ChainType.parse(obj.type);
+                if (type != null) {
+                    obj.texture = type.texturePath;
+                    obj.width = type.width;
+                    obj.height = type.height;
+                }
+            }
+        }
+    }
+
+    // === APARICIONES ===
+
+    /**
+     * Tamano del primer frame de una animacion, para colocar a los personajes como el juego.
+     */
+    public interface FrameSizes {
+        /**
+         * Obtiene el tamano del primer frame de una animacion.
+         * @param basePath Ruta base de los frames (sin el numero ni la extension)
+         * @return Ancho y alto en pixeles; {0, 0} si no existe
+         */
+        float[] get(String basePath);
+    }
+
+    /**
+     * Ajusta la Y de aparicion del jugador, los enemigos y los NPCs igual que el juego al crearlos:
+     * los personajes de tierra quedan sobre la superficie mas alta debajo de su punto de aparicion
+     * y los voladores se centran en el. Marca el nivel para que el juego no repita el calculo.
+     * Los objetos solidos deben estar resueltos. No hace nada si el nivel ya esta ajustado.
+     * @param level Los datos del nivel
+     * @param frameSizes Tamano de los frames de reposo de cada personaje
+     */
+    public static void resolveSpawns(LevelData level, FrameSizes frameSizes) {
+        if (level.spawnsResolved) return;
+        LevelChunks chunks = LevelChunks.build(level, GlobalSettings.LEVEL_CHUNK_WIDTH);
+
+        level.playerStartY = chunks.groundY(level.playerStartX, level.playerStartY, frameSizes.get(PLAYER_IDLE_FRAMES)[0]);
+        for (LevelData.EnemyData enemy : level.enemies) {
+            float[] size = frameSizes.get(EnemySkin.getSkin(enemy.type).idleFrames);
+            enemy.y = enemy.type == EnemyType.FLYING ? enemy.y - size[1] / 2 : chunks.groundY(enemy.x, enemy.y, size[0]);
+        }
+        for (LevelData.NPCData npc : level.npcs) {
+            npc.y = chunks.groundY(npc.x, npc.y, frameSizes.get(npc.idleFrames)[0]);
+        }
+        level.spawnsResolved = true;
+    }
+
+    // === RUTAS DE PATRULLA ===
+
+    /**
+     * Recorre la ruta de cada patrullero con la fisica del juego: camina hacia la X de cada punto
+     * (cayendo si la plataforma se acaba), espera y ejecuta la accion del punto ("Jump" salta en
+     * vertical con 'Character.DEFAULT_JUMP_FORCE' y 'Character.DEFAULT_GRAVITY'; "Fall" atraviesa
+     * la plataforma actual). La Y de cada punto se reemplaza por la altura a la que llega.
+     * Las apariciones deben estar ajustadas con 'resolveSpawns'.
+     * @param level Los datos del nivel
+     * @param frameSizes Tamano de los frames de reposo de cada personaje
+     * @return Los errores encontrados; vacio si todas las rutas son validas
+     */
+    public static List<String> checkPatrolRoutes(LevelData level, FrameSizes frameSizes) {
+        List<String> errors = new ArrayList<>();
+        LevelChunks chunks = LevelChunks.build(level, GlobalSettings.LEVEL_CHUNK_WIDTH);
+        float jumpHeight = Character.DEFAULT_JUMP_FORCE * Character.DEFAULT_JUMP_FORCE / (2 * -Character.DEFAULT_GRAVITY);
+
+        for (int i = 0; i < level.enemies.size(); i++) {
+            LevelData.EnemyData enemy = level.enemies.get(i);
+            if (enemy.type != EnemyType.PATROLLER || enemy.patrolPoints == null || enemy.patrolPoints.isEmpty()) continue;
+
+            String name = "enemigo " + i + " (x=" + enemy.x + ")";
+            LevelData.HitboxData hitbox = enemy.hitbox != null ? enemy.hitbox : EnemySkin.getSkin(enemy.type).hitbox;
+            float maxX = level.levelWidth - frameSizes.get(EnemySkin.getSkin(enemy.type).idleFrames)[0];
+            float x = enemy.x;
+            float y = enemy.y;
+            int previousErrors = errors.size();
+
+            for (int p = 0; p < enemy.patrolPoints.size(); p++) {
+                LevelData.Point point = enemy.patrolPoints.get(p);
+                // El juego limita la X al nivel; un punto fuera de el nunca se alcanza.
+                if (point.x < 0 || point.x > maxX) {
+                    errors.add(name + ": el punto " + p + " (x=" + point.x + ") esta fuera del nivel");
+                    break;
+                }
+                // Camina en pasos menores que la tolerancia de llegada del controlador (5 px).
+                while (Math.abs(x - point.x) > ROUTE_TOLERANCE) {
+                    x += Math.signum(point.x - x) * Math.min(ROUTE_STEP, Math.abs(point.x - x));
+                    y = chunks.groundY(x + hitbox.offsetX, y, hitbox.width);
+                }
+                point.y = y;
+
+                if ("Jump".equalsIgnoreCase(point.action)) {
+                    float landing = chunks.groundY(x + hitbox.offsetX, y + jumpHeight, hitbox.width);
+                    if (landing <= y) {
+                        errors.add(name + ": el salto del punto " + p + " no alcanza ninguna plataforma");
+                    }
+                    y = landing;
+                } else if ("Fall".equalsIgnoreCase(point.action)) {
+                    if (y <= GlobalSettings.GROUND_LEVEL) {
+                        errors.add(name + ": el punto " + p + " pide caer pero esta sobre el suelo");
+                    }
+                    y = chunks.groundY(x + hitbox.offsetX, y - 1, hitbox.width);
+                }
+            }
+
+            // Tras una vuelta debe volver a la altura inicial; si no, la ruta se desplaza en cada vuelta.
+            if (y != enemy.y && errors.size() == previousErrors) {
+                errors.add(name + ": la ruta termina a la altura " + y + " y empieza a la altura " + enemy.y);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Lee el tamano de los frames de la cabecera de los PNG, sin cargarlos.
+     * @param assetsDir La carpeta de assets
+     * @return El tamano de los frames de reposo
+     */
+    private static FrameSizes pngFrameSizes(File assetsDir) {
+        Map<String, float[]> sizes = new HashMap<>();
+        return basePath -> {
+            float[] size = sizes.get(basePath);
+            if (size == null) {
+                size = new float[] { 0f, 0f };
+                File frame = new File(assetsDir, basePath + "1.png");
+                try (DataInputStream in = new DataInputStream(new FileInputStream(frame))) {
+                    // Firma de 8 bytes, longitud y tipo del bloque IHDR, y despues ancho y alto.
+                    in.skipBytes(16);
+                    size[0] = in.readInt();
+                    size[1] = in.readInt();
+                } catch (IOException e) {
+                    System.err.println("No se pudo leer el frame: " + frame);
+                }
+                sizes.put(basePath, size);
+            }
+            return size;
+        };
+    }
+}
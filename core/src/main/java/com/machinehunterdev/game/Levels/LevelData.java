@@ -8,6 +8,7 @@ import java.util.List;
 /**
  * Contiene todos los datos necesarios para construir un nivel.
  * Incluye información sobre el fondo, el suelo, los objetos sólidos, los enemigos y los NPCs.
+ * Las instancias que entrega 'LevelCache' son compartidas y no deben modificarse.
  * @author MachineHunterDev
  */
 public class LevelData {
@@ -38,8 +39,16 @@ public class LevelData {
     public List<String> flashbackDialogues;
     public String flashbackDialogueSection;
 
+    // Musica del nivel y del flashback que lo precede
+    public String music = "Audio/Soundtrack/NormalBattleTheme.mp3";
+    public String flashbackMusic = "Audio/Soundtrack/Flashback.mp3";
+
     // Hitbox para el jugador
     public HitboxData playerHitbox = new HitboxData(9, 0, 25, 38);
+
+    // Indica si 'LevelCompiler' ya ajusto al suelo la Y de aparicion del jugador, los enemigos y los NPCs;
+    // en ese caso el juego usa las coordenadas tal cual, sin buscar el suelo al cargar.
+    public boolean spawnsResolved = false;
     
     /**
      * Constructor de LevelData.
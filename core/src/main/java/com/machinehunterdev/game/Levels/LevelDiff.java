@@ -0,0 +1,123 @@
+package com.machinehunterdev.game.Levels;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara dos versiones de un nivel para aplicar solo los cambios al recargarlo.
+ * Los objetos del JSON no tienen identificador, asi que se emparejan por contenido: un objeto
+ * sin cambios en la version nueva conserva su instancia, y uno movido o editado cuenta como
+ * quitado y agregado. Si hay objetos identicos, se emparejan en orden.
+ *
+ * @author MachineHunterDev
+ */
+public final class LevelDiff
+{
+    /** Indices de la version nueva de los objetos solidos de la anterior (-1 si se quitaron) */
+    public final int[] solids;
+    /** Indices de la version nueva de los enemigos de la anterior (-1 si se quitaron) */
+    public final int[] enemies;
+    /** Indices de la version nueva de los NPCs de la anterior (-1 si se quitaron) */
+    public final int[] npcs;
+
+    private LevelDiff(int[] solids, int[] enemies, int[] npcs) {
+        this.solids = solids;
+        this.enemies = enemies;
+        this.npcs = npcs;
+    }
+
+    /**
+     * Empareja los objetos de dos versiones de un nivel.
+     * @param before La version cargada
+     * @param after La version nueva
+     * @return Los emparejamientos de cada lista
+     */
+    public static LevelDiff compare(LevelData before, LevelData after) {
+        String[] oldKeys = new String[before.solidObjectsData.size()];
+        String[] newKeys = new String[after.solidObjectsData.size()];
+        for (int i = 0; i < oldKeys.length; i++) oldKeys[i] = key(before.solidObjectsData.get(i));
+        for (int i = 0; i < newKeys.length; i++) newKeys[i] = key(after.solidObjectsData.get(i));
+        int[] solids = match(oldKeys, newKeys);
+
+        oldKeys = new String[before.enemies.size()];
+        newKeys = new String[after.enemies.size()];
+        for (int i = 0; i < oldKeys.length; i++) oldKeys[i] = key(before.enemies.get(i));
+        for (int i = 0; i < newKeys.length; i++) newKeys[i] = key(after.enemies.get(i));
+        int[] enemies = match(oldKeys, newKeys);
+
+        oldKeys = new String[before.npcs.size()];
+        newKeys = new String[after.npcs.size()];
+        for (int i = 0; i < oldKeys.length; i++) oldKeys[i] = key(before.npcs.get(i));
+        for (int i = 0; i < newKeys.length; i++) newKeys[i] = key(after.npcs.get(i));
+        int[] npcs = match(oldKeys, newKeys);
+
+        return new LevelDiff(solids, enemies, npcs);
+    }
+
+    /**
+     * Cuenta los objetos de una lista que se conservan.
+     * @param map Uno de los emparejamientos
+     * @return Objetos con pareja en la version nueva
+     */
+    public static int kept(int[] map) {
+        int count = 0;
+        for (int index : map) {
+            if (index >= 0) count++;
+        }
+        return count;
+    }
+
+    // Empareja claves iguales en orden; las que no tienen pareja quedan en -1.
+    private static int[] match(String[] oldKeys, String[] newKeys) {
+        Map<String, ArrayDeque<Integer>> available = new HashMap<>();
+        for (int i = 0; i < newKeys.length; i++) {
+            ArrayDeque<Integer> indices = available.get(newKeys[i]);
+            if (indices == null) {
+                indices = new ArrayDeque<>();
+                available.put(newKeys[i], indices);
+            }
+            indices.add(i);
+        }
+        int[] map = new int[oldKeys.length];
+        Arrays.fill(map, -1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            ArrayDeque<Integer> indices = available.get(oldKeys[i]);
+            if (indices != null && !indices.isEmpty()) {
+                map[i] = indices.poll();
+            }
+        }
+        return map;
+    }
+
+    // === CLAVES DE CONTENIDO ===
+
+    private static String key(LevelData.SolidObjectData data) {
+        return data.type + "|" + data.texture + "|" + data.x + "|" + data.y + "|" + data.width + "|" + data.height + "|" + data.walkable;
+    }
+
+    private static String key(LevelData.EnemyData data) {
+        StringBuilder key = new StringBuilder();
+        key.append(data.type).append('|').append(data.name).append('|').append(data.x).append('|').append(data.y)
+            .append('|').append(data.waitTime).append('|').append(data.shootInterval).append('|').append(data.shootTime);
+        if (data.hitbox != null) {
+            key.append('|').append(data.hitbox.offsetX).append(',').append(data.hitbox.offsetY)
+                .append(',').append(data.hitbox.width).append(',').append(data.hitbox.height);
+        }
+        appendPoints(key, data.patrolPoints);
+        return key.toString();
+    }
+
+    private static String key(LevelData.NPCData data) {
+        return data.idleFrames + "|" + data.x + "|" + data.y + "|" + data.interactionRadius + "|" + data.dialogues;
+    }
+
+    private static void appendPoints(StringBuilder key, List<LevelData.Point> points) {
+        if (points == null) return;
+        for (LevelData.Point point : points) {
+            key.append('|').append(point.x).append(',').append(point.y).append(',').append(point.action);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.machinehunterdev.game.Levels;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.machinehunterdev.game.Character.EnemyType;
+import com.machinehunterdev.game.Environment.PlatformSize;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Herramienta que genera niveles grandes para pruebas de escala y de rendimiento.
+ * Escribe un JSON de 'LevelData' valido con la cantidad indicada de plataformas, cadenas,
+ * enemigos de cada tipo (con sus puntos de patrulla) y NPCs, usando solo tipos de plataforma
+ * y cadena que existen en los assets. Con la misma semilla siempre genera el mismo nivel.
+ * No usa OpenGL ni 'Gdx.files', por lo que corre en cualquier JVM sin backend: la ejecuta la
+ * tarea de Gradle 'generateStressLevel', y 'generate' se puede llamar desde una prueba sin ventana.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelGenerator
+{
+    /** Colores con textura de plataforma y de cadena */
+    private static final String[] COLORS = { "Blue", "Gray", "Green", "Red", "White", "Yellow" };
+
+    /** Estilos de cadena */
+    private static final String[] CHAIN_STYLES = { "Type1", "Type2", "Type3", "Type4" };
+
+    /** Alturas de las filas de plataformas, alcanzables con un salto desde la fila anterior */
+    private static final float[] PLATFORM_ROWS = { 80f, 128f, 176f };
+
+    /** Animaciones de reposo de los NPCs */
+    private static final String[] NPC_SKINS = { "NPC/Doctor/DoctorIdle", "NPC/Info-Bot/Info-BotIdle" };
+
+    /** Zona libre al inicio del nivel, para que el jugador no aparezca junto a un enemigo */
+    private static final float SAFE_START = 300f;
+
+    /** Duracion del estado de disparo de los enemigos generados */
+    private static final float SHOOT_TIME = 1.0f;
+
+    /**
+     * Parametros de un nivel generado. Se leen de argumentos "clave=valor" con los mismos nombres.
+     */
+    public static class Settings {
+        /** Semilla del generador */
+        public long seed = 1L;
+        /** Ancho del nivel en pixeles */
+        public int width = 100000;
+        /** Plataformas sobre las que se puede caminar */
+        public int platforms = 3000;
+        /** Cadenas decorativas (no caminables) */
+        public int chains = 1000;
+        /** Enemigos de cada tipo */
+        public int patrollers = 200;
+        public int shooters = 200;
+        public int flyers = 200;
+        /** Jefes; todos comparten la barra de vida del HUD, por lo que es 0 por defecto */
+        public int bosses = 0;
+        /** Personajes no jugables */
+        public int npcs = 50;
+        /** Balas por segundo de cada tirador mientras ve al jugador */
+        public float bulletsPerSecond = 0.5f;
+        /** Archivo de salida */
+        public String output = "assets/Levels/Stress/Stress.json";
+
+        /**
+         * Lee los parametros de argumentos "clave=valor"; las claves que no aparecen conservan su valor.
+         * @param args Los argumentos de la linea de comandos
+         * @return Los parametros
+         */
+        public static Settings parse(String[] args) {
+            Settings settings = new Settings();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Argumento no valido (se espera clave=valor): " + arg);
+                }
+                String key = arg.substring(0, separator);
+                String value = arg.substring(separator + 1);
+                switch (key) {
+                    case "seed": settings.seed = Long.parseLong(value); break;
+                    case "width": settings.width = Integer.parseInt(value); break;
+                    case "platforms": settings.platforms = Integer.parseInt(value); break;
+                    case "chains": settings.chains = Integer.parseInt(value); break;
+                    case "patrollers": settings.patrollers = Integer.parseInt(value); break;
+                    case "shooters": settings.shooters = Integer.parseInt(value); break;
+                    case "flyers": settings.flyers = Integer.parseInt(value); break;
+                    case "bosses": settings.bosses = Integer.parseInt(value); break;
+                    case "npcs": settings.npcs = Integer.parseInt(value); break;
+                    case "bulletsPerSecond": settings.bulletsPerSecond = Float.parseFloat(value); break;
+                    case "output": settings.output = value; break;
+                    default: throw new IllegalArgumentException("Parametro desconocido: " + key);
+                }
+            }
+            return settings;
+        }
+
+        // Rechaza los parametros que no producen un nivel jugable.
+        private void validate() {
+            if (width < GlobalSettings.VIRTUAL_WIDTH * 2) {
+                throw new IllegalArgumentException("El ancho debe ser al menos " + (GlobalSettings.VIRTUAL_WIDTH * 2));
+            }
+            if (platforms < 0 || chains < 0 || patrollers < 0 || shooters < 0 || flyers < 0 || bosses < 0 || npcs < 0) {
+                throw new IllegalArgumentException("Las cantidades no pueden ser negativas");
+            }
+            if (bulletsPerSecond <= 0) {
+                throw new IllegalArgumentException("Las balas por segundo deben ser mayores que 0");
+            }
+        }
+    }
+
+    /**
+     * Punto de entrada de la herramienta.
+     * @param args Parametros "clave=valor" (ver 'Settings')
+     * @throws IOException Si no se puede escribir el nivel
+     */
+    public static void main(String[] args) throws IOException {
+        Settings settings = Settings.parse(args);
+        LevelData level = generate(settings);
+
+        File output = new File(settings.output);
+        File parent = output.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("No se pudo crear la carpeta: " + parent);
+        }
+        Json json = new Json(JsonWriter.OutputType.json);
+        json.toJson(level, LevelData.class, new FileHandle(output));
+
+        System.out.println("Nivel generado: " + output.getPath() + " (" + output.length() + " bytes) | semilla "
+            + settings.seed + ", " + level.levelWidth + " px, " + level.solidObjectsData.size() + " objetos solidos, "
+            + level.enemies.size() + " enemigos, " + level.npcs.size() + " NPCs");
+    }
+
+    /**
+     * Genera un nivel con los parametros indicados.
+     * @param settings Los parametros del nivel
+     * @return Los datos del nivel
+     */
+    public static LevelData generate(Settings settings) {
+        settings.validate();
+        Random random = new Random(settings.seed);
+
+        LevelData level = new LevelData();
+        level.levelWidth = settings.width;
+        level.backgroundTexture = "Fondos/x.png";
+        level.groundTexture = "Environment/FloorRed320.png";
+
+        // Cada tipo de objeto usa su propio generador derivado de la semilla, para que cambiar
+        // una cantidad no mueva los objetos de los demas tipos.
+        addPlatforms(level, settings.platforms, new Random(random.nextLong()));
+        addChains(level, settings.chains, new Random(random.nextLong()));
+        addPatrollers(level, settings.patrollers, new Random(random.nextLong()));
+        addShooters(level, settings.shooters, settings.bulletsPerSecond, new Random(random.nextLong()));
+        addFlyers(level, settings.flyers, new Random(random.nextLong()));
+        addBosses(level, settings.bosses, new Random(random.nextLong()));
+        addNpcs(level, settings.npcs, new Random(random.nextLong()));
+        return level;
+    }
+
+    // === OBJETOS SOLIDOS ===
+
+    private static void addPlatforms(LevelData level, int count, Random random) {
+        PlatformSize[] sizes = PlatformSize.values();
+        for (int i = 0; i < count; i++) {
+            String color = COLORS[random.nextInt(COLORS.length)];
+            PlatformSize size = sizes[random.nextInt(sizes.length)];
+            // No hay textura de plataforma amarilla enorme.
+            if (size == PlatformSize.HUGE && color.equals("Yellow")) size = PlatformSize.LARGE;
+
+            LevelData.SolidObjectData platform = new LevelData.SolidObjectData();
+            platform.type = "Platform_" + color + "_" + size.getName();
+            platform.x = Math.min(spread(level, i, count, random), level.levelWidth - size.getWidth());
+            platform.y = PLATFORM_ROWS[random.nextInt(PLATFORM_ROWS.length)];
+            platform.walkable = true;
+            level.solidObjectsData.add(platform);
+        }
+    }
+
+    private static void addChains(LevelData level, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            LevelData.SolidObjectData chain = new LevelData.SolidObjectData();
+            chain.type = "Chain_" + COLORS[random.nextInt(COLORS.length)] + "_" + CHAIN_STYLES[random.nextInt(CHAIN_STYLES.length)];
+            chain.x = spread(level, i, count, random);
+            chain.y = 96f;
+            chain.walkable = false;
+            level.solidObjectsData.add(chain);
+        }
+    }
+
+    // === ENEMIGOS Y NPCS ===
+
+    private static void addPatrollers(LevelData level, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            LevelData.EnemyData enemy = newEnemy(EnemyType.PATROLLER, spread(level, i, count, random));
+            float range = 80f + random.nextInt(120);
+            enemy.patrolPoints.add(point(Math.min(level.levelWidth - 32, enemy.x + range), GlobalSettings.GROUND_LEVEL));
+            enemy.patrolPoints.add(point(Math.max(SAFE_START, enemy.x - range), GlobalSettings.GROUND_LEVEL));
+            enemy.waitTime = 1f + random.nextInt(3);
+            level.enemies.add(enemy);
+        }
+    }
+
+    private static void addShooters(LevelData level, int count, float bulletsPerSecond, Random random) {
+        // Cada ciclo de disparo (espera mas estado de disparo) lanza una bala.
+        float interval = Math.max(0.1f, 1f / bulletsPerSecond - SHOOT_TIME);
+        for (int i = 0; i < count; i++) {
+            LevelData.EnemyData enemy = newEnemy(EnemyType.SHOOTER, spread(level, i, count, random));
+            enemy.shootTime = SHOOT_TIME;
+            enemy.shootInterval = interval;
+            level.enemies.add(enemy);
+        }
+    }
+
+    private static void addFlyers(LevelData level, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            LevelData.EnemyData enemy = newEnemy(EnemyType.FLYING, spread(level, i, count, random));
+            enemy.y = 116f;
+            // Recorre un rectangulo a la derecha de su punto de aparicion, como los voladores del Nivel 2.
+            float right = Math.min(level.levelWidth - 32, enemy.x + 64f + random.nextInt(96));
+            float top = 160f + random.nextInt(64);
+            enemy.patrolPoints.add(point(right, 96f));
+            enemy.patrolPoints.add(point(right, top));
+            enemy.patrolPoints.add(point(enemy.x, top));
+            enemy.patrolPoints.add(point(enemy.x, 96f));
+            enemy.waitTime = 1f;
+            level.enemies.add(enemy);
+        }
+    }
+
+    private static void addBosses(LevelData level, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            EnemyType type = i % 2 == 0 ? EnemyType.BOSS_GEMINI : EnemyType.BOSS_CHATGPT;
+            LevelData.EnemyData enemy = newEnemy(type, spread(level, i, count, random));
+            enemy.name = (type == EnemyType.BOSS_GEMINI ? "GEMINI.EXE" : "CHATGPT.EXE");
+            level.enemies.add(enemy);
+        }
+    }
+
+    private static void addNpcs(LevelData level, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            LevelData.NPCData npc = new LevelData.NPCData();
+            npc.idleFrames = NPC_SKINS[random.nextInt(NPC_SKINS.length)];
+            npc.x = spread(level, i, count, random);
+            npc.y = 100f;
+            npc.dialogues = new ArrayList<>();
+            level.npcs.add(npc);
+        }
+    }
+
+    private static LevelData.EnemyData newEnemy(EnemyType type, float x) {
+        LevelData.EnemyData enemy = new LevelData.EnemyData();
+        enemy.type = type;
+        enemy.x = x;
+        enemy.y = GlobalSettings.GROUND_LEVEL;
+        return enemy;
+    }
+
+    private static LevelData.Point point(float x, float y) {
+        LevelData.Point point = new LevelData.Point();
+        point.x = x;
+        point.y = y;
+        return point;
+    }
+
+    // Reparte 'count' objetos a lo largo del nivel, uno por tramo y en una posicion al azar dentro
+    // de su tramo, de modo que la densidad sea pareja y el nivel no tenga zonas vacias.
+    private static float spread(LevelData level, int index, int count, Random random) {
+        float span = (level.levelWidth - SAFE_START - 64f) / count;
+        return (float) Math.floor(SAFE_START + span * (index + random.nextFloat()));
+    }
+}
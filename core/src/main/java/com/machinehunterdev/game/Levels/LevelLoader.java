@@ -1,14 +1,42 @@
 package com.machinehunterdev.game.Levels;
 
+import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 
+import java.nio.ByteBuffer;
+
 /**
- * Carga niveles desde archivos JSON.
+ * Carga niveles desde su version compilada (.lvl) o, si no existe, desde el archivo JSON.
+ * El juego no lo usa directamente: pide los niveles a 'LevelCache', que guarda el resultado.
  * @author MachineHunterDev
  */
 public class LevelLoader {
     
+    /**
+     * Carga un nivel.
+     * Si existe el nivel compilado por 'LevelCompiler' y no es mas antiguo que el JSON,
+     * se lee de un buffer mapeado en memoria; si no, se usa el JSON (por ejemplo, en
+     * desarrollo, al editar un nivel sin volver a compilarlo).
+     * En caso de error, crea y devuelve un nivel por defecto.
+     * @param levelFile Ruta del archivo JSON del nivel
+     * @return Datos del nivel cargado o un nivel por defecto si falla
+     */
+    public static LevelData loadLevel(String levelFile) {
+        FileHandle compiled = Gdx.files.internal(LevelBinaryFormat.compiledPath(levelFile));
+        FileHandle source = Gdx.files.internal(levelFile);
+        if (compiled.exists() && !(source.exists() && source.lastModified() > compiled.lastModified())) {
+            try {
+                return LevelBinaryFormat.read(openCompiled(compiled));
+            } catch (RuntimeException e) {
+                Gdx.app.error("LevelLoader", "Nivel compilado no valido, se usa el JSON: " + compiled.path(), e);
+            }
+        }
+        return loadJson(levelFile);
+    }
+
     /**
      * Carga un nivel desde un archivo JSON.
      * Utiliza la libreria Gdx.files.internal para acceder al archivo.
@@ -16,7 +44,7 @@ public class LevelLoader {
      * @param levelFile Ruta del archivo JSON del nivel
      * @return Datos del nivel cargado o un nivel por defecto si falla
      */
-    public static LevelData loadLevel(String levelFile) {
+    public static LevelData loadJson(String levelFile) {
         Json json = new Json();
         try {
             return json.fromJson(LevelData.class, Gdx.files.internal(levelFile));
@@ -27,6 +55,23 @@ public class LevelLoader {
         }
     }
     
+    /**
+     * Abre un nivel compilado. Se mapea en memoria cuando es un archivo del disco;
+     * dentro del jar (classpath) no se puede mapear y se lee completo.
+     * @param file El nivel compilado
+     * @return El contenido del archivo
+     */
+    private static ByteBuffer openCompiled(FileHandle file) {
+        if (file.type() != FileType.Classpath) {
+            try {
+                return file.map();
+            } catch (GdxRuntimeException e) {
+                // Archivo interno empaquetado en el jar; se lee a continuacion.
+            }
+        }
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
     /**
      * Crea un nivel por defecto con un suelo basico y un enemigo.
      * Se utiliza como fallback si la carga de un nivel falla.
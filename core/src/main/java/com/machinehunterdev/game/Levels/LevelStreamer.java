@@ -0,0 +1,585 @@
+package com.machinehunterdev.game.Levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.machinehunterdev.game.Character.Character;
+import com.machinehunterdev.game.Character.EnemySkin;
+import com.machinehunterdev.game.Character.EnemyType;
+import com.machinehunterdev.game.Character.IEnemy;
+import com.machinehunterdev.game.Character.NPCController;
+import com.machinehunterdev.game.Environment.SolidObject;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.TextureCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Carga y descarga las franjas de un nivel ('LevelChunks') alrededor de la camara.
+ * Solo las franjas cercanas a la vista tienen objetos solidos, enemigos y NPCs creados;
+ * las demas no ocupan memoria ni se actualizan, de modo que la longitud del nivel no cambia
+ * el costo de cada fotograma.
+ * Cada franja pasa por estos estados: sin cargar, preparandose (un hilo de trabajo calcula
+ * desde los datos del nivel donde aparece cada personaje), lista, y activa (sus objetos
+ * existen en el mundo). Las franjas se activan en el hilo de OpenGL, sin pasar de
+ * 'GlobalSettings.LEVEL_CHUNKS_PER_FRAME' por fotograma, y se desactivan al alejarse.
+ * Los enemigos derrotados se recuerdan al descargar su franja y no vuelven a aparecer.
+ * Todos los metodos publicos deben llamarse desde el hilo de OpenGL.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelStreamer
+{
+    private static final String TAG = "LevelStreamer";
+
+    /** Crea y destruye los objetos del mundo; lo implementa el estado de juego */
+    public interface Spawner {
+        /** Crea un objeto solido del nivel. */
+        SolidObject createSolid(LevelData.SolidObjectData data);
+        /** Crea un enemigo en la Y indicada y lo agrega al mundo. */
+        Character spawnEnemy(LevelData.EnemyData data, float y);
+        /** Crea un NPC en la Y indicada. */
+        NPCController spawnNpc(LevelData.NPCData data, float y);
+        /** Quita un enemigo del mundo y libera su personaje. */
+        void despawnEnemy(Character enemy);
+        /** Libera el personaje de un NPC. */
+        void despawnNpc(NPCController npc);
+    }
+
+    private static final int UNLOADED = 0;
+    private static final int PREPARING = 1;
+    private static final int READY = 2;
+    private static final int ACTIVE = 3;
+
+    private LevelData level;
+    private LevelChunks chunks;
+    private final Spawner spawner;
+    private Chunk[] chunkStates;
+
+    /** Franjas que no estan sin cargar */
+    private final List<Chunk> resident = new ArrayList<>();
+
+    /** Tamano del primer frame de cada animacion de reposo, medido en el hilo de OpenGL */
+    private final Map<String, float[]> frameSizes = new ConcurrentHashMap<>();
+
+    /** Hilo que prepara las franjas */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "level-streamer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // === OBJETOS ACTIVOS ===
+    private final ArrayList<SolidObject> solidObjects = new ArrayList<>();
+    private final List<NPCController> npcs = new ArrayList<>();
+    private SolidObject[] solidInstances;
+    private int[] solidRefs;
+    private NPCController[] npcInstances;
+
+    // === ESTADO PERSISTENTE DE LOS ENEMIGOS ===
+    private final BitSet defeated = new BitSet();
+    private int defeatedCount = 0;
+    private final Map<Character, Integer> enemyIndex = new IdentityHashMap<>();
+    private Character[] enemyInstances;
+
+    /**
+     * Crea el cargador de franjas de un nivel. No activa ninguna franja.
+     * @param level Los datos del nivel (de solo lectura)
+     * @param chunks Las franjas del nivel
+     * @param spawner Crea y destruye los objetos del mundo
+     */
+    public LevelStreamer(LevelData level, LevelChunks chunks, Spawner spawner) {
+        this.spawner = spawner;
+        setLevel(level, chunks);
+        this.solidInstances = new SolidObject[level.solidObjectsData.size()];
+        this.enemyInstances = new Character[level.enemies.size()];
+        this.npcInstances = new NPCController[level.npcs.size()];
+    }
+
+    // Cambia los datos del nivel y reinicia el estado de las franjas (todas sin cargar).
+    private void setLevel(LevelData level, LevelChunks chunks) {
+        this.level = level;
+        this.chunks = chunks;
+        this.chunkStates = new Chunk[chunks.chunkCount];
+        for (int c = 0; c < chunks.chunkCount; c++) {
+            chunkStates[c] = new Chunk(c);
+        }
+        this.solidRefs = new int[level.solidObjectsData.size()];
+        resident.clear();
+
+        // El hilo de trabajo no puede usar TextureCache: se miden antes los frames que necesita.
+        // Un nivel compilado ya trae las apariciones ajustadas y no los necesita.
+        if (level.spawnsResolved) return;
+        for (LevelData.EnemyData enemy : level.enemies) {
+            measureFrame(EnemySkin.getSkin(enemy.type).idleFrames);
+        }
+        for (LevelData.NPCData npc : level.npcs) {
+            measureFrame(npc.idleFrames);
+        }
+    }
+
+    private void measureFrame(String basePath) {
+        if (basePath == null || frameSizes.containsKey(basePath)) return;
+        float[] size = { 0f, 0f };
+        try {
+            Texture frame = TextureCache.getInstance().get(basePath + "1.png");
+            if (frame != null) {
+                size[0] = frame.getWidth();
+                size[1] = frame.getHeight();
+            }
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "No se pudo medir el frame: " + basePath, e);
+        }
+        frameSizes.put(basePath, size);
+    }
+
+    // === ACTUALIZACION ===
+
+    /**
+     * Activa de inmediato las franjas alrededor de una vista y desactiva las demas.
+     * Se usa al empezar el nivel, para que el primer fotograma ya tenga su entorno.
+     * @param left Borde izquierdo de la vista
+     * @param right Borde derecho de la vista
+     */
+    public void activateAround(float left, float right) {
+        int first = chunks.chunkOf(left - chunks.chunkWidth);
+        int last = chunks.chunkOf(right + chunks.chunkWidth);
+        for (Chunk chunk : new ArrayList<>(resident)) {
+            if (chunk.state == ACTIVE && (chunk.index < first || chunk.index > last)) {
+                deactivate(chunk);
+            }
+        }
+        for (int c = first; c <= last; c++) {
+            Chunk chunk = chunkStates[c];
+            if (chunk.state == ACTIVE) continue;
+            if (chunk.state == UNLOADED) {
+                chunk.plan = plan(level, chunks, c);
+                chunk.state = READY;
+                resident.add(chunk);
+            } else if (chunk.state == PREPARING) {
+                finishPreparing(chunk);
+            }
+            activate(chunk);
+        }
+    }
+
+    /**
+     * Avanza la carga de franjas segun la vista actual. Se llama en cada fotograma.
+     * Prepara en segundo plano las franjas vecinas, activa las que entran en la ventana,
+     * desactiva las que salen de ella y descarta las que quedan lejos.
+     * @param left Borde izquierdo de la vista
+     * @param right Borde derecho de la vista
+     */
+    public void update(float left, float right) {
+        int first = chunks.chunkOf(left - chunks.chunkWidth);
+        int last = chunks.chunkOf(right + chunks.chunkWidth);
+
+        // Prepara una franja mas alla de la ventana activa en cada lado.
+        for (int c = Math.max(0, first - 1); c <= Math.min(chunks.chunkCount - 1, last + 1); c++) {
+            Chunk chunk = chunkStates[c];
+            if (chunk.state == UNLOADED) {
+                // La tarea conserva los datos con los que se pidio, aunque el nivel se recargue.
+                final LevelData data = level;
+                final LevelChunks layout = chunks;
+                final int index = c;
+                chunk.pending = worker.submit(() -> plan(data, layout, index));
+                chunk.state = PREPARING;
+                resident.add(chunk);
+            }
+        }
+
+        int activated = 0;
+        for (int i = resident.size() - 1; i >= 0; i--) {
+            Chunk chunk = resident.get(i);
+            if (chunk.state == PREPARING && chunk.pending.isDone()) {
+                finishPreparing(chunk);
+            }
+
+            int c = chunk.index;
+            if (chunk.state == ACTIVE) {
+                // Margen de una franja para no activar y desactivar en el borde.
+                if (c < first - 1 || c > last + 1) deactivate(chunk);
+            } else if (c < first - 2 || c > last + 2) {
+                if (chunk.pending != null) chunk.pending.cancel(false);
+                chunk.pending = null;
+                chunk.plan = null;
+                chunk.state = UNLOADED;
+                resident.remove(i);
+            } else if (chunk.state == READY && c >= first && c <= last
+                    && activated < GlobalSettings.LEVEL_CHUNKS_PER_FRAME) {
+                activate(chunk);
+                activated++;
+            }
+        }
+    }
+
+    // Recoge el plan preparado en segundo plano; si fallo, se calcula en este hilo.
+    private void finishPreparing(Chunk chunk) {
+        try {
+            chunk.plan = chunk.pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunk.plan = plan(level, chunks, chunk.index);
+        } catch (ExecutionException e) {
+            Gdx.app.error(TAG, "Fallo la preparacion de la franja " + chunk.index, e.getCause());
+            chunk.plan = plan(level, chunks, chunk.index);
+        }
+        chunk.pending = null;
+        chunk.state = READY;
+    }
+
+    /**
+     * Calcula donde aparece cada enemigo y NPC de una franja, sin crear objetos.
+     * Solo lee datos inmutables, por lo que se ejecuta en el hilo de trabajo.
+     */
+    private float[][] plan(LevelData level, LevelChunks chunks, int c) {
+        int[] enemyIds = chunks.getEnemies(c);
+        float[] enemyY = new float[enemyIds.length];
+        for (int k = 0; k < enemyIds.length; k++) {
+            LevelData.EnemyData data = level.enemies.get(enemyIds[k]);
+            if (level.spawnsResolved) {
+                enemyY[k] = data.y;
+                continue;
+            }
+            float[] size = frameSize(EnemySkin.getSkin(data.type).idleFrames);
+            // Los voladores quedan en el aire; los demas, sobre el suelo.
+            enemyY[k] = data.type == EnemyType.FLYING ? data.y - size[1] / 2 : chunks.groundY(data.x, data.y, size[0]);
+        }
+
+        int[] npcIds = chunks.getNpcs(c);
+        float[] npcY = new float[npcIds.length];
+        for (int k = 0; k < npcIds.length; k++) {
+            LevelData.NPCData data = level.npcs.get(npcIds[k]);
+            npcY[k] = level.spawnsResolved ? data.y : chunks.groundY(data.x, data.y, frameSize(data.idleFrames)[0]);
+        }
+        return new float[][] { enemyY, npcY };
+    }
+
+    private float[] frameSize(String basePath) {
+        float[] size = basePath != null ? frameSizes.get(basePath) : null;
+        return size != null ? size : new float[] { 0f, 0f };
+    }
+
+    // === ACTIVACION ===
+
+    // Crea los objetos de una franja: solidos (compartidos con las vecinas), enemigos y NPCs.
+    private void activate(Chunk chunk) {
+        // Tras una recarga, los objetos sin cambios ya existen y se reutilizan.
+        for (int i : chunks.getSolids(chunk.index)) {
+            if (solidRefs[i]++ == 0 && solidInstances[i] == null) {
+                SolidObject solid = spawner.createSolid(level.solidObjectsData.get(i));
+                solidInstances[i] = solid;
+                if (solid != null) solidObjects.add(solid);
+            }
+        }
+        spawnEnemies(chunk);
+
+        int[] npcIds = chunks.getNpcs(chunk.index);
+        for (int k = 0; k < npcIds.length; k++) {
+            int index = npcIds[k];
+            if (npcInstances[index] == null) {
+                npcInstances[index] = spawner.spawnNpc(level.npcs.get(index), chunk.plan[1][k]);
+                npcs.add(npcInstances[index]);
+            }
+            chunk.npcs.add(npcInstances[index]);
+        }
+        chunk.state = ACTIVE;
+    }
+
+    // Crea los enemigos de una franja que no estan en el mundo ni fueron derrotados.
+    private void spawnEnemies(Chunk chunk) {
+        int[] enemyIds = chunks.getEnemies(chunk.index);
+        for (int k = 0; k < enemyIds.length; k++) {
+            int index = enemyIds[k];
+            if (enemyInstances[index] != null) {
+                // Enemigo conservado en una recarga: pasa a pertenecer a la franja.
+                if (!chunk.enemies.contains(enemyInstances[index])) chunk.enemies.add(enemyInstances[index]);
+                continue;
+            }
+            if (defeated.get(index)) continue;
+            Character enemy = spawner.spawnEnemy(level.enemies.get(index), chunk.plan[0][k]);
+            enemyIndex.put(enemy, index);
+            enemyInstances[index] = enemy;
+            chunk.enemies.add(enemy);
+        }
+    }
+
+    // Olvida un enemigo del nivel sin liberarlo; devuelve su indice o null si no es del nivel.
+    private Integer forget(Character enemy) {
+        Integer index = enemyIndex.remove(enemy);
+        if (index != null) enemyInstances[index] = null;
+        return index;
+    }
+
+    // Destruye los objetos de una franja; los enemigos muertos quedan como derrotados.
+    private void deactivate(Chunk chunk) {
+        for (Character enemy : chunk.enemies) {
+            Integer index = forget(enemy);
+            if (index != null && !enemy.isAlive()) markDefeated(index);
+            spawner.despawnEnemy(enemy);
+        }
+        chunk.enemies.clear();
+
+        for (NPCController npc : chunk.npcs) {
+            npcs.remove(npc);
+            spawner.despawnNpc(npc);
+        }
+        chunk.npcs.clear();
+        for (int i : chunks.getNpcs(chunk.index)) {
+            npcInstances[i] = null;
+        }
+
+        for (int i : chunks.getSolids(chunk.index)) {
+            if (--solidRefs[i] == 0 && solidInstances[i] != null) {
+                solidObjects.remove(solidInstances[i]);
+                solidInstances[i].dispose();
+                solidInstances[i] = null;
+            }
+        }
+        chunk.state = READY;
+    }
+
+    private void markDefeated(int index) {
+        if (!defeated.get(index)) {
+            defeated.set(index);
+            defeatedCount++;
+        }
+    }
+
+    // === EVENTOS DEL MUNDO ===
+
+    /**
+     * Indica que un enemigo se quito del mundo al terminar su animacion de muerte.
+     * Si es un enemigo del nivel, queda derrotado y no vuelve a aparecer.
+     * @param enemy El personaje del enemigo
+     */
+    public void onEnemyRemoved(Character enemy) {
+        Integer index = forget(enemy);
+        if (index == null) return; // Enemigo invocado por un jefe.
+        markDefeated(index);
+        chunkStates[chunks.chunkOf(level.enemies.get(index).x)].enemies.remove(enemy);
+    }
+
+    /**
+     * Reinicia los enemigos del nivel tras liberar el mundo (por ejemplo, al reintentar).
+     * Los personajes anteriores ya se liberaron; se olvidan los derrotados y se vuelven a crear
+     * los enemigos alrededor de la nueva vista. Los objetos solidos y los NPCs se conservan.
+     * @param left Borde izquierdo de la vista
+     * @param right Borde derecho de la vista
+     */
+    public void resetEnemies(float left, float right) {
+        for (Chunk chunk : resident) {
+            chunk.enemies.clear();
+        }
+        enemyIndex.clear();
+        Arrays.fill(enemyInstances, null);
+        defeated.clear();
+        defeatedCount = 0;
+
+        // Solo las franjas que siguen activas en la nueva ventana reciben enemigos aqui;
+        // las que quedan fuera se desactivan antes, para no crear enemigos que se liberarian enseguida.
+        int first = chunks.chunkOf(left - chunks.chunkWidth);
+        int last = chunks.chunkOf(right + chunks.chunkWidth);
+        for (Chunk chunk : new ArrayList<>(resident)) {
+            if (chunk.state != ACTIVE) continue;
+            if (chunk.index < first || chunk.index > last) {
+                deactivate(chunk);
+            } else {
+                spawnEnemies(chunk);
+            }
+        }
+        activateAround(left, right);
+    }
+
+    /**
+     * Sincroniza los enemigos tras restaurar una instantanea del mundo. La restauracion libera
+     * a los enemigos que no existian al tomarla; los de franjas activas vuelven a aparecer en su
+     * punto de inicio, porque un enemigo no derrotado siempre existe mientras su franja esta activa.
+     * @param enemies Los enemigos que quedaron en el mundo
+     */
+    public void onWorldRestored(List<? extends IEnemy> enemies) {
+        Set<Character> present = Collections.newSetFromMap(new IdentityHashMap<Character, Boolean>());
+        for (IEnemy enemy : enemies) {
+            present.add(enemy.getCharacter());
+        }
+        for (Chunk chunk : resident) {
+            if (chunk.state != ACTIVE) continue;
+            for (int i = chunk.enemies.size() - 1; i >= 0; i--) {
+                Character enemy = chunk.enemies.get(i);
+                if (!present.contains(enemy)) {
+                    forget(enemy);
+                    chunk.enemies.remove(i);
+                }
+            }
+            spawnEnemies(chunk);
+        }
+    }
+
+    /**
+     * Cambia a una nueva version del mismo nivel sin reiniciar la partida (recarga en caliente).
+     * Los objetos que no cambiaron conservan su instancia y su estado (los enemigos, su vida y
+     * posicion actuales); solo se crean los agregados y se liberan los quitados. Los enemigos
+     * derrotados siguen derrotados si no se editaron.
+     * @param newLevel Los datos nuevos del nivel
+     * @param newChunks Las franjas de los datos nuevos
+     * @param left Borde izquierdo de la vista
+     * @param right Borde derecho de la vista
+     */
+    public void reload(LevelData newLevel, LevelChunks newChunks, float left, float right) {
+        LevelDiff diff = LevelDiff.compare(level, newLevel);
+        for (Chunk chunk : resident) {
+            if (chunk.pending != null) chunk.pending.cancel(false);
+        }
+
+        // Pasa las instancias conservadas a los indices nuevos y libera las de los objetos quitados.
+        SolidObject[] keptSolids = new SolidObject[newLevel.solidObjectsData.size()];
+        for (int i = 0; i < solidInstances.length; i++) {
+            if (solidInstances[i] == null) continue;
+            if (diff.solids[i] >= 0) {
+                keptSolids[diff.solids[i]] = solidInstances[i];
+            } else {
+                solidObjects.remove(solidInstances[i]);
+                solidInstances[i].dispose();
+            }
+        }
+
+        Character[] keptEnemies = new Character[newLevel.enemies.size()];
+        enemyIndex.clear();
+        for (int i = 0; i < enemyInstances.length; i++) {
+            if (enemyInstances[i] == null) continue;
+            if (diff.enemies[i] >= 0) {
+                keptEnemies[diff.enemies[i]] = enemyInstances[i];
+                enemyIndex.put(enemyInstances[i], diff.enemies[i]);
+            } else {
+                spawner.despawnEnemy(enemyInstances[i]);
+            }
+        }
+        BitSet keptDefeated = new BitSet();
+        for (int i = defeated.nextSetBit(0); i >= 0; i = defeated.nextSetBit(i + 1)) {
+            if (diff.enemies[i] >= 0) keptDefeated.set(diff.enemies[i]);
+        }
+        defeated.clear();
+        defeated.or(keptDefeated);
+        defeatedCount = keptDefeated.cardinality();
+
+        NPCController[] keptNpcs = new NPCController[newLevel.npcs.size()];
+        for (int i = 0; i < npcInstances.length; i++) {
+            if (npcInstances[i] == null) continue;
+            if (diff.npcs[i] >= 0) {
+                keptNpcs[diff.npcs[i]] = npcInstances[i];
+            } else {
+                npcs.remove(npcInstances[i]);
+                spawner.despawnNpc(npcInstances[i]);
+            }
+        }
+
+        // Vuelve a armar las franjas con los datos nuevos; al activarlas se reutilizan las instancias.
+        setLevel(newLevel, newChunks);
+        solidInstances = keptSolids;
+        enemyInstances = keptEnemies;
+        npcInstances = keptNpcs;
+        activateAround(left, right);
+
+        // Las instancias conservadas que ahora quedan en franjas inactivas se liberan.
+        for (int i = 0; i < solidInstances.length; i++) {
+            if (solidInstances[i] != null && solidRefs[i] == 0) {
+                solidObjects.remove(solidInstances[i]);
+                solidInstances[i].dispose();
+                solidInstances[i] = null;
+            }
+        }
+        for (int i = 0; i < enemyInstances.length; i++) {
+            Character enemy = enemyInstances[i];
+            if (enemy != null && chunkStates[chunks.chunkOf(level.enemies.get(i).x)].state != ACTIVE) {
+                forget(enemy);
+                spawner.despawnEnemy(enemy);
+            }
+        }
+        for (int i = 0; i < npcInstances.length; i++) {
+            if (npcInstances[i] != null && chunkStates[chunks.chunkOf(level.npcs.get(i).x)].state != ACTIVE) {
+                npcs.remove(npcInstances[i]);
+                spawner.despawnNpc(npcInstances[i]);
+                npcInstances[i] = null;
+            }
+        }
+
+        Gdx.app.log(TAG, "Nivel recargado | Solidos: " + summary(diff.solids, keptSolids.length)
+            + " | Enemigos: " + summary(diff.enemies, keptEnemies.length)
+            + " | NPCs: " + summary(diff.npcs, keptNpcs.length));
+    }
+
+    private static String summary(int[] map, int newCount) {
+        int kept = LevelDiff.kept(map);
+        return kept + " sin cambios, +" + (newCount - kept) + ", -" + (map.length - kept);
+    }
+
+    /**
+     * Libera los objetos de todas las franjas activas y detiene el hilo de trabajo.
+     * Los enemigos ya se liberaron junto con el resto del mundo.
+     */
+    public void dispose() {
+        worker.shutdownNow();
+        for (Chunk chunk : resident) {
+            chunk.enemies.clear();
+            if (chunk.state == ACTIVE) deactivate(chunk);
+        }
+        enemyIndex.clear();
+        Arrays.fill(enemyInstances, null);
+        resident.clear();
+    }
+
+    // === CONSULTAS ===
+
+    /**
+     * Obtiene los objetos solidos activos. La lista es la misma durante todo el nivel.
+     * @return Los objetos solidos de las franjas activas
+     */
+    public ArrayList<SolidObject> getSolidObjects() {
+        return solidObjects;
+    }
+
+    /**
+     * Obtiene los NPCs activos. La lista es la misma durante todo el nivel.
+     * @return Los NPCs de las franjas activas
+     */
+    public List<NPCController> getNpcs() {
+        return npcs;
+    }
+
+    /**
+     * Obtiene la cantidad de enemigos del nivel que no estan activos ni derrotados.
+     * El nivel no se completa mientras queden.
+     * @return Enemigos en franjas sin activar
+     */
+    public int getPendingEnemyCount() {
+        return level.enemies.size() - defeatedCount - enemyIndex.size();
+    }
+
+    /**
+     * Franja del nivel con su estado de carga y los objetos creados a partir de ella.
+     */
+    private static final class Chunk {
+        private final int index;
+        private int state = UNLOADED;
+        private Future<float[][]> pending;
+        /** Y de aparicion de los enemigos [0] y NPCs [1], en el orden de 'LevelChunks' */
+        private float[][] plan;
+        private final List<Character> enemies = new ArrayList<>();
+        private final List<NPCController> npcs = new ArrayList<>();
+
+        private Chunk(int index) {
+            this.index = index;
+        }
+    }
+}
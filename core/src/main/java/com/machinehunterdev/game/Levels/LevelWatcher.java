@@ -0,0 +1,134 @@
+package com.machinehunterdev.game.Levels;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Vigila el JSON del nivel en juego para recargarlo en caliente en modo desarrollo.
+ * Un hilo espera los cambios del archivo con un 'WatchService', vuelve a leer solo ese JSON y
+ * deja el resultado listo; el estado de juego lo recoge con 'poll' en el hilo de OpenGL y aplica
+ * las diferencias con 'LevelStreamer.reload'. Un JSON con errores (por ejemplo, guardado a medias)
+ * se informa en el log y no reemplaza al nivel actual; las texturas y los tipos de enemigo que no
+ * existen los comprueba el estado de juego antes de aplicar el nivel.
+ * Si el nivel no es un archivo del disco (dentro del jar), el vigilante no hace nada.
+ *
+ * @author MachineHunterDev
+ */
+public class LevelWatcher
+{
+    private static final String TAG = "LevelWatcher";
+
+    /** Milisegundos sin cambios que se esperan antes de leer el archivo, porque un editor puede guardar en varios pasos */
+    private static final long SETTLE_MILLIS = 50;
+
+    private final File file;
+    private final WatchService watchService;
+
+    /** Ultima version leida que el estado de juego aun no recogio */
+    private final AtomicReference<LevelData> pending = new AtomicReference<>();
+
+    /**
+     * Empieza a vigilar el JSON de un nivel.
+     * @param levelFile Ruta interna del JSON del nivel
+     */
+    public LevelWatcher(String levelFile) {
+        File source = Gdx.files.internal(levelFile).file().getAbsoluteFile();
+        WatchService service = null;
+        if (source.isFile()) {
+            try {
+                service = FileSystems.getDefault().newWatchService();
+                source.getParentFile().toPath().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                Gdx.app.error(TAG, "No se puede vigilar el nivel: " + source, e);
+                close(service);
+                service = null;
+            }
+        }
+        this.file = source;
+        this.watchService = service;
+
+        if (watchService != null) {
+            Thread thread = new Thread(this::watch, "level-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            Gdx.app.log(TAG, "Recarga en caliente activa: " + source);
+        }
+    }
+
+    // Bucle del hilo: espera cambios del archivo y lo vuelve a leer cuando deja de cambiar.
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = consume(key);
+                // Agrupa los eventos de un mismo guardado.
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= consume(key);
+                }
+                if (changed) read();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // El vigilante se cerro.
+        }
+    }
+
+    // Indica si alguno de los eventos es del archivo vigilado.
+    private boolean consume(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context instanceof Path && ((Path) context).getFileName().toString().equals(file.getName())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void read() {
+        try {
+            LevelData level = new Json().fromJson(LevelData.class, new FileHandle(file));
+            pending.set(level);
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "El nivel editado no es valido, se conserva el actual: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recoge la ultima version del nivel leida desde la consulta anterior.
+     * @return Los datos nuevos del nivel, o null si el archivo no cambio
+     */
+    public LevelData poll() {
+        return pending.getAndSet(null);
+    }
+
+    /**
+     * Deja de vigilar el archivo y termina el hilo.
+     */
+    public void dispose() {
+        close(watchService);
+    }
+
+    private static void close(WatchService service) {
+        if (service == null) return;
+        try {
+            service.close();
+        } catch (IOException e) {
+            // No hay nada mas que liberar.
+        }
+    }
+}
@@ -95,10 +95,10 @@ public class BossHealthBar {
         float y = viewportHeight - barHeight - 20;
 
         font.setColor(Color.WHITE);
-        GlyphLayout layout = new GlyphLayout(font, bossName);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, bossName);
         float fontX = x + (barWidth - layout.width) / 2;
         float fontY = y + barHeight + layout.height - 30;
-        font.draw(batch, bossName, fontX, fontY);
+        font.draw(batch, layout, fontX, fontY);
     }
 
     /**
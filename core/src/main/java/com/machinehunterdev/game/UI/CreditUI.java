@@ -12,6 +12,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.machinehunterdev.game.GameController;
 import com.badlogic.gdx.utils.Align;
 import com.machinehunterdev.game.GameStates.MainMenuState;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.TextureCache;
 
 public class CreditUI implements InputProcessor {
 
@@ -19,10 +21,12 @@ public class CreditUI implements InputProcessor {
     private SpriteBatch batch;
     // Referencia al controlador principal del juego
     private GameController gameController;
-    // Textura de fondo para la pantalla de creditos
+    // Textura de fondo para la pantalla de creditos (propiedad de TextureCache)
     private Texture backgroundTexture;
     // Fuente para renderizar el texto de los creditos
     private BitmapFont font;
+    // Fuente a media escala para las instrucciones de omitir
+    private BitmapFont hintFont;
     // Array de cadenas que contiene el texto de los creditos
     private String[] credits = {
             "MACHINE HUNTER",
@@ -91,17 +95,32 @@ public class CreditUI implements InputProcessor {
     public CreditUI(SpriteBatch batch, GameController gameController) {
         this.batch = batch;
         this.gameController = gameController;
-        this.backgroundTexture = new Texture(Gdx.files.internal("Fondos/NameInputBackgroundShadowless.png"));
-        this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-        this.scrollY = -200; // Start credits off-screen
+        this.backgroundTexture = TextureCache.getInstance().get(MainMenuUI.BACKGROUND_TEXTURE);
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+        this.hintFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64, 0.5f);
+        reset();
 
         Pixmap skipPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         skipPixmap.setColor(Color.WHITE);
         skipPixmap.fill();
-        skipIndicatorTexture = new Texture(skipPixmap);
+        skipIndicatorTexture = GpuResourceTracker.getInstance().track(new Texture(skipPixmap));
         skipPixmap.dispose();
     }
 
+    /**
+     * Vuelve a empezar los creditos desde abajo, sin omitir ni avance rapido.
+     * Se llama al volver a entrar, ya que la interfaz se conserva entre entradas.
+     */
+    public void reset() {
+        scrollY = -200; // Start credits off-screen
+        creditsFinished = false;
+        finishedTimer = 0f;
+        skipUsed = false;
+        skipTimer = 0f;
+        isSkipping = false;
+        fastForward = false;
+    }
+
     /**
      * Actualiza la logica de la pantalla de creditos, incluyendo el temporizador de omitir.
      * @param dt Delta time, el tiempo transcurrido desde el ultimo frame.
@@ -121,10 +140,10 @@ public class CreditUI implements InputProcessor {
     public void draw() {
         update(Gdx.graphics.getDeltaTime());
 
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        GlyphLayout layout = new GlyphLayout();
         float y = scrollY;
 
         float currentScrollSpeed = fastForward ? scrollSpeed * 2 : scrollSpeed;
@@ -149,9 +168,9 @@ public class CreditUI implements InputProcessor {
             } else {
                 font.setColor(Color.WHITE);
             }
-            layout.setText(font, line);
+            GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, line);
             float x = (Gdx.graphics.getWidth() - layout.width) / 2;
-            font.draw(batch, line, x, y - totalHeight);
+            font.draw(batch, layout, x, y - totalHeight);
             totalHeight += 80;
         }
 
@@ -184,9 +203,9 @@ public class CreditUI implements InputProcessor {
             batch.draw(skipIndicatorTexture, barX + 4, barY + 4, (barWidth - 8) * progress, barHeight - 8);
         }
 
-        font.getData().setScale(0.5f);
-        font.draw(batch, "E - Avance rápido\nMantén Enter - Omitir", barX, barY + barHeight + 70, barWidth, Align.center, false);
-        font.getData().setScale(1.0f);
+        hintFont.setColor(Color.WHITE);
+        GlyphLayout hintLayout = GlyphLayoutCache.getInstance().get(hintFont, "E - Avance rápido\nMantén Enter - Omitir", barWidth, Align.center, false);
+        hintFont.draw(batch, hintLayout, barX, barY + barHeight + 70);
 
         batch.end();
     }
@@ -195,12 +214,7 @@ public class CreditUI implements InputProcessor {
      * Libera los recursos utilizados por la pantalla de creditos.
      */
     public void dispose() {
-        if (font != null) {
-            font.dispose();
-        }
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
+        // Las fuentes pertenecen a FontRegistry y el fondo a TextureCache.
         if (skipIndicatorTexture != null) {
             skipIndicatorTexture.dispose();
         }
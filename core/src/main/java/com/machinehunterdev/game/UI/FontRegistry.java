@@ -0,0 +1,169 @@
+package com.machinehunterdev.game.UI;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro compartido de fuentes (patron singleton).
+ * Mantiene una sola instancia por archivo de fuente y escala, en lugar de que cada
+ * interfaz cargue su propia copia. Las escalas distintas de 1 comparten la textura
+ * de la fuente base. Las interfaces no deben liberar las fuentes obtenidas aqui.
+ *
+ * @author MachineHunterDev
+ */
+public class FontRegistry {
+
+    /** Fuentes usadas por la interfaz */
+    public static final String ORANGE_KID_32 = "fonts/OrangeKid32.fnt";
+    public static final String ORANGE_KID_48 = "fonts/OrangeKid48.fnt";
+    public static final String ORANGE_KID_64 = "fonts/OrangeKid64.fnt";
+    public static final String ORANGE_KID_96 = "fonts/OrangeKid96.fnt";
+    public static final String ORANGE_KID_128 = "fonts/OrangeKid128.fnt";
+
+    /** Instancia unica del registro */
+    private static FontRegistry instance;
+
+    /** Fuentes cargadas, indexadas por archivo y escala */
+    private final Map<String, BitmapFont> fonts = new HashMap<>();
+
+    /**
+     * Devuelve la unica instancia del registro.
+     * @return El registro de fuentes
+     */
+    public static FontRegistry getInstance() {
+        if (instance == null) {
+            instance = new FontRegistry();
+        }
+        return instance;
+    }
+
+    private FontRegistry() {}
+
+    /**
+     * Obtiene una fuente a escala normal.
+     * @param path Ruta interna del archivo .fnt
+     * @return La fuente compartida
+     */
+    public BitmapFont get(String path) {
+        return get(path, 1.0f);
+    }
+
+    /**
+     * Obtiene una fuente con una escala fija.
+     * Si el archivo no se puede cargar, se usa la fuente por defecto de libGDX.
+     * @param path Ruta interna del archivo .fnt
+     * @param scale Escala de la fuente
+     * @return La fuente compartida
+     */
+    public BitmapFont get(String path, float scale) {
+        String key = path + "@" + scale;
+        BitmapFont font = fonts.get(key);
+        if (font != null) {
+            return font;
+        }
+
+        try {
+            if (scale == 1.0f) {
+                font = new BitmapFont(Gdx.files.internal(path));
+            } else {
+                // Comparte las texturas de la fuente base; solo se duplican los datos de los glifos.
+                BitmapFont base = get(path);
+                font = new BitmapFont(new BitmapFont.BitmapFontData(Gdx.files.internal(path), false), base.getRegions(), true);
+            }
+        } catch (Exception e) {
+            Gdx.app.error("FontRegistry", "Error al cargar la fuente " + path + ". Usando fuente por defecto.", e);
+            font = new BitmapFont();
+        }
+        font.getData().setScale(scale);
+        fonts.put(key, GpuResourceTracker.getInstance().track(font, this));
+        return font;
+    }
+
+    /**
+     * Lee un archivo de fuente y decodifica sus paginas sin usar OpenGL.
+     * Se puede llamar desde cualquier hilo; el resultado se registra despues con 'upload'.
+     * @param path Ruta interna del archivo .fnt
+     * @return La fuente decodificada; si falla, 'upload' usara la carga normal con su respaldo
+     */
+    public static Decoded decode(String path) {
+        Decoded decoded = new Decoded(path);
+        try {
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(Gdx.files.internal(path), false);
+            decoded.pages = new Pixmap[data.imagePaths.length];
+            for (int i = 0; i < decoded.pages.length; i++) {
+                decoded.pages[i] = new Pixmap(Gdx.files.internal(data.imagePaths[i]));
+            }
+            decoded.data = data;
+        } catch (Exception e) {
+            Gdx.app.error("FontRegistry", "Error al decodificar la fuente " + path, e);
+            decoded.disposePages();
+        }
+        return decoded;
+    }
+
+    /**
+     * Registra a escala normal una fuente decodificada con 'decode', subiendo sus paginas a la GPU.
+     * Debe llamarse desde el hilo de OpenGL.
+     * @param decoded La fuente decodificada
+     */
+    public void upload(Decoded decoded) {
+        String key = decoded.path + "@" + 1.0f;
+        if (fonts.containsKey(key)) {
+            decoded.disposePages();
+            return;
+        }
+        if (decoded.data == null) {
+            get(decoded.path);
+            return;
+        }
+
+        Array<TextureRegion> regions = new Array<>(decoded.pages.length);
+        for (Pixmap page : decoded.pages) {
+            regions.add(new TextureRegion(new Texture(page)));
+        }
+        decoded.disposePages();
+        BitmapFont font = new BitmapFont(decoded.data, regions, true);
+        font.setOwnsTexture(true);
+        fonts.put(key, GpuResourceTracker.getInstance().track(font, this));
+    }
+
+    /**
+     * Fuente leida y decodificada fuera del hilo de OpenGL, pendiente de subir.
+     */
+    public static final class Decoded {
+        private final String path;
+        private BitmapFont.BitmapFontData data;
+        private Pixmap[] pages;
+
+        private Decoded(String path) {
+            this.path = path;
+        }
+
+        private void disposePages() {
+            if (pages == null) return;
+            for (Pixmap page : pages) {
+                if (page != null) page.dispose();
+            }
+            pages = null;
+        }
+    }
+
+    /**
+     * Libera todas las fuentes y los textos medidos con ellas.
+     */
+    public void dispose() {
+        GlyphLayoutCache.getInstance().clear();
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+    }
+}
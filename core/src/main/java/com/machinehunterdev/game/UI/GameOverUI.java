@@ -13,10 +13,9 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Interpolation;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.audio.Sound;
 import com.machinehunterdev.game.Character.CharacterAnimator;
+import com.machinehunterdev.game.Dialog.DialogueDatabase;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.Audio.AudioId;
 import com.machinehunterdev.game.Audio.AudioManager;
@@ -63,6 +62,14 @@ public class GameOverUI implements InputProcessor {
 
     private boolean showContent = false;
 
+    // === Texto "ELIMINADO" ===
+
+    private static final String GAME_OVER_TEXT = "ELIMINADO";
+    // Cada letra como cadena y su ancho a escala normal; se miden una sola vez.
+    private String[] gameOverChars;
+    private float[] gameOverCharWidths;
+    private float gameOverTotalWidth;
+
     // === Mensajes de muerte ===
 
     private List<String> deathMessages;
@@ -83,44 +90,75 @@ public class GameOverUI implements InputProcessor {
     public GameOverUI(SpriteBatch batch, GameController gameController, CharacterAnimator animator) {
         this.batch = batch;
         this.gameController = gameController;
-        this.playerAnimator = animator;
         loadCustomBitmapFont();
         loadDeathMessages();
+        reset(animator);
+    }
 
-        // Seleccionar mensaje de muerte aleatorio al crear la interfaz
+    /**
+     * Reinicia la secuencia de fin de juego para una nueva muerte: temporizadores, opciones
+     * y un nuevo mensaje de muerte aleatorio. La interfaz se conserva entre entradas.
+     * @param animator Animador del personaje para mostrar la animacion de muerte
+     */
+    public void reset(CharacterAnimator animator) {
+        stopSounds();
+        this.playerAnimator = animator;
+        selected = 0;
+        gameOverTextTimer = 0f;
+        dialogueTimer = 0f;
+        optionsTimer = 0f;
+        deathMessageFinished = false;
+        showDeathMessage = false;
+        showOptions = false;
+        musicStarted = false;
+        showContent = false;
+        confirmationSelected = 0;
+        isExitConfirmationVisible = false;
+        eliminatedSoundPlayed = 0;
+
+        // Seleccionar mensaje de muerte aleatorio en cada entrada
         if (deathMessages != null && !deathMessages.isEmpty()) {
-            randomDeathMessage = deathMessages.get(new Random().nextInt(deathMessages.size()));
+            randomDeathMessage = deathMessages.get(random.nextInt(deathMessages.size()));
         }
     }
 
     /**
-     * Carga la fuente personalizada para la interfaz.
-     * Si falla la carga, se utiliza una fuente por defecto.
+     * Obtiene la fuente personalizada compartida para la interfaz.
+     * Si falla la carga, el registro utiliza una fuente por defecto.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-            this.font.setColor(Color.WHITE);
-        } catch (Exception e) {
-            System.err.println("Error al cargar la fuente personalizada. Usando fuente por defecto.");
-            this.font = new BitmapFont();
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+    }
+
+    /**
+     * Mide una sola vez las letras del texto "ELIMINADO" a la escala normal.
+     * @param normalScale Escala final de las letras.
+     * @param letterSpacing Separacion entre letras.
+     */
+    private void measureGameOverText(float normalScale, float letterSpacing) {
+        BitmapFont scaledFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64, normalScale);
+        gameOverChars = new String[GAME_OVER_TEXT.length()];
+        gameOverCharWidths = new float[GAME_OVER_TEXT.length()];
+        gameOverTotalWidth = 0;
+        for (int i = 0; i < GAME_OVER_TEXT.length(); i++) {
+            gameOverChars[i] = String.valueOf(GAME_OVER_TEXT.charAt(i));
+            gameOverCharWidths[i] = new GlyphLayout(scaledFont, gameOverChars[i]).width;
+            gameOverTotalWidth += gameOverCharWidths[i] + letterSpacing;
         }
+        gameOverTotalWidth -= letterSpacing;
     }
 
     /**
-     * Carga los mensajes de muerte desde un archivo JSON.
-     * Si falla la carga, se utilizan mensajes por defecto.
+     * Obtiene los mensajes de muerte desde la base de datos de dialogos.
+     * Si no se encuentran, se utilizan mensajes por defecto.
      */
     private void loadDeathMessages() {
         deathMessages = new ArrayList<>();
-        try {
-            JsonReader jsonReader = new JsonReader();
-            JsonValue base = jsonReader.parse(Gdx.files.internal("Dialogos/Dialogos_muerte.json"));
-            JsonValue dialogos = base.get("Dialogos_muerte");
-            for (JsonValue dialogo : dialogos) {
-                deathMessages.add(dialogo.getString("Texto"));
-            }
-        } catch (Exception e) {
+        DialogueDatabase.Section section = DialogueDatabase.getInstance().getSection("Dialogos/Dialogos_muerte.json", "Dialogos_muerte");
+        if (section != null) {
+            deathMessages.addAll(section.getAllLines());
+        }
+        if (deathMessages.isEmpty()) {
             System.err.println("Error al cargar los mensajes de muerte. Usando mensajes por defecto.");
             deathMessages.add("Has muerto.");
         }
@@ -188,30 +226,23 @@ public class GameOverUI implements InputProcessor {
      * Dibuja el texto "ELIMINADO" con animacion de escritura y efecto de sacudida.
      */
     private void drawGameOverText() {
-        String gameOverText = "ELIMINADO";
         float animationPerCharDuration = 0.1f; // Increased speed
         float normalScale = 4.0f; // Reduced the size
         float startScale = 20.0f; // Adjusted for a more dramatic effect
         float shakeAmount = 4.0f;
         float letterSpacing = 30.0f; // Set to 30 pixels
 
-        font.getData().setScale(normalScale);
-        float totalWidth = 0;
-        for (char c : gameOverText.toCharArray()) {
-            GlyphLayout charLayout = new GlyphLayout(font, String.valueOf(c));
-            totalWidth += charLayout.width + letterSpacing;
+        if (gameOverChars == null) {
+            measureGameOverText(normalScale, letterSpacing);
         }
-        totalWidth -= letterSpacing;
 
-        float startX = (Gdx.graphics.getWidth() - totalWidth) / 2f;
+        float startX = (Gdx.graphics.getWidth() - gameOverTotalWidth) / 2f;
         float y = Gdx.graphics.getHeight() * 0.9f;
 
         float currentX = startX;
 
-        for (int i = 0; i < gameOverText.length(); i++) {
-            char c = gameOverText.charAt(i);
-            GlyphLayout charLayout = new GlyphLayout(font, String.valueOf(c));
-            float charWidth = charLayout.width;
+        for (int i = 0; i < gameOverChars.length; i++) {
+            float charWidth = gameOverCharWidths[i];
 
             float startTime = i * animationPerCharDuration;
 
@@ -247,8 +278,7 @@ public class GameOverUI implements InputProcessor {
 
                 font.getData().setScale(scale);
                 font.setColor(1, 0, 0, alpha); // Red color with alpha
-                font.draw(batch, String.valueOf(c), drawX + shakeX, drawY + shakeY);
-                font.getData().setScale(normalScale); // Reset scale for next char calculation
+                font.draw(batch, gameOverChars[i], drawX + shakeX, drawY + shakeY);
             }
 
             currentX += charWidth + letterSpacing;
@@ -284,10 +314,11 @@ public class GameOverUI implements InputProcessor {
             }
         }
 
-        GlyphLayout layout = new GlyphLayout(font, visibleText);
+        font.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, visibleText);
         float x = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float y = Gdx.graphics.getHeight() * 0.25f;
-        font.draw(batch, visibleText, x, y);
+        font.draw(batch, layout, x, y);
     }
 
     /**
@@ -302,12 +333,12 @@ public class GameOverUI implements InputProcessor {
 
         for (int i = 0; i < options.length; i++) {
             String text = (i == selected ? "> " : "  ") + options[i];
-            GlyphLayout layout = new GlyphLayout(font, text);
+            font.setColor(i == selected ? Color.RED : Color.WHITE);
+            GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, text);
             float x = (Gdx.graphics.getWidth() - layout.width) / 2f;
             float y = startY - i * lineHeight;
 
-            font.setColor(i == selected ? Color.RED : Color.WHITE);
-            font.draw(batch, text, x, y);
+            font.draw(batch, layout, x, y);
         }
     }
 
@@ -318,23 +349,23 @@ public class GameOverUI implements InputProcessor {
      */
     private void drawExitConfirmation() {
         String confirmationText = "¿Estás seguro que quieres salir?";
-        GlyphLayout confirmationLayout = new GlyphLayout(font, confirmationText);
+        font.setColor(Color.WHITE);
+        GlyphLayout confirmationLayout = GlyphLayoutCache.getInstance().get(font, confirmationText);
         float confirmationX = (Gdx.graphics.getWidth() - confirmationLayout.width) / 2f;
         float confirmationY = Gdx.graphics.getHeight() * 0.30f;
-        font.setColor(Color.WHITE);
-        font.draw(batch, confirmationText, confirmationX, confirmationY);
+        font.draw(batch, confirmationLayout, confirmationX, confirmationY);
 
         float startY = Gdx.graphics.getHeight() * 0.20f;
         float lineHeight = 70f;
 
         for (int i = 0; i < confirmationOptions.length; i++) {
             String text = (i == confirmationSelected ? "> " : "  ") + confirmationOptions[i];
-            GlyphLayout layout = new GlyphLayout(font, text);
+            font.setColor(i == confirmationSelected ? Color.RED : Color.WHITE);
+            GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, text);
             float x = (Gdx.graphics.getWidth() - layout.width) / 2f;
             float y = startY - i * lineHeight;
 
-            font.setColor(i == confirmationSelected ? Color.RED : Color.WHITE);
-            font.draw(batch, text, x, y);
+            font.draw(batch, layout, x, y);
         }
     }
 
@@ -346,12 +377,12 @@ public class GameOverUI implements InputProcessor {
         + Input.Keys.toString(GlobalSettings.CONTROL_CROUCH) + " - Cambiar opción | " 
         + Input.Keys.toString(GlobalSettings.CONTROL_INTERACT) + " - Seleccionar";
         
-        GlyphLayout layout = new GlyphLayout(font, controlsText);
-
         font.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, controlsText);
+
         float textX = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float textY = 10 + layout.height + 20;
-        font.draw(batch, controlsText, textX, textY);
+        font.draw(batch, layout, textX, textY);
     }
     
     /**
@@ -372,6 +403,7 @@ public class GameOverUI implements InputProcessor {
                 } else if (keycode == GlobalSettings.CONTROL_INTERACT) {
                     if (confirmationSelected == 0) { // Sí
                         AudioManager.getInstance().playSfx(AudioId.UIAccept, null);
+                        GameplayState.releaseRetainedState();
                         gameController.stateMachine.changeState(MainMenuState.instance);
                     } else { // No
                         AudioManager.getInstance().playSfx(AudioId.UICancel, null);
@@ -389,7 +421,7 @@ public class GameOverUI implements InputProcessor {
                     if (selected == 0) { // Reintentar
                         AudioManager.getInstance().playSfx(AudioId.UIAccept, null);
                         AudioManager.getInstance().pauseMusic(false);
-                        GameplayState currentLevel = GameplayState.createForLevel(com.machinehunterdev.game.Gameplay.GlobalSettings.currentLevelFile);
+                        GameplayState currentLevel = GameplayState.createForRetry(com.machinehunterdev.game.Gameplay.GlobalSettings.currentLevelFile);
                         gameController.stateMachine.changeState(currentLevel);
                     } else if (selected == 1) { // Salir
                         AudioManager.getInstance().playSfx(AudioId.UICancel, null);
@@ -448,13 +480,18 @@ public class GameOverUI implements InputProcessor {
      * Libera los recursos utilizados por la interfaz.
      */
     public void dispose() {
+        stopSounds();
+        // La fuente pertenece a FontRegistry.
+    }
+
+    /**
+     * Detiene el sonido de escritura del mensaje de muerte, si esta sonando.
+     */
+    public void stopSounds() {
         if (talkingSound != null) {
             talkingSound.stop();
             talkingSound = null;
         }
-        if (font != null) {
-            font.dispose();
-        }
     }
     
     // === Metodos de InputProcessor no utilizados ===
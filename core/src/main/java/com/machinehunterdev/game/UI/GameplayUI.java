@@ -10,6 +10,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.machinehunterdev.game.Character.Character;
 import com.machinehunterdev.game.Character.EnemyType;
 import com.machinehunterdev.game.DamageTriggers.WeaponType;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 
 public class GameplayUI {
 
@@ -44,30 +45,24 @@ public class GameplayUI {
      */
     public GameplayUI(SpriteBatch batch) {
         this.batch = batch;
-        this.shapeRenderer = new ShapeRenderer();
+        this.shapeRenderer = GpuResourceTracker.getInstance().newShapeRenderer();
         this.uiCamera = new OrthographicCamera();
         this.uiCamera.setToOrtho(false, 1280, 720);
         loadCustomBitmapFont();
 
-        laserIcon = new Texture(Gdx.files.internal("UI/LaserIcon.png"));
-        ionIcon = new Texture(Gdx.files.internal("UI/IonIcon.png"));
-        railgunIcon = new Texture(Gdx.files.internal("UI/RailgunIcon.png"));
-        heartTexture = new Texture(Gdx.files.internal("UI/Heart.png"));
-        noHeartTexture = new Texture(Gdx.files.internal("UI/Heartbroken.png"));
-        pauseIcon = new Texture(Gdx.files.internal("UI/PauseIcon.png"));
+        laserIcon = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/LaserIcon.png")));
+        ionIcon = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/IonIcon.png")));
+        railgunIcon = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/RailgunIcon.png")));
+        heartTexture = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/Heart.png")));
+        noHeartTexture = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/Heartbroken.png")));
+        pauseIcon = GpuResourceTracker.getInstance().track(new Texture(Gdx.files.internal("UI/PauseIcon.png")));
     }
 
     /**
-     * Carga la fuente personalizada para la interfaz.
+     * Obtiene la fuente personalizada compartida para la interfaz.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-            this.font.setColor(Color.WHITE);
-        } catch (Exception e) {
-            System.err.println("Error al cargar la fuente personalizada. Usando fuente por defecto.");
-            this.font = new BitmapFont();
-        }
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
     }
 
     
@@ -179,11 +174,10 @@ public class GameplayUI {
 
     /**
      * Libera los recursos utilizados por la interfaz.
-     * Incluye el ShapeRenderer, la fuente y las texturas.
+     * Incluye el ShapeRenderer y las texturas; la fuente pertenece a FontRegistry.
      */
     public void dispose() {
         shapeRenderer.dispose();
-        font.dispose();
         heartTexture.dispose();
         noHeartTexture.dispose();
         pauseIcon.dispose();
@@ -0,0 +1,138 @@
+package com.machinehunterdev.game.UI;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU de textos ya medidos (patron singleton).
+ * Guarda el 'GlyphLayout' de cada combinacion de fuente, texto, ancho y alineacion, junto con
+ * la escala y el color de la fuente al medirlo, de modo que el texto que no cambia no se vuelve
+ * a medir en cada fotograma. Los layouts devueltos son compartidos y no deben modificarse.
+ *
+ * @author MachineHunterDev
+ */
+public class GlyphLayoutCache {
+
+    /** Cantidad maxima de textos guardados */
+    private static final int MAX_ENTRIES = 256;
+
+    /** Instancia unica de la cache */
+    private static GlyphLayoutCache instance;
+
+    /** Textos medidos, del menos al mas usado recientemente */
+    private final LinkedHashMap<Key, GlyphLayout> layouts = new LinkedHashMap<Key, GlyphLayout>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, GlyphLayout> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /** Clave reutilizada para las busquedas, para no crear objetos cuando el texto ya esta medido */
+    private final Key probe = new Key();
+
+    /**
+     * Devuelve la unica instancia de la cache.
+     * @return La cache de textos medidos
+     */
+    public static GlyphLayoutCache getInstance() {
+        if (instance == null) {
+            instance = new GlyphLayoutCache();
+        }
+        return instance;
+    }
+
+    private GlyphLayoutCache() {}
+
+    /**
+     * Obtiene el layout de un texto en una sola linea, alineado a la izquierda.
+     * Usa la escala y el color actuales de la fuente.
+     * @param font La fuente
+     * @param text El texto
+     * @return El layout compartido
+     */
+    public GlyphLayout get(BitmapFont font, String text) {
+        return get(font, text, 0, Align.left, false);
+    }
+
+    /**
+     * Obtiene el layout de un texto con ancho y alineacion.
+     * Usa la escala y el color actuales de la fuente.
+     * @param font La fuente
+     * @param text El texto
+     * @param targetWidth Ancho disponible para alinear o ajustar el texto
+     * @param halign Alineacion horizontal (ver 'Align')
+     * @param wrap Si el texto debe ajustarse al ancho
+     * @return El layout compartido
+     */
+    public GlyphLayout get(BitmapFont font, String text, float targetWidth, int halign, boolean wrap) {
+        probe.set(font, text, targetWidth, halign, wrap);
+        GlyphLayout layout = layouts.get(probe);
+        if (layout == null) {
+            layout = new GlyphLayout(font, text, font.getColor(), targetWidth, halign, wrap);
+            Key key = new Key();
+            key.set(font, text, targetWidth, halign, wrap);
+            layouts.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Descarta todos los textos medidos.
+     */
+    public void clear() {
+        layouts.clear();
+    }
+
+    /**
+     * Clave de un texto medido: fuente, texto, ancho, alineacion, escala y color.
+     */
+    private static final class Key {
+        private BitmapFont font;
+        private String text;
+        private float targetWidth;
+        private int halign;
+        private boolean wrap;
+        private float scaleX, scaleY;
+        private float color;
+
+        private void set(BitmapFont font, String text, float targetWidth, int halign, boolean wrap) {
+            this.font = font;
+            this.text = text;
+            this.targetWidth = targetWidth;
+            this.halign = halign;
+            this.wrap = wrap;
+            this.scaleX = font.getData().scaleX;
+            this.scaleY = font.getData().scaleY;
+            this.color = font.getColor().toFloatBits();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return font == other.font && halign == other.halign && wrap == other.wrap
+                && Float.compare(targetWidth, other.targetWidth) == 0
+                && Float.compare(scaleX, other.scaleX) == 0
+                && Float.compare(scaleY, other.scaleY) == 0
+                && Float.compare(color, other.color) == 0
+                && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = System.identityHashCode(font);
+            h = 31 * h + text.hashCode();
+            h = 31 * h + Float.floatToIntBits(targetWidth);
+            h = 31 * h + halign;
+            h = 31 * h + (wrap ? 1 : 0);
+            h = 31 * h + Float.floatToIntBits(scaleX);
+            h = 31 * h + Float.floatToIntBits(scaleY);
+            h = 31 * h + Float.floatToIntBits(color);
+            return h;
+        }
+    }
+}
@@ -14,6 +14,8 @@ import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.GameStates.CreditState;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.TextureCache;
 
 /**
  * Interfaz de usuario para el menú principal del juego.
@@ -22,6 +24,9 @@ import com.machinehunterdev.game.Gameplay.GlobalSettings;
  * @author MachineHunterDev
  */
 public class MainMenuUI implements InputProcessor {
+
+    /** Ruta del fondo del menu; se carga durante el inicio y queda residente en TextureCache */
+    public static final String BACKGROUND_TEXTURE = "Fondos/NameInputBackgroundShadowless.png";
     
     /** Opciones del menu principal */
     private String[] options = {"Iniciar partida", "Opciones", "Créditos", "Salir"};
@@ -40,7 +45,7 @@ public class MainMenuUI implements InputProcessor {
     /** Controlador del juego para gestion de estados */
     private GameController gameController;
     
-    /** Textura del fondo del menu */
+    /** Textura del fondo del menu (propiedad de TextureCache) */
     private Texture texture;
     
     /** Textura blanca para elementos de interfaz */
@@ -55,46 +60,48 @@ public class MainMenuUI implements InputProcessor {
     public MainMenuUI(SpriteBatch batch, GameController gameController) {
         this.batch = batch;
         this.gameController = gameController;
-        this.texture = new Texture(Gdx.files.internal("Fondos/NameInputBackgroundShadowless.png"));
+        this.texture = TextureCache.getInstance().get(BACKGROUND_TEXTURE);
         loadCustomBitmapFont();
 
         // Crear textura blanca programáticamente para elementos de interfaz
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.WHITE);
         pixmap.fill();
-        this.backgroundTexture = new Texture(pixmap);
+        this.backgroundTexture = GpuResourceTracker.getInstance().track(new Texture(pixmap));
         pixmap.dispose();
     }
 
     /**
-     * Carga la fuente bitmap personalizada para el menu y el titulo.
-     * Si falla la carga, se utilizan fuentes por defecto.
+     * Obtiene las fuentes bitmap personalizadas compartidas para el menu y el titulo.
+     * Si falla la carga, el registro utiliza fuentes por defecto.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-            this.font.setColor(Color.WHITE);
-            this.titleFont = new BitmapFont(Gdx.files.internal("fonts/OrangeKid128.fnt"));
-            this.titleFont.setColor(Color.RED);
-        } catch (Exception e) {
-            this.font = new BitmapFont();
-            this.titleFont = new BitmapFont();
-        }
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+        this.titleFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_128);
+    }
+
+    /**
+     * Vuelve a seleccionar la primera opcion. Se llama al volver al menu,
+     * ya que la interfaz se conserva entre entradas.
+     */
+    public void reset() {
+        selected = 0;
     }
 
     /**
      * Dibuja las opciones del menu en pantalla, incluyendo el titulo y los controles.
      */
     public void drawMenu() {
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         batch.begin();
         batch.draw(texture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        GlyphLayout layout = new GlyphLayout();
 
         int screenWidth = Gdx.graphics.getWidth();
         int screenHeight = Gdx.graphics.getHeight();
 
         // Draw title
-        layout.setText(titleFont, "MACHINE HUNTER");
+        titleFont.setColor(Color.RED);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(titleFont, "MACHINE HUNTER");
         float titleX = (screenWidth - layout.width) / 2f;
         float titleY = screenHeight * 0.9f;
         titleFont.draw(batch, layout, titleX, titleY);
@@ -105,12 +112,12 @@ public class MainMenuUI implements InputProcessor {
         // Dibujar opciones con resaltado de selección
         for (int i = 0; i < options.length; i++) {
             String text = (i == selected ? "> " : "  ") + options[i];
-            layout.setText(font, text);
+            font.setColor(i == selected ? Color.RED : Color.WHITE);
+            layout = GlyphLayoutCache.getInstance().get(font, text);
             float x = (screenWidth - layout.width) / 2f;
             float y = startY - i * lineHeight;
 
-            font.setColor(i == selected ? Color.RED : Color.WHITE);
-            font.draw(batch, text, x, y);
+            font.draw(batch, layout, x, y);
         }
 
         drawControls();
@@ -122,7 +129,7 @@ public class MainMenuUI implements InputProcessor {
      */
     private void drawControls() {
         String controlsText = Input.Keys.toString(GlobalSettings.CONTROL_INTERACT) + " - Seleccionar | " + Input.Keys.toString(GlobalSettings.CONTROL_JUMP) + " / " + Input.Keys.toString(GlobalSettings.CONTROL_CROUCH) + " - Cambiar opción";
-        GlyphLayout layout = new GlyphLayout(font, controlsText);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, controlsText);
 
         float boxWidth = layout.width + 40;
         float boxHeight = layout.height + 40;
@@ -135,7 +142,7 @@ public class MainMenuUI implements InputProcessor {
 
         float textX = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float textY = boxY + boxHeight / 2 + layout.height / 2;
-        font.draw(batch, controlsText, textX, textY);
+        font.draw(batch, layout, textX, textY);
     }
 
     // === Manejo de entrada ===
@@ -188,13 +195,11 @@ public class MainMenuUI implements InputProcessor {
 
     /**
      * Libera los recursos utilizados por la interfaz.
-     * Se asegura de liberar la fuente si no es nula.
+     * Las fuentes pertenecen a FontRegistry, por lo que no se liberan aqui.
      */
     public void dispose() {
-        if (font != null) {
-            font.dispose();
-        }
-        // Nota: No se dispone 'texture' ni 'batch' aquí si son gestionados por otra clase
+        // El fondo pertenece a TextureCache y el SpriteBatch a GameController.
+        backgroundTexture.dispose();
     }
 
     // === Metodos de InputProcessor no utilizados ===
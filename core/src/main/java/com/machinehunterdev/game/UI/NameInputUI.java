@@ -12,6 +12,7 @@ import com.machinehunterdev.game.Character.Character;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.GameStates.GameplayState;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.TextureCache;
 
 /**
  * Interfaz de usuario para la entrada del nombre del jugador.
@@ -27,11 +28,16 @@ public class NameInputUI implements InputProcessor {
     }
 
     private State currentState = State.NAME_INPUT;
+    private static final String[] TUTORIAL_OPTIONS = {"Sí", "No"};
     private int tutorialConfirmSelection = 0;
     private boolean ignoreInput = false;
 
     /** Fuente para el texto de la interfaz */
     private BitmapFont font;
+    /** Fuente a escala 2 para el titulo */
+    private BitmapFont titleFont;
+    /** Fuente a escala 1.5 para el nombre y los dialogos */
+    private BitmapFont inputFont;
     
     /** SpriteBatch para renderizado */
     private SpriteBatch batch;
@@ -41,7 +47,7 @@ public class NameInputUI implements InputProcessor {
     
     /** Nombre del jugador en construccion */
     private StringBuilder playerName;
-    // Fondo para la pantalla de confirmacion del tutorial
+    // Fondo para la pantalla de confirmacion del tutorial (propiedad de TextureCache)
     private com.badlogic.gdx.graphics.Texture tutorialBackground;
 
     /**
@@ -55,23 +61,30 @@ public class NameInputUI implements InputProcessor {
         this.batch = batch;
         this.gameController = gameController;
         this.playerName = new StringBuilder();
-        this.tutorialBackground = new com.badlogic.gdx.graphics.Texture("Fondos/NameInputBackgroundShadowless.png");
+        this.tutorialBackground = TextureCache.getInstance().get(MainMenuUI.BACKGROUND_TEXTURE);
 
         loadCustomBitmapFont();
     }
 
     /**
-     * Carga la fuente personalizada para la interfaz.
-     * Si falla la carga, se utiliza una fuente por defecto.
+     * Obtiene las fuentes personalizadas compartidas para la interfaz, una por cada escala usada.
+     * Si falla la carga, el registro utiliza una fuente por defecto.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-            this.font.setColor(Color.WHITE);
-        } catch (Exception e) {
-            System.err.println("Error al cargar la fuente personalizada. Usando fuente por defecto.");
-            this.font = new BitmapFont();
-        }
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+        this.titleFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64, 2f);
+        this.inputFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64, 1.5f);
+    }
+
+    /**
+     * Vacia el nombre y vuelve a la entrada de nombre. Se llama al volver a entrar,
+     * ya que la interfaz se conserva entre entradas.
+     */
+    public void reset() {
+        currentState = State.NAME_INPUT;
+        tutorialConfirmSelection = 0;
+        ignoreInput = false;
+        playerName.setLength(0);
     }
 
     /**
@@ -86,30 +99,29 @@ public class NameInputUI implements InputProcessor {
                 // Dibujar el personaje animado
                 playerCharacter.draw(batch);
 
-                GlyphLayout layout = new GlyphLayout();
                 String prompt = "INGRESA TU NOMBRE";
-                font.getData().setScale(2);
-                layout.setText(font, prompt);
+                titleFont.setColor(Color.WHITE);
+                GlyphLayout layout = GlyphLayoutCache.getInstance().get(titleFont, prompt);
                 float promptX = (Gdx.graphics.getWidth() - layout.width) / 2f;
                 float promptY = Gdx.graphics.getHeight() - 50;
-                font.draw(batch, prompt, promptX, promptY);
+                titleFont.draw(batch, layout, promptX, promptY);
 
-                font.getData().setScale(1.5f);
                 String nameText = playerName.toString();
-                layout.setText(font, nameText);
+                inputFont.setColor(Color.WHITE);
+                layout = GlyphLayoutCache.getInstance().get(inputFont, nameText);
 
                 // Adjust to center the text and cursor together
                 float totalInputWidth = layout.width + 2; // Width of text + cursor
                 float centeredStartX = (Gdx.graphics.getWidth() - totalInputWidth) / 2f;
 
                 float nameY = Gdx.graphics.getHeight() / 4f;
-                font.draw(batch, nameText, centeredStartX, nameY);
+                inputFont.draw(batch, layout, centeredStartX, nameY);
 
                 String controls = "Teclado - Escribir nombre | Enter - Aceptar";
-                font.getData().setScale(1);
-                layout.setText(font, controls);
+                font.setColor(Color.WHITE);
+                layout = GlyphLayoutCache.getInstance().get(font, controls);
                 float controlsX = (Gdx.graphics.getWidth() - layout.width) / 2f;
-                font.draw(batch, controls, controlsX, 50);
+                font.draw(batch, layout, controlsX, 50);
 
                 batch.end();
 
@@ -118,17 +130,16 @@ public class NameInputUI implements InputProcessor {
 
             case TUTORIAL_CONFIRM:
                 batch.draw(tutorialBackground, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-                drawDialog("¿Quieres jugar el tutorial?", new String[]{"Sí", "No"}, tutorialConfirmSelection);
+                drawDialog("¿Quieres jugar el tutorial?", TUTORIAL_OPTIONS, tutorialConfirmSelection);
                 break;
         }
 
         if (currentState != State.NAME_INPUT) {
             String dialogControls = "E - Aceptar | Q - Retroceder | W / S - Cambiar selección";
-            GlyphLayout layout = new GlyphLayout();
-            font.getData().setScale(1);
-            layout.setText(font, dialogControls);
+            font.setColor(Color.WHITE);
+            GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, dialogControls);
             float controlsX = (Gdx.graphics.getWidth() - layout.width) / 2f;
-            font.draw(batch, dialogControls, controlsX, 50);
+            font.draw(batch, layout, controlsX, 50);
             batch.end();
         }
     }
@@ -140,26 +151,25 @@ public class NameInputUI implements InputProcessor {
      * @param selection El indice de la opcion actualmente seleccionada.
      */
     private void drawDialog(String title, String[] options, int selection) {
-        GlyphLayout layout = new GlyphLayout();
-        font.getData().setScale(1.5f);
-        layout.setText(font, title);
+        inputFont.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(inputFont, title);
         float titleX = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float titleY = Gdx.graphics.getHeight() / 2f + 100;
-        font.draw(batch, title, titleX, titleY);
+        inputFont.draw(batch, layout, titleX, titleY);
 
         float optionY = Gdx.graphics.getHeight() / 2f;
         for (int i = 0; i < options.length; i++) {
             if (i == selection) {
-                font.setColor(Color.RED);
+                inputFont.setColor(Color.RED);
             } else {
-                font.setColor(Color.WHITE);
+                inputFont.setColor(Color.WHITE);
             }
-            layout.setText(font, options[i]);
+            layout = GlyphLayoutCache.getInstance().get(inputFont, options[i]);
             float optionX = (Gdx.graphics.getWidth() - layout.width) / 2f;
-            font.draw(batch, options[i], optionX, optionY);
+            inputFont.draw(batch, layout, optionX, optionY);
             optionY -= 80;
         }
-        font.setColor(Color.WHITE);
+        inputFont.setColor(Color.WHITE);
     }
 
     // === Manejo de entrada ===
@@ -202,9 +212,9 @@ public class NameInputUI implements InputProcessor {
                         gameController.stateMachine.changeState(tutorial);
                     } else { // No
                         // Cargar nivel 1
-                        com.machinehunterdev.game.Levels.LevelData level1Data = com.machinehunterdev.game.Levels.LevelLoader.loadLevel("Levels/Level 1.json");
+                        com.machinehunterdev.game.Levels.LevelData level1Data = com.machinehunterdev.game.Levels.LevelCache.getInstance().get("Levels/Level 1.json");
                         if (level1Data != null && level1Data.flashbackDialogueSection != null && !level1Data.flashbackDialogueSection.isEmpty()) {
-                            gameController.stateMachine.changeState(new com.machinehunterdev.game.GameStates.DialogState(level1Data.flashbackDialogueSection, "Levels/Level 1.json"));
+                            gameController.stateMachine.changeState(com.machinehunterdev.game.GameStates.DialogState.forFlashback(gameController, level1Data.flashbackDialogueSection, "Levels/Level 1.json"));
                         } else {
                             GameplayState level1 = GameplayState.createForLevel("Levels/Level 1.json");
                             gameController.stateMachine.changeState(level1);
@@ -250,14 +260,9 @@ public class NameInputUI implements InputProcessor {
 
     /**
      * Libera los recursos utilizados por la interfaz.
-     * Incluye la fuente y la textura de fondo del tutorial.
+     * No hay recursos propios: las fuentes pertenecen a FontRegistry y el fondo del tutorial a TextureCache.
      */
     public void dispose() {
-        if (font != null) {
-            font.dispose();
-        }
-        tutorialBackground.dispose();
-
     }
 
     // === Metodos de InputProcessor no utilizados ===
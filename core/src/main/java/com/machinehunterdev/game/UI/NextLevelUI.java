@@ -14,6 +14,7 @@ import com.machinehunterdev.game.Gameplay.GlobalSettings;
 import com.machinehunterdev.game.Audio.AudioId;
 import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.GameStates.DialogState;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 
 /**
  * Interfaz de usuario que se muestra al completar un nivel.
@@ -36,6 +37,8 @@ public class NextLevelUI implements InputProcessor {
     private String[] options = {"Continuar"};
     /* Indice de la opcion seleccionada */
     private int selectedOption = 0;
+    /** Color de la opcion seleccionada */
+    private static final Color SELECTED_COLOR = new Color(0.7f, 0, 0, 1);
 
     /**
      * Constructor de la interfaz de siguiente nivel.
@@ -50,22 +53,18 @@ public class NextLevelUI implements InputProcessor {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.WHITE);
         pixmap.fill();
-        this.backgroundTexture = new Texture(pixmap);
+        this.backgroundTexture = GpuResourceTracker.getInstance().track(new Texture(pixmap));
         pixmap.dispose();
 
         loadCustomBitmapFont();
     }
 
     /**
-     * Carga la fuente personalizada para la interfaz.
-     * Si falla la carga, se utiliza una fuente por defecto.
+     * Obtiene la fuente personalizada compartida para la interfaz.
+     * Si falla la carga, el registro utiliza una fuente por defecto.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-        } catch (Exception e) {
-            this.font = new BitmapFont();
-        }
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
     }
 
     /**
@@ -95,12 +94,12 @@ public class NextLevelUI implements InputProcessor {
      */
     private void drawControls() {
         String controlsText = Input.Keys.toString(GlobalSettings.CONTROL_INTERACT) + " - Seleccionar";
-        GlyphLayout layout = new GlyphLayout(font, controlsText);
-
         font.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, controlsText);
+
         float textX = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float textY = 10 + layout.height + 20;
-        font.draw(batch, controlsText, textX, textY);
+        font.draw(batch, layout, textX, textY);
     }
 
     /**
@@ -138,10 +137,10 @@ public class NextLevelUI implements InputProcessor {
      * @param isSelected Indica si la opcion esta seleccionada.
      */
     private void drawText(String text, float y, boolean isSelected) {
-        GlyphLayout layout = new GlyphLayout(font, text);
+        font.setColor(isSelected ? SELECTED_COLOR : Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, text);
         float x = (Gdx.graphics.getWidth() - layout.width) / 2f;
-        font.setColor(isSelected ? new Color(0.7f, 0, 0, 1) : Color.WHITE);
-        font.draw(batch, text, x, y);
+        font.draw(batch, layout, x, y);
     }
 
     // === Manejo de entrada ===
@@ -158,15 +157,15 @@ public class NextLevelUI implements InputProcessor {
             if (selectedOption == 0) { // Siguiente Nivel
                 com.machinehunterdev.game.Levels.LevelData currentLevel = gameplayState.getCurrentLevel();
                 if (currentLevel != null && currentLevel.nextLevel != null && !currentLevel.nextLevel.isEmpty()) {
-                    com.machinehunterdev.game.Levels.LevelData nextLevelData = com.machinehunterdev.game.Levels.LevelLoader.loadLevel(currentLevel.nextLevel);
+                    com.machinehunterdev.game.Levels.LevelData nextLevelData = com.machinehunterdev.game.Levels.LevelCache.getInstance().get(currentLevel.nextLevel);
                     if (nextLevelData != null && nextLevelData.flashbackDialogueSection != null && !nextLevelData.flashbackDialogueSection.isEmpty()) {
-                        gameplayState.getOwner().stateMachine.changeState(new com.machinehunterdev.game.GameStates.DialogState(nextLevelData.flashbackDialogueSection, currentLevel.nextLevel));
+                        gameplayState.getOwner().stateMachine.changeState(DialogState.forFlashback(gameplayState.getOwner(), nextLevelData.flashbackDialogueSection, currentLevel.nextLevel));
                     } else {
                         GameplayState nextLevelState = GameplayState.createForLevel(currentLevel.nextLevel);
                         gameplayState.getOwner().stateMachine.changeState(nextLevelState);
                     }
                 } else {
-                    gameplayState.getOwner().stateMachine.changeState(new DialogState("Final", "credits"));
+                    gameplayState.getOwner().stateMachine.changeState(DialogState.forFlashback(gameplayState.getOwner(), "Final", "credits"));
                 }
             }
         }
@@ -175,10 +174,9 @@ public class NextLevelUI implements InputProcessor {
 
     /**
      * Libera los recursos utilizados por la interfaz.
-     * Incluye la fuente y la textura de fondo.
+     * La fuente pertenece a FontRegistry, por lo que solo se libera la textura de fondo.
      */
     public void dispose() {
-        font.dispose();
         backgroundTexture.dispose();
     }
 
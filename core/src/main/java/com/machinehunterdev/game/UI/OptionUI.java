@@ -10,6 +10,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.machinehunterdev.game.GameController;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
+import com.machinehunterdev.game.Util.TextureCache;
 
 public class OptionUI {
     // Referencia al controlador principal del juego
@@ -18,11 +20,9 @@ public class OptionUI {
     private final SpriteBatch spriteBatch;
     // Fuente principal para texto general
     private final BitmapFont font;
-    // Objeto para calcular el tamano del texto
-    private final GlyphLayout layout = new GlyphLayout();
     // Renderizador de formas para dibujar barras de volumen
     private final ShapeRenderer shapeRenderer;
-    // Textura de fondo para la interfaz de opciones
+    // Textura de fondo para la interfaz de opciones (propiedad de TextureCache)
     private final Texture backgroundTexture;
     // Fuente para el titulo de la pantalla de opciones
     private final BitmapFont titleFont;
@@ -43,11 +43,11 @@ public class OptionUI {
     public OptionUI(GameController gameController) {
         this.gameController = gameController;
         this.spriteBatch = gameController.getSpriteBatch();
-        this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid48.fnt"));
-        this.titleFont = new BitmapFont(Gdx.files.internal("fonts/OrangeKid96.fnt"));
-        this.optionFont = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-        this.shapeRenderer = new ShapeRenderer();
-        this.backgroundTexture = new Texture(Gdx.files.internal("Fondos/NameInputBackgroundShadowless.png"));
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_48);
+        this.titleFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_96);
+        this.optionFont = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+        this.shapeRenderer = GpuResourceTracker.getInstance().newShapeRenderer();
+        this.backgroundTexture = TextureCache.getInstance().get(MainMenuUI.BACKGROUND_TEXTURE);
     }
 
     /**
@@ -71,38 +71,27 @@ public class OptionUI {
         float width = Gdx.graphics.getWidth();
         float height = Gdx.graphics.getHeight();
 
+        spriteBatch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
         spriteBatch.begin();
         spriteBatch.draw(backgroundTexture, 0, 0, width, height);
 
-        layout.setText(titleFont, "OPCIONES");
-        titleFont.draw(spriteBatch, "OPCIONES", (width - layout.width) / 2, height * 0.9f);
+        titleFont.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(titleFont, "OPCIONES");
+        titleFont.draw(spriteBatch, layout, (width - layout.width) / 2, height * 0.9f);
 
         // Music
-        layout.setText(optionFont, "Música");
-        float musicTextX = (width - layout.width) / 2 - 200;
-        if (currentSelection == 0) {
-            optionFont.setColor(Color.RED);
-            optionFont.draw(spriteBatch, ">", musicTextX - 40, height * 0.7f);
-        }
-        optionFont.draw(spriteBatch, "Música", musicTextX, height * 0.7f);
-        optionFont.setColor(Color.WHITE);
+        drawOption("Música", currentSelection == 0, width, height * 0.7f);
 
         // Sound
-        layout.setText(optionFont, "Sonidos");
-        float soundTextX = (width - layout.width) / 2 - 200;
-        if (currentSelection == 1) {
-            optionFont.setColor(Color.RED);
-            optionFont.draw(spriteBatch, ">", soundTextX - 40, height * 0.5f);
-        }
-        optionFont.draw(spriteBatch, "Sonidos", soundTextX, height * 0.5f);
-        optionFont.setColor(Color.WHITE);
+        drawOption("Sonidos", currentSelection == 1, width, height * 0.5f);
 
         // Instructions
         String instructions = Input.Keys.toString(GlobalSettings.CONTROL_JUMP) + " / " + Input.Keys.toString(GlobalSettings.CONTROL_CROUCH) + " - Cambiar opción | " 
         + Input.Keys.toString(GlobalSettings.CONTROL_MOVE_LEFT) + " / " + Input.Keys.toString(GlobalSettings.CONTROL_MOVE_RIGHT) + " - Ajustar volumen | " 
         + Input.Keys.toString(GlobalSettings.CONTROL_CANCEL) + " - Retroceder";
-        layout.setText(font, instructions);
-        font.draw(spriteBatch, instructions, (width - layout.width) / 2, height * 0.2f);
+        font.setColor(Color.WHITE);
+        layout = GlyphLayoutCache.getInstance().get(font, instructions);
+        font.draw(spriteBatch, layout, (width - layout.width) / 2, height * 0.2f);
 
         spriteBatch.end();
 
@@ -112,6 +101,25 @@ public class OptionUI {
         drawVolumeBar(false, width, height);
     }
 
+    /**
+     * Dibuja el nombre de una opcion, en rojo y con indicador si esta seleccionada.
+     * @param text El nombre de la opcion.
+     * @param isSelected Indica si la opcion esta seleccionada.
+     * @param width Ancho de la pantalla.
+     * @param y Posicion vertical del texto.
+     */
+    private void drawOption(String text, boolean isSelected, float width, float y) {
+        optionFont.setColor(isSelected ? Color.RED : Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(optionFont, text);
+        float textX = (width - layout.width) / 2 - 200;
+        if (isSelected) {
+            GlyphLayout marker = GlyphLayoutCache.getInstance().get(optionFont, ">");
+            optionFont.draw(spriteBatch, marker, textX - 40, y);
+        }
+        optionFont.draw(spriteBatch, layout, textX, y);
+        optionFont.setColor(Color.WHITE);
+    }
+
     /**
      * Dibuja una barra de volumen visual.
      * @param isMusic Indica si la barra es para la musica (true) o para los sonidos (false).
@@ -140,13 +148,9 @@ public class OptionUI {
 
     /**
      * Libera los recursos utilizados por la interfaz de opciones.
-     * Incluye las fuentes, el ShapeRenderer y la textura de fondo.
+     * Solo el ShapeRenderer es propio; las fuentes pertenecen a FontRegistry y el fondo a TextureCache.
      */
     public void dispose() {
-        font.dispose();
-        titleFont.dispose();
-        optionFont.dispose();
         shapeRenderer.dispose();
-        backgroundTexture.dispose();
     }
 }
\ No newline at end of file
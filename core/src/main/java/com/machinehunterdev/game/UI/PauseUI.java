@@ -15,6 +15,7 @@ import com.machinehunterdev.game.Audio.AudioManager;
 import com.machinehunterdev.game.GameStates.PauseState;
 import com.machinehunterdev.game.GameStates.OptionState;
 import com.machinehunterdev.game.Gameplay.GlobalSettings;
+import com.machinehunterdev.game.Util.GpuResourceTracker;
 
 public class PauseUI implements InputProcessor {
 
@@ -42,6 +43,9 @@ public class PauseUI implements InputProcessor {
     // Indice de la opcion actualmente seleccionada
     private int selectedOption = 0;
 
+    // Color de la opcion seleccionada
+    private static final Color SELECTED_COLOR = new Color(0.7f, 0, 0, 1);
+
     /**
      * Constructor de la interfaz de pausa.
      * Inicializa el estado de pausa, el controlador del juego, el SpriteBatch y carga la fuente personalizada.
@@ -57,22 +61,27 @@ public class PauseUI implements InputProcessor {
         Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
         pixmap.setColor(Color.WHITE);
         pixmap.fill();
-        this.backgroundTexture = new Texture(pixmap);
+        this.backgroundTexture = GpuResourceTracker.getInstance().track(new Texture(pixmap));
         pixmap.dispose();
 
         loadCustomBitmapFont();
     }
 
     /**
-     * Carga la fuente personalizada para la interfaz.
-     * Si falla la carga, se utiliza una fuente por defecto.
+     * Obtiene la fuente personalizada compartida para la interfaz.
+     * Si falla la carga, el registro utiliza una fuente por defecto.
      */
     private void loadCustomBitmapFont() {
-        try {
-            this.font = new BitmapFont(Gdx.files.internal("fonts/OrangeKid64.fnt"));
-        } catch (Exception e) {
-            this.font = new BitmapFont();
-        }
+        this.font = FontRegistry.getInstance().get(FontRegistry.ORANGE_KID_64);
+    }
+
+    /**
+     * Vuelve al menu principal de pausa con la primera opcion seleccionada.
+     * Se llama al volver a pausar, ya que la interfaz se conserva entre pausas.
+     */
+    public void reset() {
+        currentState = MenuState.MAIN;
+        selectedOption = 0;
     }
 
     /**
@@ -106,12 +115,12 @@ public class PauseUI implements InputProcessor {
      */
     private void drawControls() {
         String controlsText = Input.Keys.toString(GlobalSettings.CONTROL_CANCEL) + " - Retroceder | " + Input.Keys.toString(GlobalSettings.CONTROL_INTERACT) + " - Seleccionar | " + Input.Keys.toString(GlobalSettings.CONTROL_JUMP) + " / " + Input.Keys.toString(GlobalSettings.CONTROL_CROUCH) + " - Moverse";
-        GlyphLayout layout = new GlyphLayout(font, controlsText);
-
         font.setColor(Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, controlsText);
+
         float textX = (Gdx.graphics.getWidth() - layout.width) / 2f;
         float textY = 10 + layout.height + 20;
-        font.draw(batch, controlsText, textX, textY);
+        font.draw(batch, layout, textX, textY);
     }
 
     /**
@@ -157,10 +166,10 @@ public class PauseUI implements InputProcessor {
      * @param isSelected Indica si la opcion esta seleccionada.
      */
     private void drawText(String text, float y, boolean isSelected) {
-        GlyphLayout layout = new GlyphLayout(font, text);
+        font.setColor(isSelected ? SELECTED_COLOR : Color.WHITE);
+        GlyphLayout layout = GlyphLayoutCache.getInstance().get(font, text);
         float x = (Gdx.graphics.getWidth() - layout.width) / 2f;
-        font.setColor(isSelected ? new Color(0.7f, 0, 0, 1) : Color.WHITE);
-        font.draw(batch, text, x, y);
+        font.draw(batch, layout, x, y);
     }
 
     @Override
@@ -263,10 +272,9 @@ public class PauseUI implements InputProcessor {
 
     /**
      * Libera los recursos utilizados por la interfaz de pausa.
-     * Incluye la fuente y la textura de fondo.
+     * La fuente pertenece a FontRegistry, por lo que solo se libera la textura de fondo.
      */
     public void dispose() {
-        font.dispose();
         backgroundTexture.dispose();
     }
 
@@ -0,0 +1,135 @@
+package com.machinehunterdev.game.Util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayDeque;
+
+/**
+ * Cola de recursos por liberar en el hilo de OpenGL (patron singleton).
+ * Al salir de un estado, sus texturas, interfaces y renderizadores se agregan aqui en lugar
+ * de liberarse de golpe; la cola se vacia poco a poco en cada fotograma sin pasar de un
+ * presupuesto de milisegundos. En el fotograma de una transicion no se libera nada, para que
+ * el primer fotograma del nuevo estado no pague la limpieza del anterior.
+ * Todos los metodos deben llamarse desde el hilo de OpenGL.
+ *
+ * @author MachineHunterDev
+ */
+public class DisposalQueue
+{
+    private static final String TAG = "DisposalQueue";
+
+    /** Instancia unica de la cola */
+    private static DisposalQueue instance;
+
+    /** Recursos pendientes, en el orden en que se agregaron */
+    private final ArrayDeque<Disposable> pending = new ArrayDeque<>();
+
+    /** Si es verdadero, el siguiente 'update' no libera nada */
+    private boolean holdFrame = false;
+
+    /** Recursos liberados en el ultimo fotograma */
+    private int lastDisposedCount = 0;
+
+    /** Milisegundos usados en el ultimo fotograma */
+    private float lastDisposeMillis = 0f;
+
+    /**
+     * Devuelve la unica instancia de la cola.
+     * @return La cola de liberacion
+     */
+    public static DisposalQueue getInstance() {
+        if (instance == null) {
+            instance = new DisposalQueue();
+        }
+        return instance;
+    }
+
+    private DisposalQueue() {}
+
+    /**
+     * Agrega un recurso para liberarlo en un fotograma posterior.
+     * Quien lo agrega no debe volver a usarlo.
+     * @param resource El recurso a liberar; se ignora si es nulo
+     */
+    public void add(Disposable resource) {
+        if (resource != null) {
+            pending.add(resource);
+        }
+    }
+
+    /**
+     * Indica que el fotograma actual es el de una transicion de estado: la cola no se vacia
+     * hasta el siguiente fotograma.
+     */
+    public void holdFrame() {
+        holdFrame = true;
+    }
+
+    /**
+     * Libera recursos pendientes sin pasar del presupuesto (siempre se libera al menos uno).
+     * @param budgetMillis Milisegundos maximos de liberacion en este fotograma
+     */
+    public void update(float budgetMillis) {
+        lastDisposedCount = 0;
+        lastDisposeMillis = 0f;
+        if (holdFrame) {
+            holdFrame = false;
+            return;
+        }
+        if (pending.isEmpty()) return;
+
+        long start = TimeUtils.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1000000L);
+        do {
+            dispose(pending.poll());
+            lastDisposedCount++;
+        } while (!pending.isEmpty() && TimeUtils.nanoTime() - start < budgetNanos);
+        lastDisposeMillis = (TimeUtils.nanoTime() - start) / 1000000f;
+    }
+
+    /**
+     * Libera de inmediato todos los recursos pendientes. Se llama al cerrar el juego,
+     * antes de liberar las caches de las que pueden depender.
+     */
+    public void flush() {
+        while (!pending.isEmpty()) {
+            dispose(pending.poll());
+        }
+        holdFrame = false;
+    }
+
+    // Un recurso que falla al liberarse no debe detener al resto de la cola.
+    private void dispose(Disposable resource) {
+        try {
+            resource.dispose();
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "Error al liberar un recurso: " + resource, e);
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de recursos que esperan ser liberados.
+     * @return Recursos pendientes
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Obtiene la cantidad de recursos liberados en el ultimo fotograma.
+     * @return Recursos liberados
+     */
+    public int getLastDisposedCount() {
+        return lastDisposedCount;
+    }
+
+    /**
+     * Obtiene los milisegundos usados para liberar recursos en el ultimo fotograma.
+     * @return Duracion de la liberacion
+     */
+    public float getLastDisposeMillis() {
+        return lastDisposeMillis;
+    }
+}
@@ -0,0 +1,353 @@
+package com.machinehunterdev.game.Util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.machinehunterdev.game.Gameplay.GlobalSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registro de los recursos de la GPU creados por el juego (patron singleton).
+ * Cada textura, fuente, FrameBuffer o ShapeRenderer se registra con el lugar donde se creo,
+ * los bytes que ocupa y el estado que lo creo. Cuando un estado sale de la maquina de estados
+ * y 'DisposalQueue' termina de liberar sus recursos, se informa en el log de lo que quedo sin
+ * liberar. Los estados residentes y el estado conservado tras un "Game Over" no se revisan,
+ * y los recursos de las caches se registran a nombre de la cache, no de un estado.
+ * Solo registra cuando 'GlobalSettings.TRACK_GPU_RESOURCES' esta activo; si no, los metodos
+ * 'track' devuelven el recurso sin hacer nada.
+ * Todos los metodos deben llamarse desde el hilo de OpenGL.
+ *
+ * @author MachineHunterDev
+ */
+public class GpuResourceTracker
+{
+    private static final String TAG = "GpuResources";
+
+    /** Bytes aproximados de un ShapeRenderer: 5000 vertices de posicion (3 floats) y color (1 float) */
+    private static final long SHAPE_RENDERER_BYTES = 5000L * 4 * 4;
+
+    /** Instancia unica del registro */
+    private static GpuResourceTracker instance;
+
+    /** Recursos registrados que siguen vivos, indexados por el objeto de OpenGL */
+    private final Map<Object, Allocation> live = new IdentityHashMap<>();
+
+    /** Estados que estan en la pila de la maquina de estados */
+    private final Set<Object> activeOwners = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+    /** Duenos que conservan sus recursos al salir (estados residentes o conservados) */
+    private final Set<Object> retainedOwners = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+    /** Estados que salieron y esperan la revision de fugas */
+    private final List<Object> exitedOwners = new ArrayList<>();
+
+    /** Estado al que se asignan los recursos nuevos; null antes del primer estado */
+    private Object currentOwner;
+
+    /** Recursos y bytes informados como fugas */
+    private int leakedCount = 0;
+    private long leakedBytes = 0;
+
+    /**
+     * Devuelve la unica instancia del registro.
+     * @return El registro de recursos de la GPU
+     */
+    public static GpuResourceTracker getInstance() {
+        if (instance == null) {
+            instance = new GpuResourceTracker();
+        }
+        return instance;
+    }
+
+    private GpuResourceTracker() {}
+
+    // === REGISTRO DE RECURSOS ===
+
+    /**
+     * Registra una textura a nombre del estado actual.
+     * @param texture La textura recien creada
+     * @return La misma textura, para usarla en la asignacion
+     */
+    public Texture track(Texture texture) {
+        return track(texture, currentOwner);
+    }
+
+    /**
+     * Registra una textura a nombre de un dueno, por ejemplo una cache que la conserva entre estados.
+     * @param texture La textura recien creada
+     * @param owner El dueno de la textura
+     * @return La misma textura, para usarla en la asignacion
+     */
+    public Texture track(Texture texture, Object owner) {
+        if (GlobalSettings.TRACK_GPU_RESOURCES && texture != null) {
+            add(texture, "Texture", textureBytes(texture), owner, texture);
+        }
+        return texture;
+    }
+
+    /**
+     * Registra las paginas de una fuente a nombre de un dueno.
+     * Las paginas que ya estan registradas (fuentes que comparten regiones) no se cuentan dos veces.
+     * @param font La fuente recien creada
+     * @param owner El dueno de la fuente
+     * @return La misma fuente, para usarla en la asignacion
+     */
+    public BitmapFont track(BitmapFont font, Object owner) {
+        if (GlobalSettings.TRACK_GPU_RESOURCES && font != null) {
+            for (TextureRegion region : font.getRegions()) {
+                Texture page = region.getTexture();
+                if (!live.containsKey(page)) {
+                    add(page, "BitmapFont", textureBytes(page), owner, page);
+                }
+            }
+        }
+        return font;
+    }
+
+    /**
+     * Registra un FrameBuffer a nombre del estado actual, por su textura de color.
+     * @param frameBuffer El FrameBuffer recien creado
+     * @return El mismo FrameBuffer, para usarlo en la asignacion
+     */
+    public FrameBuffer track(FrameBuffer frameBuffer) {
+        if (GlobalSettings.TRACK_GPU_RESOURCES && frameBuffer != null) {
+            Texture color = frameBuffer.getColorBufferTexture();
+            add(frameBuffer, "FrameBuffer", textureBytes(color), currentOwner, color);
+        }
+        return frameBuffer;
+    }
+
+    /**
+     * Crea un ShapeRenderer registrado a nombre del estado actual.
+     * Se da de baja al llamar a su 'dispose'.
+     * @return Un ShapeRenderer nuevo
+     */
+    public ShapeRenderer newShapeRenderer() {
+        if (!GlobalSettings.TRACK_GPU_RESOURCES) {
+            return new ShapeRenderer();
+        }
+        final Allocation[] allocation = new Allocation[1];
+        ShapeRenderer renderer = new ShapeRenderer() {
+            @Override
+            public void dispose() {
+                super.dispose();
+                allocation[0].released = true;
+            }
+        };
+        allocation[0] = add(renderer, "ShapeRenderer", SHAPE_RENDERER_BYTES, currentOwner, null);
+        return renderer;
+    }
+
+    private Allocation add(Object resource, String kind, long bytes, Object owner, Texture texture) {
+        Allocation allocation = new Allocation(kind, bytes, allocationSite(), owner, texture);
+        live.put(resource, allocation);
+        return allocation;
+    }
+
+    // Busca el primer metodo de la pila que no pertenece a este registro.
+    private static String allocationSite() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (!element.getClassName().equals(GpuResourceTracker.class.getName())) {
+                String className = element.getClassName();
+                return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName()
+                    + "(" + element.getFileName() + ":" + element.getLineNumber() + ")";
+            }
+        }
+        return "desconocido";
+    }
+
+    // Estima los bytes de una textura por su tamano y formato, con un tercio extra si tiene mipmaps.
+    private static long textureBytes(Texture texture) {
+        if (texture == null) return 0;
+        Pixmap.Format format = texture.getTextureData() != null ? texture.getTextureData().getFormat() : null;
+        long bytes = (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(format);
+        if (texture.getTextureData() != null && texture.getTextureData().useMipMaps()) {
+            bytes += bytes / 3;
+        }
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    // === DUENOS ===
+
+    /**
+     * Indica que un estado entro (o volvio a ser el actual): los recursos nuevos son suyos.
+     * La maquina de estados lo llama antes de 'enter' y 'resume'.
+     * @param state El estado que pasa a ser el actual
+     */
+    public void stateEntered(Object state) {
+        currentOwner = state;
+        activeOwners.add(state);
+    }
+
+    /**
+     * Indica que un estado salio de la pila; sus recursos se revisan cuando termine de liberarlos.
+     * La maquina de estados lo llama despues de 'exit'.
+     * @param state El estado que salio
+     */
+    public void stateExited(Object state) {
+        activeOwners.remove(state);
+        if (currentOwner == state) {
+            currentOwner = null;
+        }
+        exitedOwners.add(state);
+    }
+
+    /**
+     * Indica que un dueno conserva sus recursos al salir (estado residente o conservado).
+     * @param owner El dueno
+     */
+    public void retainOwner(Object owner) {
+        retainedOwners.add(owner);
+    }
+
+    /**
+     * Indica que un dueno ya no conserva sus recursos; se revisa como si acabara de salir.
+     * @param owner El dueno
+     */
+    public void releaseOwner(Object owner) {
+        if (retainedOwners.remove(owner)) {
+            exitedOwners.add(owner);
+        }
+    }
+
+    // === INFORMES ===
+
+    /**
+     * Revisa los estados que salieron, una vez que 'DisposalQueue' termino de liberar sus
+     * recursos, e informa de lo que quedo sin liberar. Se llama en cada fotograma.
+     */
+    public void update() {
+        if (exitedOwners.isEmpty() || DisposalQueue.getInstance().getPendingCount() > 0) return;
+
+        sweep();
+        for (Object owner : exitedOwners) {
+            if (activeOwners.contains(owner) || retainedOwners.contains(owner)) continue;
+            report(owner);
+        }
+        exitedOwners.clear();
+    }
+
+    // Informa de los recursos vivos de un estado que ya salio y los marca para no repetirlos.
+    private void report(Object owner) {
+        int count = 0;
+        long bytes = 0;
+        for (Allocation allocation : live.values()) {
+            if (allocation.owner != owner || allocation.leaked) continue;
+            allocation.leaked = true;
+            count++;
+            bytes += allocation.bytes;
+            Gdx.app.error(TAG, "Fuga de " + ownerName(owner) + ": " + allocation.kind
+                + " de " + (allocation.bytes / 1024) + " KB creado en " + allocation.site);
+        }
+        leakedCount += count;
+        leakedBytes += bytes;
+        Gdx.app.log(TAG, "Salida de " + ownerName(owner) + ": " + count + " recursos sin liberar ("
+            + (bytes / 1024) + " KB) | GPU: " + getLiveCount() + " recursos, " + (getLiveBytes() / 1024) + " KB");
+    }
+
+    // Quita del registro los recursos que ya se liberaron.
+    private void sweep() {
+        Iterator<Allocation> it = live.values().iterator();
+        while (it.hasNext()) {
+            if (!it.next().isAlive()) it.remove();
+        }
+    }
+
+    private static String ownerName(Object owner) {
+        return owner == null ? "global" : owner.getClass().getSimpleName();
+    }
+
+    /**
+     * Obtiene la cantidad de recursos registrados que siguen vivos.
+     * @return Recursos vivos
+     */
+    public int getLiveCount() {
+        sweep();
+        return live.size();
+    }
+
+    /**
+     * Obtiene los bytes aproximados de los recursos registrados que siguen vivos.
+     * @return Bytes en la GPU
+     */
+    public long getLiveBytes() {
+        sweep();
+        long bytes = 0;
+        for (Allocation allocation : live.values()) {
+            bytes += allocation.bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Obtiene la cantidad de recursos informados como fugas desde el inicio.
+     * @return Recursos sin liberar
+     */
+    public int getLeakedCount() {
+        return leakedCount;
+    }
+
+    /**
+     * Obtiene los bytes de los recursos informados como fugas desde el inicio.
+     * @return Bytes sin liberar
+     */
+    public long getLeakedBytes() {
+        return leakedBytes;
+    }
+
+    /**
+     * Recurso registrado: tipo, tamano, lugar de creacion y dueno.
+     */
+    private static final class Allocation {
+        private final String kind;
+        private final long bytes;
+        private final String site;
+        private final Object owner;
+        /** Textura que indica si el recurso sigue vivo; null si se da de baja con 'released' */
+        private final Texture texture;
+        private boolean released = false;
+        private boolean leaked = false;
+
+        private Allocation(String kind, long bytes, String site, Object owner, Texture texture) {
+            this.kind = kind;
+            this.bytes = bytes;
+            this.site = site;
+            this.owner = owner;
+            this.texture = texture;
+        }
+
+        // Una textura liberada pierde su objeto de OpenGL.
+        private boolean isAlive() {
+            if (texture != null) return texture.getTextureObjectHandle() != 0;
+            return !released;
+        }
+    }
+}
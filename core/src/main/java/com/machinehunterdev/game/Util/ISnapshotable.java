@@ -0,0 +1,26 @@
+package com.machinehunterdev.game.Util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interfaz para los objetos cuyo estado mutable puede guardarse en una instantanea binaria.
+ * Solo se escriben valores primitivos; las referencias (texturas, listas compartidas,
+ * otros personajes) se conservan y se resuelven por quien restaura la instantanea.
+ * Ambos metodos deben leer y escribir los mismos campos en el mismo orden.
+ *
+ * @author MachineHunterDev
+ */
+public interface ISnapshotable
+{
+    /**
+     * Escribe el estado mutable del objeto.
+     * @param out Buffer de destino
+     */
+    void writeState(ByteBuffer out);
+
+    /**
+     * Restaura el estado mutable del objeto escrito por 'writeState'.
+     * @param in Buffer de origen, posicionado al inicio del estado
+     */
+    void readState(ByteBuffer in);
+}
@@ -33,4 +33,11 @@ public interface IState<T>
      * Se utiliza para restaurar el estado, como el procesador de entrada.
      */
     void resume();
+
+    /**
+     * Libera los recursos que el estado conserva entre entradas (interfaz, texturas).
+     * Solo se llama para los estados residentes de 'StateMachine', al descartarlos.
+     */
+    default void dispose() {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.machinehunterdev.game.Util;
+
+/**
+ * Asignador de identificadores enteros densos con reciclaje.
+ * Reutiliza los identificadores liberados antes de crear nuevos, de modo que los ids
+ * se mantienen pequenos y pueden usarse como indice de arreglos y de conjuntos de bits.
+ *
+ * @author MachineHunterDev
+ */
+public class IdAllocator
+{
+    /** Pila de identificadores liberados que pueden reutilizarse */
+    private int[] freeIds = new int[16];
+
+    /** Cantidad de identificadores en la pila de libres */
+    private int freeCount = 0;
+
+    /** Siguiente identificador nunca usado */
+    private int nextId = 0;
+
+    /**
+     * Obtiene un identificador libre.
+     * Reutiliza primero los identificadores liberados.
+     * @return Un identificador entero mayor o igual a cero
+     */
+    public int allocate() {
+        if (freeCount > 0) {
+            return freeIds[--freeCount];
+        }
+        return nextId++;
+    }
+
+    /**
+     * Devuelve un identificador para que pueda reutilizarse.
+     * Ignora valores negativos (identificadores ya liberados).
+     * @param id Identificador a liberar
+     */
+    public void release(int id) {
+        if (id < 0 || id >= nextId) return;
+        if (freeCount == freeIds.length) {
+            int[] grown = new int[freeIds.length * 2];
+            System.arraycopy(freeIds, 0, grown, 0, freeCount);
+            freeIds = grown;
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Obtiene el limite superior de los identificadores entregados hasta ahora.
+     * Util para dimensionar arreglos indexados por identificador.
+     * @return Un valor mayor que cualquier identificador entregado
+     */
+    public int getCapacity() {
+        return nextId;
+    }
+}
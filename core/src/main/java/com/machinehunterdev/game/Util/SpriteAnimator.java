@@ -2,6 +2,7 @@ package com.machinehunterdev.game.Util;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -10,7 +11,7 @@ import java.util.List;
  * 
  * @author MachineHunterDev
  */
-public class SpriteAnimator
+public class SpriteAnimator implements ISnapshotable
 {
     /** Lista de fotogramas que componen la animacion */
     private List<Sprite> frames;
@@ -150,6 +151,28 @@ public class SpriteAnimator
         return finished;
     }
 
+    /**
+     * Escribe el frame actual, el temporizador y si la animacion termino.
+     * @param out Buffer de destino
+     */
+    @Override
+    public void writeState(ByteBuffer out) {
+        out.putShort((short) currentFrame);
+        out.putFloat(timer);
+        out.put((byte) (finished ? 1 : 0));
+    }
+
+    /**
+     * Restaura el estado escrito por 'writeState'.
+     * @param in Buffer de origen
+     */
+    @Override
+    public void readState(ByteBuffer in) {
+        currentFrame = in.getShort();
+        timer = in.getFloat();
+        finished = in.get() != 0;
+    }
+
     /**
      * Libera los recursos de las texturas de los sprites.
      * Itera sobre todos los sprites y libera sus texturas si no son nulas.
@@ -0,0 +1,239 @@
+package com.machinehunterdev.game.Util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Grafo de tareas de inicio del juego.
+ * Cada tarea tiene un nombre y depende de otras; empieza en cuanto terminan todas sus
+ * dependencias. Las tareas de trabajo (lectura de archivos, decodificacion) se ejecutan en
+ * un grupo de hilos; las del hilo principal (subidas a la GPU, objetos de OpenGL) se ejecutan
+ * en 'update', repartidas entre fotogramas sin pasar de un presupuesto de milisegundos.
+ * Una tarea del hilo principal es un paso que se repite en cada fotograma hasta que devuelve
+ * verdadero, de modo que tambien puede esperar a trabajos de otros sistemas.
+ * Todos los metodos publicos deben llamarse desde el hilo de OpenGL.
+ *
+ * @author MachineHunterDev
+ */
+public class StartupGraph
+{
+    private static final String TAG = "StartupGraph";
+
+    /** Tareas en el orden en que se agregaron, indexadas por nombre */
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    /** Tareas del hilo principal listas para ejecutarse */
+    private final List<Task> readyMain = new ArrayList<>();
+
+    /** Tareas de trabajo en curso */
+    private final List<Task> running = new ArrayList<>();
+
+    /** Hilos que ejecutan las tareas de trabajo; se crean al empezar */
+    private ExecutorService workers;
+
+    /** Cantidad de tareas terminadas */
+    private int doneCount = 0;
+
+    /**
+     * Agrega una tarea que se ejecuta en un hilo de trabajo.
+     * No debe usar OpenGL; sus resultados quedan visibles para las tareas que dependen de ella.
+     * @param name Nombre unico de la tarea
+     * @param work Trabajo a realizar
+     * @param dependsOn Nombres de las tareas que deben terminar antes
+     * @return Este grafo, para encadenar llamadas
+     */
+    public StartupGraph worker(String name, Runnable work, String... dependsOn) {
+        return add(new Task(name, work, null, dependsOn));
+    }
+
+    /**
+     * Agrega una tarea que se ejecuta en el hilo de OpenGL.
+     * @param name Nombre unico de la tarea
+     * @param step Paso que se repite en cada fotograma hasta que devuelve verdadero
+     * @param dependsOn Nombres de las tareas que deben terminar antes
+     * @return Este grafo, para encadenar llamadas
+     */
+    public StartupGraph main(String name, BooleanSupplier step, String... dependsOn) {
+        return add(new Task(name, null, step, dependsOn));
+    }
+
+    private StartupGraph add(Task task) {
+        if (workers != null) {
+            throw new IllegalStateException("El grafo ya empezo: " + task.name);
+        }
+        if (tasks.put(task.name, task) != null) {
+            throw new IllegalArgumentException("Tarea de inicio repetida: " + task.name);
+        }
+        return this;
+    }
+
+    /**
+     * Resuelve las dependencias y empieza las tareas que no tienen ninguna.
+     * @throws IllegalArgumentException Si una tarea depende de otra que no existe
+     */
+    public void start() {
+        for (Task task : tasks.values()) {
+            for (String name : task.dependsOn) {
+                Task dependency = tasks.get(name);
+                if (dependency == null) {
+                    throw new IllegalArgumentException("La tarea " + task.name + " depende de una tarea desconocida: " + name);
+                }
+                dependency.dependents.add(task);
+                task.waiting++;
+            }
+        }
+
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        workers = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "startup-worker-" + (count++));
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        for (Task task : new ArrayList<>(tasks.values())) {
+            if (task.waiting == 0) {
+                schedule(task);
+            }
+        }
+        if (isDone()) {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Recoge las tareas de trabajo terminadas y ejecuta las del hilo principal que esten listas,
+     * sin pasar del presupuesto (siempre se ejecuta al menos un paso por fotograma).
+     * @param budgetMillis Milisegundos maximos para las tareas del hilo principal
+     * @return Verdadero si ya terminaron todas las tareas
+     * @throws RuntimeException Si una tarea de trabajo fallo
+     */
+    public boolean update(float budgetMillis) {
+        for (int i = running.size() - 1; i >= 0; i--) {
+            Task task = running.get(i);
+            if (!task.future.isDone()) continue;
+            running.remove(i);
+            try {
+                task.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Fallo la tarea de inicio: " + task.name, e.getCause());
+            }
+            complete(task);
+        }
+
+        long start = TimeUtils.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1000000L);
+        int i = 0;
+        while (i < readyMain.size()) {
+            Task task = readyMain.get(i);
+            if (task.step.getAsBoolean()) {
+                readyMain.remove(i);
+                complete(task);
+            } else {
+                i++; // Sigue esperando; se vuelve a intentar en el siguiente fotograma.
+            }
+            if (TimeUtils.nanoTime() - start >= budgetNanos) break;
+        }
+
+        return isDone();
+    }
+
+    // Marca una tarea como terminada y empieza las que ya no esperan a ninguna otra.
+    private void complete(Task task) {
+        task.millis = (TimeUtils.nanoTime() - task.startNanos) / 1000000f;
+        doneCount++;
+        for (Task dependent : task.dependents) {
+            if (--dependent.waiting == 0) {
+                schedule(dependent);
+            }
+        }
+        if (isDone()) {
+            workers.shutdown();
+        }
+    }
+
+    private void schedule(Task task) {
+        task.startNanos = TimeUtils.nanoTime();
+        if (task.work != null) {
+            task.future = workers.submit(task.work);
+            running.add(task);
+        } else {
+            readyMain.add(task);
+        }
+    }
+
+    /**
+     * Indica si ya terminaron todas las tareas.
+     * @return Verdadero si no queda ninguna tarea
+     */
+    public boolean isDone() {
+        return doneCount == tasks.size();
+    }
+
+    /**
+     * Obtiene el avance del inicio.
+     * @return La fraccion de tareas terminadas, entre 0 y 1
+     */
+    public float getProgress() {
+        return tasks.isEmpty() ? 1f : (float) doneCount / tasks.size();
+    }
+
+    /**
+     * Registra en el log la duracion de cada tarea, desde que pudo empezar hasta que termino.
+     */
+    public void logTimings() {
+        StringBuilder line = new StringBuilder("Tareas de inicio:");
+        for (Task task : tasks.values()) {
+            line.append(' ').append(task.name).append('=').append(String.format("%.1f", task.millis)).append("ms");
+        }
+        Gdx.app.log(TAG, line.toString());
+    }
+
+    /**
+     * Detiene los hilos de trabajo. Se llama al salir del estado de carga.
+     */
+    public void dispose() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Tarea del grafo: un trabajo para los hilos de trabajo o un paso del hilo principal.
+     */
+    private static final class Task {
+        private final String name;
+        private final Runnable work;
+        private final BooleanSupplier step;
+        private final String[] dependsOn;
+        private final List<Task> dependents = new ArrayList<>();
+        private int waiting = 0;
+        private Future<?> future;
+        private long startNanos;
+        private float millis;
+
+        private Task(String name, Runnable work, BooleanSupplier step, String[] dependsOn) {
+            this.name = name;
+            this.work = work;
+            this.step = step;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
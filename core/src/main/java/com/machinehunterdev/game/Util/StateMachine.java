@@ -1,10 +1,19 @@
 package com.machinehunterdev.game.Util;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Stack;
+import java.util.function.Supplier;
 
 /**
  * Clase que implementa una máquina de estados con pila.
  * Permite gestionar múltiples estados del juego con transiciones controladas.
+ * Los estados que se visitan a menudo (pausa, opciones, dialogos) pueden ser residentes:
+ * se crean una vez, conservan su interfaz entre entradas y solo reinician su logica en 'enter'.
+ * Al salir de un estado, la liberacion de sus recursos en 'DisposalQueue' se retrasa un
+ * fotograma, de modo que se solapa con los primeros fotogramas del estado que entra.
+ * Cada transicion se informa a 'GpuResourceTracker', que asigna los recursos nuevos al
+ * estado actual y revisa las fugas de los que salen.
  * 
  * @param <T> Tipo del objeto propietario que utiliza la máquina de estados
  * @author MachineHunterDev
@@ -20,6 +29,9 @@ public class StateMachine<T>
     /** Objeto propietario que utiliza la maquina de estados */
     public T owner;
 
+    /** Estados residentes, indexados por su clase */
+    private final Map<Class<?>, IState<T>> residentStates = new LinkedHashMap<>();
+
     /**
      * Constructor de la maquina de estados.
      * Inicializa el objeto propietario y la pila de estados.
@@ -50,6 +62,7 @@ public class StateMachine<T>
     {
         stateStack.push(newState);
         currentState = newState;
+        GpuResourceTracker.getInstance().stateEntered(currentState);
         currentState.enter(owner);
     }
 
@@ -60,10 +73,13 @@ public class StateMachine<T>
     public void pop()
     {
         if (!stateStack.isEmpty()) {
+            DisposalQueue.getInstance().holdFrame();
             currentState.exit();
+            GpuResourceTracker.getInstance().stateExited(currentState);
             stateStack.pop();
             if (!stateStack.isEmpty()) {
                 currentState = stateStack.peek();
+                GpuResourceTracker.getInstance().stateEntered(currentState);
                 currentState.resume();
             } else {
                 currentState = null;
@@ -80,12 +96,15 @@ public class StateMachine<T>
     {
         if(currentState != null)
         {
+            DisposalQueue.getInstance().holdFrame();
             currentState.exit();
+            GpuResourceTracker.getInstance().stateExited(currentState);
             stateStack.pop();
         }
 
         stateStack.push(newState);
         currentState = newState;
+        GpuResourceTracker.getInstance().stateEntered(currentState);
         currentState.enter(owner);
     }
 
@@ -100,4 +119,50 @@ public class StateMachine<T>
         }
         return null;
     }
+
+    /**
+     * Conserva un estado entre entradas, junto con su interfaz.
+     * Sus recursos se liberan con 'disposeResidentStates'.
+     * @param state Estado a conservar; reemplaza a otro residente de la misma clase
+     */
+    public void keepResident(IState<T> state)
+    {
+        IState<T> previous = residentStates.put(state.getClass(), state);
+        GpuResourceTracker.getInstance().retainOwner(state);
+        if (previous != null && previous != state) {
+            previous.dispose();
+            GpuResourceTracker.getInstance().releaseOwner(previous);
+        }
+    }
+
+    /**
+     * Devuelve el estado residente de una clase, creandolo la primera vez.
+     * El estado no debe estar ya en la pila cuando se vuelve a usar.
+     * @param type Clase del estado
+     * @param factory Crea el estado si aun no es residente
+     * @return El estado residente
+     */
+    public <S extends IState<T>> S getResident(Class<S> type, Supplier<S> factory)
+    {
+        IState<T> state = residentStates.get(type);
+        if (state == null) {
+            state = factory.get();
+            residentStates.put(type, state);
+            GpuResourceTracker.getInstance().retainOwner(state);
+        }
+        return type.cast(state);
+    }
+
+    /**
+     * Libera los recursos de todos los estados residentes y los descarta.
+     * Se llama al cerrar el juego.
+     */
+    public void disposeResidentStates()
+    {
+        for (IState<T> state : residentStates.values()) {
+            state.dispose();
+            GpuResourceTracker.getInstance().releaseOwner(state);
+        }
+        residentStates.clear();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.machinehunterdev.game.Util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.machinehunterdev.game.Levels.LevelAssetManifest;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache de texturas compartidas por ruta (patron singleton).
+ * El nivel precarga aqui todo lo que indica su 'LevelAssetManifest' antes del primer
+ * fotograma de juego; cualquier textura pedida despues que no este en la cache se
+ * registra como un fallo del manifiesto. La cache es duena de las texturas: quien las
+ * usa no debe liberarlas.
+ * Los PNG se decodifican en paralelo con 'TextureUploader'; durante el juego, las texturas
+ * pedidas con 'request' se suben poco a poco sin pasar del presupuesto de cada fotograma.
+ *
+ * @author MachineHunterDev
+ */
+public class TextureCache
+{
+    private static final String TAG = "TextureCache";
+
+    /** Instancia unica de la cache */
+    private static TextureCache instance;
+
+    /** Texturas cargadas, indexadas por su ruta */
+    private final Map<String, Texture> textures = new HashMap<>();
+
+    /** Rutas que no se pudieron cargar, para no volver a leerlas del disco */
+    private final Set<String> missing = new HashSet<>();
+
+    /** Rutas que se conservan entre niveles (por ejemplo, las del menu) */
+    private final Set<String> persistent = new HashSet<>();
+
+    /** Manifiesto activo; null si no hay un nivel precargado */
+    private LevelAssetManifest manifest;
+
+    /** Cantidad de cargas realizadas fuera de la precarga */
+    private int manifestMisses = 0;
+
+    /** Decodificacion en segundo plano y subida repartida entre fotogramas */
+    private final TextureUploader uploader = new TextureUploader(this);
+
+    /**
+     * Devuelve la unica instancia de la cache.
+     * @return La cache de texturas
+     */
+    public static TextureCache getInstance() {
+        if (instance == null) {
+            instance = new TextureCache();
+        }
+        return instance;
+    }
+
+    private TextureCache() {}
+
+    /**
+     * Obtiene una textura, cargandola si todavia no esta en la cache.
+     * Si hay un manifiesto activo, la carga se registra como un fallo del manifiesto.
+     * @param path Ruta interna de la textura
+     * @return La textura compartida
+     * @throws RuntimeException Si el archivo no existe o no se puede leer
+     */
+    public Texture get(String path) {
+        Texture texture = textures.get(path);
+        if (texture != null) {
+            return texture;
+        }
+        if (uploader.isPending(path)) {
+            // Ya se esta decodificando: se espera a ese trabajo en lugar de leer el archivo otra vez.
+            uploader.finish(path);
+            texture = textures.get(path);
+            if (texture != null) {
+                return texture;
+            }
+        }
+        if (missing.contains(path)) {
+            throw new RuntimeException("Textura no disponible: " + path);
+        }
+        if (manifest != null) {
+            manifestMisses++;
+            Gdx.app.log(TAG, "Fallo del manifiesto, carga durante el juego: " + path);
+        }
+        return load(path);
+    }
+
+    /**
+     * Pide una textura en segundo plano, sin bloquear el fotograma.
+     * Queda disponible cuando 'update' la sube; si se pide con 'get' antes, se espera a ella.
+     * @param path Ruta interna de la textura
+     */
+    public void request(String path) {
+        if (textures.containsKey(path) || missing.contains(path)) return;
+        uploader.request(path);
+    }
+
+    /**
+     * Pide una textura en segundo plano y la conserva entre niveles: la precarga de un
+     * nivel no la libera aunque no este en su manifiesto.
+     * @param path Ruta interna de la textura
+     */
+    public void requestPersistent(String path) {
+        persistent.add(path);
+        request(path);
+    }
+
+    /**
+     * Indica si una textura ya esta disponible (o si ya se sabe que no se puede cargar).
+     * @param path Ruta interna de la textura
+     * @return Verdadero si 'get' no tendra que esperar ni leer el disco
+     */
+    public boolean isReady(String path) {
+        return textures.containsKey(path) || missing.contains(path);
+    }
+
+    /**
+     * Sube las texturas ya decodificadas sin pasar del presupuesto del fotograma.
+     * Se llama una vez por fotograma desde el hilo de OpenGL.
+     * @param budgetMillis Milisegundos maximos de subida en este fotograma
+     */
+    public void update(float budgetMillis) {
+        uploader.update(budgetMillis);
+    }
+
+    /**
+     * Obtiene el cargador, para consultar la cola y el tiempo de subida por fotograma.
+     * @return El cargador de texturas
+     */
+    public TextureUploader getUploader() {
+        return uploader;
+    }
+
+    /**
+     * Precarga todas las texturas del manifiesto y libera las que ya no se necesitan.
+     * Las texturas que ya estaban cargadas (por ejemplo, al reiniciar el nivel) se conservan.
+     * Los archivos se decodifican en paralelo y se suben todos antes de volver.
+     * @param levelManifest El manifiesto del nivel que se va a jugar
+     */
+    public void prewarm(LevelAssetManifest levelManifest) {
+        manifest = null;
+
+        // Libera las texturas que el nuevo nivel no usa, salvo las que se conservan entre niveles.
+        Iterator<Map.Entry<String, Texture>> it = textures.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Texture> entry = it.next();
+            if (!levelManifest.contains(entry.getKey()) && !persistent.contains(entry.getKey())) {
+                entry.getValue().dispose();
+                it.remove();
+            }
+        }
+        missing.clear();
+
+        // Decodifica lo que falte en paralelo y lo sube; los archivos inexistentes se anotan y se omiten.
+        for (String path : levelManifest.getTextures()) {
+            request(path);
+        }
+        uploader.finishAll();
+        Gdx.app.log(TAG, "Precarga: " + uploader.getLastUploadCount() + " texturas subidas en "
+            + uploader.getLastUploadMillis() + " ms");
+
+        manifest = levelManifest;
+        manifestMisses = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de texturas cargadas durante el juego desde la ultima precarga.
+     * @return El numero de fallos del manifiesto
+     */
+    public int getManifestMisses() {
+        return manifestMisses;
+    }
+
+    /**
+     * Libera todas las texturas de la cache y detiene la decodificacion en segundo plano.
+     * Se llama al cerrar la aplicacion.
+     */
+    public void dispose() {
+        uploader.dispose();
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        missing.clear();
+        persistent.clear();
+        manifest = null;
+    }
+
+    // Recibe una textura subida por el cargador.
+    void onUploaded(String path, Texture texture) {
+        Texture previous = textures.put(path, texture);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    // Anota una textura que el cargador no pudo decodificar.
+    void onUploadFailed(String path) {
+        missing.add(path);
+        Gdx.app.error(TAG, "No se pudo cargar: " + path);
+    }
+
+    // Carga una textura del disco y la guarda en la cache.
+    private Texture load(String path) {
+        try {
+            Texture texture = GpuResourceTracker.getInstance().track(new Texture(path), this);
+            textures.put(path, texture);
+            return texture;
+        } catch (RuntimeException e) {
+            missing.add(path);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.machinehunterdev.game.Util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Carga de texturas en dos etapas para 'TextureCache'.
+ * La decodificacion de los PNG a 'Pixmap' se hace en un grupo de hilos de trabajo;
+ * la subida a la GPU, que solo puede hacerse en el hilo de OpenGL, se reparte entre
+ * fotogramas sin pasar de un presupuesto de milisegundos por fotograma.
+ * Todos los metodos publicos deben llamarse desde el hilo de OpenGL.
+ *
+ * @author MachineHunterDev
+ */
+public class TextureUploader
+{
+    private static final String TAG = "TextureUploader";
+
+    /** Cache que recibe las texturas subidas */
+    private final TextureCache cache;
+
+    /** Hilos que decodifican los PNG */
+    private final ExecutorService decoders;
+
+    /** Decodificaciones pendientes de subir, en el orden en que se pidieron */
+    private final Map<String, Future<Pixmap>> pending = new LinkedHashMap<>();
+
+    // === ESTADISTICAS DEL ULTIMO FOTOGRAMA ===
+    private float lastUploadMillis = 0f;
+    private int lastUploadCount = 0;
+
+    /**
+     * Crea el cargador con un hilo de decodificacion por nucleo disponible, menos el de render.
+     * @param cache La cache que recibe las texturas
+     */
+    TextureUploader(TextureCache cache) {
+        this.cache = cache;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.decoders = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "texture-decoder-" + (count++));
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Pide la decodificacion de una textura en segundo plano.
+     * Si la ruta ya estaba pedida, no se hace nada.
+     * @param path Ruta interna de la textura
+     */
+    public void request(final String path) {
+        if (pending.containsKey(path)) return;
+        pending.put(path, decoders.submit(() -> new Pixmap(Gdx.files.internal(path))));
+    }
+
+    /**
+     * Indica si una ruta esta pedida y todavia no se ha subido.
+     * @param path Ruta interna de la textura
+     * @return Verdadero si esta pendiente
+     */
+    public boolean isPending(String path) {
+        return pending.containsKey(path);
+    }
+
+    /**
+     * Sube las texturas ya decodificadas hasta agotar el presupuesto del fotograma.
+     * Las que sigan decodificandose se dejan para el siguiente fotograma.
+     * @param budgetMillis Milisegundos maximos de subida en este fotograma
+     */
+    public void update(float budgetMillis) {
+        long start = TimeUtils.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1000000L);
+        int uploaded = 0;
+
+        Iterator<Map.Entry<String, Future<Pixmap>>> it = pending.entrySet().iterator();
+        while (it.hasNext() && TimeUtils.nanoTime() - start < budgetNanos) {
+            Map.Entry<String, Future<Pixmap>> entry = it.next();
+            if (!entry.getValue().isDone()) continue;
+            it.remove();
+            upload(entry.getKey(), entry.getValue());
+            uploaded++;
+        }
+
+        lastUploadCount = uploaded;
+        lastUploadMillis = (TimeUtils.nanoTime() - start) / 1000000f;
+    }
+
+    /**
+     * Sube una textura pendiente de inmediato, esperando a que termine de decodificarse.
+     * @param path Ruta interna de la textura
+     */
+    public void finish(String path) {
+        Future<Pixmap> future = pending.remove(path);
+        if (future != null) {
+            upload(path, future);
+        }
+    }
+
+    /**
+     * Sube todas las texturas pendientes, esperando a las decodificaciones en curso.
+     * Se usa al cargar un nivel, cuando no hay un fotograma que proteger.
+     */
+    public void finishAll() {
+        long start = TimeUtils.nanoTime();
+        int uploaded = 0;
+
+        Iterator<Map.Entry<String, Future<Pixmap>>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Future<Pixmap>> entry = it.next();
+            it.remove();
+            upload(entry.getKey(), entry.getValue());
+            uploaded++;
+        }
+
+        lastUploadCount = uploaded;
+        lastUploadMillis = (TimeUtils.nanoTime() - start) / 1000000f;
+    }
+
+    /**
+     * Obtiene la cantidad de texturas pedidas que todavia no se han subido.
+     * @return La profundidad de la cola
+     */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    /**
+     * Obtiene el tiempo de subida del ultimo fotograma.
+     * @return Milisegundos dedicados a subir texturas
+     */
+    public float getLastUploadMillis() {
+        return lastUploadMillis;
+    }
+
+    /**
+     * Obtiene la cantidad de texturas subidas en el ultimo fotograma.
+     * @return Numero de texturas subidas
+     */
+    public int getLastUploadCount() {
+        return lastUploadCount;
+    }
+
+    /**
+     * Descarta lo pendiente y detiene los hilos de decodificacion.
+     */
+    public void dispose() {
+        for (Map.Entry<String, Future<Pixmap>> entry : pending.entrySet()) {
+            Pixmap pixmap = await(entry.getKey(), entry.getValue());
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+        }
+        pending.clear();
+        decoders.shutdownNow();
+    }
+
+    // Crea la textura a partir del pixmap decodificado y la entrega a la cache.
+    private void upload(String path, Future<Pixmap> future) {
+        Pixmap pixmap = await(path, future);
+        if (pixmap == null) {
+            cache.onUploadFailed(path);
+            return;
+        }
+        try {
+            cache.onUploaded(path, GpuResourceTracker.getInstance().track(new Texture(pixmap), cache));
+        } finally {
+            pixmap.dispose();
+        }
+    }
+
+    // Espera el resultado de una decodificacion; devuelve null si fallo.
+    private Pixmap await(String path, Future<Pixmap> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Gdx.app.error(TAG, "No se pudo decodificar: " + path, e.getCause());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.machinehunterdev.game.lwjgl3;
+
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Herramienta de compilacion que genera el 'reflect-config.json' de GraalVM native-image.
+ * La ejecuta la tarea de Gradle 'generateReflectionConfig' antes de 'nativeCompile'.
+ * Recibe las clases raiz que se leen con 'Json.fromJson' (por ejemplo LevelData, o los estilos de
+ * Scene2D del skin de depuracion) y recorre sus campos para incluir tambien las clases anidadas del
+ * juego, los enums y las colecciones que 'Json' instancia por reflexion. Asi la configuracion no se queda atras cuando cambia el modelo.
+ *
+ * @author MachineHunterDev
+ */
+public class NativeImageConfig
+{
+    /** Paquete de las clases del juego que se recorren */
+    private static final String GAME_PACKAGE = "com.machinehunterdev.";
+
+    /**
+     * Punto de entrada de la herramienta.
+     * @param args El archivo de salida, seguido de los nombres de las clases raiz
+     * @throws IOException Si no se puede escribir el archivo
+     * @throws ClassNotFoundException Si una clase raiz no existe
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Uso: NativeImageConfig <salida> <clase raiz>...");
+        }
+
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        for (int i = 1; i < args.length; i++) {
+            pending.add(Class.forName(args[i], false, NativeImageConfig.class.getClassLoader()));
+        }
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!classes.add(type)) continue;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+                    collect(field.getGenericType(), pending);
+                }
+            }
+        }
+
+        File output = new File(args[0]);
+        File parent = output.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("No se pudo crear la carpeta: " + parent);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8)) {
+            JsonWriter json = new JsonWriter(writer);
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.array();
+            for (Class<?> type : classes) {
+                json.object();
+                json.set("name", type.getName());
+                json.set("allDeclaredConstructors", true);
+                json.set("allDeclaredFields", true);
+                // Json obtiene las constantes de los enums por sus metodos publicos ('values').
+                if (type.isEnum()) json.set("allPublicMethods", true);
+                json.pop();
+            }
+            json.pop();
+        }
+        System.out.println("Configuracion de reflexion: " + classes.size() + " clases -> " + output);
+    }
+
+    /**
+     * Agrega a la cola las clases de un tipo de campo que 'Json' necesita crear o inspeccionar:
+     * clases del juego, enums y la implementacion concreta de las colecciones.
+     * @param type El tipo generico del campo
+     * @param pending La cola de clases por recorrer
+     */
+    private static void collect(Type type, Deque<Class<?>> pending) {
+        if (type instanceof ParameterizedType) {
+            collect(((ParameterizedType) type).getRawType(), pending);
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                collect(argument, pending);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collect(((GenericArrayType) type).getGenericComponentType(), pending);
+        } else if (type instanceof Class) {
+            Class<?> c = (Class<?>) type;
+            if (c.isArray()) {
+                collect(c.getComponentType(), pending);
+            } else if (c.isEnum() || c.getName().startsWith(GAME_PACKAGE)) {
+                pending.add(c);
+            } else if (Collection.class.isAssignableFrom(c) || Map.class.isAssignableFrom(c)) {
+                pending.add(concreteCollection(c));
+            }
+        }
+    }
+
+    /**
+     * Obtiene la clase que 'Json' instancia para un campo de coleccion: la misma si es concreta,
+     * o ArrayList / HashMap si el campo se declara con una interfaz, como hace 'Json'.
+     * @param c La clase declarada del campo
+     * @return La clase que se crea por reflexion
+     */
+    private static Class<?> concreteCollection(Class<?> c) {
+        if (!c.isInterface() && !Modifier.isAbstract(c.getModifiers())) return c;
+        return Collection.class.isAssignableFrom(c) ? ArrayList.class : HashMap.class;
+    }
+}